@@ -0,0 +1,67 @@
+package com.innovationcenter.scholarapi.benchmark;
+
+import com.innovationcenter.scholarapi.model.ScholarSearchResponse;
+import com.innovationcenter.scholarapi.service.impl.ScholarResponseParser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Recorded SerpAPI Google Scholar responses checked in under src/jmh/resources/fixtures,
+ * so every benchmark runs offline against the same input.
+ */
+public final class Fixtures {
+
+    /** Ten everyday results, short author lists. */
+    public static final String MACHINE_LEARNING = "scholar-machine-learning.json";
+
+    /** Ten results from large collaborations: truncated author lists, non-ASCII names, book entries. */
+    public static final String LARGE_COLLABORATIONS = "scholar-large-collaborations.json";
+
+    private static final String[] ALL = {MACHINE_LEARNING, LARGE_COLLABORATIONS};
+
+    private Fixtures() {
+    }
+
+    public static byte[] load(String name) {
+        try (InputStream input = Fixtures.class.getResourceAsStream("/fixtures/" + name)) {
+            if (input == null) {
+                throw new IllegalStateException("Missing benchmark fixture: " + name);
+            }
+            return input.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static ScholarSearchResponse response(String name) {
+        try {
+            return new ScholarResponseParser().parse(load(name));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return Every organic result of every fixture
+     */
+    public static List<ScholarSearchResponse.OrganicResult> organicResults() {
+        List<ScholarSearchResponse.OrganicResult> results = new ArrayList<>();
+        for (String name : ALL) {
+            results.addAll(List.of(response(name).getOrganicResults()));
+        }
+        return results;
+    }
+
+    /**
+     * @return The publication_info.summary line of every organic result
+     */
+    public static String[] publicationSummaries() {
+        return organicResults().stream()
+            .map(result -> result.getPublicationInfo().getSummary())
+            .toArray(String[]::new);
+    }
+}
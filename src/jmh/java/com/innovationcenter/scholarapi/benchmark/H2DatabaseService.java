@@ -0,0 +1,89 @@
+package com.innovationcenter.scholarapi.benchmark;
+
+import com.innovationcenter.scholarapi.service.DatabaseService;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * In-memory H2 database in MySQL mode with the articles table, so repository code runs
+ * unchanged without a MySQL server. Connections come from a Hikari pool like in
+ * production, keeping connection setup out of the measurements; the database lives
+ * until close is called.
+ */
+public class H2DatabaseService implements DatabaseService {
+
+    private static final String CREATE_ARTICLES_TABLE =
+        "CREATE TABLE IF NOT EXISTS articles (" +
+        "id BIGINT PRIMARY KEY AUTO_INCREMENT, " +
+        "paper_title VARCHAR(500) NOT NULL, " +
+        "authors TEXT NOT NULL, " +
+        "publication_year INTEGER, " +
+        "journal VARCHAR(255), " +
+        "article_url VARCHAR(500), " +
+        "abstract_text TEXT, " +
+        "google_scholar_id VARCHAR(50), " +
+        "citation_count INTEGER DEFAULT 0, " +
+        "cites_id VARCHAR(50), " +
+        "pdf_url VARCHAR(500), " +
+        "publisher VARCHAR(255), " +
+        "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+        "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+        "deleted_at TIMESTAMP NULL DEFAULT NULL, " +
+        "UNIQUE (google_scholar_id)" +
+        ")";
+
+    private final HikariDataSource dataSource;
+
+    public H2DatabaseService(String name) {
+        HikariConfig config = new HikariConfig();
+        // DB_CLOSE_DELAY keeps the in-memory database while the pool has no open connection
+        config.setJdbcUrl("jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(2);
+        config.setPoolName("h2-benchmark");
+        dataSource = new HikariDataSource(config);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return dataSource.getConnection();
+    }
+
+    @Override
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    @Override
+    public void initializeSchema() throws SQLException {
+        try (Connection connection = getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_ARTICLES_TABLE);
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_citation_count ON articles (citation_count)");
+        }
+    }
+
+    @Override
+    public boolean testConnection() {
+        try (Connection connection = getConnection()) {
+            return connection.isValid(1);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        try (Connection connection = getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN");
+        } catch (SQLException e) {
+            // Already gone
+        }
+        dataSource.close();
+    }
+}
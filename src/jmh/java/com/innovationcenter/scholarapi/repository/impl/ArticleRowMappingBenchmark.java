@@ -0,0 +1,96 @@
+package com.innovationcenter.scholarapi.repository.impl;
+
+import com.innovationcenter.scholarapi.benchmark.Fixtures;
+import com.innovationcenter.scholarapi.benchmark.H2DatabaseService;
+import com.innovationcenter.scholarapi.model.Article;
+import com.innovationcenter.scholarapi.model.ScholarSearchResponse;
+import com.innovationcenter.scholarapi.util.PublicationInfoParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading article rows through MySQLArticleRepository and mapResultSetToArticle, against
+ * an embedded H2 database filled with copies of the fixture articles. Measures the
+ * JDBC and mapping overhead per page; MySQL's own query cost is not part of it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArticleRowMappingBenchmark {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO articles (paper_title, authors, publication_year, journal, article_url, abstract_text, " +
+        "google_scholar_id, citation_count, cites_id, pdf_url, publisher) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Param({"100", "1000"})
+    private int pageSize;
+
+    private H2DatabaseService databaseService;
+    private MySQLArticleRepository repository;
+
+    @Setup(Level.Trial)
+    public void fillDatabase() throws SQLException {
+        databaseService = new H2DatabaseService("articles" + pageSize);
+        databaseService.initializeSchema();
+        repository = new MySQLArticleRepository(databaseService);
+
+        List<ScholarSearchResponse.OrganicResult> results = Fixtures.organicResults();
+        try (Connection connection = databaseService.getConnection();
+             PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+            for (int i = 0; i < pageSize; i++) {
+                ScholarSearchResponse.OrganicResult result = results.get(i % results.size());
+                PublicationInfoParser.ParsedPublicationInfo info =
+                    PublicationInfoParser.parsePublicationSummary(result.getPublicationInfo().getSummary());
+                ScholarSearchResponse.CitedBy citedBy = result.getInlineLinks().getCitedBy();
+                statement.setString(1, result.getTitle());
+                statement.setString(2, info.getAuthors());
+                statement.setObject(3, info.getYear());
+                statement.setString(4, info.getSource());
+                statement.setString(5, result.getLink());
+                statement.setString(6, result.getSnippet());
+                statement.setString(7, result.getResultId() + "-" + i);
+                statement.setInt(8, citedBy.getTotal() + i);
+                statement.setString(9, citedBy.getCitesId());
+                statement.setString(10, PublicationInfoParser.extractPdfUrl(result.getResources()));
+                statement.setString(11, info.getPublisher());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void closeDatabase() {
+        databaseService.close();
+    }
+
+    @Benchmark
+    public List<Article> findPageByCitations() throws SQLException {
+        return repository.findPageByCitations(-1, null, pageSize);
+    }
+
+    @Benchmark
+    public Article findById() throws SQLException {
+        return repository.findById(1L).orElseThrow();
+    }
+}
@@ -0,0 +1,46 @@
+package com.innovationcenter.scholarapi.service;
+
+import com.innovationcenter.scholarapi.benchmark.Fixtures;
+import com.innovationcenter.scholarapi.model.ScholarSearchResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Organic result to Article conversion, the per-result work of processSearchResponse
+ * before anything is saved. Each invocation converts every fixture result.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArticleConversionBenchmark {
+
+    private final ArticleService articleService = new ArticleService(null);
+    private List<ScholarSearchResponse.OrganicResult> results;
+
+    @Setup
+    public void loadResults() {
+        results = Fixtures.organicResults();
+    }
+
+    @Benchmark
+    public void convertOrganicResults(Blackhole blackhole) {
+        for (ScholarSearchResponse.OrganicResult result : results) {
+            blackhole.consume(articleService.convertOrganicResultToArticle(result));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.innovationcenter.scholarapi.service.impl;
+
+import com.innovationcenter.scholarapi.benchmark.Fixtures;
+import com.innovationcenter.scholarapi.model.ScholarSearchResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SerpAPI JSON to ScholarSearchResponse, the parsing SerpApiScholarSearchService does for
+ * every response: from the HTTP stream, and from a cached body held as a String.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScholarResponseParserBenchmark {
+
+    @Param({Fixtures.MACHINE_LEARNING, Fixtures.LARGE_COLLABORATIONS})
+    private String fixture;
+
+    private final ScholarResponseParser parser = new ScholarResponseParser();
+    private byte[] body;
+    private String cachedBody;
+
+    @Setup
+    public void loadFixture() {
+        body = Fixtures.load(fixture);
+        cachedBody = new String(body, StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public ScholarSearchResponse parseStream() throws IOException {
+        return parser.parse(new ByteArrayInputStream(body));
+    }
+
+    @Benchmark
+    public ScholarSearchResponse parseCachedString() throws IOException {
+        return parser.parse(cachedBody);
+    }
+}
@@ -0,0 +1,56 @@
+package com.innovationcenter.scholarapi.util;
+
+import com.innovationcenter.scholarapi.benchmark.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Splitting author strings into SimpleAuthor records, as done for every saved article.
+ * The inputs are the author parts the publication parser extracts from the fixtures.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthorParserBenchmark {
+
+    private String[] authorStrings;
+    private NamePool namePool;
+
+    @Setup
+    public void loadAuthorStrings() {
+        String[] summaries = Fixtures.publicationSummaries();
+        authorStrings = new String[summaries.length];
+        for (int i = 0; i < summaries.length; i++) {
+            authorStrings[i] = PublicationInfoParser.parsePublicationSummary(summaries[i]).getAuthors();
+        }
+        namePool = new NamePool(NamePool.DEFAULT_SIZE);
+    }
+
+    @Benchmark
+    public void parseAuthors(Blackhole blackhole) {
+        for (String authors : authorStrings) {
+            blackhole.consume(AuthorParser.parseAuthors(authors));
+        }
+    }
+
+    @Benchmark
+    public void parseAuthorsPooled(Blackhole blackhole) {
+        for (String authors : authorStrings) {
+            blackhole.consume(AuthorParser.parseAuthors(authors, namePool));
+        }
+    }
+}
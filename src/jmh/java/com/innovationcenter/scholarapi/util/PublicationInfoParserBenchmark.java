@@ -0,0 +1,43 @@
+package com.innovationcenter.scholarapi.util;
+
+import com.innovationcenter.scholarapi.benchmark.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Splitting publication_info summaries into authors, source, year and publisher.
+ * Each invocation parses the summaries of every fixture result.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PublicationInfoParserBenchmark {
+
+    private String[] summaries;
+
+    @Setup
+    public void loadSummaries() {
+        summaries = Fixtures.publicationSummaries();
+    }
+
+    @Benchmark
+    public void parsePublicationSummary(Blackhole blackhole) {
+        for (String summary : summaries) {
+            blackhole.consume(PublicationInfoParser.parsePublicationSummary(summary));
+        }
+    }
+}
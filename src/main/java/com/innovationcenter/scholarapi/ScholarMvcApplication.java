@@ -3,14 +3,28 @@ package com.innovationcenter.scholarapi;
 import com.innovationcenter.scholarapi.controller.ScholarArticleController;
 import com.innovationcenter.scholarapi.repository.ArticleRepository;
 import com.innovationcenter.scholarapi.repository.SimpleAuthorRepository;
+import com.innovationcenter.scholarapi.repository.impl.CachingArticleRepository;
+import com.innovationcenter.scholarapi.repository.impl.CachingSimpleAuthorRepository;
 import com.innovationcenter.scholarapi.repository.impl.MySQLArticleRepository;
+import com.innovationcenter.scholarapi.repository.impl.MySQLAuthorMetricsRepository;
+import com.innovationcenter.scholarapi.repository.impl.MySQLCitationRepository;
 import com.innovationcenter.scholarapi.repository.impl.MySQLSimpleAuthorRepository;
 import com.innovationcenter.scholarapi.service.ArticleService;
+import com.innovationcenter.scholarapi.service.AuthorMetricsService;
+import com.innovationcenter.scholarapi.service.CitationCrawler;
 import com.innovationcenter.scholarapi.service.ConfigurationService;
 import com.innovationcenter.scholarapi.service.DatabaseService;
+import com.innovationcenter.scholarapi.service.PaginatedSearchFetcher;
+import com.innovationcenter.scholarapi.service.ResearcherHarvester;
+import com.innovationcenter.scholarapi.service.ResponseCache;
 import com.innovationcenter.scholarapi.service.ScholarSearchService;
 import com.innovationcenter.scholarapi.service.impl.DotenvConfigurationService;
+import com.innovationcenter.scholarapi.service.impl.InstrumentedDatabaseService;
 import com.innovationcenter.scholarapi.service.impl.MySQLDatabaseService;
+import com.innovationcenter.scholarapi.service.impl.ReplicaRoutingDatabaseService;
+import com.innovationcenter.scholarapi.service.impl.AsyncSerpApiScholarSearchService;
+import com.innovationcenter.scholarapi.service.impl.CachingScholarSearchService;
+import com.innovationcenter.scholarapi.service.impl.DiskResponseCache;
 import com.innovationcenter.scholarapi.service.impl.SerpApiScholarSearchService;
 import com.innovationcenter.scholarapi.view.ArticleView;
 import com.innovationcenter.scholarapi.view.impl.ConsoleArticleView;
@@ -59,23 +73,36 @@ public class ScholarMvcApplication {
         ConfigurationService configService = new DotenvConfigurationService();
         
         // Database layer  
-        DatabaseService databaseService = new MySQLDatabaseService(configService);
+        DatabaseService databaseService = InstrumentedDatabaseService.fromConfiguration(
+            ReplicaRoutingDatabaseService.fromConfiguration(new MySQLDatabaseService(configService), configService),
+            configService);
         
         // Repository layer
-        ArticleRepository articleRepository = new MySQLArticleRepository(databaseService);
-        SimpleAuthorRepository authorRepository = new MySQLSimpleAuthorRepository(databaseService);
+        ArticleRepository articleRepository = CachingArticleRepository.fromConfiguration(
+            new MySQLArticleRepository(databaseService), configService);
+        SimpleAuthorRepository authorRepository = CachingSimpleAuthorRepository.fromConfiguration(
+            new MySQLSimpleAuthorRepository(databaseService), configService);
         
         // External service layer
-        ScholarSearchService searchService = new SerpApiScholarSearchService(configService);
+        ResponseCache responseCache = DiskResponseCache.fromConfiguration(configService);
+        ScholarSearchService searchService = new CachingScholarSearchService(
+            new SerpApiScholarSearchService(configService), responseCache);
+        PaginatedSearchFetcher pageFetcher = PaginatedSearchFetcher.fromConfiguration(
+            new AsyncSerpApiScholarSearchService(configService, responseCache), configService);
         
         // Business service layer
         ArticleService articleService = new ArticleService(articleRepository, authorRepository);
+        articleService.enableIndexes(configService);
+        articleService.enableMetrics(new AuthorMetricsService(new MySQLAuthorMetricsRepository(databaseService)));
         
         // View layer
         ArticleView articleView = new ConsoleArticleView();
         
         // Controller layer (orchestrates all layers)
-        controller = new ScholarArticleController(searchService, articleService, articleView);
+        controller = new ScholarArticleController(searchService, articleService, articleView,
+            ResearcherHarvester.fromConfiguration(configService), pageFetcher,
+            CitationCrawler.fromConfiguration(searchService, articleService,
+                new MySQLCitationRepository(databaseService), configService));
         
         // Initialize scanner for user input
         scanner = new Scanner(System.in);
@@ -125,6 +152,9 @@ public class ScholarMvcApplication {
         System.out.println("7. ⭐ Display highly cited articles");
         System.out.println("8. 📊 Show database statistics");
         System.out.println("9. 🔧 Test system connectivity");
+        System.out.println("10. 🕸️ Crawl citation network of an author");
+        System.out.println("11. 🧑 Find stored authors by name (typos allowed)");
+        System.out.println("12. 🔄 Rebuild author statistics");
         System.out.println("0. 🚪 Exit");
         System.out.println("=".repeat(50));
         System.out.print("Enter your choice: ");
@@ -159,6 +189,15 @@ public class ScholarMvcApplication {
             case 9:
                 controller.testSystemConnectivity();
                 break;
+            case 10:
+                handleCrawlCitations();
+                break;
+            case 11:
+                handleSearchStoredAuthors();
+                break;
+            case 12:
+                controller.rebuildAuthorStatistics();
+                break;
             case 0:
                 return false;
             default:
@@ -171,7 +210,7 @@ public class ScholarMvcApplication {
         System.out.print("Enter researcher name: ");
         String researcherName = scanner.nextLine().trim();
         
-        System.out.print("Max articles to retrieve (1-20): ");
+        System.out.print("Max articles to retrieve (1-1000, more than 20 fetches several pages): ");
         try {
             int maxArticles = Integer.parseInt(scanner.nextLine().trim());
             controller.searchArticlesByResearcher(researcherName, maxArticles);
@@ -184,7 +223,7 @@ public class ScholarMvcApplication {
         System.out.print("Enter search query: ");
         String query = scanner.nextLine().trim();
         
-        System.out.print("Max results (1-20): ");
+        System.out.print("Max results (1-1000, more than 20 fetches several pages): ");
         try {
             int maxResults = Integer.parseInt(scanner.nextLine().trim());
             controller.searchArticlesByQuery(query, maxResults);
@@ -239,11 +278,21 @@ public class ScholarMvcApplication {
         }
     }
     
+    private void handleCrawlCitations() {
+        System.out.print("Enter author name whose stored articles seed the crawl: ");
+        controller.crawlCitations(scanner.nextLine().trim());
+    }
+    
+    private void handleSearchStoredAuthors() {
+        System.out.print("Enter author name (partial names and misspellings are fine): ");
+        controller.searchStoredAuthors(scanner.nextLine().trim());
+    }
+    
     /**
      * Handles searching articles by title keyword.
      */
     private void handleSearchByTitle() {
-        System.out.print("Enter title keyword to search: ");
+        System.out.print("Enter words to search titles and abstracts (prefix* and \"exact phrase\" supported): ");
         String keyword = scanner.nextLine();
         
         if (keyword.trim().isEmpty()) {
@@ -3,6 +3,9 @@ package com.innovationcenter.scholarapi.controller;
 import com.innovationcenter.scholarapi.model.Author;
 import com.innovationcenter.scholarapi.model.Publication;
 import com.innovationcenter.scholarapi.model.SearchResult;
+import com.innovationcenter.scholarapi.service.ApiRateLimiter;
+import com.innovationcenter.scholarapi.service.ConfigurationService;
+import com.innovationcenter.scholarapi.service.impl.DotenvConfigurationService;
 import io.github.cdimascio.dotenv.Dotenv;
 import org.apache.http.HttpEntity;
 import org.apache.http.HttpResponse;
@@ -61,13 +64,24 @@ public class ScholarApiController {
     
     private final HttpClient httpClient;
     private final String apiKey;
+    private final ApiRateLimiter rateLimiter;
 
     /**
-     * Constructor with API key.
+     * Constructor with API key; rate limits are read from the .env configuration.
      * @param apiKey The SerpAPI key for Google Scholar access
      */
     public ScholarApiController(String apiKey) {
+        this(apiKey, new DotenvConfigurationService());
+    }
+
+    /**
+     * Constructor with API key and the configuration holding the SerpAPI rate limits.
+     * @param apiKey The SerpAPI key for Google Scholar access
+     * @param configService Configuration the shared rate limiter is created from
+     */
+    public ScholarApiController(String apiKey, ConfigurationService configService) {
         this.httpClient = HttpClients.createDefault();
+        this.rateLimiter = ApiRateLimiter.getShared(configService);
         this.apiKey = apiKey != null ? apiKey : API_KEY_PLACEHOLDER;
         
         if (!isApiKeyConfigured()) {
@@ -192,6 +206,7 @@ public class ScholarApiController {
         httpGet.setHeader("Accept", "application/json");
 
         try {
+            rateLimiter.acquire();
             HttpResponse response = httpClient.execute(httpGet);
             int statusCode = response.getStatusLine().getStatusCode();
 
@@ -1,11 +1,18 @@
 package com.innovationcenter.scholarapi.controller;
 
 import com.innovationcenter.scholarapi.model.Article;
+import com.innovationcenter.scholarapi.model.ScholarQuery;
 import com.innovationcenter.scholarapi.model.ScholarSearchResponse;
+import com.innovationcenter.scholarapi.model.SimpleAuthor;
+import com.innovationcenter.scholarapi.service.ApiRateLimiter;
 import com.innovationcenter.scholarapi.service.ArticleService;
+import com.innovationcenter.scholarapi.service.CitationCrawler;
+import com.innovationcenter.scholarapi.service.PaginatedSearchFetcher;
+import com.innovationcenter.scholarapi.service.ResearcherHarvester;
 import com.innovationcenter.scholarapi.service.ScholarSearchService;
 import com.innovationcenter.scholarapi.view.ArticleView;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
 import java.util.logging.Level;
@@ -16,17 +23,45 @@ import java.util.logging.Level;
  */
 public class ScholarArticleController {
     private static final Logger logger = Logger.getLogger(ScholarArticleController.class.getName());
+    private static final int MAX_SINGLE_SEARCH_RESULTS = 100;
+    private static final int MAX_PAGINATED_RESULTS = 1000;
     
     private final ScholarSearchService searchService;
     private final ArticleService articleService;
     private final ArticleView articleView;
+    private final ResearcherHarvester harvester;
+    private final PaginatedSearchFetcher pageFetcher;
+    private final CitationCrawler citationCrawler;
     
     public ScholarArticleController(ScholarSearchService searchService, 
                                   ArticleService articleService,
                                   ArticleView articleView) {
+        this(searchService, articleService, articleView, new ResearcherHarvester());
+    }
+    
+    public ScholarArticleController(ScholarSearchService searchService, 
+                                  ArticleService articleService,
+                                  ArticleView articleView,
+                                  ResearcherHarvester harvester) {
+        this(searchService, articleService, articleView, harvester, null, null);
+    }
+    
+    /**
+     * @param pageFetcher Fetcher for searches beyond one page, or null to cap results at one page
+     * @param citationCrawler Crawler for citation networks, or null if not available
+     */
+    public ScholarArticleController(ScholarSearchService searchService, 
+                                  ArticleService articleService,
+                                  ArticleView articleView,
+                                  ResearcherHarvester harvester,
+                                  PaginatedSearchFetcher pageFetcher,
+                                  CitationCrawler citationCrawler) {
         this.searchService = searchService;
         this.articleService = articleService;
         this.articleView = articleView;
+        this.harvester = harvester;
+        this.pageFetcher = pageFetcher;
+        this.citationCrawler = citationCrawler;
     }
     
     /**
@@ -41,6 +76,14 @@ public class ScholarArticleController {
                 return;
             }
             
+            if (usesDeepPagination(maxArticles)) {
+                List<Article> savedArticles = new ArrayList<>();
+                pageFetcher.fetchByAuthor(researcherName, maxArticles, (pageIndex, page) ->
+                    savedArticles.addAll(articleService.processSearchResponse(page, page.getOrganicResults().length)));
+                showAllPages(researcherName, savedArticles);
+                return;
+            }
+            
             // Perform search through service layer
             ScholarSearchResponse response = searchService.searchByAuthor(researcherName, maxArticles);
             
@@ -72,6 +115,14 @@ public class ScholarArticleController {
                 return;
             }
             
+            if (usesDeepPagination(maxResults)) {
+                List<Article> savedArticles = new ArrayList<>();
+                pageFetcher.fetch(query, maxResults, (pageIndex, page) ->
+                    savedArticles.addAll(articleService.processSearchResponse(page, page.getOrganicResults().length)));
+                showAllPages(query, savedArticles);
+                return;
+            }
+            
             ScholarSearchResponse response = searchService.searchArticles(query, maxResults);
             
             if (response == null || response.getOrganicResults() == null || response.getOrganicResults().length == 0) {
@@ -107,7 +158,7 @@ public class ScholarArticleController {
             List<Article> articles = articleService.searchByTitle(keyword);
             
             if (articles.isEmpty()) {
-                System.out.println("⚠️ No articles found with title containing: \"" + keyword + "\"");
+                System.out.println("⚠️ No articles found matching: \"" + keyword + "\"");
             } else {
                 System.out.println("📚 Found " + articles.size() + " article(s):\n");
                 articleView.displayArticles(articles);
@@ -121,6 +172,96 @@ public class ScholarArticleController {
         }
     }
     
+    /**
+     * Handles request to find stored authors by name, tolerating typos and accents.
+     */
+    public void searchStoredAuthors(String name) {
+        try {
+            if (name == null || name.trim().isEmpty()) {
+                articleView.showError("Author name cannot be empty");
+                return;
+            }
+            
+            List<SimpleAuthor> authors = articleService.searchAuthors(name.trim());
+            if (authors.isEmpty()) {
+                System.out.println("⚠️ No stored authors match: \"" + name + "\"");
+                return;
+            }
+            
+            System.out.println("\n👥 " + authors.size() + " stored author(s) matching \"" + name + "\":");
+            System.out.println("=".repeat(80));
+            for (SimpleAuthor author : authors) {
+                System.out.printf("%-40s %5d articles %8d citations%n",
+                    author.getFullName(), author.getArticleCount(), author.getTotalCitations());
+            }
+            System.out.println("=".repeat(80));
+            
+        } catch (Exception e) {
+            logger.log(Level.SEVERE, "Error searching stored authors: " + name, e);
+            articleView.showError("Author search failed: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Handles request to recompute all author statistics from the stored articles.
+     */
+    public void rebuildAuthorStatistics() {
+        try {
+            System.out.println("🔄 Recomputing author statistics...");
+            int recomputed = articleService.rebuildAuthorStatistics();
+            System.out.println("✅ Statistics recomputed for " + recomputed + " authors");
+            int withMetrics = articleService.recomputeAuthorMetrics();
+            System.out.println("✅ h-index, i10-index and percentiles recomputed for " + withMetrics + " authors");
+            
+        } catch (Exception e) {
+            logger.log(Level.SEVERE, "Error rebuilding author statistics", e);
+            articleView.showError("Statistics rebuild failed: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Handles request to build the citation network around a researcher's stored articles.
+     */
+    public void crawlCitations(String authorName) {
+        try {
+            if (citationCrawler == null) {
+                articleView.showError("Citation crawling is not available");
+                return;
+            }
+            if (authorName == null || authorName.trim().isEmpty()) {
+                articleView.showError("Author name cannot be empty");
+                return;
+            }
+            
+            List<Article> seeds = articleService.findByAuthor(authorName.trim());
+            if (seeds.isEmpty()) {
+                articleView.showNoStoredArticles(authorName);
+                return;
+            }
+            
+            System.out.println("\n🕸️ Crawling citations of " + seeds.size() + " stored articles by " + authorName + "...");
+            CitationCrawler.CrawlResult result = citationCrawler.crawl(seeds);
+            
+            System.out.println("=".repeat(80));
+            System.out.println("📡 API requests:           " + result.getRequests());
+            System.out.println("📄 Articles expanded:      " + result.getArticlesExpanded());
+            System.out.println("🔗 Citing articles found:  " + result.getCitingArticlesFound());
+            System.out.println("➕ New citation edges:     " + result.getCitationsSaved());
+            System.out.println("⏭️ Reused stored edges:    " + result.getSkippedAlreadyVisited());
+            if (result.getFailures() > 0) {
+                System.out.println("⚠️ Failed expansions:      " + result.getFailures());
+            }
+            if (result.isBudgetExhausted()) {
+                System.out.println("⚠️ Request budget reached, rerun to continue where this crawl stopped");
+            }
+            System.out.println("=".repeat(80));
+            
+        } catch (Exception e) {
+            logger.log(Level.SEVERE, "Error crawling citations for: " + authorName, e);
+            articleView.showError("Citation crawl failed: " + e.getMessage());
+        }
+    }
+    
     /**
      * Handles request to process multiple researchers.
      */
@@ -133,25 +274,33 @@ public class ScholarArticleController {
                 return;
             }
             
-            List<Article> allArticles = new java.util.ArrayList<>();
+            // Warn up front when the batch cannot fit in this month's API quota
+            long remainingQuota = ApiRateLimiter.getShared().getRemainingQuota();
+            if (remainingQuota < researchers.size()) {
+                articleView.showError("Monthly API quota allows only " + remainingQuota +
+                                    " more searches; remaining researchers will be skipped");
+            }
             
-            for (String researcher : researchers) {
-                try {
+            // Fetch and persist stages run concurrently; progress is reported as each researcher finishes
+            List<Article> allArticles = harvester.harvest(
+                researchers,
+                researcher -> {
                     ScholarSearchResponse response = searchService.searchByAuthor(researcher, articlesPerResearcher);
-                    
-                    if (response != null && response.getOrganicResults() != null) {
-                        List<Article> researcherArticles = articleService.processSearchResponse(response, articlesPerResearcher);
-                        allArticles.addAll(researcherArticles);
-                        articleView.showResearcherProcessed(researcher, researcherArticles.size());
-                    } else {
-                        articleView.showResearcherSkipped(researcher, "No results found");
+                    return response != null && response.getOrganicResults() != null ? response : null;
+                },
+                (researcher, response) -> articleService.processSearchResponse(response, articlesPerResearcher),
+                new ResearcherHarvester.ProgressListener() {
+                    @Override
+                    public void researcherProcessed(String researcher, int articleCount) {
+                        articleView.showResearcherProcessed(researcher, articleCount);
                     }
                     
-                } catch (Exception e) {
-                    logger.log(Level.WARNING, "Failed to process researcher: " + researcher, e);
-                    articleView.showResearcherSkipped(researcher, e.getMessage());
+                    @Override
+                    public void researcherSkipped(String researcher, String reason) {
+                        articleView.showResearcherSkipped(researcher, reason);
+                    }
                 }
-            }
+            );
             
             articleView.showBatchProcessCompleted(allArticles);
             
@@ -261,6 +410,21 @@ public class ScholarArticleController {
         }
     }
     
+    /**
+     * Whether the request needs more than one SerpAPI page and a page fetcher is available.
+     */
+    private boolean usesDeepPagination(int maxResults) {
+        return pageFetcher != null && maxResults > ScholarQuery.MAX_PAGE_SIZE;
+    }
+    
+    private void showAllPages(String query, List<Article> savedArticles) {
+        if (savedArticles.isEmpty()) {
+            articleView.showNoResults(query);
+        } else {
+            articleView.showSearchResults(query, savedArticles);
+        }
+    }
+    
     /**
      * Validates search input parameters.
      */
@@ -270,8 +434,9 @@ public class ScholarArticleController {
             return false;
         }
         
-        if (maxResults <= 0 || maxResults > 100) {
-            articleView.showError("Max results must be between 1 and 100");
+        int limit = pageFetcher != null ? MAX_PAGINATED_RESULTS : MAX_SINGLE_SEARCH_RESULTS;
+        if (maxResults <= 0 || maxResults > limit) {
+            articleView.showError("Max results must be between 1 and " + limit);
             return false;
         }
         
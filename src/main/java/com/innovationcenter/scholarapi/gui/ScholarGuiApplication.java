@@ -2,15 +2,23 @@ package com.innovationcenter.scholarapi.gui;
 
 import com.innovationcenter.scholarapi.repository.ArticleRepository;
 import com.innovationcenter.scholarapi.repository.SimpleAuthorRepository;
+import com.innovationcenter.scholarapi.repository.impl.CachingArticleRepository;
+import com.innovationcenter.scholarapi.repository.impl.CachingSimpleAuthorRepository;
 import com.innovationcenter.scholarapi.repository.impl.MySQLArticleRepository;
+import com.innovationcenter.scholarapi.repository.impl.MySQLAuthorMetricsRepository;
 import com.innovationcenter.scholarapi.repository.impl.MySQLSimpleAuthorRepository;
 import com.innovationcenter.scholarapi.service.ArticleService;
+import com.innovationcenter.scholarapi.service.AuthorMetricsService;
+import com.innovationcenter.scholarapi.service.AsyncScholarSearchService;
 import com.innovationcenter.scholarapi.service.ConfigurationService;
+import com.innovationcenter.scholarapi.service.DatabaseMetrics;
 import com.innovationcenter.scholarapi.service.DatabaseService;
-import com.innovationcenter.scholarapi.service.ScholarSearchService;
 import com.innovationcenter.scholarapi.service.impl.DotenvConfigurationService;
+import com.innovationcenter.scholarapi.service.impl.InstrumentedDatabaseService;
 import com.innovationcenter.scholarapi.service.impl.MySQLDatabaseService;
-import com.innovationcenter.scholarapi.service.impl.SerpApiScholarSearchService;
+import com.innovationcenter.scholarapi.service.impl.ReplicaRoutingDatabaseService;
+import com.innovationcenter.scholarapi.service.impl.AsyncSerpApiScholarSearchService;
+import com.innovationcenter.scholarapi.service.impl.DiskResponseCache;
 
 import javafx.application.Application;
 import javafx.scene.Scene;
@@ -22,20 +30,32 @@ import javafx.stage.Stage;
  */
 public class ScholarGuiApplication extends Application {
     
-    private ScholarSearchService searchService;
+    private AsyncScholarSearchService searchService;
     private ArticleService articleService;
+    private DatabaseMetrics databaseMetrics;
     
     @Override
     public void init() throws Exception {
         // Initialize services (same as console app)
         ConfigurationService configService = new DotenvConfigurationService();
-        DatabaseService databaseService = new MySQLDatabaseService(configService);
+        DatabaseService databaseService = InstrumentedDatabaseService.fromConfiguration(
+            // Writes run on worker threads and the tables refresh from others
+            ReplicaRoutingDatabaseService.fromConfiguration(new MySQLDatabaseService(configService), configService,
+                ReplicaRoutingDatabaseService.SessionScope.PROCESS),
+            configService);
+        if (databaseService instanceof InstrumentedDatabaseService) {
+            databaseMetrics = ((InstrumentedDatabaseService) databaseService).getMetrics();
+        }
         
-        ArticleRepository articleRepository = new MySQLArticleRepository(databaseService);
-        SimpleAuthorRepository authorRepository = new MySQLSimpleAuthorRepository(databaseService);
+        ArticleRepository articleRepository = CachingArticleRepository.fromConfiguration(
+            new MySQLArticleRepository(databaseService), configService);
+        SimpleAuthorRepository authorRepository = CachingSimpleAuthorRepository.fromConfiguration(
+            new MySQLSimpleAuthorRepository(databaseService), configService);
         
-        searchService = new SerpApiScholarSearchService(configService);
+        searchService = new AsyncSerpApiScholarSearchService(configService, DiskResponseCache.fromConfiguration(configService));
         articleService = new ArticleService(articleRepository, authorRepository);
+        articleService.enableIndexes(configService);
+        articleService.enableMetrics(new AuthorMetricsService(new MySQLAuthorMetricsRepository(databaseService)));
     }
     
     @Override
@@ -43,7 +63,7 @@ public class ScholarGuiApplication extends Application {
         primaryStage.setTitle("🎓 Scholar Article Management System");
         
         // Create main view
-        ScholarMainView mainView = new ScholarMainView(searchService, articleService);
+        ScholarMainView mainView = new ScholarMainView(searchService, articleService, databaseMetrics);
         
         Scene scene = new Scene(mainView.getView(), 1200, 800);
         scene.getStylesheets().add(getClass().getResource("/styles/application.css").toExternalForm());
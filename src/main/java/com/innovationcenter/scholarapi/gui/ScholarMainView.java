@@ -1,10 +1,14 @@
 package com.innovationcenter.scholarapi.gui;
 
 import com.innovationcenter.scholarapi.model.Article;
+import com.innovationcenter.scholarapi.model.AuthorMetrics;
 import com.innovationcenter.scholarapi.model.SimpleAuthor;
 import com.innovationcenter.scholarapi.model.ScholarSearchResponse;
 import com.innovationcenter.scholarapi.service.ArticleService;
-import com.innovationcenter.scholarapi.service.ScholarSearchService;
+import com.innovationcenter.scholarapi.service.AsyncScholarSearchService;
+import com.innovationcenter.scholarapi.service.CoAuthorGraph;
+import com.innovationcenter.scholarapi.service.DatabaseMetrics;
+import com.innovationcenter.scholarapi.util.LatencyHistogram;
 
 import javafx.application.Platform;
 import javafx.collections.FXCollections;
@@ -19,6 +23,9 @@ import javafx.scene.text.FontWeight;
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.ToDoubleFunction;
 
 /**
  * Main view for Scholar API GUI.
@@ -26,14 +33,29 @@ import java.util.List;
  */
 public class ScholarMainView {
     
-    private final ScholarSearchService searchService;
+    private static final int BROWSE_PAGE_SIZE = 200;
+    private static final int TOP_METRICS_LIMIT = 25;
+    private static final int TOP_COLLABORATORS_LIMIT = 20;
+    private static final int TOP_STATEMENTS_LIMIT = 15;
+    
+    private final AsyncScholarSearchService searchService;
     private final ArticleService articleService;
+    private final DatabaseMetrics databaseMetrics;
     private final BorderPane rootPane;
     private final ObservableList<Article> articlesData;
     
-    public ScholarMainView(ScholarSearchService searchService, ArticleService articleService) {
+    public ScholarMainView(AsyncScholarSearchService searchService, ArticleService articleService) {
+        this(searchService, articleService, null);
+    }
+    
+    /**
+     * @param databaseMetrics Connection and statement timings for the statistics tab, or null
+     */
+    public ScholarMainView(AsyncScholarSearchService searchService, ArticleService articleService,
+                           DatabaseMetrics databaseMetrics) {
         this.searchService = searchService;
         this.articleService = articleService;
+        this.databaseMetrics = databaseMetrics;
         this.articlesData = FXCollections.observableArrayList();
         this.rootPane = createMainView();
     }
@@ -141,32 +163,23 @@ public class ScholarMainView {
             searchButton.setDisable(true);
             statusLabel.setText("Searching...");
             
-            // Run search in background thread
-            new Thread(() -> {
-                try {
-                    List<Article> results = performSearch(
-                        searchType.getValue(), 
-                        term, 
-                        maxResults.getValue()
-                    );
-                    
-                    Platform.runLater(() -> {
+            // The HTTP request runs without holding a thread; only saving results uses the common pool
+            performSearch(searchType.getValue(), term, maxResults.getValue())
+                .whenComplete((results, error) -> Platform.runLater(() -> {
+                    progressBar.setVisible(false);
+                    searchButton.setDisable(false);
+                    if (error == null) {
                         articlesData.clear();
                         articlesData.addAll(results);
-                        progressBar.setVisible(false);
-                        searchButton.setDisable(false);
                         statusLabel.setText("✓ Found " + results.size() + " articles");
-                    });
-                } catch (Exception ex) {
-                    Platform.runLater(() -> {
-                        progressBar.setVisible(false);
-                        searchButton.setDisable(false);
-                        statusLabel.setText("✗ Error: " + ex.getMessage());
+                    } else {
+                        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                        statusLabel.setText("✗ Error: " + cause.getMessage());
                         statusLabel.setStyle("-fx-text-fill: #e74c3c;");
-                        showAlert("Search Error", ex.getMessage());
-                    });
-                }
-            }).start();
+                        showAlert("Search Error", cause.getMessage());
+                    }
+                }));
         });
         
         // Clear button action
@@ -218,7 +231,7 @@ public class ScholarMainView {
             
             if (selected.equals("By Author")) {
                 filterValue.setPromptText("Enter author name (e.g., John Smith)");
-                hintLabel.setText("ℹ️ Tip: Use partial names to find multiple authors (e.g., 'Smith')");
+                hintLabel.setText("ℹ️ Tip: Enter a surname or initials and surname (e.g., 'Smith' or 'J Smith'); case and accents are ignored");
             } else if (selected.equals("By Year (and newer)")) {
                 filterValue.setPromptText("Enter year (e.g., 2020)");
                 hintLabel.setText("ℹ️ Tip: Will show all articles from this year onwards (e.g., 2020 → 2020-2025)");
@@ -256,7 +269,11 @@ public class ScholarMainView {
         Button refreshButton = new Button("🔄 Refresh");
         refreshButton.setStyle("-fx-background-color: #95a5a6; -fx-text-fill: white;");
         
-        actionBox.getChildren().addAll(viewButton, deleteButton, refreshButton);
+        Button loadMoreButton = new Button("⬇ Load More");
+        loadMoreButton.setStyle("-fx-background-color: #27ae60; -fx-text-fill: white;");
+        loadMoreButton.setDisable(true);
+        
+        actionBox.getChildren().addAll(viewButton, deleteButton, refreshButton, loadMoreButton);
         
         // Enable/disable buttons based on selection
         table.getSelectionModel().selectedItemProperty().addListener((obs, oldSelection, newSelection) -> {
@@ -293,26 +310,21 @@ public class ScholarMainView {
         // Refresh button action
         refreshButton.setOnAction(e -> loadButton.fire());
         
+        // Filter the current listing was loaded with, so Load More continues the same query
+        String[] activeFilter = new String[2];
+        
         // Load button action
         loadButton.setOnAction(e -> {
-            loadButton.setDisable(true);
-            
-            new Thread(() -> {
-                try {
-                    List<Article> articles = loadArticles(filterType.getValue(), filterValue.getText());
-                    
-                    Platform.runLater(() -> {
-                        table.setItems(FXCollections.observableArrayList(articles));
-                        countLabel.setText("Loaded " + articles.size() + " articles");
-                        loadButton.setDisable(false);
-                    });
-                } catch (Exception ex) {
-                    Platform.runLater(() -> {
-                        showAlert("Load Error", ex.getMessage());
-                        loadButton.setDisable(false);
-                    });
-                }
-            }).start();
+            activeFilter[0] = filterType.getValue();
+            activeFilter[1] = filterValue.getText();
+            loadBrowsePage(activeFilter[0], activeFilter[1], null, table, countLabel, loadButton, loadMoreButton);
+        });
+        
+        // Load more action: the last row is the keyset cursor for the next page
+        loadMoreButton.setOnAction(e -> {
+            List<Article> items = table.getItems();
+            Article last = items.isEmpty() ? null : items.get(items.size() - 1);
+            loadBrowsePage(activeFilter[0], activeFilter[1], last, table, countLabel, loadButton, loadMoreButton);
         });
         
         content.getChildren().addAll(helpLabel, filterBox, hintLabel, countLabel, table, actionBox);
@@ -350,17 +362,34 @@ public class ScholarMainView {
         statsGrid.add(totalAuthorsLabel, 0, 1);
         statsGrid.add(totalAuthorsValue, 1, 1);
         
+        Label metricsTitle = new Label("🏆 Top Researchers by h-index");
+        metricsTitle.setFont(Font.font("Arial", FontWeight.BOLD, 14));
+        
+        // Precomputed rows from author_metrics; nothing is calculated when the tab refreshes
+        TableView<AuthorMetrics> metricsTable = createMetricsTable();
+        VBox.setVgrow(metricsTable, Priority.ALWAYS);
+        
+        VBox databasePane = new VBox(10);
+        Runnable showDatabaseMetrics = databaseMetrics != null ? createDatabaseMetricsView(databasePane) : () -> { };
+        
         Button refreshButton = new Button("Refresh Statistics");
         refreshButton.setStyle("-fx-background-color: #3498db; -fx-text-fill: white;");
         
+        Button recomputeButton = new Button("Recompute Metrics");
+        recomputeButton.setStyle("-fx-background-color: #95a5a6; -fx-text-fill: white;");
+        
         refreshButton.setOnAction(e -> {
             new Thread(() -> {
                 try {
                     long articleCount = articleService.getTotalArticleCount();
+                    long authorCount = articleService.getTotalAuthorCount();
+                    List<AuthorMetrics> topAuthors = articleService.getTopAuthorsByHIndex(TOP_METRICS_LIMIT);
                     
                     Platform.runLater(() -> {
                         totalArticlesValue.setText(String.valueOf(articleCount));
-                        totalAuthorsValue.setText("--"); // Will implement when author methods are available
+                        totalAuthorsValue.setText(String.valueOf(authorCount));
+                        metricsTable.setItems(FXCollections.observableArrayList(topAuthors));
+                        showDatabaseMetrics.run();
                     });
                 } catch (Exception ex) {
                     Platform.runLater(() -> showAlert("Statistics Error", ex.getMessage()));
@@ -368,11 +397,167 @@ public class ScholarMainView {
             }).start();
         });
         
-        content.getChildren().addAll(title, statsGrid, refreshButton);
+        recomputeButton.setOnAction(e -> {
+            recomputeButton.setDisable(true);
+            new Thread(() -> {
+                try {
+                    articleService.recomputeAuthorMetrics();
+                    Platform.runLater(() -> {
+                        recomputeButton.setDisable(false);
+                        refreshButton.fire();
+                    });
+                } catch (Exception ex) {
+                    Platform.runLater(() -> {
+                        recomputeButton.setDisable(false);
+                        showAlert("Metrics Error", ex.getMessage());
+                    });
+                }
+            }).start();
+        });
+        
+        HBox buttonBox = new HBox(10, refreshButton, recomputeButton);
+        
+        content.getChildren().addAll(title, statsGrid, buttonBox, metricsTitle, metricsTable);
+        if (databaseMetrics != null) {
+            content.getChildren().add(databasePane);
+        }
         tab.setContent(content);
         return tab;
     }
     
+    /**
+     * Fills the pane with pool counts, connection wait times and the slowest statements.
+     *
+     * @return Refreshes the pane from the current metrics; call on the FX thread
+     */
+    private Runnable createDatabaseMetricsView(VBox pane) {
+        Label title = new Label("🗄 Database Performance");
+        title.setFont(Font.font("Arial", FontWeight.BOLD, 14));
+        
+        GridPane grid = new GridPane();
+        grid.setHgap(20);
+        grid.setVgap(8);
+        grid.setPadding(new Insets(10));
+        grid.setStyle("-fx-background-color: #ecf0f1; -fx-background-radius: 5;");
+        
+        // Two rows per pool, e.g. write and read, then the statement totals
+        List<DatabaseMetrics.PoolMetrics> pools = databaseMetrics.getPools();
+        Label[] poolValues = new Label[pools.size()];
+        Label[] waitValues = new Label[pools.size()];
+        int row = 0;
+        for (int i = 0; i < pools.size(); i++) {
+            String pool = pools.get(i).getName();
+            poolValues[i] = addMetricRow(grid, row++, capitalize(pool) + " pool (active / idle / total, waiting):");
+            waitValues[i] = addMetricRow(grid, row++, capitalize(pool) + " pool wait (mean / p99 / max):");
+        }
+        Label statementsValue = addMetricRow(grid, row, "Statements run / slow:");
+        
+        TableView<DatabaseMetrics.StatementMetrics> statementTable = createStatementTable();
+        statementTable.setPrefHeight(220);
+        
+        pane.getChildren().addAll(title, grid, statementTable);
+        
+        return () -> {
+            for (int i = 0; i < pools.size(); i++) {
+                DatabaseMetrics.PoolState state = pools.get(i).getState();
+                poolValues[i].setText(state.getActive() + " / " + state.getIdle() + " / " + state.getTotal() +
+                                      ", " + state.getPending() + " waiting");
+                
+                LatencyHistogram acquire = pools.get(i).getAcquireLatency();
+                waitValues[i].setText(String.format("%.2f / %.2f / %.2f ms",
+                    DatabaseMetrics.toMillis(acquire.meanNanos()),
+                    DatabaseMetrics.toMillis(acquire.percentileNanos(99)),
+                    DatabaseMetrics.toMillis(acquire.maxNanos())));
+            }
+            statementsValue.setText(databaseMetrics.getStatementCount() + " / " + databaseMetrics.getSlowQueryCount() +
+                                    " at or over " + databaseMetrics.getSlowQueryThresholdMillis() + " ms");
+            
+            List<DatabaseMetrics.StatementMetrics> statements = databaseMetrics.getStatements();
+            statementTable.setItems(FXCollections.observableArrayList(
+                statements.subList(0, Math.min(TOP_STATEMENTS_LIMIT, statements.size()))));
+        };
+    }
+    
+    private static Label addMetricRow(GridPane grid, int row, String name) {
+        Label nameLabel = new Label(name);
+        nameLabel.setFont(Font.font("Arial", FontWeight.BOLD, 12));
+        Label value = new Label("--");
+        grid.add(nameLabel, 0, row);
+        grid.add(value, 1, row);
+        return value;
+    }
+    
+    private static String capitalize(String name) {
+        return name.isEmpty() ? name : Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+    
+    private TableView<DatabaseMetrics.StatementMetrics> createStatementTable() {
+        TableView<DatabaseMetrics.StatementMetrics> table = new TableView<>();
+        
+        TableColumn<DatabaseMetrics.StatementMetrics, String> templateCol = new TableColumn<>("Statement");
+        templateCol.setCellValueFactory(new PropertyValueFactory<>("template"));
+        templateCol.setPrefWidth(520);
+        
+        TableColumn<DatabaseMetrics.StatementMetrics, Long> countCol = new TableColumn<>("Runs");
+        countCol.setCellValueFactory(new PropertyValueFactory<>("count"));
+        countCol.setPrefWidth(70);
+        
+        table.getColumns().add(templateCol);
+        table.getColumns().add(countCol);
+        table.getColumns().add(millisColumn("Total ms", DatabaseMetrics.StatementMetrics::getTotalMillis));
+        table.getColumns().add(millisColumn("Mean ms", DatabaseMetrics.StatementMetrics::getMeanMillis));
+        table.getColumns().add(millisColumn("p99 ms", DatabaseMetrics.StatementMetrics::getP99Millis));
+        table.getColumns().add(millisColumn("Max ms", DatabaseMetrics.StatementMetrics::getMaxMillis));
+        
+        TableColumn<DatabaseMetrics.StatementMetrics, Long> failuresCol = new TableColumn<>("Errors");
+        failuresCol.setCellValueFactory(new PropertyValueFactory<>("failures"));
+        failuresCol.setPrefWidth(60);
+        table.getColumns().add(failuresCol);
+        return table;
+    }
+    
+    private static TableColumn<DatabaseMetrics.StatementMetrics, String> millisColumn(
+            String name, ToDoubleFunction<DatabaseMetrics.StatementMetrics> millis) {
+        TableColumn<DatabaseMetrics.StatementMetrics, String> column = new TableColumn<>(name);
+        column.setCellValueFactory(cellData -> new javafx.beans.property.SimpleStringProperty(
+            String.format("%.2f", millis.applyAsDouble(cellData.getValue()))));
+        column.setPrefWidth(80);
+        return column;
+    }
+    
+    private TableView<AuthorMetrics> createMetricsTable() {
+        TableView<AuthorMetrics> table = new TableView<>();
+        
+        TableColumn<AuthorMetrics, String> nameCol = new TableColumn<>("Author");
+        nameCol.setCellValueFactory(new PropertyValueFactory<>("fullName"));
+        nameCol.setPrefWidth(250);
+        
+        TableColumn<AuthorMetrics, Integer> hIndexCol = new TableColumn<>("h-index");
+        hIndexCol.setCellValueFactory(new PropertyValueFactory<>("hIndex"));
+        hIndexCol.setPrefWidth(70);
+        
+        TableColumn<AuthorMetrics, Integer> i10Col = new TableColumn<>("i10-index");
+        i10Col.setCellValueFactory(new PropertyValueFactory<>("i10Index"));
+        i10Col.setPrefWidth(70);
+        
+        TableColumn<AuthorMetrics, Integer> citationsCol = new TableColumn<>("Citations");
+        citationsCol.setCellValueFactory(new PropertyValueFactory<>("totalCitations"));
+        citationsCol.setPrefWidth(90);
+        
+        TableColumn<AuthorMetrics, String> perYearCol = new TableColumn<>("Citations/Year");
+        perYearCol.setCellValueFactory(cellData -> new javafx.beans.property.SimpleStringProperty(
+            String.format("%.1f", cellData.getValue().getCitationsPerYear())));
+        perYearCol.setPrefWidth(100);
+        
+        TableColumn<AuthorMetrics, String> percentileCol = new TableColumn<>("Citation Percentile");
+        percentileCol.setCellValueFactory(cellData -> new javafx.beans.property.SimpleStringProperty(
+            String.format("%.1f", cellData.getValue().getCitationPercentile())));
+        percentileCol.setPrefWidth(130);
+        
+        table.getColumns().addAll(List.of(nameCol, hIndexCol, i10Col, citationsCol, perYearCol, percentileCol));
+        return table;
+    }
+    
     private Tab createAuthorsTab() {
         Tab tab = new Tab("👥 Authors Database");
         
@@ -429,7 +614,7 @@ public class ScholarMainView {
                 hintLabel.setText("ℹ️ Tip: Shows all authors found in your database");
             } else if (isSearch) {
                 searchField.setPromptText("Enter author name (e.g., Smith)");
-                hintLabel.setText("ℹ️ Tip: Partial names work too (e.g., 'John' finds 'John Smith', 'Johnny', etc.)");
+                hintLabel.setText("ℹ️ Tip: Partial names, typos and missing accents work too (e.g., 'Muller' finds 'Müller')");
             } else if (selected.equals("Top by Citations")) {
                 hintLabel.setText("ℹ️ Tip: Shows authors with the most total citations across all their papers");
             } else if (selected.equals("Top by Article Count")) {
@@ -460,6 +645,10 @@ public class ScholarMainView {
         viewAuthorButton.setStyle("-fx-background-color: #9b59b6; -fx-text-fill: white;");
         viewAuthorButton.setDisable(true);
         
+        Button collaboratorsButton = new Button("🤝 Collaborators");
+        collaboratorsButton.setStyle("-fx-background-color: #16a085; -fx-text-fill: white;");
+        collaboratorsButton.setDisable(true);
+        
         Button deleteAuthorButton = new Button("🗑️ Delete Author");
         deleteAuthorButton.setStyle("-fx-background-color: #e74c3c; -fx-text-fill: white;");
         deleteAuthorButton.setDisable(true);
@@ -467,12 +656,13 @@ public class ScholarMainView {
         Button refreshAuthorsButton = new Button("🔄 Refresh");
         refreshAuthorsButton.setStyle("-fx-background-color: #95a5a6; -fx-text-fill: white;");
         
-        actionBox.getChildren().addAll(viewAuthorButton, deleteAuthorButton, refreshAuthorsButton);
+        actionBox.getChildren().addAll(viewAuthorButton, collaboratorsButton, deleteAuthorButton, refreshAuthorsButton);
         
         // Enable/disable buttons based on selection
         authorTable.getSelectionModel().selectedItemProperty().addListener((obs, oldSelection, newSelection) -> {
             boolean hasSelection = newSelection != null;
             viewAuthorButton.setDisable(!hasSelection);
+            collaboratorsButton.setDisable(!hasSelection);
             deleteAuthorButton.setDisable(!hasSelection);
         });
         
@@ -484,6 +674,14 @@ public class ScholarMainView {
             }
         });
         
+        // Collaborators button
+        collaboratorsButton.setOnAction(e -> {
+            SimpleAuthor selected = authorTable.getSelectionModel().getSelectedItem();
+            if (selected != null) {
+                showCollaborators(selected);
+            }
+        });
+        
         // Delete author button
         deleteAuthorButton.setOnAction(e -> {
             SimpleAuthor selected = authorTable.getSelectionModel().getSelectedItem();
@@ -763,49 +961,72 @@ public class ScholarMainView {
         return table;
     }
     
-    private List<Article> performSearch(String searchType, String term, int maxResults) throws Exception {
-        ScholarSearchResponse response;
+    private CompletableFuture<List<Article>> performSearch(String searchType, String term, int maxResults) {
+        CompletableFuture<ScholarSearchResponse> response;
         
         switch (searchType) {
             case "Researcher Name":
-                response = searchService.searchByAuthor(term, maxResults);
+                response = searchService.searchByAuthorAsync(term, maxResults);
                 break;
             case "Title (API)":
                 // Use the general search endpoint for titles
-                response = searchService.searchArticles(term, maxResults);
+                response = searchService.searchArticlesAsync(term, maxResults);
                 break;
             default:
-                throw new IllegalArgumentException("Unknown search type: " + searchType);
+                return CompletableFuture.failedFuture(new IllegalArgumentException("Unknown search type: " + searchType));
         }
         
-        if (response == null || response.getOrganicResults() == null) {
-            return List.of();
-        }
+        return response.thenApplyAsync(result -> {
+            if (result == null || result.getOrganicResults() == null) {
+                return List.<Article>of();
+            }
+            return articleService.processSearchResponse(result, maxResults);
+        });
+    }
+    
+    private void loadBrowsePage(String filterType, String filterValue, Article after, TableView<Article> table,
+                                Label countLabel, Button loadButton, Button loadMoreButton) {
+        loadButton.setDisable(true);
+        loadMoreButton.setDisable(true);
         
-        return articleService.processSearchResponse(response, maxResults);
+        new Thread(() -> {
+            try {
+                List<Article> articles = loadArticles(filterType, filterValue, after);
+                // A full page from a paged filter means there may be more rows behind it
+                boolean hasMore = !filterType.equals("By Author") && articles.size() == BROWSE_PAGE_SIZE;
+                
+                Platform.runLater(() -> {
+                    if (after == null) {
+                        table.setItems(FXCollections.observableArrayList(articles));
+                    } else {
+                        table.getItems().addAll(articles);
+                    }
+                    countLabel.setText("Loaded " + table.getItems().size() + " articles" + (hasMore ? " (more available)" : ""));
+                    loadButton.setDisable(false);
+                    loadMoreButton.setDisable(!hasMore);
+                });
+            } catch (Exception ex) {
+                Platform.runLater(() -> {
+                    showAlert("Load Error", ex.getMessage());
+                    loadButton.setDisable(false);
+                });
+            }
+        }).start();
     }
     
-    private List<Article> loadArticles(String filterType, String filterValue) throws SQLException {
+    private List<Article> loadArticles(String filterType, String filterValue, Article after) throws SQLException {
         switch (filterType) {
             case "All Articles":
-                // Get all articles from database
-                List<Article> allArticles = articleService.findByCitationsGreaterThan(-1);
-                return allArticles;
+                return articleService.findPageByCitations(-1, after, BROWSE_PAGE_SIZE);
             case "By Author":
                 if (filterValue.isEmpty()) throw new IllegalArgumentException("Please enter author name");
                 return articleService.findByAuthor(filterValue);
             case "By Year (and newer)":
                 if (filterValue.isEmpty()) throw new IllegalArgumentException("Please enter year");
-                int year = Integer.parseInt(filterValue);
-                // Get all articles and filter for year >= specified year
-                List<Article> yearArticles = articleService.findByCitationsGreaterThan(-1);
-                return yearArticles.stream()
-                    .filter(a -> a.getPublicationYear() != null && a.getPublicationYear() >= year)
-                    .sorted((a, b) -> Integer.compare(b.getPublicationYear(), a.getPublicationYear()))
-                    .collect(java.util.stream.Collectors.toList());
+                return articleService.findPageByYear(Integer.parseInt(filterValue), after, BROWSE_PAGE_SIZE);
             case "Highly Cited (minimum)":
                 if (filterValue.isEmpty()) throw new IllegalArgumentException("Please enter minimum citations");
-                return articleService.findByCitationsGreaterThan(Integer.parseInt(filterValue));
+                return articleService.findPageByCitations(Integer.parseInt(filterValue), after, BROWSE_PAGE_SIZE);
             default:
                 return List.of();
         }
@@ -865,6 +1086,19 @@ public class ScholarMainView {
     }
     
     private void showAuthorDetails(SimpleAuthor author) {
+        new Thread(() -> {
+            AuthorMetrics metrics = null;
+            try {
+                metrics = articleService.getAuthorMetrics(author.getId()).orElse(null);
+            } catch (Exception ex) {
+                // The dialog still shows the stored statistics
+            }
+            AuthorMetrics loaded = metrics;
+            Platform.runLater(() -> showAuthorDetails(author, loaded));
+        }).start();
+    }
+    
+    private void showAuthorDetails(SimpleAuthor author, AuthorMetrics metrics) {
         Alert dialog = new Alert(Alert.AlertType.INFORMATION);
         dialog.setTitle("Author Statistics");
         dialog.setHeaderText("📊 " + author.getFullName());
@@ -874,6 +1108,14 @@ public class ScholarMainView {
         content.append("📚 Total Articles: ").append(author.getArticleCount()).append("\n\n");
         content.append("📈 Total Citations: ").append(author.getTotalCitations()).append("\n\n");
         content.append("⭐ Average Citations per Article: ").append(String.format("%.2f", author.getAverageCitations())).append("\n\n");
+        if (metrics != null) {
+            content.append("🏆 h-index: ").append(metrics.getHIndex())
+                   .append(String.format(" (percentile %.1f)", metrics.getHIndexPercentile())).append("\n\n");
+            content.append("🔟 i10-index: ").append(metrics.getI10Index()).append("\n\n");
+            content.append("📆 Citations per Year: ").append(String.format("%.1f", metrics.getCitationsPerYear()))
+                   .append(metrics.getFirstYear() != null ? " (since " + metrics.getFirstYear() + ")" : "").append("\n\n");
+            content.append("📊 Citation Percentile: ").append(String.format("%.1f", metrics.getCitationPercentile())).append("\n\n");
+        }
         content.append("🕐 First Seen: ").append(author.getFirstSeen()).append("\n\n");
         content.append("🕑 Last Updated: ").append(author.getLastUpdated()).append("\n\n");
         
@@ -885,6 +1127,46 @@ public class ScholarMainView {
         dialog.showAndWait();
     }
     
+    private void showCollaborators(SimpleAuthor author) {
+        new Thread(() -> {
+            try {
+                List<CoAuthorGraph.Collaborator> collaborators =
+                    articleService.getTopCollaborators(author.getId(), TOP_COLLABORATORS_LIMIT);
+                int networkSize = articleService.getCollaborationNetwork(author.getId()).size();
+                Platform.runLater(() -> showCollaborators(author, collaborators, networkSize));
+            } catch (Exception ex) {
+                Platform.runLater(() -> showAlert("Collaborators Error", "Error: " + ex.getMessage()));
+            }
+        }).start();
+    }
+    
+    private void showCollaborators(SimpleAuthor author, List<CoAuthorGraph.Collaborator> collaborators, int networkSize) {
+        Alert dialog = new Alert(Alert.AlertType.INFORMATION);
+        dialog.setTitle("Collaborators");
+        dialog.setHeaderText("🤝 " + author.getFullName());
+        
+        StringBuilder content = new StringBuilder();
+        if (collaborators.isEmpty()) {
+            content.append("No co-authors found.\n\n");
+        } else {
+            content.append("Top collaborators (shared articles):\n\n");
+            for (int i = 0; i < collaborators.size(); i++) {
+                CoAuthorGraph.Collaborator collaborator = collaborators.get(i);
+                content.append(i + 1).append(". ").append(collaborator.getAuthor().getFullName())
+                       .append(" — ").append(collaborator.getSharedArticles()).append("\n");
+            }
+            content.append("\n");
+        }
+        if (networkSize > 1) {
+            content.append("🌐 Collaboration network: ").append(networkSize - 1)
+                   .append(" author(s) reachable through co-authorship\n");
+        }
+        
+        dialog.setContentText(content.toString());
+        dialog.getDialogPane().setPrefWidth(600);
+        dialog.showAndWait();
+    }
+    
     private void deleteAuthor(SimpleAuthor author, TableView<SimpleAuthor> table, Label countLabel) {
         new Thread(() -> {
             try {
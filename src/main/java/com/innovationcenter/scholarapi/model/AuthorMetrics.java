@@ -0,0 +1,132 @@
+package com.innovationcenter.scholarapi.model;
+
+import java.sql.Timestamp;
+
+/**
+ * Precomputed bibliometric indicators of a stored author, persisted in author_metrics.
+ * Computed from the author's active articles, not from a Google Scholar profile.
+ */
+public class AuthorMetrics {
+
+    private Long authorId;
+    private String fullName;
+    private int articleCount;
+    private int totalCitations;
+    private int hIndex;
+    private int i10Index;
+    private Integer firstYear;
+    private double citationsPerYear;
+    private double citationPercentile;
+    private double hIndexPercentile;
+    private Timestamp computedAt;
+
+    public AuthorMetrics() {
+    }
+
+    public AuthorMetrics(Long authorId) {
+        this.authorId = authorId;
+    }
+
+    public Long getAuthorId() {
+        return authorId;
+    }
+
+    public void setAuthorId(Long authorId) {
+        this.authorId = authorId;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public void setFullName(String fullName) {
+        this.fullName = fullName;
+    }
+
+    public int getArticleCount() {
+        return articleCount;
+    }
+
+    public void setArticleCount(int articleCount) {
+        this.articleCount = articleCount;
+    }
+
+    public int getTotalCitations() {
+        return totalCitations;
+    }
+
+    public void setTotalCitations(int totalCitations) {
+        this.totalCitations = totalCitations;
+    }
+
+    public int getHIndex() {
+        return hIndex;
+    }
+
+    public void setHIndex(int hIndex) {
+        this.hIndex = hIndex;
+    }
+
+    public int getI10Index() {
+        return i10Index;
+    }
+
+    public void setI10Index(int i10Index) {
+        this.i10Index = i10Index;
+    }
+
+    /**
+     * @return Earliest publication year of the author's articles, null if none is known
+     */
+    public Integer getFirstYear() {
+        return firstYear;
+    }
+
+    public void setFirstYear(Integer firstYear) {
+        this.firstYear = firstYear;
+    }
+
+    public double getCitationsPerYear() {
+        return citationsPerYear;
+    }
+
+    public void setCitationsPerYear(double citationsPerYear) {
+        this.citationsPerYear = citationsPerYear;
+    }
+
+    /**
+     * @return Percentile rank (0-100) of total citations among all authors with metrics
+     */
+    public double getCitationPercentile() {
+        return citationPercentile;
+    }
+
+    public void setCitationPercentile(double citationPercentile) {
+        this.citationPercentile = citationPercentile;
+    }
+
+    /**
+     * @return Percentile rank (0-100) of the h-index among all authors with metrics
+     */
+    public double getHIndexPercentile() {
+        return hIndexPercentile;
+    }
+
+    public void setHIndexPercentile(double hIndexPercentile) {
+        this.hIndexPercentile = hIndexPercentile;
+    }
+
+    public Timestamp getComputedAt() {
+        return computedAt;
+    }
+
+    public void setComputedAt(Timestamp computedAt) {
+        this.computedAt = computedAt;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("AuthorMetrics{authorId=%d, h=%d, i10=%d, citations=%d, perYear=%.1f, pct=%.1f}",
+            authorId, hIndex, i10Index, totalCitations, citationsPerYear, citationPercentile);
+    }
+}
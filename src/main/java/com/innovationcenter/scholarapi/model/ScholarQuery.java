@@ -0,0 +1,130 @@
+package com.innovationcenter.scholarapi.model;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Immutable description of one SerpAPI Google Scholar request.
+ * Captures the engine, q, start, num and cites parameters so a request can be
+ * turned into a URL or into a normalized key for response caching.
+ */
+public final class ScholarQuery {
+    public static final String ENGINE = "google_scholar";
+    /** SerpAPI never returns more than 20 results per page. */
+    public static final int MAX_PAGE_SIZE = 20;
+
+    private final String engine;
+    private final String q;
+    private final String cites;
+    private final Integer start;
+    private final int num;
+
+    private ScholarQuery(String engine, String q, String cites, Integer start, int num) {
+        this.engine = engine;
+        this.q = q;
+        this.cites = cites;
+        this.start = start;
+        this.num = Math.min(num, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * General keyword search.
+     */
+    public static ScholarQuery search(String query, int maxResults) {
+        requireText(query, "Search query cannot be null or empty");
+        return new ScholarQuery(ENGINE, query, null, null, maxResults);
+    }
+
+    /**
+     * Search restricted to an author name.
+     */
+    public static ScholarQuery byAuthor(String authorName, int maxResults) {
+        requireText(authorName, "Author name cannot be null or empty");
+        return new ScholarQuery(ENGINE, "author:\"" + authorName + "\"", null, null, maxResults);
+    }
+
+    /**
+     * Articles citing the paper with the given cites ID.
+     */
+    public static ScholarQuery citing(String citesId, int maxResults) {
+        requireText(citesId, "Citation ID cannot be null or empty");
+        return new ScholarQuery(ENGINE, null, citesId, null, maxResults);
+    }
+
+    /**
+     * One page of a keyword search.
+     */
+    public static ScholarQuery paginated(String query, int startIndex, int pageSize) {
+        requireText(query, "Search query cannot be null or empty");
+        return new ScholarQuery(ENGINE, query, null, startIndex, pageSize);
+    }
+
+    /**
+     * Same query moved to another result offset.
+     */
+    public ScholarQuery withStart(int startIndex) {
+        return new ScholarQuery(engine, q, cites, startIndex, num);
+    }
+
+    public String getEngine() { return engine; }
+    public String getQ() { return q; }
+    public String getCites() { return cites; }
+    public Integer getStart() { return start; }
+    public int getNum() { return num; }
+
+    /**
+     * Builds the request URL for the given endpoint and API key.
+     */
+    public String toUrl(String baseUrl, String apiKey) {
+        StringBuilder url = new StringBuilder(baseUrl).append("?engine=").append(engine);
+        if (q != null) {
+            url.append("&q=").append(URLEncoder.encode(q, StandardCharsets.UTF_8));
+        }
+        if (cites != null) {
+            url.append("&cites=").append(cites);
+        }
+        if (start != null) {
+            url.append("&start=").append(start);
+        }
+        url.append("&num=").append(num).append("&api_key=").append(apiKey);
+        return url.toString();
+    }
+
+    /**
+     * Normalized, credential-free identity of this request.
+     * Whitespace is collapsed and q is case-folded, since Google Scholar matching ignores both.
+     */
+    public String cacheKey() {
+        String normalizedQ = q == null ? "" : q.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return "engine=" + engine +
+               "|q=" + normalizedQ +
+               "|cites=" + (cites == null ? "" : cites.trim()) +
+               "|start=" + (start == null ? 0 : start) +
+               "|num=" + num;
+    }
+
+    private static void requireText(String value, String message) {
+        if (value == null || value.trim().isEmpty()) {
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        return cacheKey().equals(((ScholarQuery) obj).cacheKey());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(cacheKey());
+    }
+
+    @Override
+    public String toString() {
+        return "ScholarQuery{" + cacheKey() + "}";
+    }
+}
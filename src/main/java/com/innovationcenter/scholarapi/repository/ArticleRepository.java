@@ -5,6 +5,8 @@ import com.innovationcenter.scholarapi.model.Article;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Interface for Article data access operations.
@@ -20,6 +22,26 @@ public interface ArticleRepository {
      */
     Article save(Article article) throws SQLException;
     
+    /**
+     * Save a batch of articles in a single transaction.
+     * Articles whose Google Scholar ID is already stored are updated instead of duplicated.
+     * Generated or existing IDs are assigned back to the given article instances.
+     * Whether a Scholar ID is new is decided from the stored rows locked by the same transaction.
+     * @param articles Articles to save
+     * @return Google Scholar IDs of the articles this call inserted rather than updated
+     * @throws SQLException If the batch fails; no article of the batch is persisted
+     */
+    Set<String> saveAll(List<Article> articles) throws SQLException;
+    
+    /**
+     * Insert an article, or refresh the stored row if its Google Scholar ID already exists.
+     * The article ID is set in both cases.
+     * @param article Article to insert or update
+     * @return true if a new row was inserted, false if an existing row was updated
+     * @throws SQLException If the operation fails
+     */
+    boolean upsert(Article article) throws SQLException;
+    
     /**
      * Find an article by its ID.
      * @param id Article ID
@@ -29,7 +51,19 @@ public interface ArticleRepository {
     Optional<Article> findById(Long id) throws SQLException;
     
     /**
-     * Find all articles by a specific author.
+     * Find an active article by its Google Scholar ID.
+     * @param googleScholarId Google Scholar result ID
+     * @return Optional containing the article if found, empty otherwise
+     * @throws SQLException If query fails
+     */
+    Optional<Article> findByGoogleScholarId(String googleScholarId) throws SQLException;
+    
+    /**
+     * Find all articles by a specific author through the normalized author links.
+     * The name is matched as a prefix of the author's name key, so a surname alone or
+     * "initials surname" finds every matching author regardless of case or accents.
+     * Unlike a search of the authors text, articles without article_authors links are not
+     * found, and neither is a first name alone, since the key starts with the surname.
      * @param authorName Author name to search for
      * @return List of articles by the author
      * @throws SQLException If query fails
@@ -38,11 +72,60 @@ public interface ArticleRepository {
     
     /**
      * Find all articles in the database.
+     * Loads every row into memory; prefer the page methods or forEachArticle on large tables.
      * @return List of all articles
      * @throws SQLException If query fails
      */
     List<Article> findAll() throws SQLException;
     
+    /**
+     * Find one page of articles with more than the given citation count,
+     * ordered by citation count and then ID, both descending.
+     * @param minCitations Citation count articles must exceed
+     * @param after Last article of the previous page, or null for the first page
+     * @param limit Maximum number of articles to return
+     * @return Next page of articles, empty when there are no more
+     * @throws SQLException If query fails
+     */
+    List<Article> findPageByCitations(int minCitations, Article after, int limit) throws SQLException;
+    
+    /**
+     * Find all active articles published in the given year, most cited first.
+     * @param year Publication year
+     * @return Articles published that year
+     * @throws SQLException If query fails
+     */
+    List<Article> findByYear(int year) throws SQLException;
+    
+    /**
+     * Find one page of articles published in or after the given year,
+     * ordered by publication year and then ID, both descending.
+     * @param minYear Earliest publication year to include
+     * @param after Last article of the previous page, or null for the first page
+     * @param limit Maximum number of articles to return
+     * @return Next page of articles, empty when there are no more
+     * @throws SQLException If query fails
+     */
+    List<Article> findPageByYear(int minYear, Article after, int limit) throws SQLException;
+    
+    /**
+     * Stream every active article to the given action without holding them all in memory.
+     * The connection stays busy until the scan ends, so the action must not block for long.
+     * @param action Called once per article
+     * @return Number of articles visited
+     * @throws SQLException If query fails
+     */
+    long forEachArticle(Consumer<Article> action) throws SQLException;
+    
+    /**
+     * Full-text search over titles and abstracts, ranked by relevance.
+     * @param booleanQuery Expression for MATCH ... AGAINST in boolean mode, e.g. +word +prefix* +"a phrase"
+     * @param limit Maximum number of articles to return
+     * @return Matching articles, most relevant first
+     * @throws SQLException If query fails or the FULLTEXT index is missing
+     */
+    List<Article> searchFullText(String booleanQuery, int limit) throws SQLException;
+    
     /**
      * Update an existing article.
      * @param article Article with updated data
@@ -0,0 +1,112 @@
+package com.innovationcenter.scholarapi.repository;
+
+import com.innovationcenter.scholarapi.model.AuthorMetrics;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Repository interface for precomputed author metrics.
+ * Reads the per-author citation data metrics are computed from and stores the results.
+ */
+public interface AuthorMetricsRepository {
+
+    /**
+     * Receives the active articles of one author. The arrays are reused between authors,
+     * so only the first count entries are valid and they must not be kept.
+     */
+    @FunctionalInterface
+    interface AuthorCitations {
+        void accept(long authorId, int[] citations, int[] years, int count);
+    }
+
+    /**
+     * Stream the citation counts and publication years of every active author's articles,
+     * one author at a time.
+     *
+     * @param action Called once per author with at least one active article
+     * @return Number of authors visited
+     * @throws SQLException if database operation fails
+     */
+    long forEachAuthorCitations(AuthorCitations action) throws SQLException;
+
+    /**
+     * Read the citation counts and publication years of the given authors' articles.
+     *
+     * @param authorIds Author IDs
+     * @param action Called once per author with at least one active article
+     * @throws SQLException if database operation fails
+     */
+    void findAuthorCitations(Collection<Long> authorIds, AuthorCitations action) throws SQLException;
+
+    /**
+     * Find the authors linked to any of the given articles.
+     *
+     * @param articleIds Article IDs
+     * @return Distinct author IDs
+     * @throws SQLException if database operation fails
+     */
+    List<Long> findAuthorIdsByArticleIds(Collection<Long> articleIds) throws SQLException;
+
+    /**
+     * Replace all stored metrics in one transaction.
+     *
+     * @param metrics Metrics of every author that has any
+     * @throws SQLException if database operation fails
+     */
+    void replaceAll(List<AuthorMetrics> metrics) throws SQLException;
+
+    /**
+     * Insert or overwrite the metrics of the given authors.
+     *
+     * @param metrics Metrics to store
+     * @throws SQLException if database operation fails
+     */
+    void saveAll(List<AuthorMetrics> metrics) throws SQLException;
+
+    /**
+     * Remove the stored metrics of authors that no longer have active articles.
+     *
+     * @param authorIds Author IDs
+     * @throws SQLException if database operation fails
+     */
+    void deleteByAuthorIds(Collection<Long> authorIds) throws SQLException;
+
+    /**
+     * Find the metrics of one author.
+     *
+     * @param authorId The author ID
+     * @return Optional containing the metrics if computed
+     * @throws SQLException if database operation fails
+     */
+    Optional<AuthorMetrics> findByAuthorId(Long authorId) throws SQLException;
+
+    /**
+     * Find active authors ordered by h-index, then total citations (descending).
+     *
+     * @param limit Maximum number of results
+     * @return Metrics with author names
+     * @throws SQLException if database operation fails
+     */
+    List<AuthorMetrics> findTopByHIndex(int limit) throws SQLException;
+
+    /**
+     * Stream every stored metrics row without loading them all into a list.
+     *
+     * @param action Called once per row
+     * @return Number of rows visited
+     * @throws SQLException if database operation fails
+     */
+    long forEachMetrics(Consumer<AuthorMetrics> action) throws SQLException;
+
+    /**
+     * Count stored metrics rows.
+     *
+     * @return Row count
+     * @throws SQLException if database operation fails
+     */
+    long count() throws SQLException;
+}
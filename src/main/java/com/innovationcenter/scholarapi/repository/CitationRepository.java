@@ -0,0 +1,69 @@
+package com.innovationcenter.scholarapi.repository;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Repository interface for the article citation graph.
+ * Stores "citing article cites cited article" edges and the set of
+ * cites IDs the citation crawler has already expanded.
+ */
+public interface CitationRepository {
+
+    /**
+     * Record that each citing article cites the given article. Existing edges are ignored.
+     *
+     * @param citedArticleId The cited article ID
+     * @param citingArticleIds IDs of the articles citing it
+     * @return Number of new edges
+     * @throws SQLException if database operation fails
+     */
+    int saveCitations(Long citedArticleId, Collection<Long> citingArticleIds) throws SQLException;
+
+    /**
+     * Find the articles citing the given article.
+     *
+     * @param articleId The cited article ID
+     * @return IDs of citing articles
+     * @throws SQLException if database operation fails
+     */
+    List<Long> findCitingArticleIds(Long articleId) throws SQLException;
+
+    /**
+     * Count all stored citation edges.
+     *
+     * @return Edge count
+     * @throws SQLException if database operation fails
+     */
+    long countCitations() throws SQLException;
+
+    /**
+     * Mark a cites ID as expanded so later crawls do not query it again.
+     *
+     * @param citesId The Google Scholar cites ID
+     * @param articleId The article it belongs to
+     * @param depth Crawl depth at which it was expanded
+     * @throws SQLException if database operation fails
+     */
+    void markVisited(String citesId, Long articleId, int depth) throws SQLException;
+
+    /**
+     * Check whether a cites ID has already been expanded.
+     *
+     * @param citesId The Google Scholar cites ID
+     * @return true if visited
+     * @throws SQLException if database operation fails
+     */
+    boolean isVisited(String citesId) throws SQLException;
+
+    /**
+     * Stream every visited cites ID without loading them all into a list.
+     *
+     * @param action Called once per visited cites ID
+     * @return Number of visited cites IDs
+     * @throws SQLException if database operation fails
+     */
+    long forEachVisited(Consumer<String> action) throws SQLException;
+}
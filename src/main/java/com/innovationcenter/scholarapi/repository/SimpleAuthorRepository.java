@@ -3,8 +3,11 @@ package com.innovationcenter.scholarapi.repository;
 import com.innovationcenter.scholarapi.model.SimpleAuthor;
 
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Repository interface for SimpleAuthor operations.
@@ -12,6 +15,52 @@ import java.util.Optional;
  */
 public interface SimpleAuthorRepository {
     
+    /**
+     * Receives the authors of one article. The array is reused between articles,
+     * so only the first count entries are valid and it must not be kept.
+     */
+    @FunctionalInterface
+    interface ArticleAuthors {
+        void accept(long articleId, long[] authorIds, int count);
+    }
+    
+    /**
+     * Outcome of linking authors to an article: the resolved authors, which of them
+     * the article was not linked to before, and the authors it was linked to before.
+     */
+    final class LinkedAuthors {
+        private final List<SimpleAuthor> authors;
+        private final List<SimpleAuthor> newlyLinked;
+        private final Set<Long> previouslyLinkedIds;
+        
+        public LinkedAuthors(List<SimpleAuthor> authors, List<SimpleAuthor> newlyLinked, Set<Long> previouslyLinkedIds) {
+            this.authors = authors;
+            this.newlyLinked = newlyLinked;
+            this.previouslyLinkedIds = previouslyLinkedIds;
+        }
+        
+        /**
+         * @return The authors with IDs set, duplicates within the list removed
+         */
+        public List<SimpleAuthor> getAuthors() {
+            return authors;
+        }
+        
+        /**
+         * @return The authors whose link to the article this call created
+         */
+        public List<SimpleAuthor> getNewlyLinked() {
+            return newlyLinked;
+        }
+        
+        /**
+         * @return IDs of the authors the article was linked to before this call
+         */
+        public Set<Long> getPreviouslyLinkedIds() {
+            return previouslyLinkedIds;
+        }
+    }
+    
     /**
      * Save a new author or return existing one if name already exists.
      * 
@@ -48,6 +97,43 @@ public interface SimpleAuthorRepository {
      */
     List<SimpleAuthor> findByNamePattern(String namePattern) throws SQLException;
     
+    /**
+     * Find the active authors with the given IDs.
+     * 
+     * @param ids Author IDs
+     * @return Matching authors, in no particular order
+     * @throws SQLException if database operation fails
+     */
+    List<SimpleAuthor> findByIds(Collection<Long> ids) throws SQLException;
+    
+    /**
+     * Stream every active author to the given action without loading them all into a list.
+     * 
+     * @param action Called once per author
+     * @return Number of authors visited
+     * @throws SQLException if database operation fails
+     */
+    long forEachAuthor(Consumer<SimpleAuthor> action) throws SQLException;
+    
+    /**
+     * Stream the active authors of every active article, one article at a time,
+     * in author position order.
+     * 
+     * @param action Called once per article with at least one active author
+     * @return Number of articles visited
+     * @throws SQLException if database operation fails
+     */
+    long forEachArticleAuthors(ArticleAuthors action) throws SQLException;
+    
+    /**
+     * Find the active authors linked to any of the given articles.
+     * 
+     * @param articleIds Article IDs
+     * @return Distinct author IDs
+     * @throws SQLException if database operation fails
+     */
+    List<Long> findIdsByArticleIds(Collection<Long> articleIds) throws SQLException;
+    
     /**
      * Find all authors ordered by total citations (descending).
      * 
@@ -77,6 +163,21 @@ public interface SimpleAuthorRepository {
      */
     boolean updateStatistics(Long authorId, int articleCount, int totalCitations) throws SQLException;
     
+    /**
+     * Recompute article count and total citations of every author from the active articles
+     * linked to them, in one set-based pass. Repairs statistics after bulk imports or drift.
+     * 
+     * @return Number of authors recomputed
+     * @throws SQLException if database operation fails
+     */
+    int rebuildStatistics() throws SQLException;
+    
+    /**
+     * Tell the repository that article writes changed author statistics in the database,
+     * so statistics it holds in memory are dropped. Stored statistics need no action.
+     */
+    void statisticsChanged();
+    
     /**
      * Link an author to an article.
      * 
@@ -88,6 +189,21 @@ public interface SimpleAuthorRepository {
      */
     boolean linkToArticle(Long articleId, Long authorId, int position) throws SQLException;
     
+    /**
+     * Resolve or create all authors of an article and link them in one transaction.
+     * Uses a constant number of statements regardless of author count: one lock of the
+     * article row, one multi-row upsert of names, one ID lookup, one lookup of existing links,
+     * one batched link insert and one statistics update. Statistics are applied as atomic increments for new links
+     * only, so concurrent ingests do not lose updates and relinking does not count twice.
+     * 
+     * @param articleId The article ID
+     * @param authors Authors in list order; position is the index in this list
+     * @param articleCitations Citation count of the article, added to each author's total
+     * @return The resolved authors and which of them were newly linked
+     * @throws SQLException if database operation fails
+     */
+    LinkedAuthors saveAllAndLinkToArticle(Long articleId, List<SimpleAuthor> authors, int articleCitations) throws SQLException;
+    
     /**
      * Get all authors for a specific article.
      * 
@@ -0,0 +1,75 @@
+package com.innovationcenter.scholarapi.repository.impl;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+/**
+ * Maintains the materialized authors.article_count and authors.total_citations columns.
+ *
+ * Article writes call applyDeltas on their own connection inside their transaction, so
+ * the statistics commit or roll back together with the article row. rebuild recomputes
+ * every author from article_authors in one statement, repairing any drift.
+ *
+ * Both statements are single-table UPDATEs with subqueries rather than MySQL's multi-table
+ * form, so they also run on the embedded database the repository tests use.
+ */
+final class AuthorStatistics {
+
+    private static final String APPLY_DELTA_SQL =
+        "UPDATE authors SET article_count = GREATEST(article_count + ?, 0), " +
+        "total_citations = GREATEST(total_citations + ?, 0) " +
+        "WHERE id IN (SELECT author_id FROM article_authors WHERE article_id = ?)";
+
+    private static final String LINKED_ACTIVE_ARTICLES =
+        "FROM article_authors aa JOIN articles ar ON ar.id = aa.article_id AND ar.deleted_at IS NULL " +
+        "WHERE aa.author_id = au.id";
+
+    private static final String REBUILD_SQL =
+        "UPDATE authors au SET " +
+        "article_count = (SELECT COUNT(*) " + LINKED_ACTIVE_ARTICLES + "), " +
+        "total_citations = (SELECT COALESCE(SUM(ar.citation_count), 0) " + LINKED_ACTIVE_ARTICLES + ")";
+
+    private AuthorStatistics() {
+    }
+
+    /**
+     * Adjust the statistics of every author linked to the given articles with one batch.
+     *
+     * @param connection Connection of the surrounding transaction
+     * @param articleCountDelta Added to each linked author's article count (-1 on delete)
+     * @param citationDeltas Citation change per article ID; zero changes are skipped
+     */
+    static void applyDeltas(Connection connection, int articleCountDelta, Map<Long, Integer> citationDeltas) throws SQLException {
+        boolean batched = false;
+
+        try (PreparedStatement statement = connection.prepareStatement(APPLY_DELTA_SQL)) {
+            for (Map.Entry<Long, Integer> delta : citationDeltas.entrySet()) {
+                if (articleCountDelta == 0 && delta.getValue() == 0) {
+                    continue;
+                }
+                statement.setInt(1, articleCountDelta);
+                statement.setInt(2, delta.getValue());
+                statement.setLong(3, delta.getKey());
+                statement.addBatch();
+                batched = true;
+            }
+            if (batched) {
+                statement.executeBatch();
+            }
+        }
+    }
+
+    /**
+     * Recompute every author's statistics from the active articles they are linked to.
+     *
+     * @return Number of authors recomputed
+     */
+    static int rebuild(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            return statement.executeUpdate(REBUILD_SQL);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.innovationcenter.scholarapi.repository.impl;
+
+import com.innovationcenter.scholarapi.model.Article;
+import com.innovationcenter.scholarapi.repository.ArticleRepository;
+import com.innovationcenter.scholarapi.service.ConfigurationService;
+import com.innovationcenter.scholarapi.util.TtlCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Read-through caching decorator for an ArticleRepository.
+ *
+ * Single articles are cached by ID and by Google Scholar ID; result lists of the
+ * bounded list queries and the article count are cached as well. Every write goes
+ * through this class and invalidates what it can affect, so a write is visible to
+ * the next read. Cached Article instances are shared, so callers must save changes
+ * through update rather than editing a returned article in place.
+ */
+public class CachingArticleRepository implements ArticleRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(CachingArticleRepository.class);
+
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+    public static final long DEFAULT_TTL_SECONDS = 300;
+
+    private static final int MAX_CACHED_QUERIES = 256;
+    private static final String COUNT_KEY = "count";
+
+    private final ArticleRepository delegate;
+    private final TtlCache<Long, Article> byId;
+    private final TtlCache<String, Article> byScholarId;
+    private final TtlCache<String, List<Article>> queries;
+    private final TtlCache<String, Long> counts;
+
+    public CachingArticleRepository(ArticleRepository delegate, int maxEntries, Duration ttl) {
+        this.delegate = delegate;
+        this.byId = new TtlCache<>(maxEntries, ttl);
+        this.byScholarId = new TtlCache<>(maxEntries, ttl);
+        this.queries = new TtlCache<>(Math.min(maxEntries, MAX_CACHED_QUERIES), ttl);
+        this.counts = new TtlCache<>(1, ttl);
+    }
+
+    /**
+     * Wraps the repository using REPOSITORY_CACHE_MAX_ENTRIES and REPOSITORY_CACHE_TTL_SECONDS.
+     * A maximum of 0 disables caching and returns the repository unchanged.
+     */
+    public static ArticleRepository fromConfiguration(ArticleRepository delegate, ConfigurationService configService) {
+        int maxEntries = configService.getIntProperty("REPOSITORY_CACHE_MAX_ENTRIES", DEFAULT_MAX_ENTRIES);
+        long ttlSeconds = configService.getLongProperty("REPOSITORY_CACHE_TTL_SECONDS", DEFAULT_TTL_SECONDS);
+        if (maxEntries <= 0 || ttlSeconds <= 0) {
+            return delegate;
+        }
+        logger.info("Caching articles: {} entries, {}s time to live", maxEntries, ttlSeconds);
+        return new CachingArticleRepository(delegate, maxEntries, Duration.ofSeconds(ttlSeconds));
+    }
+
+    @Override
+    public Article save(Article article) throws SQLException {
+        Article saved = delegate.save(article);
+        invalidateQueries();
+        invalidateArticle(saved.getId(), saved.getGoogleScholarId());
+        return saved;
+    }
+
+    @Override
+    public Set<String> saveAll(List<Article> articles) throws SQLException {
+        // Upserts refresh stored rows with fields this list may not carry, so drop rather than store
+        Set<String> inserted = delegate.saveAll(articles);
+        invalidateQueries();
+        for (Article article : articles) {
+            invalidateArticle(article.getId(), article.getGoogleScholarId());
+        }
+        return inserted;
+    }
+
+    @Override
+    public boolean upsert(Article article) throws SQLException {
+        boolean inserted = delegate.upsert(article);
+        invalidateQueries();
+        invalidateArticle(article.getId(), article.getGoogleScholarId());
+        return inserted;
+    }
+
+    @Override
+    public Optional<Article> findById(Long id) throws SQLException {
+        return Optional.ofNullable(byId.get(id, () -> delegate.findById(id).orElse(null)));
+    }
+
+    @Override
+    public Optional<Article> findByGoogleScholarId(String googleScholarId) throws SQLException {
+        return Optional.ofNullable(byScholarId.get(googleScholarId,
+            () -> delegate.findByGoogleScholarId(googleScholarId).orElse(null)));
+    }
+
+    @Override
+    public List<Article> findByAuthor(String authorName) throws SQLException {
+        // Not cached: author links are written through the author repository, which cannot invalidate here
+        return delegate.findByAuthor(authorName);
+    }
+
+    @Override
+    public List<Article> findAll() throws SQLException {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Article> findPageByCitations(int minCitations, Article after, int limit) throws SQLException {
+        String key = "citations-page:" + minCitations + ":" + cursor(after == null ? null : after.getCitationCount(), after) + ":" + limit;
+        return cachedQuery(key, () -> delegate.findPageByCitations(minCitations, after, limit));
+    }
+
+    @Override
+    public List<Article> findByYear(int year) throws SQLException {
+        return cachedQuery("year:" + year, () -> delegate.findByYear(year));
+    }
+
+    @Override
+    public List<Article> findPageByYear(int minYear, Article after, int limit) throws SQLException {
+        String key = "year-page:" + minYear + ":" + cursor(after == null ? null : after.getPublicationYear(), after) + ":" + limit;
+        return cachedQuery(key, () -> delegate.findPageByYear(minYear, after, limit));
+    }
+
+    @Override
+    public long forEachArticle(Consumer<Article> action) throws SQLException {
+        return delegate.forEachArticle(action);
+    }
+
+    @Override
+    public List<Article> searchFullText(String booleanQuery, int limit) throws SQLException {
+        return cachedQuery("fulltext:" + limit + ":" + booleanQuery, () -> delegate.searchFullText(booleanQuery, limit));
+    }
+
+    @Override
+    public Article update(Article article) throws SQLException {
+        // The Scholar ID may have changed, so drop the entry under the previously cached one too
+        Article previous = byId.get(article.getId());
+        Article updated = delegate.update(article);
+        invalidateQueries();
+        invalidateArticle(article.getId(), article.getGoogleScholarId());
+        if (previous != null) {
+            invalidateArticle(null, previous.getGoogleScholarId());
+        }
+        return updated;
+    }
+
+    @Override
+    public boolean deleteById(Long id) throws SQLException {
+        boolean deleted = delegate.deleteById(id);
+        invalidateQueries();
+        byId.invalidate(id);
+        byScholarId.invalidateIf((scholarId, article) -> id.equals(article.getId()));
+        return deleted;
+    }
+
+    @Override
+    public long count() throws SQLException {
+        return counts.get(COUNT_KEY, delegate::count);
+    }
+
+    @Override
+    public List<Article> findByCitationsGreaterThan(int minCitations) throws SQLException {
+        return cachedQuery("citations:" + minCitations, () -> delegate.findByCitationsGreaterThan(minCitations));
+    }
+
+    /**
+     * @return Counter snapshots per cache, in a stable order
+     */
+    public Map<String, TtlCache.Stats> cacheStats() {
+        Map<String, TtlCache.Stats> stats = new LinkedHashMap<>();
+        stats.put("articlesById", byId.stats());
+        stats.put("articlesByScholarId", byScholarId.stats());
+        stats.put("articleQueries", queries.stats());
+        stats.put("articleCount", counts.stats());
+        return stats;
+    }
+
+    /**
+     * @return All counters added together
+     */
+    public TtlCache.Stats totalStats() {
+        return cacheStats().values().stream().reduce(new TtlCache.Stats(0, 0, 0, 0), TtlCache.Stats::plus);
+    }
+
+    public void invalidateAll() {
+        byId.invalidateAll();
+        byScholarId.invalidateAll();
+        invalidateQueries();
+    }
+
+    private List<Article> cachedQuery(String key, TtlCache.Loader<List<Article>, SQLException> loader) throws SQLException {
+        List<Article> cached = queries.get(key, () -> List.copyOf(loader.load()));
+        // Callers may add to or sort the list they get back
+        return new ArrayList<>(cached);
+    }
+
+    private void invalidateQueries() {
+        queries.invalidateAll();
+        counts.invalidateAll();
+    }
+
+    private void invalidateArticle(Long id, String googleScholarId) {
+        if (id != null) {
+            byId.invalidate(id);
+        }
+        if (googleScholarId != null) {
+            byScholarId.invalidate(googleScholarId);
+        }
+    }
+
+    private static String cursor(Integer sortValue, Article after) {
+        return after == null ? "-" : sortValue + "/" + after.getId();
+    }
+}
@@ -0,0 +1,243 @@
+package com.innovationcenter.scholarapi.repository.impl;
+
+import com.innovationcenter.scholarapi.model.SimpleAuthor;
+import com.innovationcenter.scholarapi.repository.SimpleAuthorRepository;
+import com.innovationcenter.scholarapi.service.ConfigurationService;
+import com.innovationcenter.scholarapi.util.TtlCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Read-through caching decorator for a SimpleAuthorRepository.
+ *
+ * Authors are cached by ID and by full name (case-insensitively, like the column
+ * collation); the top-N and per-article lists and the author count are cached as well.
+ * Writes go through this class and invalidate the authors they touch plus every
+ * cached list, since statistics changes reorder the rankings.
+ */
+public class CachingSimpleAuthorRepository implements SimpleAuthorRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(CachingSimpleAuthorRepository.class);
+
+    private static final int MAX_CACHED_QUERIES = 256;
+    private static final String COUNT_KEY = "count";
+
+    private final SimpleAuthorRepository delegate;
+    private final TtlCache<Long, SimpleAuthor> byId;
+    private final TtlCache<String, SimpleAuthor> byName;
+    private final TtlCache<String, List<SimpleAuthor>> queries;
+    private final TtlCache<String, Long> counts;
+
+    public CachingSimpleAuthorRepository(SimpleAuthorRepository delegate, int maxEntries, Duration ttl) {
+        this.delegate = delegate;
+        this.byId = new TtlCache<>(maxEntries, ttl);
+        this.byName = new TtlCache<>(maxEntries, ttl);
+        this.queries = new TtlCache<>(Math.min(maxEntries, MAX_CACHED_QUERIES), ttl);
+        this.counts = new TtlCache<>(1, ttl);
+    }
+
+    /**
+     * Wraps the repository using REPOSITORY_CACHE_MAX_ENTRIES and REPOSITORY_CACHE_TTL_SECONDS.
+     * A maximum of 0 disables caching and returns the repository unchanged.
+     */
+    public static SimpleAuthorRepository fromConfiguration(SimpleAuthorRepository delegate, ConfigurationService configService) {
+        int maxEntries = configService.getIntProperty("REPOSITORY_CACHE_MAX_ENTRIES", CachingArticleRepository.DEFAULT_MAX_ENTRIES);
+        long ttlSeconds = configService.getLongProperty("REPOSITORY_CACHE_TTL_SECONDS", CachingArticleRepository.DEFAULT_TTL_SECONDS);
+        if (maxEntries <= 0 || ttlSeconds <= 0) {
+            return delegate;
+        }
+        logger.info("Caching authors: {} entries, {}s time to live", maxEntries, ttlSeconds);
+        return new CachingSimpleAuthorRepository(delegate, maxEntries, Duration.ofSeconds(ttlSeconds));
+    }
+
+    @Override
+    public SimpleAuthor save(SimpleAuthor author) throws SQLException {
+        SimpleAuthor saved = delegate.save(author);
+        invalidateQueries();
+        invalidateAuthor(saved.getId());
+        return saved;
+    }
+
+    @Override
+    public Optional<SimpleAuthor> findById(Long id) throws SQLException {
+        return Optional.ofNullable(byId.get(id, () -> delegate.findById(id).orElse(null)));
+    }
+
+    @Override
+    public Optional<SimpleAuthor> findByFullName(String fullName) throws SQLException {
+        return Optional.ofNullable(byName.get(nameKey(fullName), () -> delegate.findByFullName(fullName).orElse(null)));
+    }
+
+    @Override
+    public List<SimpleAuthor> findByNamePattern(String namePattern) throws SQLException {
+        return cachedQuery("pattern:" + namePattern, () -> delegate.findByNamePattern(namePattern));
+    }
+
+    @Override
+    public List<SimpleAuthor> findByIds(Collection<Long> ids) throws SQLException {
+        // Serve what is cached and fetch only the rest in one query
+        List<SimpleAuthor> authors = new ArrayList<>(ids.size());
+        Set<Long> missing = new LinkedHashSet<>();
+        for (Long id : ids) {
+            SimpleAuthor cached = byId.get(id);
+            if (cached != null) {
+                authors.add(cached);
+            } else {
+                missing.add(id);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            // A write during the query invalidates, and must keep the rows read before it out
+            long loadGeneration = byId.generation();
+            for (SimpleAuthor author : delegate.findByIds(missing)) {
+                byId.putIfGeneration(author.getId(), author, loadGeneration);
+                authors.add(author);
+            }
+        }
+        return authors;
+    }
+
+    @Override
+    public long forEachAuthor(Consumer<SimpleAuthor> action) throws SQLException {
+        return delegate.forEachAuthor(action);
+    }
+
+    @Override
+    public long forEachArticleAuthors(ArticleAuthors action) throws SQLException {
+        return delegate.forEachArticleAuthors(action);
+    }
+
+    @Override
+    public List<Long> findIdsByArticleIds(Collection<Long> articleIds) throws SQLException {
+        return delegate.findIdsByArticleIds(articleIds);
+    }
+
+    @Override
+    public List<SimpleAuthor> findTopByCitations(int limit) throws SQLException {
+        return cachedQuery("top-citations:" + limit, () -> delegate.findTopByCitations(limit));
+    }
+
+    @Override
+    public List<SimpleAuthor> findTopByArticleCount(int limit) throws SQLException {
+        return cachedQuery("top-articles:" + limit, () -> delegate.findTopByArticleCount(limit));
+    }
+
+    @Override
+    public boolean updateStatistics(Long authorId, int articleCount, int totalCitations) throws SQLException {
+        boolean updated = delegate.updateStatistics(authorId, articleCount, totalCitations);
+        invalidateQueries();
+        invalidateAuthor(authorId);
+        return updated;
+    }
+
+    @Override
+    public int rebuildStatistics() throws SQLException {
+        int recomputed = delegate.rebuildStatistics();
+        statisticsChanged();
+        return recomputed;
+    }
+
+    @Override
+    public void statisticsChanged() {
+        byId.invalidateAll();
+        byName.invalidateAll();
+        queries.invalidateAll();
+    }
+
+    @Override
+    public boolean linkToArticle(Long articleId, Long authorId, int position) throws SQLException {
+        boolean linked = delegate.linkToArticle(articleId, authorId, position);
+        invalidateQueries();
+        return linked;
+    }
+
+    @Override
+    public LinkedAuthors saveAllAndLinkToArticle(Long articleId, List<SimpleAuthor> authors, int articleCitations) throws SQLException {
+        LinkedAuthors linked = delegate.saveAllAndLinkToArticle(articleId, authors, articleCitations);
+        invalidateQueries();
+        for (SimpleAuthor author : linked.getAuthors()) {
+            invalidateAuthor(author.getId());
+            byName.invalidate(nameKey(author.getFullName()));
+        }
+        return linked;
+    }
+
+    @Override
+    public List<SimpleAuthor> findByArticleId(Long articleId) throws SQLException {
+        return cachedQuery("article:" + articleId, () -> delegate.findByArticleId(articleId));
+    }
+
+    @Override
+    public long count() throws SQLException {
+        return counts.get(COUNT_KEY, delegate::count);
+    }
+
+    @Override
+    public boolean deleteById(Long id) throws SQLException {
+        boolean deleted = delegate.deleteById(id);
+        invalidateQueries();
+        invalidateAuthor(id);
+        return deleted;
+    }
+
+    /**
+     * @return Counter snapshots per cache, in a stable order
+     */
+    public Map<String, TtlCache.Stats> cacheStats() {
+        Map<String, TtlCache.Stats> stats = new LinkedHashMap<>();
+        stats.put("authorsById", byId.stats());
+        stats.put("authorsByName", byName.stats());
+        stats.put("authorQueries", queries.stats());
+        stats.put("authorCount", counts.stats());
+        return stats;
+    }
+
+    /**
+     * @return All counters added together
+     */
+    public TtlCache.Stats totalStats() {
+        return cacheStats().values().stream().reduce(new TtlCache.Stats(0, 0, 0, 0), TtlCache.Stats::plus);
+    }
+
+    public void invalidateAll() {
+        byId.invalidateAll();
+        byName.invalidateAll();
+        invalidateQueries();
+    }
+
+    private List<SimpleAuthor> cachedQuery(String key, TtlCache.Loader<List<SimpleAuthor>, SQLException> loader) throws SQLException {
+        List<SimpleAuthor> cached = queries.get(key, () -> List.copyOf(loader.load()));
+        return new ArrayList<>(cached);
+    }
+
+    private void invalidateQueries() {
+        queries.invalidateAll();
+        counts.invalidateAll();
+    }
+
+    private void invalidateAuthor(Long id) {
+        if (id == null) {
+            return;
+        }
+        byId.invalidate(id);
+        byName.invalidateIf((name, author) -> id.equals(author.getId()));
+    }
+
+    private static String nameKey(String fullName) {
+        return fullName == null ? "" : fullName.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,72 @@
+package com.innovationcenter.scholarapi.repository.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Reruns repository transactions that the database rolled back to break a deadlock.
+ *
+ * Concurrent ingests upsert into the same unique indexes, and the gap locks InnoDB takes
+ * there can form lock cycles no statement order avoids. InnoDB breaks a cycle by rolling
+ * one transaction back whole, so running that transaction again is safe.
+ */
+final class DeadlockRetry {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeadlockRetry.class);
+
+    static final int MAX_ATTEMPTS = 3;
+
+    private static final int MYSQL_DEADLOCK_ERROR = 1213;
+    private static final String SERIALIZATION_FAILURE_STATE = "40001";
+
+    /**
+     * One complete transaction: it commits, or rolls back before throwing.
+     */
+    @FunctionalInterface
+    interface Transaction<T> {
+        T run() throws SQLException;
+    }
+
+    private DeadlockRetry() {
+    }
+
+    /**
+     * Run the transaction, retrying it after a short random pause while it is chosen as a
+     * deadlock victim, up to MAX_ATTEMPTS runs in total.
+     *
+     * @param description What the transaction does, for the log
+     * @throws SQLException The last failure, or the first one that is not a deadlock
+     */
+    static <T> T run(String description, Transaction<T> transaction) throws SQLException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transaction.run();
+            } catch (SQLException e) {
+                if (attempt >= MAX_ATTEMPTS || !isDeadlock(e)) {
+                    throw e;
+                }
+                logger.warn("Deadlock during {}, retrying (attempt {} of {})", description, attempt + 1, MAX_ATTEMPTS);
+                pause(attempt, e);
+            }
+        }
+    }
+
+    static boolean isDeadlock(SQLException e) {
+        return e.getErrorCode() == MYSQL_DEADLOCK_ERROR || SERIALIZATION_FAILURE_STATE.equals(e.getSQLState());
+    }
+
+    /**
+     * Random pause growing with the attempt, so the two victims of a cycle do not collide again.
+     */
+    private static void pause(int attempt, SQLException deadlock) throws SQLException {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(10, 50) * attempt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw deadlock;
+        }
+    }
+}
@@ -3,13 +3,19 @@ package com.innovationcenter.scholarapi.repository.impl;
 import com.innovationcenter.scholarapi.model.Article;
 import com.innovationcenter.scholarapi.repository.ArticleRepository;
 import com.innovationcenter.scholarapi.service.DatabaseService;
+import com.innovationcenter.scholarapi.util.AuthorNameNormalizer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * MySQL implementation of ArticleRepository.
@@ -19,6 +25,14 @@ public class MySQLArticleRepository implements ArticleRepository {
     
     private static final Logger logger = LoggerFactory.getLogger(MySQLArticleRepository.class);
     
+    private static final String INSERT_ARTICLE_SQL =
+        "INSERT INTO articles (paper_title, authors, publication_year, abstract_text, article_url, google_scholar_id, citation_count, cites_id) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    // A refreshed search result keeps a previously stored cites ID if the new one is missing
+    private static final String REFRESH_ON_DUPLICATE =
+        " ON DUPLICATE KEY UPDATE citation_count = VALUES(citation_count), cites_id = COALESCE(VALUES(cites_id), cites_id)";
+    
     private final DatabaseService databaseService;
     
     public MySQLArticleRepository(DatabaseService databaseService) {
@@ -27,26 +41,10 @@ public class MySQLArticleRepository implements ArticleRepository {
     
     @Override
     public Article save(Article article) throws SQLException {
-        String sql = "INSERT INTO articles (paper_title, authors, publication_year, abstract_text, article_url, google_scholar_id, citation_count) " +
-                    "VALUES (?, ?, ?, ?, ?, ?, ?)";
-        
         try (Connection connection = databaseService.getConnection();
-             PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            
-            statement.setString(1, article.getPaperTitle());
-            statement.setString(2, article.getAuthors());
-            
-            // Handle NULL publication year
-            if (article.getPublicationYear() != null) {
-                statement.setInt(3, article.getPublicationYear());
-            } else {
-                statement.setNull(3, Types.INTEGER);
-            }
+             PreparedStatement statement = connection.prepareStatement(INSERT_ARTICLE_SQL, Statement.RETURN_GENERATED_KEYS)) {
             
-            statement.setString(4, article.getAbstractText());
-            statement.setString(5, article.getArticleUrl());
-            statement.setString(6, article.getGoogleScholarId());
-            statement.setInt(7, article.getCitationCount());
+            bindInsertParameters(statement, article);
             
             int affectedRows = statement.executeUpdate();
             
@@ -71,11 +69,268 @@ public class MySQLArticleRepository implements ArticleRepository {
         }
     }
     
+    @Override
+    public Set<String> saveAll(List<Article> articles) throws SQLException {
+        if (articles == null || articles.isEmpty()) {
+            return new HashSet<>();
+        }
+        
+        // Articles without a Scholar ID cannot collide on the unique key, so they take the plain insert path
+        List<Article> keyedArticles = new ArrayList<>();
+        List<Article> unkeyedArticles = new ArrayList<>();
+        for (Article article : articles) {
+            if (article.getGoogleScholarId() != null) {
+                keyedArticles.add(article);
+            } else {
+                unkeyedArticles.add(article);
+            }
+        }
+        
+        try {
+            // Pages persisted concurrently can deadlock on the Scholar ID index; a victim reruns whole
+            return DeadlockRetry.run("batch save of " + articles.size() + " articles",
+                () -> saveBatch(articles, keyedArticles, unkeyedArticles));
+            
+        } catch (SQLException e) {
+            logger.error("Failed to batch save {} articles: {}", articles.size(), e.getMessage());
+            throw e;
+        }
+    }
+    
+    /**
+     * Save one batch in a single transaction; on failure no article keeps an ID.
+     */
+    private Set<String> saveBatch(List<Article> articles, List<Article> keyedArticles,
+                                  List<Article> unkeyedArticles) throws SQLException {
+        try (Connection connection = databaseService.getConnection()) {
+            boolean originalAutoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            
+            try {
+                Set<String> insertedScholarIds = new HashSet<>();
+                if (!keyedArticles.isEmpty()) {
+                    insertedScholarIds = upsertBatch(connection, keyedArticles);
+                }
+                if (!unkeyedArticles.isEmpty()) {
+                    insertBatch(connection, unkeyedArticles);
+                }
+                
+                connection.commit();
+                logger.info("Batch saved {} articles", articles.size());
+                return insertedScholarIds;
+                
+            } catch (SQLException e) {
+                connection.rollback();
+                for (Article article : articles) {
+                    article.setId(null);
+                }
+                throw e;
+            } finally {
+                connection.setAutoCommit(originalAutoCommit);
+            }
+        }
+    }
+    
+    @Override
+    public boolean upsert(Article article) throws SQLException {
+        try {
+            return DeadlockRetry.run("upsert of article " + article.getGoogleScholarId(), () -> upsertArticle(article));
+            
+        } catch (SQLException e) {
+            logger.error("Failed to upsert article: {}", e.getMessage());
+            throw e;
+        }
+    }
+    
+    /**
+     * Upsert one article in a single transaction.
+     */
+    private boolean upsertArticle(Article article) throws SQLException {
+        String sql = INSERT_ARTICLE_SQL + REFRESH_ON_DUPLICATE;
+        
+        try (Connection connection = databaseService.getConnection()) {
+            boolean originalAutoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            
+            try (PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                // Decided by the locked row rather than the affected-row count, which the driver
+                // reports as found rows, so an unchanged duplicate would look like an insert
+                StoredArticle stored = lockStoredArticles(connection, List.of(article)).get(article.getGoogleScholarId());
+                
+                bindInsertParameters(statement, article);
+                statement.executeUpdate();
+                
+                if (stored != null) {
+                    article.setId(stored.id);
+                    if (stored.active) {
+                        AuthorStatistics.applyDeltas(connection, 0,
+                            Map.of(article.getId(), article.getCitationCount() - stored.citationCount));
+                    }
+                } else {
+                    try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                        if (generatedKeys.next()) {
+                            article.setId(generatedKeys.getLong(1));
+                        } else {
+                            throw new SQLException("Upserting article failed, no ID obtained.");
+                        }
+                    }
+                }
+                
+                connection.commit();
+                boolean inserted = stored == null;
+                logger.info("Article {} with ID: {}", inserted ? "saved" : "already stored", article.getId());
+                return inserted;
+                
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(originalAutoCommit);
+            }
+        }
+    }
+    
+    /**
+     * Insert articles with one batch and map generated keys back in order.
+     */
+    private void insertBatch(Connection connection, List<Article> articles) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_ARTICLE_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            
+            for (Article article : articles) {
+                bindInsertParameters(statement, article);
+                statement.addBatch();
+            }
+            
+            // With rewriteBatchedStatements the driver sends this as one multi-row INSERT
+            statement.executeBatch();
+            
+            try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                int index = 0;
+                while (generatedKeys.next() && index < articles.size()) {
+                    articles.get(index++).setId(generatedKeys.getLong(1));
+                }
+                
+                if (index != articles.size()) {
+                    throw new SQLException("Batch insert returned " + index + " IDs for " + articles.size() + " articles.");
+                }
+            }
+        }
+    }
+    
+    /**
+     * Upsert articles keyed by Google Scholar ID with one batch, then resolve their IDs.
+     * Generated keys are not reliable for multi-row upserts, so IDs are read back by Scholar ID.
+     * Refreshed citation counts of stored articles are carried over to their authors.
+     * 
+     * @return Scholar IDs that had no stored row when it was locked, i.e. the ones this batch inserted
+     */
+    private Set<String> upsertBatch(Connection connection, List<Article> articles) throws SQLException {
+        String sql = INSERT_ARTICLE_SQL + REFRESH_ON_DUPLICATE;
+        Map<String, StoredArticle> storedArticles = lockStoredArticles(connection, articles);
+        
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (Article article : articles) {
+                bindInsertParameters(statement, article);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+        
+        Map<String, Long> idsByScholarId = new HashMap<>();
+        String lookupSql = "SELECT id, google_scholar_id FROM articles WHERE google_scholar_id IN (" +
+                          placeholders(articles.size()) + ")";
+        
+        try (PreparedStatement statement = connection.prepareStatement(lookupSql)) {
+            int index = 1;
+            for (Article article : articles) {
+                statement.setString(index++, article.getGoogleScholarId());
+            }
+            
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    idsByScholarId.put(resultSet.getString("google_scholar_id"), resultSet.getLong("id"));
+                }
+            }
+        }
+        
+        for (Article article : articles) {
+            Long id = idsByScholarId.get(article.getGoogleScholarId());
+            if (id == null) {
+                throw new SQLException("Batch upsert failed, no ID found for Scholar ID " + article.getGoogleScholarId());
+            }
+            article.setId(id);
+        }
+        
+        // A Scholar ID repeated in the batch ends with its last row's count, as in the table
+        Map<Long, Integer> citationDeltas = new HashMap<>();
+        for (Article article : articles) {
+            StoredArticle stored = storedArticles.get(article.getGoogleScholarId());
+            if (stored != null && stored.active) {
+                citationDeltas.put(article.getId(), article.getCitationCount() - stored.citationCount);
+            }
+        }
+        AuthorStatistics.applyDeltas(connection, 0, citationDeltas);
+        
+        Set<String> insertedScholarIds = new HashSet<>();
+        for (Article article : articles) {
+            if (!storedArticles.containsKey(article.getGoogleScholarId())) {
+                insertedScholarIds.add(article.getGoogleScholarId());
+            }
+        }
+        return insertedScholarIds;
+    }
+    
+    /**
+     * Lock the stored articles with the given Scholar IDs and read their IDs and citation counts,
+     * so an upsert knows whether it inserts and computes its statistics delta against the row
+     * it overwrites. Soft-deleted rows are returned too but no longer count towards their authors.
+     */
+    private Map<String, StoredArticle> lockStoredArticles(Connection connection, List<Article> articles) throws SQLException {
+        String sql = "SELECT id, google_scholar_id, citation_count, deleted_at FROM articles WHERE google_scholar_id IN (" +
+                    placeholders(articles.size()) + ") FOR UPDATE";
+        Map<String, StoredArticle> storedByScholarId = new HashMap<>();
+        
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            int index = 1;
+            for (Article article : articles) {
+                statement.setString(index++, article.getGoogleScholarId());
+            }
+            
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    storedByScholarId.put(resultSet.getString("google_scholar_id"), new StoredArticle(
+                        resultSet.getLong("id"),
+                        resultSet.getInt("citation_count"),
+                        resultSet.getTimestamp("deleted_at") == null));
+                }
+            }
+        }
+        
+        return storedByScholarId;
+    }
+    
+    /**
+     * Lock an active article and read its stored citation count.
+     * 
+     * @return The citation count, or null if no active article has this ID
+     */
+    private Integer lockCitationCount(Connection connection, Long id) throws SQLException {
+        String sql = "SELECT citation_count FROM articles WHERE id = ? AND deleted_at IS NULL FOR UPDATE";
+        
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, id);
+            
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getInt("citation_count") : null;
+            }
+        }
+    }
+    
     @Override
     public Optional<Article> findById(Long id) throws SQLException {
         String sql = "SELECT * FROM articles WHERE id = ?";
         
-        try (Connection connection = databaseService.getConnection();
+        try (Connection connection = databaseService.getReadConnection();
              PreparedStatement statement = connection.prepareStatement(sql)) {
             
             statement.setLong(1, id);
@@ -94,14 +349,48 @@ public class MySQLArticleRepository implements ArticleRepository {
         }
     }
     
+    @Override
+    public Optional<Article> findByGoogleScholarId(String googleScholarId) throws SQLException {
+        String sql = "SELECT * FROM articles WHERE google_scholar_id = ? AND deleted_at IS NULL";
+        
+        try (Connection connection = databaseService.getReadConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            
+            statement.setString(1, googleScholarId);
+            
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    return Optional.of(mapResultSetToArticle(resultSet));
+                }
+            }
+            
+            return Optional.empty();
+            
+        } catch (SQLException e) {
+            logger.error("Failed to find article by Scholar ID {}: {}", googleScholarId, e.getMessage());
+            throw e;
+        }
+    }
+    
     @Override
     public List<Article> findByAuthor(String authorName) throws SQLException {
-        String sql = "SELECT * FROM articles WHERE authors LIKE ? AND deleted_at IS NULL ORDER BY publication_year DESC";
+        String nameKey = AuthorNameNormalizer.toKey(authorName);
+        if (nameKey.isEmpty()) {
+            return new ArrayList<>();
+        }
         
-        try (Connection connection = databaseService.getConnection();
+        // The key starts with the surname, so a name prefix is a range seek on idx_name_key
+        // followed by primary key lookups, instead of a LIKE '%x%' scan of the authors text
+        String sql = "SELECT * FROM articles WHERE deleted_at IS NULL AND id IN (" +
+                    "SELECT aa.article_id FROM authors au JOIN article_authors aa ON aa.author_id = au.id " +
+                    "WHERE au.name_key LIKE ? AND au.deleted_at IS NULL) " +
+                    "ORDER BY publication_year DESC, id DESC";
+        
+        try (Connection connection = databaseService.getReadConnection();
              PreparedStatement statement = connection.prepareStatement(sql)) {
             
-            statement.setString(1, "%" + authorName + "%");
+            // Keys hold only letters, digits and spaces, so nothing needs escaping
+            statement.setString(1, nameKey + "%");
             
             return executeQueryAndMapResults(statement);
             
@@ -115,7 +404,7 @@ public class MySQLArticleRepository implements ArticleRepository {
     public List<Article> findAll() throws SQLException {
         String sql = "SELECT * FROM articles WHERE deleted_at IS NULL ORDER BY publication_year DESC, citation_count DESC";
         
-        try (Connection connection = databaseService.getConnection();
+        try (Connection connection = databaseService.getReadConnection();
              PreparedStatement statement = connection.prepareStatement(sql)) {
             
             return executeQueryAndMapResults(statement);
@@ -127,56 +416,210 @@ public class MySQLArticleRepository implements ArticleRepository {
     }
     
     @Override
-    public Article update(Article article) throws SQLException {
-        String sql = "UPDATE articles SET paper_title = ?, authors = ?, publication_year = ?, " +
-                    "abstract_text = ?, article_url = ?, google_scholar_id = ?, citation_count = ? WHERE id = ?";
+    public List<Article> findPageByCitations(int minCitations, Article after, int limit) throws SQLException {
+        // Seek past the previous page instead of OFFSET so each page reads only its own rows;
+        // InnoDB secondary indexes carry the primary key, so idx_citation_count covers the order
+        String sql = "SELECT * FROM articles WHERE citation_count > ? AND deleted_at IS NULL" +
+                    (after != null ? " AND (citation_count < ? OR (citation_count = ? AND id < ?))" : "") +
+                    " ORDER BY citation_count DESC, id DESC LIMIT ?";
         
-        try (Connection connection = databaseService.getConnection();
+        try (Connection connection = databaseService.getReadConnection();
              PreparedStatement statement = connection.prepareStatement(sql)) {
             
-            statement.setString(1, article.getPaperTitle());
-            statement.setString(2, article.getAuthors());
-            statement.setInt(3, article.getPublicationYear());
-            statement.setString(4, article.getAbstractText());
-            statement.setString(5, article.getArticleUrl());
-            statement.setString(6, article.getGoogleScholarId());
-            statement.setInt(7, article.getCitationCount());
-            statement.setLong(8, article.getId());
+            int index = 1;
+            statement.setInt(index++, minCitations);
+            if (after != null) {
+                statement.setInt(index++, after.getCitationCount());
+                statement.setInt(index++, after.getCitationCount());
+                statement.setLong(index++, after.getId());
+            }
+            statement.setInt(index, limit);
             
-            int affectedRows = statement.executeUpdate();
+            return executeQueryAndMapResults(statement);
             
-            if (affectedRows == 0) {
-                throw new SQLException("Updating article failed, no rows affected.");
+        } catch (SQLException e) {
+            logger.error("Failed to page articles with citations > {}: {}", minCitations, e.getMessage());
+            throw e;
+        }
+    }
+    
+    @Override
+    public List<Article> findByYear(int year) throws SQLException {
+        // An equality seek on idx_publication_year, so only that year's rows are read
+        String sql = "SELECT * FROM articles WHERE publication_year = ? AND deleted_at IS NULL ORDER BY citation_count DESC, id DESC";
+        
+        try (Connection connection = databaseService.getReadConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            
+            statement.setInt(1, year);
+            
+            return executeQueryAndMapResults(statement);
+            
+        } catch (SQLException e) {
+            logger.error("Failed to find articles from year {}: {}", year, e.getMessage());
+            throw e;
+        }
+    }
+    
+    @Override
+    public List<Article> findPageByYear(int minYear, Article after, int limit) throws SQLException {
+        String sql = "SELECT * FROM articles WHERE publication_year >= ? AND deleted_at IS NULL" +
+                    (after != null ? " AND (publication_year < ? OR (publication_year = ? AND id < ?))" : "") +
+                    " ORDER BY publication_year DESC, id DESC LIMIT ?";
+        
+        try (Connection connection = databaseService.getReadConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            
+            int index = 1;
+            statement.setInt(index++, minYear);
+            if (after != null) {
+                statement.setInt(index++, after.getPublicationYear());
+                statement.setInt(index++, after.getPublicationYear());
+                statement.setLong(index++, after.getId());
             }
+            statement.setInt(index, limit);
             
-            logger.info("Article updated successfully: {}", article.getId());
-            return article;
+            return executeQueryAndMapResults(statement);
             
         } catch (SQLException e) {
-            logger.error("Failed to update article {}: {}", article.getId(), e.getMessage());
+            logger.error("Failed to page articles from year {}: {}", minYear, e.getMessage());
             throw e;
         }
     }
     
     @Override
-    public boolean deleteById(Long id) throws SQLException {
-        String sql = "UPDATE articles SET deleted_at = CURRENT_TIMESTAMP WHERE id = ? AND deleted_at IS NULL";
+    public long forEachArticle(Consumer<Article> action) throws SQLException {
+        String sql = "SELECT * FROM articles WHERE deleted_at IS NULL";
+        long count = 0;
         
-        try (Connection connection = databaseService.getConnection();
+        try (Connection connection = databaseService.getReadConnection();
+             PreparedStatement statement = connection.prepareStatement(sql,
+                 ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            
+            // Connector/J streams rows one at a time instead of buffering the whole result
+            statement.setFetchSize(Integer.MIN_VALUE);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    action.accept(mapResultSetToArticle(resultSet));
+                    count++;
+                }
+            }
+            
+        } catch (SQLException e) {
+            logger.error("Failed to scan articles: {}", e.getMessage());
+            throw e;
+        }
+        
+        return count;
+    }
+    
+    @Override
+    public List<Article> searchFullText(String booleanQuery, int limit) throws SQLException {
+        // Boolean mode does not sort by itself, so the relevance score is selected and ordered on
+        String sql = "SELECT *, MATCH (paper_title, abstract_text) AGAINST (? IN BOOLEAN MODE) AS relevance " +
+                    "FROM articles WHERE MATCH (paper_title, abstract_text) AGAINST (? IN BOOLEAN MODE) " +
+                    "AND deleted_at IS NULL ORDER BY relevance DESC, citation_count DESC LIMIT ?";
+        
+        try (Connection connection = databaseService.getReadConnection();
              PreparedStatement statement = connection.prepareStatement(sql)) {
             
-            statement.setLong(1, id);
+            statement.setString(1, booleanQuery);
+            statement.setString(2, booleanQuery);
+            statement.setInt(3, limit);
             
-            int affectedRows = statement.executeUpdate();
-            boolean deleted = affectedRows > 0;
+            return executeQueryAndMapResults(statement);
             
-            if (deleted) {
-                logger.info("Article soft deleted successfully: {}", id);
-            } else {
-                logger.warn("No active article found with ID: {}", id);
+        } catch (SQLException e) {
+            logger.error("Failed full-text search for '{}': {}", booleanQuery, e.getMessage());
+            throw e;
+        }
+    }
+    
+    @Override
+    public Article update(Article article) throws SQLException {
+        String sql = "UPDATE articles SET paper_title = ?, authors = ?, publication_year = ?, " +
+                    "abstract_text = ?, article_url = ?, google_scholar_id = ?, citation_count = ? WHERE id = ?";
+        
+        try (Connection connection = databaseService.getConnection()) {
+            boolean originalAutoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                Integer storedCitations = lockCitationCount(connection, article.getId());
+                
+                statement.setString(1, article.getPaperTitle());
+                statement.setString(2, article.getAuthors());
+                statement.setInt(3, article.getPublicationYear());
+                statement.setString(4, article.getAbstractText());
+                statement.setString(5, article.getArticleUrl());
+                statement.setString(6, article.getGoogleScholarId());
+                statement.setInt(7, article.getCitationCount());
+                statement.setLong(8, article.getId());
+                
+                int affectedRows = statement.executeUpdate();
+                
+                if (affectedRows == 0) {
+                    throw new SQLException("Updating article failed, no rows affected.");
+                }
+                
+                // Soft-deleted articles no longer count towards their authors
+                if (storedCitations != null) {
+                    AuthorStatistics.applyDeltas(connection, 0,
+                        Map.of(article.getId(), article.getCitationCount() - storedCitations));
+                }
+                
+                connection.commit();
+                logger.info("Article updated successfully: {}", article.getId());
+                return article;
+                
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(originalAutoCommit);
             }
             
-            return deleted;
+        } catch (SQLException e) {
+            logger.error("Failed to update article {}: {}", article.getId(), e.getMessage());
+            throw e;
+        }
+    }
+    
+    @Override
+    public boolean deleteById(Long id) throws SQLException {
+        String sql = "UPDATE articles SET deleted_at = CURRENT_TIMESTAMP WHERE id = ? AND deleted_at IS NULL";
+        
+        try (Connection connection = databaseService.getConnection()) {
+            boolean originalAutoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                Integer storedCitations = lockCitationCount(connection, id);
+                
+                statement.setLong(1, id);
+                
+                int affectedRows = statement.executeUpdate();
+                boolean deleted = affectedRows > 0;
+                
+                if (deleted && storedCitations != null) {
+                    AuthorStatistics.applyDeltas(connection, -1, Map.of(id, -storedCitations));
+                }
+                
+                connection.commit();
+                if (deleted) {
+                    logger.info("Article soft deleted successfully: {}", id);
+                } else {
+                    logger.warn("No active article found with ID: {}", id);
+                }
+                
+                return deleted;
+                
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(originalAutoCommit);
+            }
             
         } catch (SQLException e) {
             logger.error("Failed to delete article {}: {}", id, e.getMessage());
@@ -188,7 +631,7 @@ public class MySQLArticleRepository implements ArticleRepository {
     public long count() throws SQLException {
         String sql = "SELECT COUNT(*) FROM articles WHERE deleted_at IS NULL";
         
-        try (Connection connection = databaseService.getConnection();
+        try (Connection connection = databaseService.getReadConnection();
              PreparedStatement statement = connection.prepareStatement(sql);
              ResultSet resultSet = statement.executeQuery()) {
             
@@ -208,7 +651,7 @@ public class MySQLArticleRepository implements ArticleRepository {
     public List<Article> findByCitationsGreaterThan(int minCitations) throws SQLException {
         String sql = "SELECT * FROM articles WHERE citation_count > ? AND deleted_at IS NULL ORDER BY citation_count DESC, publication_year DESC";
         
-        try (Connection connection = databaseService.getConnection();
+        try (Connection connection = databaseService.getReadConnection();
              PreparedStatement statement = connection.prepareStatement(sql)) {
             
             statement.setInt(1, minCitations);
@@ -221,6 +664,41 @@ public class MySQLArticleRepository implements ArticleRepository {
         }
     }
     
+    /**
+     * Build a comma-separated list of JDBC placeholders for an IN clause.
+     */
+    private static String placeholders(int count) {
+        StringBuilder builder = new StringBuilder(count * 2);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append('?');
+        }
+        return builder.toString();
+    }
+    
+    /**
+     * Bind article fields to the INSERT statement parameters.
+     */
+    private void bindInsertParameters(PreparedStatement statement, Article article) throws SQLException {
+        statement.setString(1, article.getPaperTitle());
+        statement.setString(2, article.getAuthors());
+        
+        // Handle NULL publication year
+        if (article.getPublicationYear() != null) {
+            statement.setInt(3, article.getPublicationYear());
+        } else {
+            statement.setNull(3, Types.INTEGER);
+        }
+        
+        statement.setString(4, article.getAbstractText());
+        statement.setString(5, article.getArticleUrl());
+        statement.setString(6, article.getGoogleScholarId());
+        statement.setInt(7, article.getCitationCount());
+        statement.setString(8, article.getCitesId());
+    }
+    
     /**
      * Execute query and map results to Article list.
      */
@@ -257,4 +735,19 @@ public class MySQLArticleRepository implements ArticleRepository {
         
         return article;
     }
-}
\ No newline at end of file
+    
+    /**
+     * An article row as read under lock before an upsert overwrites it.
+     */
+    private static final class StoredArticle {
+        private final long id;
+        private final int citationCount;
+        private final boolean active;
+        
+        StoredArticle(long id, int citationCount, boolean active) {
+            this.id = id;
+            this.citationCount = citationCount;
+            this.active = active;
+        }
+    }
+}
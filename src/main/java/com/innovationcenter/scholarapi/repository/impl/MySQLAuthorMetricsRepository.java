@@ -0,0 +1,377 @@
+package com.innovationcenter.scholarapi.repository.impl;
+
+import com.innovationcenter.scholarapi.model.AuthorMetrics;
+import com.innovationcenter.scholarapi.repository.AuthorMetricsRepository;
+import com.innovationcenter.scholarapi.service.DatabaseService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * MySQL implementation of AuthorMetricsRepository.
+ * Metrics live in author_metrics, one row per author with active articles.
+ */
+public class MySQLAuthorMetricsRepository implements AuthorMetricsRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(MySQLAuthorMetricsRepository.class);
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String AUTHOR_CITATIONS_SQL =
+        "SELECT aa.author_id, ar.citation_count, COALESCE(ar.publication_year, 0) AS publication_year " +
+        "FROM article_authors aa " +
+        "JOIN articles ar ON ar.id = aa.article_id AND ar.deleted_at IS NULL " +
+        "JOIN authors au ON au.id = aa.author_id AND au.deleted_at IS NULL";
+
+    private static final String INSERT_METRICS_SQL =
+        "INSERT INTO author_metrics (author_id, article_count, total_citations, h_index, i10_index, " +
+        "first_year, citations_per_year, citation_percentile, h_index_percentile) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String OVERWRITE_ON_DUPLICATE =
+        " ON DUPLICATE KEY UPDATE article_count = VALUES(article_count), total_citations = VALUES(total_citations), " +
+        "h_index = VALUES(h_index), i10_index = VALUES(i10_index), first_year = VALUES(first_year), " +
+        "citations_per_year = VALUES(citations_per_year), citation_percentile = VALUES(citation_percentile), " +
+        "h_index_percentile = VALUES(h_index_percentile)";
+
+    private final DatabaseService databaseService;
+
+    public MySQLAuthorMetricsRepository(DatabaseService databaseService) {
+        this.databaseService = databaseService;
+    }
+
+    @Override
+    public long forEachAuthorCitations(AuthorCitations action) throws SQLException {
+        // idx_author_id on article_authors delivers the rows already grouped by author
+        String sql = AUTHOR_CITATIONS_SQL + " ORDER BY aa.author_id";
+
+        try (Connection connection = databaseService.getReadConnection();
+             PreparedStatement statement = connection.prepareStatement(sql,
+                 ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+
+            // Connector/J streams rows one at a time instead of buffering the whole result
+            statement.setFetchSize(Integer.MIN_VALUE);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return groupByAuthor(resultSet, action);
+            }
+
+        } catch (SQLException e) {
+            logger.error("Failed to scan author citations: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    @Override
+    public void findAuthorCitations(Collection<Long> authorIds, AuthorCitations action) throws SQLException {
+        List<Long> ids = new ArrayList<>(authorIds);
+
+        try (Connection connection = databaseService.getReadConnection()) {
+            for (int start = 0; start < ids.size(); start += BATCH_SIZE) {
+                List<Long> chunk = ids.subList(start, Math.min(ids.size(), start + BATCH_SIZE));
+                String sql = AUTHOR_CITATIONS_SQL + " WHERE aa.author_id IN (" + placeholders(chunk.size()) +
+                            ") ORDER BY aa.author_id";
+
+                try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                    int index = 1;
+                    for (Long id : chunk) {
+                        statement.setLong(index++, id);
+                    }
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        groupByAuthor(resultSet, action);
+                    }
+                }
+            }
+
+        } catch (SQLException e) {
+            logger.error("Failed to read citations of {} authors: {}", ids.size(), e.getMessage());
+            throw e;
+        }
+    }
+
+    @Override
+    public List<Long> findAuthorIdsByArticleIds(Collection<Long> articleIds) throws SQLException {
+        List<Long> authorIds = new ArrayList<>();
+        if (articleIds.isEmpty()) {
+            return authorIds;
+        }
+
+        String sql = "SELECT DISTINCT author_id FROM article_authors WHERE article_id IN (" +
+                    placeholders(articleIds.size()) + ")";
+
+        try (Connection connection = databaseService.getReadConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+
+            int index = 1;
+            for (Long id : articleIds) {
+                statement.setLong(index++, id);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    authorIds.add(resultSet.getLong(1));
+                }
+            }
+            return authorIds;
+
+        } catch (SQLException e) {
+            logger.error("Failed to find authors of {} articles: {}", articleIds.size(), e.getMessage());
+            throw e;
+        }
+    }
+
+    @Override
+    public void replaceAll(List<AuthorMetrics> metrics) throws SQLException {
+        try (Connection connection = databaseService.getConnection()) {
+            boolean originalAutoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+
+            try {
+                try (Statement statement = connection.createStatement()) {
+                    statement.executeUpdate("DELETE FROM author_metrics");
+                }
+                insertBatch(connection, INSERT_METRICS_SQL, metrics);
+
+                connection.commit();
+                logger.info("Stored metrics for {} authors", metrics.size());
+
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(originalAutoCommit);
+            }
+
+        } catch (SQLException e) {
+            logger.error("Failed to replace author metrics: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    @Override
+    public void saveAll(List<AuthorMetrics> metrics) throws SQLException {
+        if (metrics.isEmpty()) {
+            return;
+        }
+
+        try (Connection connection = databaseService.getConnection()) {
+            insertBatch(connection, INSERT_METRICS_SQL + OVERWRITE_ON_DUPLICATE, metrics);
+            logger.debug("Refreshed metrics for {} authors", metrics.size());
+
+        } catch (SQLException e) {
+            logger.error("Failed to save metrics of {} authors: {}", metrics.size(), e.getMessage());
+            throw e;
+        }
+    }
+
+    @Override
+    public void deleteByAuthorIds(Collection<Long> authorIds) throws SQLException {
+        if (authorIds.isEmpty()) {
+            return;
+        }
+
+        String sql = "DELETE FROM author_metrics WHERE author_id IN (" + placeholders(authorIds.size()) + ")";
+
+        try (Connection connection = databaseService.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+
+            int index = 1;
+            for (Long id : authorIds) {
+                statement.setLong(index++, id);
+            }
+            statement.executeUpdate();
+
+        } catch (SQLException e) {
+            logger.error("Failed to delete metrics of {} authors: {}", authorIds.size(), e.getMessage());
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<AuthorMetrics> findByAuthorId(Long authorId) throws SQLException {
+        String sql = "SELECT m.*, au.full_name FROM author_metrics m JOIN authors au ON au.id = m.author_id " +
+                    "WHERE m.author_id = ?";
+
+        try (Connection connection = databaseService.getReadConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+
+            statement.setLong(1, authorId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    return Optional.of(mapResultSetToMetrics(resultSet));
+                }
+            }
+            return Optional.empty();
+
+        } catch (SQLException e) {
+            logger.error("Failed to find metrics of author {}: {}", authorId, e.getMessage());
+            throw e;
+        }
+    }
+
+    @Override
+    public List<AuthorMetrics> findTopByHIndex(int limit) throws SQLException {
+        String sql = "SELECT m.*, au.full_name FROM author_metrics m JOIN authors au ON au.id = m.author_id " +
+                    "WHERE au.deleted_at IS NULL ORDER BY m.h_index DESC, m.total_citations DESC, m.author_id LIMIT ?";
+        List<AuthorMetrics> metrics = new ArrayList<>();
+
+        try (Connection connection = databaseService.getReadConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+
+            statement.setInt(1, limit);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    metrics.add(mapResultSetToMetrics(resultSet));
+                }
+            }
+            return metrics;
+
+        } catch (SQLException e) {
+            logger.error("Failed to find top authors by h-index: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    @Override
+    public long forEachMetrics(Consumer<AuthorMetrics> action) throws SQLException {
+        String sql = "SELECT m.*, NULL AS full_name FROM author_metrics m";
+        long count = 0;
+
+        try (Connection connection = databaseService.getReadConnection();
+             PreparedStatement statement = connection.prepareStatement(sql,
+                 ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+
+            statement.setFetchSize(Integer.MIN_VALUE);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    action.accept(mapResultSetToMetrics(resultSet));
+                    count++;
+                }
+            }
+            return count;
+
+        } catch (SQLException e) {
+            logger.error("Failed to scan author metrics: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    @Override
+    public long count() throws SQLException {
+        try (Connection connection = databaseService.getReadConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT COUNT(*) FROM author_metrics");
+             ResultSet resultSet = statement.executeQuery()) {
+
+            return resultSet.next() ? resultSet.getLong(1) : 0;
+
+        } catch (SQLException e) {
+            logger.error("Failed to count author metrics: {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    /**
+     * Collect consecutive rows of the same author into reused primitive arrays.
+     */
+    private long groupByAuthor(ResultSet resultSet, AuthorCitations action) throws SQLException {
+        int[] citations = new int[64];
+        int[] years = new int[64];
+        int count = 0;
+        long currentAuthor = -1;
+        long authors = 0;
+
+        while (resultSet.next()) {
+            long authorId = resultSet.getLong(1);
+            if (authorId != currentAuthor && count > 0) {
+                action.accept(currentAuthor, citations, years, count);
+                authors++;
+                count = 0;
+            }
+            currentAuthor = authorId;
+
+            if (count == citations.length) {
+                citations = Arrays.copyOf(citations, count * 2);
+                years = Arrays.copyOf(years, count * 2);
+            }
+            citations[count] = resultSet.getInt(2);
+            years[count] = resultSet.getInt(3);
+            count++;
+        }
+
+        if (count > 0) {
+            action.accept(currentAuthor, citations, years, count);
+            authors++;
+        }
+        return authors;
+    }
+
+    private void insertBatch(Connection connection, String sql, List<AuthorMetrics> metrics) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            int batched = 0;
+            for (AuthorMetrics row : metrics) {
+                statement.setLong(1, row.getAuthorId());
+                statement.setInt(2, row.getArticleCount());
+                statement.setInt(3, row.getTotalCitations());
+                statement.setInt(4, row.getHIndex());
+                statement.setInt(5, row.getI10Index());
+                if (row.getFirstYear() != null) {
+                    statement.setInt(6, row.getFirstYear());
+                } else {
+                    statement.setNull(6, Types.INTEGER);
+                }
+                statement.setDouble(7, row.getCitationsPerYear());
+                statement.setDouble(8, row.getCitationPercentile());
+                statement.setDouble(9, row.getHIndexPercentile());
+                statement.addBatch();
+
+                if (++batched % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                }
+            }
+            if (batched % BATCH_SIZE != 0) {
+                statement.executeBatch();
+            }
+        }
+    }
+
+    /**
+     * Build a comma-separated list of JDBC placeholders for an IN clause.
+     */
+    private static String placeholders(int count) {
+        StringBuilder builder = new StringBuilder(count * 2);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append('?');
+        }
+        return builder.toString();
+    }
+
+    private AuthorMetrics mapResultSetToMetrics(ResultSet resultSet) throws SQLException {
+        AuthorMetrics metrics = new AuthorMetrics(resultSet.getLong("author_id"));
+
+        metrics.setFullName(resultSet.getString("full_name"));
+        metrics.setArticleCount(resultSet.getInt("article_count"));
+        metrics.setTotalCitations(resultSet.getInt("total_citations"));
+        metrics.setHIndex(resultSet.getInt("h_index"));
+        metrics.setI10Index(resultSet.getInt("i10_index"));
+        int firstYear = resultSet.getInt("first_year");
+        metrics.setFirstYear(resultSet.wasNull() ? null : firstYear);
+        metrics.setCitationsPerYear(resultSet.getDouble("citations_per_year"));
+        metrics.setCitationPercentile(resultSet.getDouble("citation_percentile"));
+        metrics.setHIndexPercentile(resultSet.getDouble("h_index_percentile"));
+        metrics.setComputedAt(resultSet.getTimestamp("computed_at"));
+
+        return metrics;
+    }
+}
@@ -0,0 +1,132 @@
+package com.innovationcenter.scholarapi.repository.impl;
+
+import com.innovationcenter.scholarapi.repository.CitationRepository;
+import com.innovationcenter.scholarapi.service.DatabaseService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * MySQL implementation of CitationRepository.
+ * Edges live in article_citations, crawl state in citation_crawl_visited.
+ */
+public class MySQLCitationRepository implements CitationRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(MySQLCitationRepository.class);
+
+    private final DatabaseService databaseService;
+
+    public MySQLCitationRepository(DatabaseService databaseService) {
+        this.databaseService = databaseService;
+    }
+
+    @Override
+    public int saveCitations(Long citedArticleId, Collection<Long> citingArticleIds) throws SQLException {
+        if (citingArticleIds.isEmpty()) {
+            return 0;
+        }
+
+        // One multi-row statement so the affected row count is the number of new edges
+        StringBuilder sql = new StringBuilder("INSERT IGNORE INTO article_citations (citing_article_id, cited_article_id) VALUES ");
+        for (int i = 0; i < citingArticleIds.size(); i++) {
+            sql.append(i == 0 ? "(?, ?)" : ", (?, ?)");
+        }
+
+        try (Connection connection = databaseService.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+
+            int index = 1;
+            for (Long citingArticleId : citingArticleIds) {
+                statement.setLong(index++, citingArticleId);
+                statement.setLong(index++, citedArticleId);
+            }
+
+            int inserted = statement.executeUpdate();
+            logger.debug("Saved {} new citations of article {}", inserted, citedArticleId);
+            return inserted;
+        }
+    }
+
+    @Override
+    public List<Long> findCitingArticleIds(Long articleId) throws SQLException {
+        String sql = "SELECT citing_article_id FROM article_citations WHERE cited_article_id = ?";
+        List<Long> citingIds = new ArrayList<>();
+
+        try (Connection connection = databaseService.getReadConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+
+            statement.setLong(1, articleId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    citingIds.add(resultSet.getLong(1));
+                }
+            }
+        }
+        return citingIds;
+    }
+
+    @Override
+    public long countCitations() throws SQLException {
+        try (Connection connection = databaseService.getReadConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT COUNT(*) FROM article_citations");
+             ResultSet resultSet = statement.executeQuery()) {
+
+            return resultSet.next() ? resultSet.getLong(1) : 0;
+        }
+    }
+
+    @Override
+    public void markVisited(String citesId, Long articleId, int depth) throws SQLException {
+        String sql = "INSERT INTO citation_crawl_visited (cites_id, article_id, depth) VALUES (?, ?, ?) " +
+                    "ON DUPLICATE KEY UPDATE crawled_at = CURRENT_TIMESTAMP";
+
+        try (Connection connection = databaseService.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+
+            statement.setString(1, citesId);
+            statement.setLong(2, articleId);
+            statement.setInt(3, depth);
+            statement.executeUpdate();
+        }
+    }
+
+    @Override
+    public boolean isVisited(String citesId) throws SQLException {
+        try (Connection connection = databaseService.getReadConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                 "SELECT 1 FROM citation_crawl_visited WHERE cites_id = ?")) {
+
+            statement.setString(1, citesId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+
+    @Override
+    public long forEachVisited(Consumer<String> action) throws SQLException {
+        long count = 0;
+
+        try (Connection connection = databaseService.getReadConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT cites_id FROM citation_crawl_visited")) {
+
+            // Row-by-row streaming in Connector/J, so the visited set is never held in memory
+            statement.setFetchSize(Integer.MIN_VALUE);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    action.accept(resultSet.getString(1));
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
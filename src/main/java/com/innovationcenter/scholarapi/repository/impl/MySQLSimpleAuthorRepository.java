@@ -3,13 +3,23 @@ package com.innovationcenter.scholarapi.repository.impl;
 import com.innovationcenter.scholarapi.model.SimpleAuthor;
 import com.innovationcenter.scholarapi.repository.SimpleAuthorRepository;
 import com.innovationcenter.scholarapi.service.DatabaseService;
+import com.innovationcenter.scholarapi.util.AuthorNameNormalizer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * MySQL implementation of SimpleAuthorRepository.
@@ -27,21 +37,22 @@ public class MySQLSimpleAuthorRepository implements SimpleAuthorRepository {
     
     @Override
     public SimpleAuthor save(SimpleAuthor author) throws SQLException {
-        // Check if author already exists
-        Optional<SimpleAuthor> existing = findByFullName(author.getFullName());
-        if (existing.isPresent()) {
-            logger.info("Author already exists: {}", author.getFullName());
-            return existing.get();
-        }
-        
-        String sql = "INSERT INTO authors (full_name, article_count, total_citations) VALUES (?, ?, ?)";
+        String sql = "INSERT INTO authors (full_name, name_key, article_count, total_citations) VALUES (?, ?, ?, ?)";
         
         try (Connection connection = databaseService.getConnection();
              PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
             
+            // Check on the primary whether the author already exists; a replica may not have it yet
+            Optional<SimpleAuthor> existing = findByFullName(connection, author.getFullName());
+            if (existing.isPresent()) {
+                logger.info("Author already exists: {}", author.getFullName());
+                return existing.get();
+            }
+            
             statement.setString(1, author.getFullName());
-            statement.setInt(2, author.getArticleCount() != null ? author.getArticleCount() : 0);
-            statement.setInt(3, author.getTotalCitations() != null ? author.getTotalCitations() : 0);
+            statement.setString(2, AuthorNameNormalizer.toKey(author.getFullName()));
+            statement.setInt(3, author.getArticleCount() != null ? author.getArticleCount() : 0);
+            statement.setInt(4, author.getTotalCitations() != null ? author.getTotalCitations() : 0);
             
             int affectedRows = statement.executeUpdate();
             
@@ -70,7 +81,7 @@ public class MySQLSimpleAuthorRepository implements SimpleAuthorRepository {
     public Optional<SimpleAuthor> findById(Long id) throws SQLException {
         String sql = "SELECT * FROM authors WHERE id = ?";
         
-        try (Connection connection = databaseService.getConnection();
+        try (Connection connection = databaseService.getReadConnection();
              PreparedStatement statement = connection.prepareStatement(sql)) {
             
             statement.setLong(1, id);
@@ -91,11 +102,19 @@ public class MySQLSimpleAuthorRepository implements SimpleAuthorRepository {
     
     @Override
     public Optional<SimpleAuthor> findByFullName(String fullName) throws SQLException {
+        try (Connection connection = databaseService.getReadConnection()) {
+            return findByFullName(connection, fullName);
+            
+        } catch (SQLException e) {
+            logger.error("Failed to find author by name: {}", e.getMessage());
+            throw e;
+        }
+    }
+    
+    private Optional<SimpleAuthor> findByFullName(Connection connection, String fullName) throws SQLException {
         String sql = "SELECT * FROM authors WHERE full_name = ? AND deleted_at IS NULL";
         
-        try (Connection connection = databaseService.getConnection();
-             PreparedStatement statement = connection.prepareStatement(sql)) {
-            
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
             statement.setString(1, fullName);
             
             try (ResultSet resultSet = statement.executeQuery()) {
@@ -105,10 +124,6 @@ public class MySQLSimpleAuthorRepository implements SimpleAuthorRepository {
             }
             
             return Optional.empty();
-            
-        } catch (SQLException e) {
-            logger.error("Failed to find author by name: {}", e.getMessage());
-            throw e;
         }
     }
     
@@ -116,7 +131,7 @@ public class MySQLSimpleAuthorRepository implements SimpleAuthorRepository {
     public List<SimpleAuthor> findByNamePattern(String namePattern) throws SQLException {
         String sql = "SELECT * FROM authors WHERE full_name LIKE ? AND deleted_at IS NULL ORDER BY total_citations DESC";
         
-        try (Connection connection = databaseService.getConnection();
+        try (Connection connection = databaseService.getReadConnection();
              PreparedStatement statement = connection.prepareStatement(sql)) {
             
             statement.setString(1, "%" + namePattern + "%");
@@ -129,11 +144,137 @@ public class MySQLSimpleAuthorRepository implements SimpleAuthorRepository {
         }
     }
     
+    @Override
+    public List<SimpleAuthor> findByIds(Collection<Long> ids) throws SQLException {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        String sql = "SELECT * FROM authors WHERE id IN (" + placeholders(ids.size()) + ") AND deleted_at IS NULL";
+        
+        try (Connection connection = databaseService.getReadConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            
+            int index = 1;
+            for (Long id : ids) {
+                statement.setLong(index++, id);
+            }
+            
+            return executeQueryAndMapResults(statement);
+            
+        } catch (SQLException e) {
+            logger.error("Failed to find {} authors by ID: {}", ids.size(), e.getMessage());
+            throw e;
+        }
+    }
+    
+    @Override
+    public long forEachAuthor(Consumer<SimpleAuthor> action) throws SQLException {
+        String sql = "SELECT * FROM authors WHERE deleted_at IS NULL";
+        long count = 0;
+        
+        try (Connection connection = databaseService.getReadConnection();
+             PreparedStatement statement = connection.prepareStatement(sql,
+                 ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            
+            // Connector/J streams rows one at a time instead of buffering the whole result
+            statement.setFetchSize(Integer.MIN_VALUE);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    action.accept(mapResultSetToAuthor(resultSet));
+                    count++;
+                }
+            }
+            
+        } catch (SQLException e) {
+            logger.error("Failed to scan authors: {}", e.getMessage());
+            throw e;
+        }
+        
+        return count;
+    }
+    
+    @Override
+    public long forEachArticleAuthors(ArticleAuthors action) throws SQLException {
+        String sql = "SELECT aa.article_id, aa.author_id FROM article_authors aa " +
+                    "JOIN articles ar ON ar.id = aa.article_id AND ar.deleted_at IS NULL " +
+                    "JOIN authors au ON au.id = aa.author_id AND au.deleted_at IS NULL " +
+                    "ORDER BY aa.article_id, aa.author_position";
+        long articles = 0;
+        
+        try (Connection connection = databaseService.getReadConnection();
+             PreparedStatement statement = connection.prepareStatement(sql,
+                 ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            
+            statement.setFetchSize(Integer.MIN_VALUE);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                long[] authorIds = new long[16];
+                int count = 0;
+                long currentArticle = -1;
+                
+                // Consecutive rows of one article are collected into the reused array
+                while (resultSet.next()) {
+                    long articleId = resultSet.getLong(1);
+                    if (articleId != currentArticle && count > 0) {
+                        action.accept(currentArticle, authorIds, count);
+                        articles++;
+                        count = 0;
+                    }
+                    currentArticle = articleId;
+                    if (count == authorIds.length) {
+                        authorIds = Arrays.copyOf(authorIds, count * 2);
+                    }
+                    authorIds[count++] = resultSet.getLong(2);
+                }
+                if (count > 0) {
+                    action.accept(currentArticle, authorIds, count);
+                    articles++;
+                }
+            }
+            
+        } catch (SQLException e) {
+            logger.error("Failed to scan article authors: {}", e.getMessage());
+            throw e;
+        }
+        
+        return articles;
+    }
+    
+    @Override
+    public List<Long> findIdsByArticleIds(Collection<Long> articleIds) throws SQLException {
+        List<Long> authorIds = new ArrayList<>();
+        if (articleIds.isEmpty()) {
+            return authorIds;
+        }
+        
+        String sql = "SELECT DISTINCT aa.author_id FROM article_authors aa JOIN authors au ON au.id = aa.author_id " +
+                    "WHERE aa.article_id IN (" + placeholders(articleIds.size()) + ") AND au.deleted_at IS NULL";
+        
+        try (Connection connection = databaseService.getReadConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            
+            int index = 1;
+            for (Long id : articleIds) {
+                statement.setLong(index++, id);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    authorIds.add(resultSet.getLong(1));
+                }
+            }
+            return authorIds;
+            
+        } catch (SQLException e) {
+            logger.error("Failed to find authors of {} articles: {}", articleIds.size(), e.getMessage());
+            throw e;
+        }
+    }
+    
     @Override
     public List<SimpleAuthor> findTopByCitations(int limit) throws SQLException {
-        String sql = "SELECT * FROM authors WHERE article_count > 0 AND deleted_at IS NULL ORDER BY total_citations DESC LIMIT ?";
+        String sql = "SELECT * FROM authors WHERE article_count > 0 AND deleted_at IS NULL ORDER BY total_citations DESC, id LIMIT ?";
         
-        try (Connection connection = databaseService.getConnection();
+        try (Connection connection = databaseService.getReadConnection();
              PreparedStatement statement = connection.prepareStatement(sql)) {
             
             statement.setInt(1, limit);
@@ -148,9 +289,9 @@ public class MySQLSimpleAuthorRepository implements SimpleAuthorRepository {
     
     @Override
     public List<SimpleAuthor> findTopByArticleCount(int limit) throws SQLException {
-        String sql = "SELECT * FROM authors WHERE article_count > 0 AND deleted_at IS NULL ORDER BY article_count DESC, total_citations DESC LIMIT ?";
+        String sql = "SELECT * FROM authors WHERE article_count > 0 AND deleted_at IS NULL ORDER BY article_count DESC, total_citations DESC, id LIMIT ?";
         
-        try (Connection connection = databaseService.getConnection();
+        try (Connection connection = databaseService.getReadConnection();
              PreparedStatement statement = connection.prepareStatement(sql)) {
             
             statement.setInt(1, limit);
@@ -190,6 +331,24 @@ public class MySQLSimpleAuthorRepository implements SimpleAuthorRepository {
         }
     }
     
+    @Override
+    public int rebuildStatistics() throws SQLException {
+        try (Connection connection = databaseService.getConnection()) {
+            int recomputed = AuthorStatistics.rebuild(connection);
+            logger.info("Rebuilt statistics for {} authors", recomputed);
+            return recomputed;
+            
+        } catch (SQLException e) {
+            logger.error("Failed to rebuild author statistics: {}", e.getMessage());
+            throw e;
+        }
+    }
+    
+    @Override
+    public void statisticsChanged() {
+        // Statistics are read from the table on every call
+    }
+    
     @Override
     public boolean linkToArticle(Long articleId, Long authorId, int position) throws SQLException {
         String sql = "INSERT INTO article_authors (article_id, author_id, author_position) VALUES (?, ?, ?) " +
@@ -218,6 +377,70 @@ public class MySQLSimpleAuthorRepository implements SimpleAuthorRepository {
         }
     }
     
+    @Override
+    public LinkedAuthors saveAllAndLinkToArticle(Long articleId, List<SimpleAuthor> authors, int articleCitations) throws SQLException {
+        // The same name can appear twice in a truncated author string; keep the first position
+        Map<String, SimpleAuthor> uniqueAuthors = new LinkedHashMap<>();
+        for (SimpleAuthor author : authors) {
+            if (author.isValid()) {
+                uniqueAuthors.putIfAbsent(author.getFullName().toLowerCase(Locale.ROOT), author);
+            }
+        }
+        
+        List<SimpleAuthor> resolved = new ArrayList<>(uniqueAuthors.values());
+        if (resolved.isEmpty()) {
+            return new LinkedAuthors(resolved, resolved, Set.of());
+        }
+        
+        try {
+            // Ingests of articles sharing authors can deadlock on the name index; a victim reruns whole
+            return DeadlockRetry.run("linking authors to article " + articleId,
+                () -> linkAuthors(articleId, resolved, articleCitations));
+            
+        } catch (SQLException e) {
+            logger.error("Failed to link authors to article {}: {}", articleId, e.getMessage());
+            throw e;
+        }
+    }
+    
+    /**
+     * Resolve and link the authors of one article in a single transaction.
+     */
+    private LinkedAuthors linkAuthors(Long articleId, List<SimpleAuthor> resolved, int articleCitations) throws SQLException {
+        try (Connection connection = databaseService.getConnection()) {
+            boolean originalAutoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            
+            try {
+                lockArticle(connection, articleId);
+                upsertNames(connection, resolved);
+                resolveIds(connection, resolved);
+                Set<Long> linkedIds = findLinkedAuthorIds(connection, articleId);
+                insertLinks(connection, articleId, resolved);
+                
+                List<SimpleAuthor> newlyLinked = new ArrayList<>();
+                for (SimpleAuthor author : resolved) {
+                    if (!linkedIds.contains(author.getId())) {
+                        newlyLinked.add(author);
+                    }
+                }
+                if (!newlyLinked.isEmpty()) {
+                    incrementStatistics(connection, newlyLinked, articleCitations);
+                }
+                
+                connection.commit();
+                logger.info("Linked {} authors to article {}", resolved.size(), articleId);
+                return new LinkedAuthors(resolved, newlyLinked, linkedIds);
+                
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(originalAutoCommit);
+            }
+        }
+    }
+    
     @Override
     public List<SimpleAuthor> findByArticleId(Long articleId) throws SQLException {
         String sql = "SELECT a.* FROM authors a " +
@@ -225,7 +448,7 @@ public class MySQLSimpleAuthorRepository implements SimpleAuthorRepository {
                     "WHERE aa.article_id = ? AND a.deleted_at IS NULL " +
                     "ORDER BY aa.author_position";
         
-        try (Connection connection = databaseService.getConnection();
+        try (Connection connection = databaseService.getReadConnection();
              PreparedStatement statement = connection.prepareStatement(sql)) {
             
             statement.setLong(1, articleId);
@@ -242,7 +465,7 @@ public class MySQLSimpleAuthorRepository implements SimpleAuthorRepository {
     public long count() throws SQLException {
         String sql = "SELECT COUNT(*) FROM authors WHERE deleted_at IS NULL";
         
-        try (Connection connection = databaseService.getConnection();
+        try (Connection connection = databaseService.getReadConnection();
              PreparedStatement statement = connection.prepareStatement(sql);
              ResultSet resultSet = statement.executeQuery()) {
             
@@ -282,6 +505,139 @@ public class MySQLSimpleAuthorRepository implements SimpleAuthorRepository {
         }
     }
     
+    /**
+     * Insert any names not yet stored; existing names only gain a name key if they lack one.
+     */
+    private void upsertNames(Connection connection, List<SimpleAuthor> authors) throws SQLException {
+        String sql = "INSERT INTO authors (full_name, name_key, article_count, total_citations) VALUES (?, ?, 0, 0) " +
+                    "ON DUPLICATE KEY UPDATE name_key = COALESCE(name_key, VALUES(name_key))";
+        
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (SimpleAuthor author : authors) {
+                statement.setString(1, author.getFullName());
+                statement.setString(2, AuthorNameNormalizer.toKey(author.getFullName()));
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+    
+    /**
+     * Look up the IDs of all given names with one query.
+     */
+    private void resolveIds(Connection connection, List<SimpleAuthor> authors) throws SQLException {
+        String sql = "SELECT id, full_name FROM authors WHERE full_name IN (" + placeholders(authors.size()) + ")";
+        Map<String, Long> idsByName = new HashMap<>();
+        
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            int index = 1;
+            for (SimpleAuthor author : authors) {
+                statement.setString(index++, author.getFullName());
+            }
+            
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    // Column collation is case-insensitive, so match names the same way
+                    idsByName.put(resultSet.getString("full_name").toLowerCase(Locale.ROOT), resultSet.getLong("id"));
+                }
+            }
+        }
+        
+        for (SimpleAuthor author : authors) {
+            Long id = idsByName.get(author.getFullName().toLowerCase(Locale.ROOT));
+            if (id == null) {
+                throw new SQLException("Resolving author failed, no ID found for: " + author.getFullName());
+            }
+            author.setId(id);
+        }
+    }
+    
+    /**
+     * Lock the article row so concurrent ingests of the same article link it one at a time.
+     * This is a record lock on an existing primary key, unlike a locking read of the article's
+     * usually empty link range, whose gap locks deadlock two ingests of new articles on their
+     * link inserts. It must be the transaction's first read: the snapshot of the reads that
+     * follow then starts after the previous holder committed its links.
+     */
+    private void lockArticle(Connection connection, Long articleId) throws SQLException {
+        String sql = "SELECT id FROM articles WHERE id = ? FOR UPDATE";
+        
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, articleId);
+            statement.executeQuery().close();
+        }
+    }
+    
+    /**
+     * Read the authors already linked to an article; the article lock keeps them current.
+     */
+    private Set<Long> findLinkedAuthorIds(Connection connection, Long articleId) throws SQLException {
+        String sql = "SELECT author_id FROM article_authors WHERE article_id = ?";
+        Set<Long> authorIds = new HashSet<>();
+        
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, articleId);
+            
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    authorIds.add(resultSet.getLong("author_id"));
+                }
+            }
+        }
+        
+        return authorIds;
+    }
+    
+    /**
+     * Insert article_authors rows for all authors with one batch.
+     */
+    private void insertLinks(Connection connection, Long articleId, List<SimpleAuthor> authors) throws SQLException {
+        String sql = "INSERT INTO article_authors (article_id, author_id, author_position) VALUES (?, ?, ?) " +
+                    "ON DUPLICATE KEY UPDATE author_position = VALUES(author_position)";
+        
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            int position = 0;
+            for (SimpleAuthor author : authors) {
+                statement.setLong(1, articleId);
+                statement.setLong(2, author.getId());
+                statement.setInt(3, position++);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+    
+    /**
+     * Add one article and its citations to every author with a single atomic UPDATE.
+     */
+    private void incrementStatistics(Connection connection, List<SimpleAuthor> authors, int articleCitations) throws SQLException {
+        String sql = "UPDATE authors SET article_count = article_count + 1, total_citations = total_citations + ? " +
+                    "WHERE id IN (" + placeholders(authors.size()) + ")";
+        
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setInt(1, articleCitations);
+            int index = 2;
+            for (SimpleAuthor author : authors) {
+                statement.setLong(index++, author.getId());
+            }
+            statement.executeUpdate();
+        }
+    }
+    
+    /**
+     * Build a comma-separated list of JDBC placeholders for an IN clause.
+     */
+    private static String placeholders(int count) {
+        StringBuilder builder = new StringBuilder(count * 2);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append('?');
+        }
+        return builder.toString();
+    }
+    
     /**
      * Execute query and map results to SimpleAuthor list.
      */
@@ -0,0 +1,473 @@
+package com.innovationcenter.scholarapi.service;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+/**
+ * Thread-safe token-bucket rate limiter with a monthly quota counter for SerpAPI calls.
+ * Every API client acquires a permit before sending a request, so parallel batches stay
+ * within the plan's throughput and never burn paid searches on 429 responses.
+ *
+ * Callers over the rate block until a token is available (backpressure); only an exhausted
+ * monthly quota fails the call, with a {@link QuotaExhaustedException}.
+ *
+ * A tracked quota is counted in a small file (month and searches used) updated under a file
+ * lock, so the count survives restarts and is shared by the CLI, GUI and batch processes.
+ * Permits are counted in memory under the limiter's monitor and the file is written after
+ * the monitor is released, by one caller at a time, folding in every search taken meanwhile.
+ * Concurrent callers therefore never wait on disk. Within the last burst-worth of searches
+ * each permit first re-reads the file, so other processes' searches are seen before the cap.
+ * Throttled requests are not billed by SerpAPI, so each 429 returns its search to the quota.
+ */
+public class ApiRateLimiter {
+    private static final Logger logger = Logger.getLogger(ApiRateLimiter.class.getName());
+
+    public static final double DEFAULT_REQUESTS_PER_SECOND = 2.0;
+    public static final int DEFAULT_BURST = 5;
+    /** Zero means the quota is not tracked. */
+    public static final long UNLIMITED_QUOTA = 0;
+    public static final String QUOTA_FILE = "serpapi-quota.txt";
+    /** Same as DiskResponseCache.DEFAULT_DIRECTORY. */
+    private static final String DEFAULT_QUOTA_DIRECTORY = ".cache/serpapi";
+    private static final long QUOTA_FILE_UNAVAILABLE = -1;
+    // File locks are held per JVM, so limiters of one process sharing a file take turns here
+    private static final Object QUOTA_FILE_MONITOR = new Object();
+
+    private static volatile ApiRateLimiter shared;
+
+    private final Settings settings;
+    private final double permitsPerNano;
+    private final int burst;
+    private final long monthlyQuota;
+    private final Path quotaFile;
+    private final Clock clock;
+    private final AtomicBoolean flushing = new AtomicBoolean();
+
+    // Guarded by this: tokens may go negative, which reserves future tokens for waiting callers
+    private double tokens;
+    private long lastRefillNanos;
+    private YearMonth quotaMonth;
+    private long usedThisMonth;
+    // Searches counted in usedThisMonth but not yet written to the quota file
+    private long unflushed;
+
+    public ApiRateLimiter(double requestsPerSecond, int burst, long monthlyQuota) {
+        this(requestsPerSecond, burst, monthlyQuota, null);
+    }
+
+    /**
+     * @param quotaFile File counting the searches used this month, or null to count in memory only
+     */
+    public ApiRateLimiter(double requestsPerSecond, int burst, long monthlyQuota, Path quotaFile) {
+        this(requestsPerSecond, burst, monthlyQuota, quotaFile, Clock.systemUTC());
+    }
+
+    ApiRateLimiter(double requestsPerSecond, int burst, long monthlyQuota, Path quotaFile, Clock clock) {
+        if (requestsPerSecond <= 0 || burst < 1 || monthlyQuota < 0) {
+            throw new IllegalArgumentException("Rate must be positive, burst at least 1 and quota non-negative");
+        }
+        this.permitsPerNano = requestsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burst = burst;
+        this.monthlyQuota = monthlyQuota;
+        this.quotaFile = monthlyQuota == UNLIMITED_QUOTA ? null : quotaFile;
+        this.settings = new Settings(requestsPerSecond, burst, monthlyQuota, this.quotaFile);
+        this.clock = clock;
+        this.tokens = burst;
+        this.lastRefillNanos = System.nanoTime();
+        this.quotaMonth = YearMonth.now(clock.withZone(ZoneOffset.UTC));
+        this.usedThisMonth = Math.max(0, updateQuotaFile(quotaMonth, 0));
+    }
+
+    /**
+     * Returns the process-wide limiter shared by all SerpAPI clients, creating it from
+     * SERPAPI_REQUESTS_PER_SECOND, SERPAPI_BURST and SERPAPI_MONTHLY_QUOTA on first use.
+     * The first caller's settings win; a later caller whose configuration asks for
+     * different settings is logged, since its values are not applied.
+     */
+    public static ApiRateLimiter getShared(ConfigurationService configService) {
+        ApiRateLimiter limiter = shared;
+        if (limiter == null) {
+            synchronized (ApiRateLimiter.class) {
+                limiter = shared;
+                if (limiter == null) {
+                    limiter = fromConfiguration(configService);
+                    shared = limiter;
+                    return limiter;
+                }
+            }
+        }
+        if (configService != null) {
+            Settings requested = Settings.from(configService);
+            if (!requested.equals(limiter.settings)) {
+                logger.warning("Shared SerpAPI rate limiter already configured with " + limiter.settings +
+                               ", ignoring " + requested);
+            }
+        }
+        return limiter;
+    }
+
+    /**
+     * Returns the shared limiter, creating one with default settings if no client configured it yet.
+     * Only for callers that read the quota; clients that send requests pass their configuration.
+     */
+    public static ApiRateLimiter getShared() {
+        return getShared(null);
+    }
+
+    private static ApiRateLimiter fromConfiguration(ConfigurationService configService) {
+        Settings settings = configService != null ? Settings.from(configService) : Settings.DEFAULTS;
+        logger.info("SerpAPI rate limit: " + settings);
+        return new ApiRateLimiter(settings.requestsPerSecond, settings.burst, settings.monthlyQuota, settings.quotaFile);
+    }
+
+    /**
+     * Takes one permit, blocking while the bucket is empty.
+     *
+     * @throws QuotaExhaustedException If the monthly quota has been used up
+     * @throws InterruptedIOException If interrupted while waiting
+     */
+    public void acquire() throws IOException {
+        long waitNanos = reserve();
+
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for API rate limit");
+            }
+        }
+    }
+
+    /**
+     * Takes one permit without blocking the caller.
+     *
+     * @return Future completing once the permit may be used, or failing with
+     *         QuotaExhaustedException if the monthly quota has been used up
+     */
+    public CompletableFuture<Void> acquireAsync() {
+        long waitNanos;
+        try {
+            waitNanos = reserve();
+        } catch (QuotaExhaustedException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        if (waitNanos == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(() -> { },
+            CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * Takes a token, possibly from the future, and returns how long the caller must wait for it.
+     */
+    private long reserve() throws QuotaExhaustedException {
+        syncQuotaNearCap();
+        long waitNanos;
+        synchronized (this) {
+            consumeQuota();
+            refill();
+            tokens -= 1;
+            waitNanos = tokens < 0 ? (long) Math.ceil(-tokens / permitsPerNano) : 0;
+        }
+        flushQuota(false);
+        return waitNanos;
+    }
+
+    /**
+     * Takes one permit only if it is available immediately.
+     *
+     * @return true if a permit was taken
+     */
+    public boolean tryAcquire() {
+        syncQuotaNearCap();
+        synchronized (this) {
+            refill();
+            rollMonth();
+            if (tokens < 1 || remainingQuotaLocked() == 0) {
+                return false;
+            }
+            try {
+                consumeQuota();
+            } catch (QuotaExhaustedException e) {
+                return false;
+            }
+            tokens -= 1;
+        }
+        flushQuota(false);
+        return true;
+    }
+
+    /**
+     * Signals a 429 from the API: drains the bucket so the next callers back off for a full
+     * refill, and returns the throttled request's search to the quota since it was not billed.
+     */
+    public void onThrottled() {
+        synchronized (this) {
+            refill();
+            tokens = Math.min(tokens, 0) - burst;
+            if (monthlyQuota != UNLIMITED_QUOTA) {
+                rollMonth();
+                if (usedThisMonth > 0) {
+                    usedThisMonth--;
+                    unflushed--;
+                }
+            }
+        }
+        flushQuota(false);
+        logger.warning("SerpAPI throttled the client, backing off");
+    }
+
+    /**
+     * Remaining searches in the current month, or Long.MAX_VALUE when the quota is not tracked.
+     */
+    public synchronized long getRemainingQuota() {
+        rollMonth();
+        return remainingQuotaLocked();
+    }
+
+    public synchronized long getUsedQuota() {
+        rollMonth();
+        return usedThisMonth;
+    }
+
+    public long getMonthlyQuota() {
+        return monthlyQuota;
+    }
+
+    private void consumeQuota() throws QuotaExhaustedException {
+        rollMonth();
+        if (monthlyQuota == UNLIMITED_QUOTA) {
+            return;
+        }
+        if (usedThisMonth >= monthlyQuota) {
+            throw new QuotaExhaustedException("Monthly SerpAPI quota of " + monthlyQuota + " searches exhausted");
+        }
+        usedThisMonth++;
+        unflushed++;
+    }
+
+    /**
+     * Close to the cap, reads the count other processes left in the file before a permit is taken.
+     */
+    private void syncQuotaNearCap() {
+        boolean nearCap;
+        synchronized (this) {
+            nearCap = monthlyQuota != UNLIMITED_QUOTA && monthlyQuota - usedThisMonth <= burst;
+        }
+        if (nearCap) {
+            flushQuota(true);
+        }
+    }
+
+    /**
+     * Writes the searches counted since the last write to the quota file and picks up the ones
+     * other processes used. Called without the monitor; if another caller is already writing,
+     * it returns at once and that caller writes this count too.
+     *
+     * @param reread Read the file even when there is nothing to write
+     */
+    private void flushQuota(boolean reread) {
+        if (quotaFile == null) {
+            return;
+        }
+        while ((reread || hasUnflushed()) && flushing.compareAndSet(false, true)) {
+            reread = false;
+            try {
+                long delta;
+                YearMonth month;
+                synchronized (this) {
+                    delta = unflushed;
+                    unflushed = 0;
+                    month = quotaMonth;
+                }
+
+                long persisted = updateQuotaFile(month, delta);
+
+                synchronized (this) {
+                    if (persisted >= 0 && month.equals(quotaMonth)) {
+                        usedThisMonth = persisted + unflushed;
+                    }
+                }
+            } finally {
+                flushing.set(false);
+            }
+        }
+    }
+
+    private synchronized boolean hasUnflushed() {
+        return unflushed != 0;
+    }
+
+    /**
+     * Adds delta to the month's count in the quota file, holding its lock. The file holds one
+     * line: the month and the searches used in it.
+     *
+     * @return The new count, or QUOTA_FILE_UNAVAILABLE if there is no file or it cannot be used,
+     *         in which case the count stays in memory
+     */
+    private long updateQuotaFile(YearMonth month, long delta) {
+        if (quotaFile == null) {
+            return QUOTA_FILE_UNAVAILABLE;
+        }
+        synchronized (QUOTA_FILE_MONITOR) {
+            try {
+                if (quotaFile.getParent() != null) {
+                    Files.createDirectories(quotaFile.getParent());
+                }
+                try (FileChannel channel = FileChannel.open(quotaFile, StandardOpenOption.CREATE,
+                        StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                    FileLock lock = channel.lock();
+                    try {
+                        long updated = Math.max(0, readUsed(channel, month) + delta);
+                        if (delta != 0) {
+                            byte[] line = (month + " " + updated + "\n").getBytes(StandardCharsets.UTF_8);
+                            channel.truncate(0);
+                            channel.write(ByteBuffer.wrap(line), 0);
+                        }
+                        return updated;
+                    } finally {
+                        lock.release();
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.warning("Cannot use SerpAPI quota file " + quotaFile + ", counting in memory: " + e.getMessage());
+                return QUOTA_FILE_UNAVAILABLE;
+            }
+        }
+    }
+
+    /**
+     * @return Searches used in the given month according to the file, 0 for another month
+     */
+    private static long readUsed(FileChannel channel, YearMonth month) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(channel.size(), 256));
+        while (buffer.hasRemaining() && channel.read(buffer, buffer.position()) > 0) {
+            // Keep reading until the buffer is full or the file ends
+        }
+        String[] fields = new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8).trim().split("\\s+");
+        if (fields.length != 2 || !fields[0].equals(month.toString())) {
+            return 0;
+        }
+        return Long.parseLong(fields[1]);
+    }
+
+    private long remainingQuotaLocked() {
+        return monthlyQuota == UNLIMITED_QUOTA ? Long.MAX_VALUE : Math.max(0, monthlyQuota - usedThisMonth);
+    }
+
+    /**
+     * Starts a new quota month at zero. Searches of the old month not yet written are dropped,
+     * and the first write of the new month adds what other processes already recorded.
+     */
+    private void rollMonth() {
+        YearMonth current = YearMonth.now(clock.withZone(ZoneOffset.UTC));
+        if (!current.equals(quotaMonth)) {
+            quotaMonth = current;
+            usedThisMonth = 0;
+            unflushed = 0;
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+    }
+
+    private static double parse(ConfigurationService configService, String key, double defaultValue) {
+        String value = configService.getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warning("Invalid value for " + key + ": " + value + ", using " + defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Rate, burst, quota and quota file a limiter was created with.
+     */
+    private static final class Settings {
+        private static final Settings DEFAULTS = new Settings(DEFAULT_REQUESTS_PER_SECOND, DEFAULT_BURST, UNLIMITED_QUOTA, null);
+
+        private final double requestsPerSecond;
+        private final int burst;
+        private final long monthlyQuota;
+        private final Path quotaFile;
+
+        Settings(double requestsPerSecond, int burst, long monthlyQuota, Path quotaFile) {
+            this.requestsPerSecond = requestsPerSecond;
+            this.burst = burst;
+            this.monthlyQuota = monthlyQuota;
+            this.quotaFile = monthlyQuota == UNLIMITED_QUOTA ? null : quotaFile;
+        }
+
+        /**
+         * Reads the settings; the quota file is kept next to the response cache, which every
+         * SerpAPI client of a process is configured with.
+         */
+        static Settings from(ConfigurationService configService) {
+            String directory = configService.getProperty("SCHOLAR_CACHE_DIR");
+            return new Settings(
+                parse(configService, "SERPAPI_REQUESTS_PER_SECOND", DEFAULT_REQUESTS_PER_SECOND),
+                (int) parse(configService, "SERPAPI_BURST", DEFAULT_BURST),
+                (long) parse(configService, "SERPAPI_MONTHLY_QUOTA", UNLIMITED_QUOTA),
+                Paths.get(directory != null && !directory.trim().isEmpty() ? directory.trim() : DEFAULT_QUOTA_DIRECTORY)
+                    .resolve(QUOTA_FILE));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Settings)) {
+                return false;
+            }
+            Settings that = (Settings) other;
+            return requestsPerSecond == that.requestsPerSecond && burst == that.burst &&
+                   monthlyQuota == that.monthlyQuota && Objects.equals(quotaFile, that.quotaFile);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(requestsPerSecond, burst, monthlyQuota, quotaFile);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%.2f req/s, burst %d, monthly quota %s", requestsPerSecond, burst,
+                monthlyQuota == UNLIMITED_QUOTA ? "unlimited" : monthlyQuota + " counted in " + quotaFile);
+        }
+    }
+
+    /**
+     * Thrown when the monthly search quota is used up.
+     */
+    public static class QuotaExhaustedException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        public QuotaExhaustedException(String message) {
+            super(message);
+        }
+    }
+}
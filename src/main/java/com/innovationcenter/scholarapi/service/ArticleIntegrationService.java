@@ -5,10 +5,14 @@ import com.innovationcenter.scholarapi.model.Author;
 import com.innovationcenter.scholarapi.model.AuthorSearchResult;
 import com.innovationcenter.scholarapi.model.Publication;
 import com.innovationcenter.scholarapi.repository.ArticleRepository;
+import com.innovationcenter.scholarapi.util.PublicationInfoParser;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 import java.sql.SQLException;
@@ -23,10 +27,17 @@ public class ArticleIntegrationService {
     
     private final ApiService apiService;
     private final ArticleRepository articleRepository;
+    private final ResearcherHarvester harvester;
     
     public ArticleIntegrationService(ApiService apiService, ArticleRepository articleRepository) {
+        this(apiService, articleRepository, new ResearcherHarvester());
+    }
+    
+    public ArticleIntegrationService(ApiService apiService, ArticleRepository articleRepository,
+                                     ResearcherHarvester harvester) {
         this.apiService = apiService;
         this.articleRepository = articleRepository;
+        this.harvester = harvester;
     }
     
     /**
@@ -37,49 +48,14 @@ public class ArticleIntegrationService {
      * @return List of articles that were successfully saved to the database
      */
     public List<Article> searchAndStoreArticles(String researcherName, int maxArticles) {
-        List<Article> savedArticles = new ArrayList<>();
-        
         try {
-            logger.info("Searching for articles by researcher: " + researcherName);
-            
-            // Search for authors using the API service
-            List<AuthorSearchResult> authorResults = apiService.searchAuthors(researcherName);
-            
-            if (authorResults.isEmpty()) {
-                logger.warning("No authors found for: " + researcherName);
-                return savedArticles;
-            }
-            
-            // Process publications from the first matching author
-            AuthorSearchResult firstResult = authorResults.get(0);
-            Author author = firstResult.getAuthor();
+            Author author = fetchResearcher(researcherName);
             
-            if (author == null || author.getPublications() == null || author.getPublications().isEmpty()) {
-                logger.warning("No publications found for researcher: " + researcherName);
-                return savedArticles;
+            if (author == null) {
+                return new ArrayList<>();
             }
             
-            List<Publication> publications = author.getPublications();
-            int articlesToProcess = Math.min(publications.size(), maxArticles);
-            logger.info("Processing " + articlesToProcess + " articles for " + researcherName);
-            
-            // Convert and save each publication as an article
-            for (int i = 0; i < articlesToProcess; i++) {
-                try {
-                    Publication publication = publications.get(i);
-                    Article article = convertPublicationToArticle(publication, author.getName());
-                    Article savedArticle = articleRepository.save(article);
-                    savedArticles.add(savedArticle);
-                    logger.info("Saved article: " + savedArticle.getTitle());
-                } catch (SQLException e) {
-                    logger.log(Level.SEVERE, "Failed to save article for " + researcherName + 
-                              ": " + e.getMessage(), e);
-                    // Continue processing other articles even if one fails
-                } catch (Exception e) {
-                    logger.log(Level.WARNING, "Failed to convert publication for " + researcherName + 
-                              ": " + e.getMessage(), e);
-                }
-            }
+            return storePublications(researcherName, author, maxArticles);
             
         } catch (IOException e) {
             logger.log(Level.SEVERE, "API error searching for researcher " + 
@@ -90,8 +66,76 @@ public class ArticleIntegrationService {
                       researcherName + ": " + e.getMessage(), e);
             throw new RuntimeException("Failed to search and store articles for " + researcherName, e);
         }
+    }
+    
+    /**
+     * Fetch stage: looks up the researcher's profile through the API service.
+     * 
+     * @return The first matching author with publications, or null if none was found
+     */
+    private Author fetchResearcher(String researcherName) throws IOException {
+        logger.info("Searching for articles by researcher: " + researcherName);
+        
+        // Search for authors using the API service
+        List<AuthorSearchResult> authorResults = apiService.searchAuthors(researcherName);
+        
+        if (authorResults.isEmpty()) {
+            logger.warning("No authors found for: " + researcherName);
+            return null;
+        }
+        
+        // Process publications from the first matching author
+        Author author = authorResults.get(0).getAuthor();
+        
+        if (author == null || author.getPublications() == null || author.getPublications().isEmpty()) {
+            logger.warning("No publications found for researcher: " + researcherName);
+            return null;
+        }
         
-        return savedArticles;
+        return author;
+    }
+    
+    /**
+     * Persist stage: converts the author's publications and saves them as one batch.
+     * Publications carry their Scholar result ID, so a researcher harvested again refreshes
+     * the stored articles instead of inserting them a second time.
+     */
+    private List<Article> storePublications(String researcherName, Author author, int maxArticles) {
+        List<Publication> publications = author.getPublications();
+        int articlesToProcess = Math.min(publications.size(), maxArticles);
+        logger.info("Processing " + articlesToProcess + " articles for " + researcherName);
+        
+        // A publication listed twice collapses onto its first occurrence
+        Map<String, Article> uniqueByScholarId = new LinkedHashMap<>();
+        List<Article> articles = new ArrayList<>();
+        for (int i = 0; i < articlesToProcess; i++) {
+            try {
+                Article article = convertPublicationToArticle(publications.get(i), author.getName());
+                String scholarId = article.getGoogleScholarId();
+                if (scholarId == null || uniqueByScholarId.putIfAbsent(scholarId, article) == null) {
+                    articles.add(article);
+                }
+            } catch (Exception e) {
+                logger.log(Level.WARNING, "Failed to convert publication for " + researcherName + 
+                          ": " + e.getMessage(), e);
+            }
+        }
+        
+        if (articles.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        try {
+            Set<String> inserted = articleRepository.saveAll(articles);
+            logger.info("Saved " + articles.size() + " articles for " + researcherName + " (" +
+                       inserted.size() + " new, " + (uniqueByScholarId.size() - inserted.size()) + " refreshed)");
+            return articles;
+        } catch (SQLException e) {
+            // The batch is one transaction, so none of the researcher's articles were kept
+            logger.log(Level.SEVERE, "Failed to save articles for " + researcherName + 
+                      ": " + e.getMessage(), e);
+            return new ArrayList<>();
+        }
     }
     
     /**
@@ -102,25 +146,25 @@ public class ArticleIntegrationService {
      * @return List of all articles that were successfully saved
      */
     public List<Article> processMultipleResearchers(List<String> researchers, int articlesPerResearcher) {
-        List<Article> allSavedArticles = new ArrayList<>();
-        
         logger.info("Processing " + researchers.size() + " researchers with " + 
                    articlesPerResearcher + " articles each");
         
-        for (String researcher : researchers) {
-            try {
-                List<Article> researcherArticles = searchAndStoreArticles(researcher, articlesPerResearcher);
-                allSavedArticles.addAll(researcherArticles);
-                
-                logger.info("Successfully processed " + researcherArticles.size() + 
-                           " articles for " + researcher);
+        List<Article> allSavedArticles = harvester.harvest(
+            researchers,
+            this::fetchResearcher,
+            (researcher, author) -> storePublications(researcher, author, articlesPerResearcher),
+            new ResearcherHarvester.ProgressListener() {
+                @Override
+                public void researcherProcessed(String researcher, int articleCount) {
+                    logger.info("Successfully processed " + articleCount + " articles for " + researcher);
+                }
                 
-            } catch (Exception e) {
-                logger.log(Level.SEVERE, "Failed to process researcher " + researcher + 
-                          ": " + e.getMessage(), e);
-                // Continue with next researcher
+                @Override
+                public void researcherSkipped(String researcher, String reason) {
+                    logger.warning("Skipped researcher " + researcher + ": " + reason);
+                }
             }
-        }
+        );
         
         logger.info("Total articles saved: " + allSavedArticles.size());
         return allSavedArticles;
@@ -169,7 +213,7 @@ public class ArticleIntegrationService {
                 "Unknown Journal", // journal
                 link, // articleUrl
                 abstractText, // abstractText
-                null, // googleScholarId
+                PublicationInfoParser.extractGoogleScholarId(publication.getPublicationId()), // googleScholarId
                 citedBy, // citationCount
                 null, // citesId
                 null, // pdfUrl
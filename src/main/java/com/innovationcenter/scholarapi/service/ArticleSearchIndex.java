@@ -0,0 +1,309 @@
+package com.innovationcenter.scholarapi.service;
+
+import com.innovationcenter.scholarapi.model.Article;
+import com.innovationcenter.scholarapi.util.TextQuery;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process inverted index over article titles and abstracts.
+ *
+ * Each word maps to a postings list of (article, positions). Positions make phrase
+ * queries possible, and keeping the dictionary sorted turns a prefix query into a
+ * range scan. Matches are ranked with BM25, counting title hits double.
+ */
+public class ArticleSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double TITLE_BOOST = 2.0;
+
+    // Abstract positions start here so a phrase never spans the end of the title
+    private static final int ABSTRACT_OFFSET = 1 << 20;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, Map<Long, int[]>> postings = new TreeMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private long totalLength;
+
+    /**
+     * Adds an article, replacing any earlier version with the same ID.
+     * Articles without an ID are ignored.
+     */
+    public void add(Article article) {
+        if (article.getId() == null) {
+            return;
+        }
+
+        Map<String, List<Integer>> positions = new HashMap<>();
+        List<String> titleTokens = TextQuery.tokenize(article.getPaperTitle());
+        List<String> abstractTokens = TextQuery.tokenize(article.getAbstractText());
+        for (int i = 0; i < titleTokens.size(); i++) {
+            positions.computeIfAbsent(titleTokens.get(i), token -> new ArrayList<>()).add(i);
+        }
+        for (int i = 0; i < abstractTokens.size(); i++) {
+            positions.computeIfAbsent(abstractTokens.get(i), token -> new ArrayList<>()).add(ABSTRACT_OFFSET + i);
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(article.getId());
+            for (Map.Entry<String, List<Integer>> entry : positions.entrySet()) {
+                int[] termPositions = entry.getValue().stream().mapToInt(Integer::intValue).toArray();
+                postings.computeIfAbsent(entry.getKey(), term -> new HashMap<>()).put(article.getId(), termPositions);
+            }
+            int length = titleTokens.size() + abstractTokens.size();
+            documents.put(article.getId(), new Document(article, positions.keySet().toArray(new String[0]), length));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes an article.
+     *
+     * @return true if it was indexed
+     */
+    public boolean remove(Long articleId) {
+        lock.writeLock().lock();
+        try {
+            return removeLocked(articleId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean removeLocked(Long articleId) {
+        // Terms are remembered per article, since the Article itself may have been edited since
+        Document previous = documents.remove(articleId);
+        if (previous == null) {
+            return false;
+        }
+        totalLength -= previous.length;
+
+        for (String term : previous.terms) {
+            Map<Long, int[]> termPostings = postings.get(term);
+            if (termPostings != null) {
+                termPostings.remove(articleId);
+                if (termPostings.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds the best matching articles. Every term, prefix and phrase of the query must match.
+     *
+     * @param query Parsed query
+     * @param limit Maximum number of results
+     * @return Matches in descending relevance
+     */
+    public List<Article> search(TextQuery query, int limit) {
+        if (query.isEmpty() || limit < 1) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+            for (String term : query.getTerms()) {
+                scores = intersect(scores, scoreTerm(term));
+            }
+            for (String prefix : query.getPrefixes()) {
+                scores = intersect(scores, scorePrefix(prefix));
+            }
+            for (List<String> phrase : query.getPhrases()) {
+                scores = intersect(scores, scorePhrase(phrase));
+            }
+            return topK(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Number of indexed articles
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Number of distinct indexed words
+     */
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Map<Long, Double> scoreTerm(String term) {
+        Map<Long, Double> scores = new HashMap<>();
+        Map<Long, int[]> termPostings = postings.get(term);
+        if (termPostings != null) {
+            double idf = idf(termPostings.size());
+            for (Map.Entry<Long, int[]> entry : termPostings.entrySet()) {
+                scores.put(entry.getKey(), bm25(idf, weightedFrequency(entry.getValue()), entry.getKey()));
+            }
+        }
+        return scores;
+    }
+
+    private Map<Long, Double> scorePrefix(String prefix) {
+        Map<Long, Double> scores = new HashMap<>();
+        SortedMap<String, Map<Long, int[]>> expansions = postings.subMap(prefix, prefix + Character.MAX_VALUE);
+        for (Map<Long, int[]> termPostings : expansions.values()) {
+            double idf = idf(termPostings.size());
+            for (Map.Entry<Long, int[]> entry : termPostings.entrySet()) {
+                scores.merge(entry.getKey(), bm25(idf, weightedFrequency(entry.getValue()), entry.getKey()), Double::sum);
+            }
+        }
+        return scores;
+    }
+
+    private Map<Long, Double> scorePhrase(List<String> phrase) {
+        List<Map<Long, int[]>> lists = new ArrayList<>();
+        for (String term : phrase) {
+            Map<Long, int[]> termPostings = postings.get(term);
+            if (termPostings == null) {
+                return new HashMap<>();
+            }
+            lists.add(termPostings);
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        Map<Long, int[]> rarest = Collections.min(lists, Comparator.comparingInt(Map::size));
+        double idf = lists.stream().mapToDouble(list -> idf(list.size())).sum();
+
+        for (Long articleId : rarest.keySet()) {
+            double frequency = 0;
+            for (int start : lists.get(0).getOrDefault(articleId, new int[0])) {
+                if (phraseAt(lists, articleId, start)) {
+                    frequency += start < ABSTRACT_OFFSET ? TITLE_BOOST : 1.0;
+                }
+            }
+            if (frequency > 0) {
+                scores.put(articleId, bm25(idf, frequency, articleId));
+            }
+        }
+        return scores;
+    }
+
+    private static boolean phraseAt(List<Map<Long, int[]>> lists, Long articleId, int start) {
+        for (int offset = 1; offset < lists.size(); offset++) {
+            int[] positions = lists.get(offset).get(articleId);
+            if (positions == null || Arrays.binarySearch(positions, start + offset) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Keeps the articles present in both maps, summing their scores. A null map means "no clause yet".
+     */
+    private static Map<Long, Double> intersect(Map<Long, Double> current, Map<Long, Double> clause) {
+        if (current == null) {
+            return clause;
+        }
+        Map<Long, Double> smaller = current.size() <= clause.size() ? current : clause;
+        Map<Long, Double> larger = smaller == current ? clause : current;
+
+        Map<Long, Double> result = new HashMap<>();
+        for (Map.Entry<Long, Double> entry : smaller.entrySet()) {
+            Double other = larger.get(entry.getKey());
+            if (other != null) {
+                result.put(entry.getKey(), entry.getValue() + other);
+            }
+        }
+        return result;
+    }
+
+    private List<Article> topK(Map<Long, Double> scores, int limit) {
+        // Min-heap of the best k so far; ties go to the more cited article
+        Comparator<Map.Entry<Long, Double>> order = Map.Entry.<Long, Double>comparingByValue()
+            .thenComparingInt(entry -> documents.get(entry.getKey()).article.getCitationCount());
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(limit + 1, order);
+
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            heap.offer(entry);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<Article> results = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            results.add(documents.get(heap.poll().getKey()).article);
+        }
+        Collections.reverse(results);
+        return results;
+    }
+
+    private double idf(int documentFrequency) {
+        int documentCount = documents.size();
+        return Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private double bm25(double idf, double frequency, Long articleId) {
+        double averageLength = documents.isEmpty() ? 1 : (double) totalLength / documents.size();
+        double lengthNorm = 1 - B + B * documents.get(articleId).length / Math.max(averageLength, 1);
+        return idf * frequency * (K1 + 1) / (frequency + K1 * lengthNorm);
+    }
+
+    private static double weightedFrequency(int[] positions) {
+        double frequency = 0;
+        for (int position : positions) {
+            frequency += position < ABSTRACT_OFFSET ? TITLE_BOOST : 1.0;
+        }
+        return frequency;
+    }
+
+    /**
+     * An indexed article with the words it was indexed under.
+     */
+    private static final class Document {
+        private final Article article;
+        private final String[] terms;
+        private final int length;
+
+        Document(Article article, String[] terms, int length) {
+            this.article = article;
+            this.terms = terms;
+            this.length = length;
+        }
+    }
+}
@@ -1,19 +1,29 @@
 package com.innovationcenter.scholarapi.service;
 
 import com.innovationcenter.scholarapi.model.Article;
+import com.innovationcenter.scholarapi.model.AuthorMetrics;
 import com.innovationcenter.scholarapi.model.ScholarSearchResponse;
 import com.innovationcenter.scholarapi.model.SimpleAuthor;
 import com.innovationcenter.scholarapi.util.PublicationInfoParser;
 import com.innovationcenter.scholarapi.util.AuthorParser;
+import com.innovationcenter.scholarapi.util.NamePool;
+import com.innovationcenter.scholarapi.util.TextQuery;
 import com.innovationcenter.scholarapi.repository.ArticleRepository;
 import com.innovationcenter.scholarapi.repository.SimpleAuthorRepository;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 import java.sql.SQLException;
-import java.util.Optional;
 
 /**
  * Service layer for Article operations.
@@ -22,8 +32,17 @@ import java.util.Optional;
 public class ArticleService {
     private static final Logger logger = Logger.getLogger(ArticleService.class.getName());
     
+    public static final int DEFAULT_SEARCH_LIMIT = 100;
+    public static final int DEFAULT_AUTHOR_SEARCH_LIMIT = 50;
+    
     private final ArticleRepository articleRepository;
     private final SimpleAuthorRepository authorRepository;
+    private volatile ArticleSearchIndex searchIndex;
+    private volatile AuthorNameIndex authorIndex;
+    private volatile AuthorMetricsService metricsService;
+    private volatile CoAuthorGraph coAuthorGraph;
+    private volatile AuthorLeaderboardService leaderboards;
+    private volatile NamePool authorNamePool;
     
     public ArticleService(ArticleRepository articleRepository) {
         this.articleRepository = articleRepository;
@@ -36,7 +55,7 @@ public class ArticleService {
     }
     
     /**
-     * Converts API search response to Article entities and saves them.
+     * Converts API search response to Article entities and saves them as one batch.
      */
     public List<Article> processSearchResponse(ScholarSearchResponse response, int maxArticles) {
         List<Article> processedArticles = new ArrayList<>();
@@ -51,15 +70,13 @@ public class ArticleService {
         
         logger.info("Processing " + articlesToProcess + " articles from search response");
         
+        List<Article> pageArticles = new ArrayList<>();
         for (int i = 0; i < articlesToProcess; i++) {
             try {
-                ScholarSearchResponse.OrganicResult result = results[i];
-                Article article = convertOrganicResultToArticle(result);
+                Article article = convertOrganicResultToArticle(results[i]);
                 
                 if (article.isValidForDatabase()) {
-                    Article savedArticle = saveArticle(article);
-                    processedArticles.add(savedArticle);
-                    logger.fine("Successfully processed article: " + article.getPaperTitle());
+                    pageArticles.add(article);
                 } else {
                     logger.warning("Article failed validation: " + article.getPaperTitle());
                 }
@@ -69,14 +86,86 @@ public class ArticleService {
             }
         }
         
+        try {
+            processedArticles.addAll(saveArticles(pageArticles));
+        } catch (SQLException e) {
+            logger.log(Level.WARNING, "Failed to save page of " + pageArticles.size() + " articles", e);
+        }
+        
         logger.info("Successfully processed " + processedArticles.size() + " articles");
         return processedArticles;
     }
     
+    /**
+     * Saves a page of articles with one batch upsert.
+     * Articles already stored are refreshed rather than duplicated, and only new ones get author links.
+     */
+    public List<Article> saveArticles(List<Article> articles) throws SQLException {
+        List<Article> savedArticles = new ArrayList<>();
+        if (articles.isEmpty()) {
+            return savedArticles;
+        }
+        
+        Map<String, Article> uniqueByScholarId = new LinkedHashMap<>();
+        List<Article> pageArticles = new ArrayList<>();
+        
+        for (Article article : articles) {
+            String scholarId = article.getGoogleScholarId();
+            if (scholarId == null) {
+                pageArticles.add(article);
+                savedArticles.add(article);
+            } else {
+                // Same result repeated within the page collapses onto its first occurrence
+                Article first = uniqueByScholarId.putIfAbsent(scholarId, article);
+                if (first == null) {
+                    pageArticles.add(article);
+                }
+                savedArticles.add(first != null ? first : article);
+            }
+        }
+        
+        // The repository tells new from stored rows under the same lock that writes them
+        Set<String> insertedScholarIds = articleRepository.saveAll(pageArticles);
+        int refreshed = uniqueByScholarId.size() - insertedScholarIds.size();
+        indexArticles(pageArticles);
+        if (refreshed > 0) {
+            logger.info(refreshed + " articles already existed and were refreshed");
+            // Refreshed citation counts were carried over to the stored author statistics
+            notifyStatisticsChanged();
+        }
+        
+        // Extract and save authors if author repository is available
+        if (authorRepository != null) {
+            for (Article savedArticle : pageArticles) {
+                if (savedArticle.getGoogleScholarId() != null && !insertedScholarIds.contains(savedArticle.getGoogleScholarId())) {
+                    continue;
+                }
+                try {
+                    saveAuthorsForArticle(savedArticle);
+                } catch (Exception e) {
+                    logger.log(Level.WARNING, "Failed to save authors for article: " + savedArticle.getId(), e);
+                    // Don't fail the whole page if author extraction fails
+                }
+            }
+        }
+        
+        // New links and refreshed citation counts both move the metrics of the page's authors
+        List<Long> savedIds = new ArrayList<>();
+        for (Article article : pageArticles) {
+            if (article.getId() != null) {
+                savedIds.add(article.getId());
+            }
+        }
+        refreshAuthorRankings(savedIds);
+        
+        return savedArticles;
+    }
+    
     /**
      * Converts OrganicResult from API to Article entity using Technical Report mapping.
+     * Package-private for the conversion benchmark.
      */
-    private Article convertOrganicResultToArticle(ScholarSearchResponse.OrganicResult result) {
+    Article convertOrganicResultToArticle(ScholarSearchResponse.OrganicResult result) {
         // Extract basic fields from API response
         String paperTitle = result.getTitle() != null ? result.getTitle() : "Unknown Title";
         String articleUrl = result.getLink();
@@ -126,17 +215,21 @@ public class ArticleService {
             throw new IllegalArgumentException("Article data is not valid for database storage");
         }
         
-        // Check for existing article by Google Scholar ID
+        // Articles with a Google Scholar ID are deduplicated by the unique key in one statement
+        Article savedArticle;
         if (article.getGoogleScholarId() != null) {
-            List<Article> existingArticles = findByGoogleScholarId(article.getGoogleScholarId());
-            if (!existingArticles.isEmpty()) {
+            boolean inserted = articleRepository.upsert(article);
+            if (!inserted) {
                 logger.info("Article already exists with Scholar ID: " + article.getGoogleScholarId());
-                return existingArticles.get(0);
+                notifyStatisticsChanged();
+                refreshAuthorRankings(List.of(article.getId()));
+                return article;
             }
+            savedArticle = article;
+        } else {
+            savedArticle = articleRepository.save(article);
         }
-        
-        // Save new article
-        Article savedArticle = articleRepository.save(article);
+        indexArticles(List.of(savedArticle));
         
         // Extract and save authors if author repository is available
         if (authorRepository != null && savedArticle.getId() != null) {
@@ -147,10 +240,20 @@ public class ArticleService {
                 // Don't fail the whole operation if author extraction fails
             }
         }
+        if (savedArticle.getId() != null) {
+            refreshAuthorRankings(List.of(savedArticle.getId()));
+        }
         
         return savedArticle;
     }
     
+    /**
+     * Finds a stored article by ID; soft-deleted articles are not returned.
+     */
+    public Optional<Article> findById(Long id) throws SQLException {
+        return articleRepository.findById(id).filter(article -> article.getDeletedAt() == null);
+    }
+    
     /**
      * Finds articles by Google Scholar ID.
      */
@@ -159,17 +262,9 @@ public class ArticleService {
             return new ArrayList<>();
         }
         
-        // This assumes the repository has this method - if not, we'll implement it
         try {
-            List<Article> allArticles = articleRepository.findAll();
             List<Article> matchingArticles = new ArrayList<>();
-            
-            for (Article article : allArticles) {
-                if (googleScholarId.equals(article.getGoogleScholarId())) {
-                    matchingArticles.add(article);
-                }
-            }
-            
+            articleRepository.findByGoogleScholarId(googleScholarId).ifPresent(matchingArticles::add);
             return matchingArticles;
         } catch (SQLException e) {
             logger.log(Level.SEVERE, "Error searching for articles by Scholar ID", e);
@@ -178,52 +273,221 @@ public class ArticleService {
     }
     
     /**
-     * Finds articles by author name.
+     * Finds articles by author surname, optionally with initials, through the author links.
+     * Articles stored without linked authors are not found; see ArticleRepository.findByAuthor.
      */
     public List<Article> findByAuthor(String authorName) throws SQLException {
         return articleRepository.findByAuthor(authorName);
     }
     
     /**
-     * Searches articles by title keyword.
+     * Searches article titles and abstracts, most relevant first.
+     * Supports several words, prefix* words and "quoted phrases".
      */
     public List<Article> searchByTitle(String keyword) throws SQLException {
-        try {
-            List<Article> allArticles = articleRepository.findAll();
-            List<Article> matchingArticles = new ArrayList<>();
-            
-            String lowerKeyword = keyword.toLowerCase();
-            
-            for (Article article : allArticles) {
-                if (article.getPaperTitle() != null && 
-                    article.getPaperTitle().toLowerCase().contains(lowerKeyword)) {
-                    matchingArticles.add(article);
-                }
+        return searchArticles(keyword, DEFAULT_SEARCH_LIMIT);
+    }
+    
+    /**
+     * Returns the top matches for a text query.
+     * Uses the in-process index when enabled, otherwise the MySQL FULLTEXT index, and scans
+     * the table only for words too short for FULLTEXT or when that index is missing.
+     */
+    public List<Article> searchArticles(String query, int limit) throws SQLException {
+        TextQuery parsed = TextQuery.parse(query);
+        if (parsed.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        ArticleSearchIndex index = searchIndex;
+        if (index != null) {
+            List<Article> matches = index.search(parsed, limit);
+            logger.info("Found " + matches.size() + " indexed articles matching: " + parsed);
+            return matches;
+        }
+        
+        String booleanQuery = parsed.toBooleanMode();
+        if (!booleanQuery.isEmpty() && !parsed.hasShortWords()) {
+            try {
+                List<Article> matches = articleRepository.searchFullText(booleanQuery, limit);
+                logger.info("Found " + matches.size() + " articles matching: " + parsed);
+                return matches;
+            } catch (SQLException e) {
+                logger.log(Level.WARNING, "Full-text search failed, falling back to a table scan", e);
             }
-            
-            logger.info("Found " + matchingArticles.size() + " articles matching title keyword: " + keyword);
-            return matchingArticles;
-            
-        } catch (SQLException e) {
-            logger.log(Level.SEVERE, "Error searching articles by title", e);
-            throw e;
+        }
+        
+        return scanArticles(parsed, limit);
+    }
+    
+    /**
+     * Builds the in-process search index from every stored article and keeps it
+     * up to date with later saves, updates and deletes made through this service.
+     *
+     * @return Number of articles indexed
+     */
+    public int enableSearchIndex() throws SQLException {
+        ArticleSearchIndex index = new ArticleSearchIndex();
+        articleRepository.forEachArticle(index::add);
+        searchIndex = index;
+        logger.info("Search index built: " + index.size() + " articles, " + index.termCount() + " terms");
+        return index.size();
+    }
+    
+    /**
+     * Builds the in-process indexes the configuration asks for: the article search index
+     * when ARTICLE_SEARCH_INDEX is true, the author name index unless AUTHOR_NAME_INDEX
+     * is false, the co-author graph unless COAUTHOR_GRAPH is false, and author leaderboards
+     * of LEADERBOARD_SIZE rows unless it is 0. Parsed author names are pooled up to
+     * AUTHOR_NAME_POOL_SIZE names unless it is 0. A failed build is logged and searches keep
+     * using the database.
+     */
+    public void enableIndexes(ConfigurationService configService) {
+        if (Boolean.parseBoolean(configService.getProperty("ARTICLE_SEARCH_INDEX"))) {
+            try {
+                enableSearchIndex();
+            } catch (SQLException e) {
+                logger.log(Level.WARNING, "Could not build the search index, using database search", e);
+            }
+        }
+        if (authorRepository != null && !"false".equalsIgnoreCase(configService.getProperty("AUTHOR_NAME_INDEX"))) {
+            try {
+                enableAuthorIndex();
+            } catch (SQLException e) {
+                logger.log(Level.WARNING, "Could not build the author name index, using database search", e);
+            }
+        }
+        if (authorRepository != null && !"false".equalsIgnoreCase(configService.getProperty("COAUTHOR_GRAPH"))) {
+            try {
+                enableCoAuthorGraph();
+            } catch (SQLException e) {
+                logger.log(Level.WARNING, "Could not build the co-author graph, collaborator lookups are disabled", e);
+            }
+        }
+        int leaderboardSize = configService.getIntProperty("LEADERBOARD_SIZE", AuthorLeaderboardService.DEFAULT_SIZE);
+        if (authorRepository != null && leaderboardSize > 0) {
+            enableLeaderboards(leaderboardSize);
+        }
+        int namePoolSize = configService.getIntProperty("AUTHOR_NAME_POOL_SIZE", NamePool.DEFAULT_SIZE);
+        if (authorRepository != null && namePoolSize > 0) {
+            enableAuthorNamePool(namePoolSize);
         }
     }
     
     /**
-     * Finds articles by publication year.
+     * Shares one string per distinct author name among the authors parsed from saved
+     * articles, so names repeated across articles are not allocated again for every one.
      */
-    public List<Article> findByYear(int year) throws SQLException {
-        List<Article> allArticles = articleRepository.findAll();
-        List<Article> yearArticles = new ArrayList<>();
+    public void enableAuthorNamePool(int maxNames) {
+        authorNamePool = new NamePool(maxNames);
+        logger.info("Author name pool enabled for up to " + maxNames + " names");
+    }
+    
+    /**
+     * Serves top authors by citations, article count and h-index up to the given size from
+     * live in-memory rankings, seeded on first use and kept current by this service's writes.
+     */
+    public void enableLeaderboards(int size) {
+        if (authorRepository == null) {
+            throw new IllegalStateException("Author repository not initialized");
+        }
+        leaderboards = new AuthorLeaderboardService(authorRepository, limit -> {
+            AuthorMetricsService service = metricsService;
+            return service != null ? service.findTopByHIndex(limit) : new ArrayList<>();
+        }, size);
+        logger.info("Author leaderboards enabled for the top " + size);
+    }
+    
+    /**
+     * Builds the co-authorship graph from every stored author link and keeps it up to date
+     * with articles linked or deleted through this service.
+     *
+     * @return Number of authors in the graph
+     */
+    public int enableCoAuthorGraph() throws SQLException {
+        if (authorRepository == null) {
+            throw new IllegalStateException("Author repository not initialized");
+        }
+        CoAuthorGraph.Builder builder = CoAuthorGraph.builder();
+        long articles = authorRepository.forEachArticleAuthors((articleId, authorIds, count) ->
+            builder.addArticle(authorIds, count));
+        CoAuthorGraph graph = builder.build();
+        coAuthorGraph = graph;
+        logger.info("Co-author graph built from " + articles + " articles: " + graph.vertexCount() +
+                    " authors, " + graph.edgeCount() + " collaborations");
+        return graph.vertexCount();
+    }
+    
+    /**
+     * Builds the fuzzy author name index from every stored author and keeps it up to date
+     * with authors linked or deleted through this service.
+     *
+     * @return Number of authors indexed
+     */
+    public int enableAuthorIndex() throws SQLException {
+        if (authorRepository == null) {
+            throw new IllegalStateException("Author repository not initialized");
+        }
+        AuthorNameIndex index = new AuthorNameIndex();
+        authorRepository.forEachAuthor(author -> index.add(author.getId(), author.getFullName()));
+        authorIndex = index;
+        logger.info("Author name index built: " + index.size() + " authors");
+        return index.size();
+    }
+    
+    private List<Article> scanArticles(TextQuery query, int limit) throws SQLException {
+        List<Article> matches = new ArrayList<>();
         
-        for (Article article : allArticles) {
-            if (article.getPublicationYear() != null && article.getPublicationYear() == year) {
-                yearArticles.add(article);
+        // Streamed so only the matches are kept in memory
+        articleRepository.forEachArticle(article -> {
+            String abstractText = article.getAbstractText() != null ? article.getAbstractText() : "";
+            if (query.matches(article.getPaperTitle() + " " + abstractText)) {
+                matches.add(article);
             }
-        }
+        });
         
-        return yearArticles;
+        matches.sort((a, b) -> Integer.compare(b.getCitationCount(), a.getCitationCount()));
+        logger.info("Found " + matches.size() + " articles matching by scan: " + query);
+        return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+    }
+    
+    private void indexArticles(List<Article> articles) {
+        ArticleSearchIndex index = searchIndex;
+        if (index != null) {
+            for (Article article : articles) {
+                index.add(article);
+            }
+        }
+    }
+    
+    /**
+     * Finds articles by publication year, most cited first.
+     */
+    public List<Article> findByYear(int year) throws SQLException {
+        return articleRepository.findByYear(year);
+    }
+    
+    /**
+     * Finds the next page of articles with more than the given citation count, most cited first.
+     * Pass the last article of the previous page as the cursor, or null for the first page.
+     */
+    public List<Article> findPageByCitations(int minCitations, Article after, int limit) throws SQLException {
+        return articleRepository.findPageByCitations(minCitations, after, limit);
+    }
+    
+    /**
+     * Finds the next page of articles published in or after the given year, newest first.
+     * Pass the last article of the previous page as the cursor, or null for the first page.
+     */
+    public List<Article> findPageByYear(int minYear, Article after, int limit) throws SQLException {
+        return articleRepository.findPageByYear(minYear, after, limit);
+    }
+    
+    /**
+     * Streams every stored article to the given action.
+     */
+    public long forEachArticle(Consumer<Article> action) throws SQLException {
+        return articleRepository.forEachArticle(action);
     }
     
     /**
@@ -249,7 +513,11 @@ public class ArticleService {
         }
         
         article.updateTimestamp();
-        return articleRepository.update(article);
+        Article updated = articleRepository.update(article);
+        indexArticles(List.of(updated));
+        notifyStatisticsChanged();
+        refreshAuthorRankings(List.of(updated.getId()));
+        return updated;
     }
     
     /**
@@ -260,7 +528,144 @@ public class ArticleService {
             throw new IllegalArgumentException("Article ID cannot be null");
         }
         
-        return articleRepository.deleteById(id);
+        // Soft delete keeps the links, but read them first so the graph sees the same authors
+        CoAuthorGraph graph = coAuthorGraph;
+        List<SimpleAuthor> articleAuthors = graph != null ? authorRepository.findByArticleId(id) : List.of();
+        
+        boolean deleted = articleRepository.deleteById(id);
+        if (deleted && graph != null) {
+            graph.removeArticle(authorIds(articleAuthors));
+        }
+        ArticleSearchIndex index = searchIndex;
+        if (deleted && index != null) {
+            index.remove(id);
+        }
+        if (deleted) {
+            notifyStatisticsChanged();
+            refreshAuthorRankings(List.of(id));
+        }
+        return deleted;
+    }
+    
+    /**
+     * Recomputes every author's article count and total citations from the stored articles.
+     * 
+     * @return Number of authors recomputed
+     */
+    public int rebuildAuthorStatistics() throws SQLException {
+        if (authorRepository == null) {
+            throw new IllegalStateException("Author repository not initialized");
+        }
+        
+        long started = System.nanoTime();
+        int recomputed = authorRepository.rebuildStatistics();
+        AuthorLeaderboardService boards = leaderboards;
+        if (boards != null) {
+            boards.statisticsRebuilt();
+        }
+        logger.info("Rebuilt statistics for " + recomputed + " authors in " +
+                    (System.nanoTime() - started) / 1_000_000 + " ms");
+        return recomputed;
+    }
+    
+    /**
+     * Keeps author metrics up to date with later saves, updates and deletes made through
+     * this service, computing them once first if none are stored yet.
+     */
+    public void enableMetrics(AuthorMetricsService metricsService) {
+        try {
+            metricsService.ensureComputed();
+        } catch (SQLException e) {
+            logger.log(Level.WARNING, "Could not compute author metrics, they refresh as articles arrive", e);
+        }
+        this.metricsService = metricsService;
+        AuthorLeaderboardService boards = leaderboards;
+        if (boards != null) {
+            boards.metricsRecomputed();
+        }
+    }
+    
+    /**
+     * Recomputes h-index, i10-index, citations per year and percentiles of every author.
+     * 
+     * @return Number of authors with metrics
+     */
+    public int recomputeAuthorMetrics() throws SQLException {
+        AuthorMetricsService service = metricsService;
+        if (service == null) {
+            throw new IllegalStateException("Author metrics not enabled");
+        }
+        int computed = service.recomputeAll();
+        AuthorLeaderboardService boards = leaderboards;
+        if (boards != null) {
+            boards.metricsRecomputed();
+        }
+        return computed;
+    }
+    
+    /**
+     * Get the precomputed metrics of an author.
+     */
+    public Optional<AuthorMetrics> getAuthorMetrics(Long authorId) throws SQLException {
+        AuthorMetricsService service = metricsService;
+        return service != null ? service.findByAuthorId(authorId) : Optional.empty();
+    }
+    
+    /**
+     * Get top authors by precomputed h-index.
+     */
+    public List<AuthorMetrics> getTopAuthorsByHIndex(int limit) throws SQLException {
+        AuthorLeaderboardService boards = leaderboards;
+        if (boards != null) {
+            return boards.topByHIndex(limit);
+        }
+        AuthorMetricsService service = metricsService;
+        return service != null ? service.findTopByHIndex(limit) : new ArrayList<>();
+    }
+    
+    /**
+     * Get the number of stored authors.
+     */
+    public long getTotalAuthorCount() throws SQLException {
+        return authorRepository != null ? authorRepository.count() : 0;
+    }
+    
+    private static List<Long> authorIds(List<SimpleAuthor> authors) {
+        List<Long> ids = new ArrayList<>(authors.size());
+        for (SimpleAuthor author : authors) {
+            ids.add(author.getId());
+        }
+        return ids;
+    }
+    
+    /**
+     * Brings the metrics and leaderboard places of the given articles' authors up to date.
+     */
+    private void refreshAuthorRankings(List<Long> articleIds) {
+        AuthorMetricsService service = metricsService;
+        AuthorLeaderboardService boards = leaderboards;
+        if ((service == null && boards == null) || authorRepository == null || articleIds.isEmpty()) {
+            return;
+        }
+        try {
+            List<Long> authorIds = authorRepository.findIdsByArticleIds(articleIds);
+            List<AuthorMetrics> refreshed = service != null ? service.refreshAuthors(authorIds) : null;
+            if (boards != null) {
+                boards.authorsChanged(authorIds, refreshed);
+            }
+        } catch (SQLException e) {
+            // The article is stored; its authors catch up on the next refresh or full pass
+            logger.log(Level.WARNING, "Failed to refresh author rankings for " + articleIds.size() + " articles", e);
+        }
+    }
+    
+    /**
+     * Article writes adjust author statistics in the same transaction; drop in-memory copies.
+     */
+    private void notifyStatisticsChanged() {
+        if (authorRepository != null) {
+            authorRepository.statisticsChanged();
+        }
     }
     
     /**
@@ -275,7 +680,16 @@ public class ArticleService {
             throw new IllegalStateException("Author repository not initialized");
         }
         
-        return authorRepository.deleteById(id);
+        boolean deleted = authorRepository.deleteById(id);
+        AuthorNameIndex index = authorIndex;
+        if (deleted && index != null) {
+            index.remove(id);
+        }
+        AuthorLeaderboardService boards = leaderboards;
+        if (deleted && boards != null) {
+            boards.authorDeleted(id);
+        }
+        return deleted;
     }
     
     /**
@@ -314,7 +728,7 @@ public class ArticleService {
         }
         
         // Parse authors from the author string
-        List<SimpleAuthor> authors = AuthorParser.parseAuthors(article.getAuthors());
+        List<SimpleAuthor> authors = AuthorParser.parseAuthors(article.getAuthors(), authorNamePool);
         
         if (authors.isEmpty()) {
             logger.fine("No valid authors parsed for article: " + article.getId());
@@ -323,41 +737,26 @@ public class ArticleService {
         
         logger.info("Extracting " + authors.size() + " authors for article: " + article.getPaperTitle());
         
-        int position = 0;
-        for (SimpleAuthor author : authors) {
-            try {
-                // Save author (or get existing one)
-                SimpleAuthor savedAuthor = authorRepository.save(author);
-                
-                // Link author to article with position
-                authorRepository.linkToArticle(article.getId(), savedAuthor.getId(), position);
-                
-                // Update author statistics
-                // Get current stats
-                Optional<SimpleAuthor> currentAuthor = authorRepository.findById(savedAuthor.getId());
-                if (currentAuthor.isPresent()) {
-                    SimpleAuthor current = currentAuthor.get();
-                    int newArticleCount = current.getArticleCount() + 1;
-                    int newTotalCitations = current.getTotalCitations() + article.getCitationCount();
-                    
-                    authorRepository.updateStatistics(
-                        savedAuthor.getId(),
-                        newArticleCount,
-                        newTotalCitations
-                    );
-                    
-                    logger.fine("Updated statistics for author: " + savedAuthor.getFullName());
-                }
-                
-                position++;
-                
-            } catch (SQLException e) {
-                logger.log(Level.WARNING, "Failed to save author: " + author.getFullName(), e);
-                // Continue with next author
+        // Resolve, link and count all authors with a fixed number of statements
+        SimpleAuthorRepository.LinkedAuthors linked = authorRepository.saveAllAndLinkToArticle(
+            article.getId(), authors, article.getCitationCount());
+        List<SimpleAuthor> linkedAuthors = linked.getAuthors();
+        
+        AuthorNameIndex index = authorIndex;
+        if (index != null) {
+            for (SimpleAuthor author : linkedAuthors) {
+                index.add(author.getId(), author.getFullName());
             }
         }
+        CoAuthorGraph graph = coAuthorGraph;
+        if (graph != null && !linked.getNewlyLinked().isEmpty()) {
+            // Existing links are already in the graph; re-adding them would count the article twice
+            Set<Long> articleAuthorIds = new LinkedHashSet<>(linked.getPreviouslyLinkedIds());
+            articleAuthorIds.addAll(authorIds(linked.getNewlyLinked()));
+            graph.replaceArticle(linked.getPreviouslyLinkedIds(), articleAuthorIds);
+        }
         
-        logger.info("Successfully saved " + position + " authors for article: " + article.getId());
+        logger.info("Successfully saved " + linkedAuthors.size() + " authors for article: " + article.getId());
     }
     
     /**
@@ -371,13 +770,29 @@ public class ArticleService {
     }
     
     /**
-     * Search authors by name pattern.
+     * Search authors by name, tolerating typos, accents and partial names when the
+     * author name index is enabled. Results are ordered best match first.
      */
     public List<SimpleAuthor> searchAuthors(String namePattern) throws SQLException {
         if (authorRepository == null) {
             return new ArrayList<>();
         }
-        return authorRepository.findByNamePattern(namePattern);
+        
+        AuthorNameIndex index = authorIndex;
+        if (index == null) {
+            return authorRepository.findByNamePattern(namePattern);
+        }
+        
+        // Rank in memory, then fetch current statistics for the winners by primary key
+        List<AuthorNameIndex.Match> matches = index.search(namePattern, DEFAULT_AUTHOR_SEARCH_LIMIT);
+        Map<Long, Integer> rank = new HashMap<>();
+        for (AuthorNameIndex.Match match : matches) {
+            rank.put(match.getAuthorId(), rank.size());
+        }
+        
+        List<SimpleAuthor> authors = authorRepository.findByIds(rank.keySet());
+        authors.sort(Comparator.comparingInt(author -> rank.get(author.getId())));
+        return authors;
     }
     
     /**
@@ -387,7 +802,56 @@ public class ArticleService {
         if (authorRepository == null) {
             return new ArrayList<>();
         }
-        return authorRepository.findTopByCitations(limit);
+        AuthorLeaderboardService boards = leaderboards;
+        return boards != null ? boards.topByCitations(limit) : authorRepository.findTopByCitations(limit);
+    }
+    
+    /**
+     * Get an author's most frequent co-authors with the number of articles shared.
+     * Empty when the co-author graph is not enabled.
+     */
+    public List<CoAuthorGraph.Collaborator> getTopCollaborators(Long authorId, int limit) throws SQLException {
+        CoAuthorGraph graph = coAuthorGraph;
+        if (graph == null) {
+            return new ArrayList<>();
+        }
+        
+        List<CoAuthorGraph.Collaborator> ranked = graph.topCollaborators(authorId, limit);
+        List<Long> ids = new ArrayList<>();
+        for (CoAuthorGraph.Collaborator collaborator : ranked) {
+            ids.add(collaborator.getAuthorId());
+        }
+        Map<Long, SimpleAuthor> authorsById = new HashMap<>();
+        for (SimpleAuthor author : authorRepository.findByIds(ids)) {
+            authorsById.put(author.getId(), author);
+        }
+        
+        // Deleted authors stay in the graph until the next build but are not shown
+        List<CoAuthorGraph.Collaborator> collaborators = new ArrayList<>();
+        for (CoAuthorGraph.Collaborator collaborator : ranked) {
+            SimpleAuthor author = authorsById.get(collaborator.getAuthorId());
+            if (author != null) {
+                collaborators.add(new CoAuthorGraph.Collaborator(
+                    collaborator.getAuthorId(), collaborator.getSharedArticles(), author));
+            }
+        }
+        return collaborators;
+    }
+    
+    /**
+     * Get the number of articles two authors wrote together.
+     */
+    public int getCollaborationCount(Long authorId, Long otherAuthorId) {
+        CoAuthorGraph graph = coAuthorGraph;
+        return graph != null ? graph.collaborationCount(authorId, otherAuthorId) : 0;
+    }
+    
+    /**
+     * Get the IDs of all authors connected to the given one through chains of co-authorship.
+     */
+    public List<Long> getCollaborationNetwork(Long authorId) {
+        CoAuthorGraph graph = coAuthorGraph;
+        return graph != null ? graph.componentMembers(authorId) : new ArrayList<>();
     }
     
     /**
@@ -397,6 +861,7 @@ public class ArticleService {
         if (authorRepository == null) {
             return new ArrayList<>();
         }
-        return authorRepository.findTopByArticleCount(limit);
+        AuthorLeaderboardService boards = leaderboards;
+        return boards != null ? boards.topByArticleCount(limit) : authorRepository.findTopByArticleCount(limit);
     }
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.innovationcenter.scholarapi.service;
+
+import com.innovationcenter.scholarapi.model.ScholarSearchResponse;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking variant of ScholarSearchService.
+ * Methods return immediately; the future completes with the parsed response, or
+ * exceptionally with an IOException if the API request fails.
+ */
+public interface AsyncScholarSearchService {
+
+    /**
+     * Search for scholarly articles using the provided query.
+     *
+     * @param query The search query string
+     * @param maxResults Maximum number of results to retrieve
+     * @return Future of the complete search response
+     */
+    CompletableFuture<ScholarSearchResponse> searchArticlesAsync(String query, int maxResults);
+
+    /**
+     * Search for articles by a specific author.
+     *
+     * @param authorName The author name to search for
+     * @param maxResults Maximum number of results to retrieve
+     * @return Future of the complete search response
+     */
+    CompletableFuture<ScholarSearchResponse> searchByAuthorAsync(String authorName, int maxResults);
+
+    /**
+     * Search for articles citing a specific paper.
+     *
+     * @param citesId The citation ID from Google Scholar
+     * @param maxResults Maximum number of results to retrieve
+     * @return Future of the search response with citing articles
+     */
+    CompletableFuture<ScholarSearchResponse> searchCitingArticlesAsync(String citesId, int maxResults);
+
+    /**
+     * Search with pagination support.
+     *
+     * @param query The search query string
+     * @param startIndex Starting index for results (0-based)
+     * @param pageSize Number of results per page
+     * @return Future of the search response with pagination info
+     */
+    CompletableFuture<ScholarSearchResponse> searchWithPaginationAsync(String query, int startIndex, int pageSize);
+
+    /**
+     * Check if the service is properly configured and ready to use.
+     *
+     * @return true if configured correctly, false otherwise
+     */
+    boolean isConfigured();
+
+    /**
+     * Get the service name for identification.
+     *
+     * @return Service implementation name
+     */
+    String getServiceName();
+}
@@ -0,0 +1,133 @@
+package com.innovationcenter.scholarapi.service;
+
+import com.innovationcenter.scholarapi.model.AuthorMetrics;
+import com.innovationcenter.scholarapi.model.SimpleAuthor;
+import com.innovationcenter.scholarapi.repository.SimpleAuthorRepository;
+import com.innovationcenter.scholarapi.util.Leaderboard;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Live author rankings by total citations, article count and h-index.
+ *
+ * Each ranking is seeded once with a top-N query and then kept current from the authors
+ * whose statistics change, so leaderboard reads up to the configured size are served from
+ * memory. The orders mirror the repositories' ORDER BY clauses, ties broken by author ID.
+ */
+public class AuthorLeaderboardService {
+
+    public static final int DEFAULT_SIZE = 1000;
+
+    static final Comparator<SimpleAuthor> BY_CITATIONS = Comparator
+        .comparingInt((SimpleAuthor author) -> author.getTotalCitations()).reversed()
+        .thenComparing(SimpleAuthor::getId);
+
+    static final Comparator<SimpleAuthor> BY_ARTICLE_COUNT = Comparator
+        .comparingInt((SimpleAuthor author) -> author.getArticleCount()).reversed()
+        .thenComparing(Comparator.comparingInt((SimpleAuthor author) -> author.getTotalCitations()).reversed())
+        .thenComparing(SimpleAuthor::getId);
+
+    static final Comparator<AuthorMetrics> BY_H_INDEX = Comparator
+        .comparingInt(AuthorMetrics::getHIndex).reversed()
+        .thenComparing(Comparator.comparingInt(AuthorMetrics::getTotalCitations).reversed())
+        .thenComparing(AuthorMetrics::getAuthorId);
+
+    private final SimpleAuthorRepository authorRepository;
+    private final Leaderboard.Source<AuthorMetrics, SQLException> metricsSource;
+
+    private final Leaderboard<SimpleAuthor> byCitations;
+    private final Leaderboard<SimpleAuthor> byArticleCount;
+    private final Leaderboard<AuthorMetrics> byHIndex;
+
+    /**
+     * @param metricsSource Top authors by h-index, e.g. AuthorMetricsService::findTopByHIndex
+     * @param size Largest top-N served from memory
+     */
+    public AuthorLeaderboardService(SimpleAuthorRepository authorRepository,
+                                    Leaderboard.Source<AuthorMetrics, SQLException> metricsSource, int size) {
+        this.authorRepository = authorRepository;
+        this.metricsSource = metricsSource;
+        this.byCitations = new Leaderboard<>(size, BY_CITATIONS, SimpleAuthor::getId, AuthorLeaderboardService::isRanked);
+        this.byArticleCount = new Leaderboard<>(size, BY_ARTICLE_COUNT, SimpleAuthor::getId, AuthorLeaderboardService::isRanked);
+        this.byHIndex = new Leaderboard<>(size, BY_H_INDEX, AuthorMetrics::getAuthorId, metrics -> true);
+    }
+
+    public List<SimpleAuthor> topByCitations(int limit) throws SQLException {
+        return byCitations.top(limit, authorRepository::findTopByCitations);
+    }
+
+    public List<SimpleAuthor> topByArticleCount(int limit) throws SQLException {
+        return byArticleCount.top(limit, authorRepository::findTopByArticleCount);
+    }
+
+    public List<AuthorMetrics> topByHIndex(int limit) throws SQLException {
+        return byHIndex.top(limit, metricsSource);
+    }
+
+    /**
+     * Re-reads the given authors and moves them to their new places.
+     *
+     * @param metrics Their refreshed metrics, or null if metrics are not maintained;
+     *                authors missing from the list no longer have any
+     */
+    public void authorsChanged(Collection<Long> authorIds, List<AuthorMetrics> metrics) throws SQLException {
+        if (authorIds.isEmpty()) {
+            return;
+        }
+
+        // Deleted authors are not returned and drop out of every ranking
+        Map<Long, SimpleAuthor> authorsById = new HashMap<>();
+        for (SimpleAuthor author : authorRepository.findByIds(authorIds)) {
+            authorsById.put(author.getId(), author);
+        }
+        Map<Long, AuthorMetrics> metricsById = new HashMap<>();
+        if (metrics != null) {
+            for (AuthorMetrics row : metrics) {
+                metricsById.put(row.getAuthorId(), row);
+            }
+        }
+
+        for (Long authorId : authorIds) {
+            SimpleAuthor author = authorsById.get(authorId);
+            byCitations.update(authorId, author);
+            byArticleCount.update(authorId, author);
+            if (metrics != null) {
+                AuthorMetrics row = metricsById.get(authorId);
+                if (row != null && author != null) {
+                    row.setFullName(author.getFullName());
+                }
+                byHIndex.update(authorId, author != null ? row : null);
+            }
+        }
+    }
+
+    public void authorDeleted(Long authorId) {
+        byCitations.update(authorId, null);
+        byArticleCount.update(authorId, null);
+        byHIndex.update(authorId, null);
+    }
+
+    /**
+     * Drops the citation and article count rankings after a statistics rebuild.
+     */
+    public void statisticsRebuilt() {
+        byCitations.invalidate();
+        byArticleCount.invalidate();
+    }
+
+    /**
+     * Drops the h-index ranking after a full metrics pass or a change of metrics source.
+     */
+    public void metricsRecomputed() {
+        byHIndex.invalidate();
+    }
+
+    private static boolean isRanked(SimpleAuthor author) {
+        return author.getArticleCount() != null && author.getArticleCount() > 0 && author.getTotalCitations() != null;
+    }
+}
@@ -0,0 +1,178 @@
+package com.innovationcenter.scholarapi.service;
+
+import com.innovationcenter.scholarapi.model.AuthorMetrics;
+import com.innovationcenter.scholarapi.repository.AuthorMetricsRepository;
+import com.innovationcenter.scholarapi.util.CitationMetrics;
+
+import java.sql.SQLException;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Computes h-index, i10-index, citations per year and percentile ranks for stored authors
+ * and keeps them in author_metrics, so dashboards only ever read precomputed rows.
+ *
+ * recomputeAll streams every author's articles once and replaces the table. refreshAuthors
+ * and refreshArticles recompute only the authors new or changed articles touch, ranking them
+ * against the distribution of the last full pass; the other authors' percentiles catch up on
+ * the next full pass.
+ */
+public class AuthorMetricsService {
+    private static final Logger logger = Logger.getLogger(AuthorMetricsService.class.getName());
+
+    private final AuthorMetricsRepository metricsRepository;
+    private volatile Distribution distribution;
+
+    public AuthorMetricsService(AuthorMetricsRepository metricsRepository) {
+        this.metricsRepository = metricsRepository;
+    }
+
+    /**
+     * Recomputes the metrics of every author from their active articles.
+     *
+     * @return Number of authors with metrics
+     */
+    public int recomputeAll() throws SQLException {
+        long started = System.nanoTime();
+        int currentYear = Year.now().getValue();
+        List<AuthorMetrics> metrics = new ArrayList<>();
+
+        metricsRepository.forEachAuthorCitations((authorId, citations, years, count) ->
+            metrics.add(CitationMetrics.compute(authorId, citations, years, count, currentYear)));
+
+        Distribution computed = Distribution.of(metrics);
+        for (AuthorMetrics row : metrics) {
+            computed.rank(row);
+        }
+        metricsRepository.replaceAll(metrics);
+        distribution = computed;
+
+        logger.info("Computed metrics for " + metrics.size() + " authors in " +
+                    (System.nanoTime() - started) / 1_000_000 + " ms");
+        return metrics.size();
+    }
+
+    /**
+     * Runs the full computation if no metrics are stored yet, e.g. on first start.
+     *
+     * @return true if metrics were computed
+     */
+    public boolean ensureComputed() throws SQLException {
+        if (metricsRepository.count() > 0) {
+            return false;
+        }
+        recomputeAll();
+        return true;
+    }
+
+    /**
+     * Recomputes the metrics of the given authors.
+     *
+     * @return The refreshed metrics; authors left out no longer have any
+     */
+    public List<AuthorMetrics> refreshAuthors(Collection<Long> authorIds) throws SQLException {
+        if (authorIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        int currentYear = Year.now().getValue();
+        List<AuthorMetrics> refreshed = new ArrayList<>();
+        metricsRepository.findAuthorCitations(authorIds, (authorId, citations, years, count) ->
+            refreshed.add(CitationMetrics.compute(authorId, citations, years, count, currentYear)));
+
+        Distribution current = distribution();
+        Set<Long> withArticles = new HashSet<>();
+        for (AuthorMetrics row : refreshed) {
+            current.rank(row);
+            withArticles.add(row.getAuthorId());
+        }
+        metricsRepository.saveAll(refreshed);
+
+        // Authors whose last active article was deleted drop out of the metrics
+        List<Long> withoutArticles = new ArrayList<>();
+        for (Long authorId : authorIds) {
+            if (!withArticles.contains(authorId)) {
+                withoutArticles.add(authorId);
+            }
+        }
+        metricsRepository.deleteByAuthorIds(withoutArticles);
+
+        logger.fine("Refreshed metrics for " + refreshed.size() + " authors");
+        return refreshed;
+    }
+
+    /**
+     * Recomputes the metrics of every author linked to the given articles.
+     *
+     * @return The refreshed metrics
+     */
+    public List<AuthorMetrics> refreshArticles(Collection<Long> articleIds) throws SQLException {
+        if (articleIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return refreshAuthors(metricsRepository.findAuthorIdsByArticleIds(articleIds));
+    }
+
+    public Optional<AuthorMetrics> findByAuthorId(Long authorId) throws SQLException {
+        return metricsRepository.findByAuthorId(authorId);
+    }
+
+    public List<AuthorMetrics> findTopByHIndex(int limit) throws SQLException {
+        return metricsRepository.findTopByHIndex(limit);
+    }
+
+    /**
+     * The distribution of the last full pass, loaded from the table after a restart.
+     */
+    private Distribution distribution() throws SQLException {
+        Distribution current = distribution;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (distribution == null) {
+                List<AuthorMetrics> stored = new ArrayList<>();
+                metricsRepository.forEachMetrics(stored::add);
+                distribution = Distribution.of(stored);
+            }
+            return distribution;
+        }
+    }
+
+    /**
+     * Sorted total citations and h-indexes of all authors, for percentile lookups.
+     */
+    private static final class Distribution {
+        private final int[] citations;
+        private final int[] hIndexes;
+
+        private Distribution(int[] citations, int[] hIndexes) {
+            this.citations = citations;
+            this.hIndexes = hIndexes;
+        }
+
+        static Distribution of(List<AuthorMetrics> metrics) {
+            int[] citations = new int[metrics.size()];
+            int[] hIndexes = new int[metrics.size()];
+            for (int i = 0; i < metrics.size(); i++) {
+                citations[i] = metrics.get(i).getTotalCitations();
+                hIndexes[i] = metrics.get(i).getHIndex();
+            }
+            Arrays.sort(citations);
+            Arrays.sort(hIndexes);
+            return new Distribution(citations, hIndexes);
+        }
+
+        void rank(AuthorMetrics metrics) {
+            metrics.setCitationPercentile(CitationMetrics.percentileRank(citations, metrics.getTotalCitations()));
+            metrics.setHIndexPercentile(CitationMetrics.percentileRank(hIndexes, metrics.getHIndex()));
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package com.innovationcenter.scholarapi.service;
+
+import com.innovationcenter.scholarapi.util.AuthorNameNormalizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process trigram index for fuzzy author name search.
+ *
+ * Names are reduced to their normalized key first, so case, accents and initials
+ * spelling never cost a match ("Muller" finds "Müller"). Candidates are the names sharing
+ * trigrams with the query, scored by trigram Jaccard similarity and reranked with edit
+ * distance against each word of the name, so a partial name or a typo still ranks well.
+ *
+ * Removed and renamed authors leave a tombstoned slot behind that searches skip; once
+ * tombstones pass a fraction of the slots, the slots and postings are rebuilt without them.
+ */
+public class AuthorNameIndex {
+
+    /** Matches scoring below this are dropped. */
+    public static final double MIN_SCORE = 0.35;
+
+    private static final double JACCARD_WEIGHT = 0.6;
+    private static final double EDIT_WEIGHT = 0.4;
+
+    private static final int MIN_COMPACT_THRESHOLD = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, IntList> postings = new HashMap<>();
+    private final List<Entry> slots = new ArrayList<>();
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private int tombstones;
+
+    /**
+     * Adds or renames an author.
+     */
+    public void add(Long authorId, String fullName) {
+        String key = AuthorNameNormalizer.toKey(fullName);
+        Set<String> trigrams = trigrams(key);
+
+        lock.writeLock().lock();
+        try {
+            Integer existing = slotById.get(authorId);
+            if (existing != null && slots.get(existing).key.equals(key)) {
+                return;
+            }
+            removeLocked(authorId);
+
+            addLocked(new Entry(authorId, fullName, key, trigrams.size()), trigrams);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes an author.
+     *
+     * @return true if it was indexed
+     */
+    public boolean remove(Long authorId) {
+        lock.writeLock().lock();
+        try {
+            return removeLocked(authorId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean removeLocked(Long authorId) {
+        // The slot is tombstoned; postings skip it until the next rebuild
+        Integer slot = slotById.remove(authorId);
+        if (slot == null) {
+            return false;
+        }
+        slots.set(slot, null);
+        tombstones++;
+        if (tombstones > Math.max(MIN_COMPACT_THRESHOLD, slots.size() / 4)) {
+            compact();
+        }
+        return true;
+    }
+
+    private void addLocked(Entry entry, Set<String> trigrams) {
+        int slot = slots.size();
+        slots.add(entry);
+        slotById.put(entry.authorId, slot);
+        for (String trigram : trigrams) {
+            postings.computeIfAbsent(trigram, t -> new IntList()).add(slot);
+        }
+    }
+
+    /**
+     * Rebuilds the slots and postings without the tombstones.
+     */
+    private void compact() {
+        List<Entry> live = new ArrayList<>(slotById.size());
+        for (Entry entry : slots) {
+            if (entry != null) {
+                live.add(entry);
+            }
+        }
+        slots.clear();
+        slotById.clear();
+        postings.clear();
+        tombstones = 0;
+        for (Entry entry : live) {
+            addLocked(entry, trigrams(entry.key));
+        }
+    }
+
+    /**
+     * Finds the names closest to the query.
+     *
+     * @param query Name as typed, partial or misspelled
+     * @param limit Maximum number of matches
+     * @return Matches in descending score
+     */
+    public List<Match> search(String query, int limit) {
+        String queryKey = AuthorNameNormalizer.toKey(query);
+        Set<String> queryTrigrams = trigrams(queryKey);
+        if (queryTrigrams.isEmpty() || limit < 1) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            int[] shared = new int[slots.size()];
+            IntList touched = new IntList();
+            for (String trigram : queryTrigrams) {
+                IntList list = postings.get(trigram);
+                if (list == null) {
+                    continue;
+                }
+                for (int i = 0; i < list.size; i++) {
+                    int slot = list.values[i];
+                    if (shared[slot]++ == 0) {
+                        touched.add(slot);
+                    }
+                }
+            }
+
+            PriorityQueue<Match> best = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(Match::getScore));
+            for (int i = 0; i < touched.size; i++) {
+                int slot = touched.values[i];
+                Entry entry = slots.get(slot);
+                if (entry == null) {
+                    continue;
+                }
+                double jaccard = (double) shared[slot] / (queryTrigrams.size() + entry.trigramCount - shared[slot]);
+                double score = JACCARD_WEIGHT * jaccard + EDIT_WEIGHT * wordSimilarity(queryKey, entry.key);
+                if (score >= MIN_SCORE) {
+                    best.offer(new Match(entry.authorId, entry.fullName, score));
+                    if (best.size() > limit) {
+                        best.poll();
+                    }
+                }
+            }
+
+            List<Match> matches = new ArrayList<>(best);
+            matches.sort(Comparator.comparingDouble(Match::getScore).reversed());
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Number of indexed authors
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Number of slots held, tombstones included
+     */
+    int slotCount() {
+        lock.readLock().lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Trigrams of each word padded like "  smith ", so word starts weigh more than endings.
+     */
+    static Set<String> trigrams(String key) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        if (key.isEmpty()) {
+            return trigrams;
+        }
+        for (String word : key.split(" ")) {
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+
+    /**
+     * Best edit similarity between the query and the name, read from the start of any word,
+     * so "john" compares against "john" inside "smith john" rather than the whole key.
+     */
+    private static double wordSimilarity(String query, String key) {
+        double best = similarity(query, key);
+        for (int start = 0; start < key.length(); start++) {
+            if (start == 0 || key.charAt(start - 1) == ' ') {
+                String window = key.substring(start, Math.min(key.length(), start + query.length()));
+                best = Math.max(best, similarity(query, window));
+            }
+        }
+        return best;
+    }
+
+    private static double similarity(String a, String b) {
+        int longest = Math.max(a.length(), b.length());
+        return longest == 0 ? 1.0 : 1.0 - (double) levenshtein(a, b) / longest;
+    }
+
+    private static int levenshtein(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    /**
+     * One ranked search result.
+     */
+    public static final class Match {
+        private final Long authorId;
+        private final String fullName;
+        private final double score;
+
+        Match(Long authorId, String fullName, double score) {
+            this.authorId = authorId;
+            this.fullName = fullName;
+            this.score = score;
+        }
+
+        public Long getAuthorId() { return authorId; }
+        public String getFullName() { return fullName; }
+        public double getScore() { return score; }
+
+        @Override
+        public String toString() {
+            return String.format("%s (%.2f)", fullName, score);
+        }
+    }
+
+    private static final class Entry {
+        private final Long authorId;
+        private final String fullName;
+        private final String key;
+        private final int trigramCount;
+
+        Entry(Long authorId, String fullName, String key, int trigramCount) {
+            this.authorId = authorId;
+            this.fullName = fullName;
+            this.key = key;
+            this.trigramCount = trigramCount;
+        }
+    }
+
+    /**
+     * Growable int array, so postings do not box every slot number.
+     */
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package com.innovationcenter.scholarapi.service;
+
+import com.innovationcenter.scholarapi.model.Article;
+import com.innovationcenter.scholarapi.model.ScholarSearchResponse;
+import com.innovationcenter.scholarapi.repository.CitationRepository;
+import com.innovationcenter.scholarapi.util.BloomFilter;
+
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Walks the "cited by" graph outward from stored articles.
+ * Each expanded article costs one searchCitingArticles call; the citing articles are saved,
+ * linked to it in article_citations and, while within the depth limit, scheduled in turn.
+ *
+ * The frontier is ordered by depth and then by citation count, so levels are explored
+ * breadth-first with the most influential papers first. A cites ID is never queried twice:
+ * a Bloom filter preloaded from the persisted visited set answers most checks in memory and
+ * only its "maybe" answers go to the database. Visited articles are still expanded, from the
+ * edges stored when they were fetched, so a deeper rerun or one stopped by the budget
+ * continues past them without spending requests.
+ */
+public class CitationCrawler {
+    private static final Logger logger = Logger.getLogger(CitationCrawler.class.getName());
+
+    public static final int DEFAULT_MAX_DEPTH = 2;
+    public static final int DEFAULT_WORKERS = 4;
+    public static final int DEFAULT_MAX_REQUESTS = 100;
+    public static final int DEFAULT_RESULTS_PER_ARTICLE = 20;
+
+    private static final int EXPECTED_VISITED = 100_000;
+    private static final double BLOOM_FALSE_POSITIVE_RATE = 0.01;
+
+    private final ScholarSearchService searchService;
+    private final ArticleService articleService;
+    private final CitationRepository citationRepository;
+    private final int maxDepth;
+    private final int workers;
+    private final int maxRequests;
+    private final int resultsPerArticle;
+
+    public CitationCrawler(ScholarSearchService searchService, ArticleService articleService,
+                           CitationRepository citationRepository) {
+        this(searchService, articleService, citationRepository,
+             DEFAULT_MAX_DEPTH, DEFAULT_WORKERS, DEFAULT_MAX_REQUESTS, DEFAULT_RESULTS_PER_ARTICLE);
+    }
+
+    public CitationCrawler(ScholarSearchService searchService, ArticleService articleService,
+                           CitationRepository citationRepository, int maxDepth, int workers,
+                           int maxRequests, int resultsPerArticle) {
+        if (maxDepth < 1 || workers < 1 || maxRequests < 1 || resultsPerArticle < 1) {
+            throw new IllegalArgumentException("Depth, workers, request budget and results per article must be at least 1");
+        }
+        this.searchService = searchService;
+        this.articleService = articleService;
+        this.citationRepository = citationRepository;
+        this.maxDepth = maxDepth;
+        this.workers = workers;
+        this.maxRequests = maxRequests;
+        this.resultsPerArticle = resultsPerArticle;
+    }
+
+    /**
+     * Creates a crawler from CITATION_CRAWL_DEPTH, CITATION_CRAWL_THREADS,
+     * CITATION_CRAWL_MAX_REQUESTS and CITATION_CRAWL_RESULTS_PER_ARTICLE.
+     */
+    public static CitationCrawler fromConfiguration(ScholarSearchService searchService, ArticleService articleService,
+                                                    CitationRepository citationRepository,
+                                                    ConfigurationService configService) {
+        return new CitationCrawler(searchService, articleService, citationRepository,
+            configService.getIntProperty("CITATION_CRAWL_DEPTH", DEFAULT_MAX_DEPTH),
+            configService.getIntProperty("CITATION_CRAWL_THREADS", DEFAULT_WORKERS),
+            configService.getIntProperty("CITATION_CRAWL_MAX_REQUESTS", DEFAULT_MAX_REQUESTS),
+            configService.getIntProperty("CITATION_CRAWL_RESULTS_PER_ARTICLE", DEFAULT_RESULTS_PER_ARTICLE));
+    }
+
+    /**
+     * Crawls outward from the given stored articles and waits until the frontier is
+     * exhausted, the depth limit is reached everywhere or the request budget is spent.
+     *
+     * @param seeds Stored articles to start from; those without an ID or cites ID are ignored
+     * @return Counts describing the crawl
+     * @throws SQLException If the persisted visited set cannot be read
+     */
+    public CrawlResult crawl(List<Article> seeds) throws SQLException {
+        Crawl crawl = new Crawl();
+
+        long previouslyVisited = citationRepository.forEachVisited(crawl.visitedFilter::add);
+        logger.info("Citation crawl from " + seeds.size() + " seeds, depth " + maxDepth + ", budget " +
+                   maxRequests + " requests, " + previouslyVisited + " cites IDs already visited");
+
+        for (Article seed : seeds) {
+            crawl.schedule(seed, 0);
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "citation-crawler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workers; i++) {
+            pool.execute(crawl::runWorker);
+        }
+        pool.shutdown();
+
+        try {
+            pool.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            crawl.stopped.set(true);
+            pool.shutdownNow();
+            logger.warning("Citation crawl interrupted");
+        }
+
+        CrawlResult result = crawl.toResult();
+        logger.info("Citation crawl finished: " + result);
+        return result;
+    }
+
+    /**
+     * State of one crawl run, shared by its workers.
+     */
+    private final class Crawl {
+        private final PriorityBlockingQueue<Node> frontier = new PriorityBlockingQueue<>(64,
+            Comparator.comparingInt((Node node) -> node.depth).thenComparingInt(node -> -node.citationCount));
+        private final BloomFilter visitedFilter = new BloomFilter(EXPECTED_VISITED, BLOOM_FALSE_POSITIVE_RATE);
+        private final Set<String> scheduled = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicInteger requests = new AtomicInteger();
+        private final AtomicInteger expanded = new AtomicInteger();
+        private final AtomicInteger citationsSaved = new AtomicInteger();
+        private final AtomicInteger articlesFound = new AtomicInteger();
+        private final AtomicInteger skippedVisited = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final AtomicBoolean budgetExhausted = new AtomicBoolean();
+        private final AtomicBoolean stopped = new AtomicBoolean();
+
+        void schedule(Article article, int depth) {
+            String citesId = article.getCitesId();
+            if (article.getId() == null || citesId == null || citesId.isEmpty() || !scheduled.add(citesId)) {
+                return;
+            }
+
+            // Only a "maybe" from the filter needs the exact persisted check
+            boolean visited = false;
+            if (visitedFilter.mightContain(citesId)) {
+                try {
+                    visited = citationRepository.isVisited(citesId);
+                } catch (SQLException e) {
+                    logger.log(Level.WARNING, "Visited check failed for " + citesId + ", fetching it again", e);
+                }
+            }
+
+            pending.incrementAndGet();
+            frontier.add(new Node(article.getId(), citesId, article.getCitationCount(), depth, visited));
+        }
+
+        void runWorker() {
+            while (!stopped.get()) {
+                Node node;
+                try {
+                    node = frontier.poll(50, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+
+                if (node == null) {
+                    // Empty frontier with nothing in progress means no more nodes can appear
+                    if (pending.get() == 0) {
+                        return;
+                    }
+                    continue;
+                }
+
+                try {
+                    expand(node);
+                } finally {
+                    pending.decrementAndGet();
+                }
+            }
+        }
+
+        private void expand(Node node) {
+            if (node.visited) {
+                expandStored(node);
+                return;
+            }
+            if (requests.incrementAndGet() > maxRequests) {
+                budgetExhausted.set(true);
+                return;
+            }
+
+            try {
+                ScholarSearchResponse response = searchService.searchCitingArticles(node.citesId, resultsPerArticle);
+                List<Article> citing = articleService.processSearchResponse(response, resultsPerArticle);
+
+                Set<Long> citingIds = new LinkedHashSet<>();
+                for (Article article : citing) {
+                    if (article.getId() != null && !article.getId().equals(node.articleId)) {
+                        citingIds.add(article.getId());
+                    }
+                }
+
+                citationsSaved.addAndGet(citationRepository.saveCitations(node.articleId, citingIds));
+                citationRepository.markVisited(node.citesId, node.articleId, node.depth);
+                visitedFilter.add(node.citesId);
+                expanded.incrementAndGet();
+                articlesFound.addAndGet(citingIds.size());
+
+                if (node.depth + 1 < maxDepth) {
+                    for (Article article : citing) {
+                        schedule(article, node.depth + 1);
+                    }
+                }
+
+            } catch (ApiRateLimiter.QuotaExhaustedException e) {
+                logger.warning("Stopping citation crawl: " + e.getMessage());
+                budgetExhausted.set(true);
+                stopped.set(true);
+            } catch (Exception e) {
+                failures.incrementAndGet();
+                logger.log(Level.WARNING, "Failed to expand citations of article " + node.articleId, e);
+            }
+        }
+
+        /**
+         * Schedules the citing articles of an already visited node from article_citations.
+         */
+        private void expandStored(Node node) {
+            skippedVisited.incrementAndGet();
+            if (node.depth + 1 >= maxDepth) {
+                return;
+            }
+
+            try {
+                for (Long citingId : citationRepository.findCitingArticleIds(node.articleId)) {
+                    Optional<Article> citing = articleService.findById(citingId);
+                    if (citing.isPresent()) {
+                        schedule(citing.get(), node.depth + 1);
+                    }
+                }
+            } catch (SQLException e) {
+                failures.incrementAndGet();
+                logger.log(Level.WARNING, "Failed to load stored citations of article " + node.articleId, e);
+            }
+        }
+
+        CrawlResult toResult() {
+            return new CrawlResult(Math.min(requests.get(), maxRequests), expanded.get(), articlesFound.get(),
+                                   citationsSaved.get(), skippedVisited.get(), failures.get(), budgetExhausted.get());
+        }
+    }
+
+    /**
+     * One article waiting to have its citing articles fetched, or read back if it is visited.
+     */
+    private static final class Node {
+        private final Long articleId;
+        private final String citesId;
+        private final int citationCount;
+        private final int depth;
+        private final boolean visited;
+
+        Node(Long articleId, String citesId, int citationCount, int depth, boolean visited) {
+            this.articleId = articleId;
+            this.citesId = citesId;
+            this.citationCount = citationCount;
+            this.depth = depth;
+            this.visited = visited;
+        }
+    }
+
+    /**
+     * Summary of a finished crawl.
+     */
+    public static final class CrawlResult {
+        private final int requests;
+        private final int articlesExpanded;
+        private final int citingArticlesFound;
+        private final int citationsSaved;
+        /** Visited articles expanded from stored edges instead of the API. */
+        private final int skippedAlreadyVisited;
+        private final int failures;
+        private final boolean budgetExhausted;
+
+        CrawlResult(int requests, int articlesExpanded, int citingArticlesFound, int citationsSaved,
+                    int skippedAlreadyVisited, int failures, boolean budgetExhausted) {
+            this.requests = requests;
+            this.articlesExpanded = articlesExpanded;
+            this.citingArticlesFound = citingArticlesFound;
+            this.citationsSaved = citationsSaved;
+            this.skippedAlreadyVisited = skippedAlreadyVisited;
+            this.failures = failures;
+            this.budgetExhausted = budgetExhausted;
+        }
+
+        public int getRequests() { return requests; }
+        public int getArticlesExpanded() { return articlesExpanded; }
+        public int getCitingArticlesFound() { return citingArticlesFound; }
+        public int getCitationsSaved() { return citationsSaved; }
+        public int getSkippedAlreadyVisited() { return skippedAlreadyVisited; }
+        public int getFailures() { return failures; }
+        public boolean isBudgetExhausted() { return budgetExhausted; }
+
+        @Override
+        public String toString() {
+            return "CrawlResult{requests=" + requests + ", expanded=" + articlesExpanded +
+                   ", citingFound=" + citingArticlesFound + ", newCitations=" + citationsSaved +
+                   ", skippedVisited=" + skippedAlreadyVisited + ", failures=" + failures +
+                   ", budgetExhausted=" + budgetExhausted + "}";
+        }
+    }
+}
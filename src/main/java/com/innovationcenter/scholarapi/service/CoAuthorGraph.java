@@ -0,0 +1,481 @@
+package com.innovationcenter.scholarapi.service;
+
+import com.innovationcenter.scholarapi.model.SimpleAuthor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process co-authorship graph: authors are vertices, and an edge weighs the number of
+ * articles two authors share.
+ *
+ * The bulk of the graph is stored in compressed sparse row form: vertex v's neighbors are
+ * neighbors[offsets[v]] to neighbors[offsets[v + 1]], sorted, with the shared article count
+ * at the same position in weights. Articles linked or deleted after the build go into a
+ * small overlay of weight changes that lookups merge in; once the overlay grows past a
+ * fraction of the base, both are compacted into a fresh CSR.
+ */
+public class CoAuthorGraph {
+
+    /** Authors past this position of one article are left out, so huge consortia stay linear. */
+    public static final int MAX_AUTHORS_PER_ARTICLE = 50;
+
+    private static final int MIN_COMPACT_THRESHOLD = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Long, Integer> vertexById = new HashMap<>();
+    private long[] authorIds = new long[16];
+    private int vertexCount;
+
+    private int[] offsets = new int[1];
+    private int[] neighbors = new int[0];
+    private int[] weights = new int[0];
+    private int baseVertexCount;
+
+    private final Map<Integer, Map<Integer, Integer>> overlay = new HashMap<>();
+    private int overlayEntries;
+
+    private int[] components;
+
+    /**
+     * Builder that takes one article's authors at a time without keeping the lists.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Adds one co-authored article, raising the weight between each pair of its authors.
+     */
+    public void addArticle(Collection<Long> articleAuthorIds) {
+        applyArticle(List.of(), articleAuthorIds);
+    }
+
+    /**
+     * Removes one co-authored article; edges whose weight drops to zero disappear.
+     */
+    public void removeArticle(Collection<Long> articleAuthorIds) {
+        applyArticle(articleAuthorIds, List.of());
+    }
+
+    /**
+     * Replaces the author list of an article already in the graph, in one step, so only
+     * pairs involving added or dropped authors change weight.
+     */
+    public void replaceArticle(Collection<Long> previousAuthorIds, Collection<Long> articleAuthorIds) {
+        applyArticle(previousAuthorIds, articleAuthorIds);
+    }
+
+    private void applyArticle(Collection<Long> removedAuthorIds, Collection<Long> addedAuthorIds) {
+        long[] removed = removedAuthorIds.stream().mapToLong(Long::longValue).toArray();
+        long[] added = addedAuthorIds.stream().mapToLong(Long::longValue).toArray();
+        lock.writeLock().lock();
+        try {
+            EdgeList edges = new EdgeList();
+            collectPairs(removed, edges, -1);
+            collectPairs(added, edges, 1);
+            for (int i = 0; i < edges.size; i++) {
+                Map<Integer, Integer> row = overlay.computeIfAbsent(edges.sources[i], v -> new HashMap<>());
+                if (row.put(edges.targets[i], row.getOrDefault(edges.targets[i], 0) + edges.weights[i]) == null) {
+                    overlayEntries++;
+                }
+            }
+            components = null;
+            if (overlayEntries > Math.max(MIN_COMPACT_THRESHOLD, neighbors.length / 4)) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return Co-authors of the author with the number of articles shared, in no particular order
+     */
+    public List<Collaborator> neighbors(Long authorId) {
+        lock.readLock().lock();
+        try {
+            Integer vertex = vertexById.get(authorId);
+            List<Collaborator> result = new ArrayList<>();
+            if (vertex == null) {
+                return result;
+            }
+            forEachNeighbor(vertex, (neighbor, weight) -> result.add(new Collaborator(authorIds[neighbor], weight)));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Number of articles the two authors share
+     */
+    public int collaborationCount(Long authorId, Long otherAuthorId) {
+        lock.readLock().lock();
+        try {
+            Integer vertex = vertexById.get(authorId);
+            Integer other = vertexById.get(otherAuthorId);
+            if (vertex == null || other == null) {
+                return 0;
+            }
+            int weight = 0;
+            if (vertex < baseVertexCount) {
+                int at = Arrays.binarySearch(neighbors, offsets[vertex], offsets[vertex + 1], other);
+                if (at >= 0) {
+                    weight = weights[at];
+                }
+            }
+            Map<Integer, Integer> row = overlay.get(vertex);
+            if (row != null) {
+                weight += row.getOrDefault(other, 0);
+            }
+            return Math.max(weight, 0);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return The author's k most frequent co-authors, most shared articles first
+     */
+    public List<Collaborator> topCollaborators(Long authorId, int k) {
+        Comparator<Collaborator> byWeight = Comparator.comparingInt(Collaborator::getSharedArticles)
+            .thenComparing(Collaborator::getAuthorId, Comparator.reverseOrder());
+        PriorityQueue<Collaborator> best = new PriorityQueue<>(Math.max(1, k + 1), byWeight);
+        for (Collaborator collaborator : neighbors(authorId)) {
+            best.offer(collaborator);
+            if (best.size() > k) {
+                best.poll();
+            }
+        }
+        List<Collaborator> result = new ArrayList<>(best);
+        result.sort(byWeight.reversed());
+        return result;
+    }
+
+    /**
+     * @return IDs of every author reachable from the given one through co-authorships, itself included
+     */
+    public List<Long> componentMembers(Long authorId) {
+        lock.writeLock().lock();
+        try {
+            Integer vertex = vertexById.get(authorId);
+            List<Long> members = new ArrayList<>();
+            if (vertex == null) {
+                return members;
+            }
+            int[] labels = components();
+            int label = labels[vertex];
+            for (int v = 0; v < vertexCount; v++) {
+                if (labels[v] == label) {
+                    members.add(authorIds[v]);
+                }
+            }
+            return members;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return Number of connected components, isolated authors counting as one each
+     */
+    public int componentCount() {
+        lock.writeLock().lock();
+        try {
+            int[] labels = components();
+            int count = 0;
+            for (int v = 0; v < vertexCount; v++) {
+                if (labels[v] == v) {
+                    count++;
+                }
+            }
+            return count;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return Number of authors in the graph
+     */
+    public int vertexCount() {
+        lock.readLock().lock();
+        try {
+            return vertexCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Number of distinct co-author pairs
+     */
+    public int edgeCount() {
+        lock.readLock().lock();
+        try {
+            int[] directed = {0};
+            for (int v = 0; v < vertexCount; v++) {
+                forEachNeighbor(v, (neighbor, weight) -> directed[0]++);
+            }
+            return directed[0] / 2;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Union-find labels, recomputed after changes; each label is its component's root vertex.
+     */
+    private int[] components() {
+        if (components != null) {
+            return components;
+        }
+        int[] parent = new int[vertexCount];
+        for (int v = 0; v < vertexCount; v++) {
+            parent[v] = v;
+        }
+        for (int v = 0; v < vertexCount; v++) {
+            int source = v;
+            forEachNeighbor(v, (neighbor, weight) -> union(parent, source, neighbor));
+        }
+        for (int v = 0; v < vertexCount; v++) {
+            parent[v] = find(parent, v);
+        }
+        components = parent;
+        return parent;
+    }
+
+    private static int find(int[] parent, int v) {
+        while (parent[v] != v) {
+            parent[v] = parent[parent[v]];
+            v = parent[v];
+        }
+        return v;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        // The smaller index becomes the root, so a root is always the label of its own vertex
+        if (rootA < rootB) {
+            parent[rootB] = rootA;
+        } else if (rootB < rootA) {
+            parent[rootA] = rootB;
+        }
+    }
+
+    @FunctionalInterface
+    private interface NeighborVisitor {
+        void visit(int neighbor, int weight);
+    }
+
+    /**
+     * Visits the merged base row and overlay of a vertex, skipping edges weighted zero or less.
+     */
+    private void forEachNeighbor(int vertex, NeighborVisitor visitor) {
+        Map<Integer, Integer> row = overlay.get(vertex);
+        if (vertex < baseVertexCount) {
+            for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+                int weight = weights[i] + (row != null ? row.getOrDefault(neighbors[i], 0) : 0);
+                if (weight > 0) {
+                    visitor.visit(neighbors[i], weight);
+                }
+            }
+        }
+        if (row != null) {
+            for (Map.Entry<Integer, Integer> entry : row.entrySet()) {
+                int neighbor = entry.getKey();
+                boolean inBase = vertex < baseVertexCount &&
+                    Arrays.binarySearch(neighbors, offsets[vertex], offsets[vertex + 1], neighbor) >= 0;
+                if (!inBase && entry.getValue() > 0) {
+                    visitor.visit(neighbor, entry.getValue());
+                }
+            }
+        }
+    }
+
+    private int vertexFor(long authorId) {
+        Integer existing = vertexById.get(authorId);
+        if (existing != null) {
+            return existing;
+        }
+        if (vertexCount == authorIds.length) {
+            authorIds = Arrays.copyOf(authorIds, vertexCount * 2);
+        }
+        authorIds[vertexCount] = authorId;
+        vertexById.put(authorId, vertexCount);
+        return vertexCount++;
+    }
+
+    /**
+     * Appends both directions of every author pair of one article.
+     */
+    private void collectPairs(long[] authors, EdgeList edges, int weight) {
+        int count = Math.min(authors.length, MAX_AUTHORS_PER_ARTICLE);
+        int[] vertices = new int[count];
+        for (int i = 0; i < count; i++) {
+            vertices[i] = vertexFor(authors[i]);
+        }
+        for (int i = 0; i < count; i++) {
+            for (int j = i + 1; j < count; j++) {
+                if (vertices[i] != vertices[j]) {
+                    edges.add(vertices[i], vertices[j], weight);
+                    edges.add(vertices[j], vertices[i], weight);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces the CSR arrays with the given directed edges: counting sort by source,
+     * then each row sorted by target with duplicate targets summed.
+     */
+    private void buildCsr(EdgeList edges) {
+        int[] rowStart = new int[vertexCount + 1];
+        for (int i = 0; i < edges.size; i++) {
+            rowStart[edges.sources[i] + 1]++;
+        }
+        for (int v = 0; v < vertexCount; v++) {
+            rowStart[v + 1] += rowStart[v];
+        }
+
+        // Targets and weights packed in one long per edge so a row sorts by target in place
+        long[] packed = new long[edges.size];
+        int[] cursor = Arrays.copyOf(rowStart, vertexCount);
+        for (int i = 0; i < edges.size; i++) {
+            packed[cursor[edges.sources[i]]++] = ((long) edges.targets[i] << 32) | (edges.weights[i] & 0xffffffffL);
+        }
+
+        int[] newOffsets = new int[vertexCount + 1];
+        int[] newNeighbors = new int[edges.size];
+        int[] newWeights = new int[edges.size];
+        int written = 0;
+        for (int v = 0; v < vertexCount; v++) {
+            newOffsets[v] = written;
+            Arrays.sort(packed, rowStart[v], rowStart[v + 1]);
+            int i = rowStart[v];
+            while (i < rowStart[v + 1]) {
+                int target = (int) (packed[i] >>> 32);
+                int weight = 0;
+                while (i < rowStart[v + 1] && (int) (packed[i] >>> 32) == target) {
+                    weight += (int) packed[i];
+                    i++;
+                }
+                // Removals can cancel an edge out entirely
+                if (weight > 0) {
+                    newNeighbors[written] = target;
+                    newWeights[written] = weight;
+                    written++;
+                }
+            }
+        }
+        newOffsets[vertexCount] = written;
+
+        offsets = newOffsets;
+        neighbors = Arrays.copyOf(newNeighbors, written);
+        weights = Arrays.copyOf(newWeights, written);
+        baseVertexCount = vertexCount;
+        components = null;
+    }
+
+    /**
+     * Folds the overlay into a fresh CSR.
+     */
+    private void compact() {
+        EdgeList edges = new EdgeList();
+        for (int v = 0; v < vertexCount; v++) {
+            int source = v;
+            forEachNeighbor(v, (neighbor, weight) -> edges.add(source, neighbor, weight));
+        }
+        overlay.clear();
+        overlayEntries = 0;
+        buildCsr(edges);
+    }
+
+    /**
+     * Accumulates articles into a graph while they are streamed.
+     */
+    public static final class Builder {
+        private final CoAuthorGraph graph = new CoAuthorGraph();
+        private final EdgeList edges = new EdgeList();
+
+        public Builder addArticle(long[] authorIds, int count) {
+            graph.collectPairs(Arrays.copyOf(authorIds, count), edges, 1);
+            return this;
+        }
+
+        public CoAuthorGraph build() {
+            graph.lock.writeLock().lock();
+            try {
+                graph.buildCsr(edges);
+            } finally {
+                graph.lock.writeLock().unlock();
+            }
+            return graph;
+        }
+    }
+
+    /**
+     * A co-author and the number of articles shared with them.
+     */
+    public static final class Collaborator {
+        private final Long authorId;
+        private final int sharedArticles;
+        private final SimpleAuthor author;
+
+        Collaborator(Long authorId, int sharedArticles) {
+            this(authorId, sharedArticles, null);
+        }
+
+        Collaborator(Long authorId, int sharedArticles, SimpleAuthor author) {
+            this.authorId = authorId;
+            this.sharedArticles = sharedArticles;
+            this.author = author;
+        }
+
+        public Long getAuthorId() { return authorId; }
+        public int getSharedArticles() { return sharedArticles; }
+
+        /**
+         * @return The stored author, or null if the graph alone produced this result
+         */
+        public SimpleAuthor getAuthor() { return author; }
+
+        @Override
+        public String toString() {
+            return (author != null ? author.getFullName() : String.valueOf(authorId)) + " (" + sharedArticles + ")";
+        }
+    }
+
+    /**
+     * Growable parallel int arrays of directed weighted edges.
+     */
+    private static final class EdgeList {
+        private int[] sources = new int[64];
+        private int[] targets = new int[64];
+        private int[] weights = new int[64];
+        private int size;
+
+        void add(int source, int target, int weight) {
+            if (size == sources.length) {
+                sources = Arrays.copyOf(sources, size * 2);
+                targets = Arrays.copyOf(targets, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            sources[size] = source;
+            targets[size] = target;
+            weights[size] = weight;
+            size++;
+        }
+    }
+}
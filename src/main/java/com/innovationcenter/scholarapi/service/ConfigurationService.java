@@ -1,5 +1,7 @@
 package com.innovationcenter.scholarapi.service;
 
+import java.util.logging.Logger;
+
 /**
  * Interface for configuration management.
  * Defines contract for environment and configuration operations.
@@ -30,4 +32,40 @@ public interface ConfigurationService {
      * @return Property value or null if not found
      */
     String getProperty(String key);
+    
+    /**
+     * Get a numeric configuration property.
+     * @param key Property key
+     * @param defaultValue Value used when the property is missing or not a number
+     * @return Parsed property value, or the default
+     */
+    default long getLongProperty(String key, long defaultValue) {
+        String value = getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            Logger.getLogger(ConfigurationService.class.getName())
+                .warning("Invalid value for " + key + ": " + value + ", using " + defaultValue);
+            return defaultValue;
+        }
+    }
+    
+    /**
+     * Get a numeric configuration property that must fit in an int.
+     * @param key Property key
+     * @param defaultValue Value used when the property is missing, not a number or out of range
+     * @return Parsed property value, or the default
+     */
+    default int getIntProperty(String key, int defaultValue) {
+        long value = getLongProperty(key, defaultValue);
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            Logger.getLogger(ConfigurationService.class.getName())
+                .warning("Invalid value for " + key + ": " + value + ", using " + defaultValue);
+            return defaultValue;
+        }
+        return (int) value;
+    }
 }
\ No newline at end of file
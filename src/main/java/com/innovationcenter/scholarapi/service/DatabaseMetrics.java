@@ -0,0 +1,230 @@
+package com.innovationcenter.scholarapi.service;
+
+import com.innovationcenter.scholarapi.util.LatencyHistogram;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+/**
+ * Connection pool and statement timings for a DatabaseService, safe for concurrent use.
+ *
+ * Records how long connections take to acquire from each of its pools and how long each
+ * statement runs, keyed by its SQL template, and logs statements slower than a threshold
+ * to the "...DatabaseMetrics.slowQueries" logger. Only templates are kept, never bound values.
+ */
+public class DatabaseMetrics {
+
+    private static final Logger slowQueryLog = Logger.getLogger(DatabaseMetrics.class.getName() + ".slowQueries");
+
+    public static final long DEFAULT_SLOW_QUERY_MILLIS = 500;
+
+    // Templates past this many are counted together, so generated SQL cannot grow the map
+    static final int MAX_TEMPLATES = 1000;
+    static final String OTHER_STATEMENTS = "(other statements)";
+
+    private final long slowQueryNanos;
+    private final List<PoolMetrics> pools = new CopyOnWriteArrayList<>();
+    private final LongAdder slowQueries = new LongAdder();
+    private final Map<String, StatementMetrics> statements = new ConcurrentHashMap<>();
+
+    /**
+     * @param slowQueryMillis Statements running at least this long are logged; 0 disables the log
+     */
+    public DatabaseMetrics(long slowQueryMillis) {
+        this.slowQueryNanos = slowQueryMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(slowQueryMillis) : Long.MAX_VALUE;
+    }
+
+    /**
+     * @param state Current pool counts, read when metrics are displayed or exported
+     * @return Where to record the pool's connection acquisitions
+     */
+    public PoolMetrics addPool(String name, Supplier<PoolState> state) {
+        PoolMetrics pool = new PoolMetrics(name, state);
+        pools.add(pool);
+        return pool;
+    }
+
+    public List<PoolMetrics> getPools() {
+        return Collections.unmodifiableList(pools);
+    }
+
+    public void recordStatement(String template, long nanos, boolean failed) {
+        StatementMetrics metrics = statements.get(template);
+        if (metrics == null) {
+            String key = statements.size() < MAX_TEMPLATES ? template : OTHER_STATEMENTS;
+            metrics = statements.computeIfAbsent(key, StatementMetrics::new);
+        }
+        metrics.record(nanos, failed);
+
+        if (nanos >= slowQueryNanos) {
+            slowQueries.increment();
+            slowQueryLog.warning(String.format("Slow statement (%d ms%s): %s",
+                TimeUnit.NANOSECONDS.toMillis(nanos), failed ? ", failed" : "", template));
+        }
+    }
+
+    public long getSlowQueryCount() {
+        return slowQueries.sum();
+    }
+
+    public long getSlowQueryThresholdMillis() {
+        return slowQueryNanos == Long.MAX_VALUE ? 0 : TimeUnit.NANOSECONDS.toMillis(slowQueryNanos);
+    }
+
+    public long getStatementCount() {
+        long count = 0;
+        for (StatementMetrics metrics : statements.values()) {
+            count += metrics.getCount();
+        }
+        return count;
+    }
+
+    /**
+     * @return Statement templates, most total execution time first
+     */
+    public List<StatementMetrics> getStatements() {
+        List<StatementMetrics> sorted = new ArrayList<>(statements.values());
+        sorted.sort(Comparator.comparingLong((StatementMetrics metrics) -> metrics.latency.totalNanos()).reversed());
+        return sorted;
+    }
+
+    /**
+     * Connection acquisitions and current counts of one pool.
+     */
+    public static class PoolMetrics {
+        private final String name;
+        private final Supplier<PoolState> state;
+        private final LatencyHistogram acquire = new LatencyHistogram();
+        private final LongAdder failures = new LongAdder();
+
+        PoolMetrics(String name, Supplier<PoolState> state) {
+            this.name = name;
+            this.state = state;
+        }
+
+        public void recordAcquire(long nanos, boolean acquired) {
+            acquire.record(nanos);
+            if (!acquired) {
+                failures.increment();
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public PoolState getState() {
+            return state.get();
+        }
+
+        public LatencyHistogram getAcquireLatency() {
+            return acquire;
+        }
+
+        /**
+         * @return Acquisitions that failed, typically by timing out
+         */
+        public long getFailures() {
+            return failures.sum();
+        }
+    }
+
+    /**
+     * Execution times of one SQL template.
+     */
+    public static class StatementMetrics {
+        private final String template;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder failures = new LongAdder();
+
+        StatementMetrics(String template) {
+            this.template = template;
+        }
+
+        void record(long nanos, boolean failed) {
+            latency.record(nanos);
+            if (failed) {
+                failures.increment();
+            }
+        }
+
+        public String getTemplate() {
+            return template;
+        }
+
+        public long getCount() {
+            return latency.count();
+        }
+
+        public long getFailures() {
+            return failures.sum();
+        }
+
+        public double getTotalMillis() {
+            return toMillis(latency.totalNanos());
+        }
+
+        public double getMeanMillis() {
+            return toMillis(latency.meanNanos());
+        }
+
+        public double getP99Millis() {
+            return toMillis(latency.percentileNanos(99));
+        }
+
+        public double getMaxMillis() {
+            return toMillis(latency.maxNanos());
+        }
+    }
+
+    /**
+     * Connection counts of a pool at one moment; -1 where the pool does not report them.
+     */
+    public static class PoolState {
+        public static final PoolState UNKNOWN = new PoolState(-1, -1, -1, -1);
+
+        private final int active;
+        private final int idle;
+        private final int total;
+        private final int pending;
+
+        public PoolState(int active, int idle, int total, int pending) {
+            this.active = active;
+            this.idle = idle;
+            this.total = total;
+            this.pending = pending;
+        }
+
+        public int getActive() {
+            return active;
+        }
+
+        public int getIdle() {
+            return idle;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        /**
+         * @return Threads waiting for a connection
+         */
+        public int getPending() {
+            return pending;
+        }
+    }
+
+    public static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -17,12 +17,30 @@ public interface DatabaseService {
      */
     Connection getConnection() throws SQLException;
     
+    /**
+     * Get a connection for statements that only read, from a pool kept apart from writers
+     * where the implementation has one. Such connections may be read-only.
+     * @return Database connection
+     * @throws SQLException If connection cannot be established
+     */
+    default Connection getReadConnection() throws SQLException {
+        return getConnection();
+    }
+    
     /**
      * Get the underlying DataSource for advanced operations.
      * @return DataSource instance
      */
     DataSource getDataSource();
     
+    /**
+     * Get the DataSource behind getReadConnection.
+     * @return DataSource instance, the same as getDataSource when reads share its pool
+     */
+    default DataSource getReadDataSource() {
+        return getDataSource();
+    }
+    
     /**
      * Initialize database schema and tables if they don't exist.
      * @throws SQLException If schema creation fails
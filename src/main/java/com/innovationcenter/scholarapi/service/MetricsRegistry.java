@@ -0,0 +1,18 @@
+package com.innovationcenter.scholarapi.service;
+
+/**
+ * Destination that publishes database metrics to monitoring, such as JMX.
+ */
+public interface MetricsRegistry {
+
+    /**
+     * Publish the metrics under the given name until close is called.
+     * @param name Identifies the database, e.g. "primary"
+     */
+    void register(String name, DatabaseMetrics metrics);
+
+    /**
+     * Withdraw everything this registry published.
+     */
+    void close();
+}
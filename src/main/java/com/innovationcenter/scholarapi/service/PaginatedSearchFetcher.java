@@ -0,0 +1,207 @@
+package com.innovationcenter.scholarapi.service;
+
+import com.innovationcenter.scholarapi.model.ScholarQuery;
+import com.innovationcenter.scholarapi.model.ScholarSearchResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.logging.Logger;
+
+/**
+ * Fetches a result set larger than one SerpAPI page by issuing the start= page requests
+ * concurrently through an AsyncScholarSearchService, which applies the shared rate limit.
+ *
+ * Pages are de-duplicated by result_id and handed to a PageListener on the calling thread
+ * as they arrive, so persistence overlaps with the remaining requests. Paging stops early
+ * once a page reports no next page. A failed page is requested again up to
+ * MAX_PAGE_ATTEMPTS times in total; if it still fails, the fetch ends with an IOException
+ * rather than returning a silently truncated result.
+ */
+public class PaginatedSearchFetcher {
+    private static final Logger logger = Logger.getLogger(PaginatedSearchFetcher.class.getName());
+
+    public static final int DEFAULT_CONCURRENCY = 4;
+    public static final int MAX_PAGE_ATTEMPTS = 3;
+
+    /**
+     * Receives each page's new results, in arrival order rather than page order.
+     */
+    @FunctionalInterface
+    public interface PageListener {
+        void onPage(int pageIndex, ScholarSearchResponse page) throws Exception;
+    }
+
+    private final AsyncScholarSearchService searchService;
+    private final int concurrency;
+
+    public PaginatedSearchFetcher(AsyncScholarSearchService searchService) {
+        this(searchService, DEFAULT_CONCURRENCY);
+    }
+
+    public PaginatedSearchFetcher(AsyncScholarSearchService searchService, int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Concurrency must be at least 1");
+        }
+        this.searchService = searchService;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Creates a fetcher with SCHOLAR_PAGE_CONCURRENCY pages in flight, default 4.
+     */
+    public static PaginatedSearchFetcher fromConfiguration(AsyncScholarSearchService searchService,
+                                                           ConfigurationService configService) {
+        return new PaginatedSearchFetcher(searchService,
+            configService.getIntProperty("SCHOLAR_PAGE_CONCURRENCY", DEFAULT_CONCURRENCY));
+    }
+
+    /**
+     * Fetches up to targetResults articles by the given author.
+     *
+     * @return Number of distinct results delivered
+     */
+    public int fetchByAuthor(String authorName, int targetResults, PageListener listener) throws IOException {
+        return fetch(ScholarQuery.byAuthor(authorName, ScholarQuery.MAX_PAGE_SIZE).getQ(), targetResults, listener);
+    }
+
+    /**
+     * Fetches up to targetResults results for the query, blocking until done.
+     * Failed pages are retried; once a page has failed MAX_PAGE_ATTEMPTS times no new pages
+     * are issued, pages already in flight are still delivered, and the call then fails.
+     *
+     * @return Number of distinct results delivered
+     * @throws IOException If a needed page failed on every attempt, so the results are
+     *                     incomplete, or the listener failed
+     */
+    public int fetch(String query, int targetResults, PageListener listener) throws IOException {
+        if (targetResults < 1) {
+            throw new IllegalArgumentException("Target results must be at least 1");
+        }
+
+        int pageSize = ScholarQuery.MAX_PAGE_SIZE;
+        int lastPage = (targetResults + pageSize - 1) / pageSize;
+        BlockingQueue<PageOutcome> completed = new LinkedBlockingQueue<>();
+        Set<String> seenResultIds = new HashSet<>();
+        Map<Integer, Integer> failedAttempts = new HashMap<>();
+
+        int nextPage = 0;
+        int inFlight = 0;
+        int delivered = 0;
+        int succeededPages = 0;
+        Throwable firstFailure = null;
+        int failedPage = Integer.MAX_VALUE;
+
+        logger.info("Deep pagination for \"" + query + "\": up to " + lastPage + " pages, " + concurrency + " in flight");
+
+        while (true) {
+            while (nextPage < lastPage && inFlight < concurrency && firstFailure == null) {
+                request(query, nextPage++, pageSize, completed);
+                inFlight++;
+            }
+            if (inFlight == 0) {
+                break;
+            }
+
+            PageOutcome outcome;
+            try {
+                outcome = completed.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted during paginated fetch");
+            }
+            inFlight--;
+
+            if (outcome.failure != null) {
+                int attempts = failedAttempts.merge(outcome.pageIndex, 1, Integer::sum);
+                logger.warning("Page " + outcome.pageIndex + " failed (attempt " + attempts + " of " +
+                               MAX_PAGE_ATTEMPTS + "): " + outcome.failure.getMessage());
+                if (attempts < MAX_PAGE_ATTEMPTS && firstFailure == null) {
+                    request(query, outcome.pageIndex, pageSize, completed);
+                    inFlight++;
+                } else if (outcome.pageIndex < failedPage) {
+                    // No new pages are issued after this; pages already in flight are still delivered
+                    firstFailure = outcome.failure;
+                    failedPage = outcome.pageIndex;
+                }
+                continue;
+            }
+            succeededPages++;
+
+            ScholarSearchResponse response = outcome.response;
+            if (isLastPage(response)) {
+                lastPage = Math.min(lastPage, outcome.pageIndex + 1);
+            }
+            if (outcome.pageIndex >= lastPage || delivered >= targetResults || response.getOrganicResults() == null) {
+                continue;
+            }
+
+            List<ScholarSearchResponse.OrganicResult> fresh = new ArrayList<>();
+            for (ScholarSearchResponse.OrganicResult result : response.getOrganicResults()) {
+                if (delivered + fresh.size() >= targetResults) {
+                    break;
+                }
+                if (result.getResultId() == null || seenResultIds.add(result.getResultId())) {
+                    fresh.add(result);
+                }
+            }
+            if (fresh.isEmpty()) {
+                continue;
+            }
+
+            response.setOrganicResults(fresh.toArray(new ScholarSearchResponse.OrganicResult[0]));
+            delivered += fresh.size();
+            try {
+                listener.onPage(outcome.pageIndex, response);
+            } catch (Exception e) {
+                throw new IOException("Failed to process page " + outcome.pageIndex + ": " + e.getMessage(), e);
+            }
+        }
+
+        // A failed page past the last page or the target cost nothing
+        if (firstFailure != null && failedPage < lastPage && delivered < targetResults) {
+            if (succeededPages == 0) {
+                throw new IOException("Paginated fetch failed: " + firstFailure.getMessage(), firstFailure);
+            }
+            throw new IOException("Paginated fetch incomplete: " + delivered + " results delivered before page " +
+                                  failedPage + " failed: " + firstFailure.getMessage(), firstFailure);
+        }
+
+        logger.info("Deep pagination for \"" + query + "\" delivered " + delivered + " distinct results");
+        return delivered;
+    }
+
+    private void request(String query, int pageIndex, int pageSize, BlockingQueue<PageOutcome> completed) {
+        searchService.searchWithPaginationAsync(query, pageIndex * pageSize, pageSize)
+            .whenComplete((response, error) -> completed.add(new PageOutcome(pageIndex, response,
+                error instanceof CompletionException && error.getCause() != null ? error.getCause() : error)));
+    }
+
+    private static boolean isLastPage(ScholarSearchResponse response) {
+        return response.getOrganicResults() == null || response.getOrganicResults().length == 0 ||
+               response.getPagination() == null || response.getPagination().getNext() == null;
+    }
+
+    /**
+     * Result of one page request.
+     */
+    private static final class PageOutcome {
+        private final int pageIndex;
+        private final ScholarSearchResponse response;
+        private final Throwable failure;
+
+        PageOutcome(int pageIndex, ScholarSearchResponse response, Throwable failure) {
+            this.pageIndex = pageIndex;
+            this.response = response;
+            this.failure = failure;
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.innovationcenter.scholarapi.service;
+
+import com.innovationcenter.scholarapi.model.Article;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Concurrent harvesting engine for multi-researcher batches.
+ * Fans researchers out over a bounded pool of fetch workers and pipes each fetched
+ * result through a bounded queue into a pool of persist workers, so HTTP and database
+ * I/O overlap instead of running one researcher at a time.
+ *
+ * A full queue blocks the fetch workers, which keeps memory bounded when persistence
+ * is slower than the API. Virtual threads are used when running on Java 21+.
+ */
+public class ResearcherHarvester {
+    private static final Logger logger = Logger.getLogger(ResearcherHarvester.class.getName());
+
+    public static final int DEFAULT_FETCH_CONCURRENCY = 4;
+    public static final int DEFAULT_PERSIST_CONCURRENCY = 2;
+    public static final int DEFAULT_QUEUE_CAPACITY = 16;
+
+    /**
+     * Fetch stage: retrieves the raw data for one researcher, typically an API call.
+     * Returning null marks the researcher as skipped with no results.
+     */
+    @FunctionalInterface
+    public interface FetchStage<T> {
+        T fetch(String researcher) throws Exception;
+    }
+
+    /**
+     * Persist stage: stores the fetched data and returns the saved articles.
+     */
+    @FunctionalInterface
+    public interface PersistStage<T> {
+        List<Article> persist(String researcher, T fetched) throws Exception;
+    }
+
+    /**
+     * Per-researcher progress callbacks. Calls are serialized, so implementations need no locking.
+     */
+    public interface ProgressListener {
+        void researcherProcessed(String researcher, int articleCount);
+        void researcherSkipped(String researcher, String reason);
+    }
+
+    private final int fetchConcurrency;
+    private final int persistConcurrency;
+    private final int queueCapacity;
+
+    public ResearcherHarvester() {
+        this(DEFAULT_FETCH_CONCURRENCY, DEFAULT_PERSIST_CONCURRENCY, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public ResearcherHarvester(int fetchConcurrency, int persistConcurrency, int queueCapacity) {
+        if (fetchConcurrency < 1 || persistConcurrency < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("Concurrency and queue capacity must be at least 1");
+        }
+        this.fetchConcurrency = fetchConcurrency;
+        this.persistConcurrency = persistConcurrency;
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Creates a harvester sized from HARVEST_FETCH_THREADS, HARVEST_PERSIST_THREADS
+     * and HARVEST_QUEUE_CAPACITY, falling back to the defaults when unset.
+     */
+    public static ResearcherHarvester fromConfiguration(ConfigurationService configService) {
+        return new ResearcherHarvester(
+            configService.getIntProperty("HARVEST_FETCH_THREADS", DEFAULT_FETCH_CONCURRENCY),
+            configService.getIntProperty("HARVEST_PERSIST_THREADS", DEFAULT_PERSIST_CONCURRENCY),
+            configService.getIntProperty("HARVEST_QUEUE_CAPACITY", DEFAULT_QUEUE_CAPACITY)
+        );
+    }
+
+    /**
+     * Runs the fetch and persist stages for every researcher and waits for completion.
+     * Failures are reported per researcher and never abort the batch.
+     *
+     * @return All saved articles, grouped in researcher order
+     */
+    public <T> List<Article> harvest(List<String> researchers, FetchStage<T> fetchStage,
+                                     PersistStage<T> persistStage, ProgressListener listener) {
+        List<List<Article>> resultsByResearcher = new ArrayList<>(researchers.size());
+        for (int i = 0; i < researchers.size(); i++) {
+            resultsByResearcher.add(null);
+        }
+
+        BlockingQueue<FetchedItem<T>> queue = new ArrayBlockingQueue<>(queueCapacity);
+        ProgressListener progress = synchronizedListener(listener);
+
+        ExecutorService fetchPool = Executors.newFixedThreadPool(fetchConcurrency, createThreadFactory("harvest-fetch"));
+        ExecutorService persistPool = Executors.newFixedThreadPool(persistConcurrency, createThreadFactory("harvest-persist"));
+
+        logger.info("Harvesting " + researchers.size() + " researchers with " + fetchConcurrency +
+                   " fetch and " + persistConcurrency + " persist workers");
+
+        try {
+            for (int i = 0; i < persistConcurrency; i++) {
+                persistPool.execute(() -> runPersistWorker(queue, persistStage, resultsByResearcher, progress));
+            }
+
+            for (int i = 0; i < researchers.size(); i++) {
+                int index = i;
+                String researcher = researchers.get(i);
+                fetchPool.execute(() -> runFetch(index, researcher, fetchStage, queue, progress));
+            }
+
+            fetchPool.shutdown();
+            fetchPool.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+
+            // One end marker per persist worker once every fetch has been queued
+            for (int i = 0; i < persistConcurrency; i++) {
+                queue.put(FetchedItem.endOfStream());
+            }
+
+            persistPool.shutdown();
+            persistPool.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Harvest interrupted, cancelling remaining researchers");
+            fetchPool.shutdownNow();
+            persistPool.shutdownNow();
+        }
+
+        List<Article> allArticles = new ArrayList<>();
+        for (List<Article> articles : resultsByResearcher) {
+            if (articles != null) {
+                allArticles.addAll(articles);
+            }
+        }
+
+        logger.info("Harvest finished with " + allArticles.size() + " articles saved");
+        return allArticles;
+    }
+
+    private <T> void runFetch(int index, String researcher, FetchStage<T> fetchStage,
+                              BlockingQueue<FetchedItem<T>> queue, ProgressListener progress) {
+        T fetched;
+        try {
+            fetched = fetchStage.fetch(researcher);
+        } catch (Exception e) {
+            logger.log(Level.WARNING, "Failed to fetch researcher: " + researcher, e);
+            progress.researcherSkipped(researcher, e.getMessage());
+            return;
+        }
+
+        if (fetched == null) {
+            progress.researcherSkipped(researcher, "No results found");
+            return;
+        }
+
+        try {
+            // Blocks while the persist stage is behind
+            queue.put(new FetchedItem<>(index, researcher, fetched));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            progress.researcherSkipped(researcher, "Harvest interrupted");
+        }
+    }
+
+    private <T> void runPersistWorker(BlockingQueue<FetchedItem<T>> queue, PersistStage<T> persistStage,
+                                      List<List<Article>> resultsByResearcher, ProgressListener progress) {
+        while (true) {
+            FetchedItem<T> item;
+            try {
+                item = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            if (item.isEndOfStream()) {
+                return;
+            }
+
+            try {
+                List<Article> saved = persistStage.persist(item.researcher, item.data);
+                synchronized (resultsByResearcher) {
+                    resultsByResearcher.set(item.index, saved);
+                }
+                progress.researcherProcessed(item.researcher, saved.size());
+            } catch (Exception e) {
+                logger.log(Level.WARNING, "Failed to persist researcher: " + item.researcher, e);
+                progress.researcherSkipped(item.researcher, e.getMessage());
+            }
+        }
+    }
+
+    private static ProgressListener synchronizedListener(ProgressListener listener) {
+        return new ProgressListener() {
+            @Override
+            public synchronized void researcherProcessed(String researcher, int articleCount) {
+                listener.researcherProcessed(researcher, articleCount);
+            }
+
+            @Override
+            public synchronized void researcherSkipped(String researcher, String reason) {
+                listener.researcherSkipped(researcher, reason);
+            }
+        };
+    }
+
+    /**
+     * Uses virtual threads when the runtime supports them (Java 21+), platform daemon threads otherwise.
+     * Resolved reflectively because the build still targets Java 11.
+     */
+    private static ThreadFactory createThreadFactory(String prefix) {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Class<?> virtualBuilderClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = virtualBuilderClass.getMethod("name", String.class, long.class).invoke(builder, prefix + "-", 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger counter = new AtomicInteger();
+            return runnable -> {
+                Thread thread = new Thread(runnable, prefix + "-" + counter.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+    }
+
+    /**
+     * Queue element carrying one researcher's fetched data to the persist stage.
+     */
+    private static final class FetchedItem<T> {
+        private static final FetchedItem<?> END_OF_STREAM = new FetchedItem<>(-1, null, null);
+
+        private final int index;
+        private final String researcher;
+        private final T data;
+
+        FetchedItem(int index, String researcher, T data) {
+            this.index = index;
+            this.researcher = researcher;
+            this.data = data;
+        }
+
+        @SuppressWarnings("unchecked")
+        static <T> FetchedItem<T> endOfStream() {
+            return (FetchedItem<T>) END_OF_STREAM;
+        }
+
+        boolean isEndOfStream() {
+            return this == END_OF_STREAM;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.innovationcenter.scholarapi.service;
+
+import java.util.Optional;
+
+/**
+ * Interface for caching raw API responses by request key.
+ * Implementations must be thread-safe and must never fail a search:
+ * storage errors are treated as cache misses.
+ */
+public interface ResponseCache {
+
+    /**
+     * Look up a cached response.
+     * @param key Normalized request key
+     * @return Cached response body, empty if absent or expired
+     */
+    Optional<String> get(String key);
+
+    /**
+     * Store a response body under the given key.
+     * @param key Normalized request key
+     * @param value Raw response body
+     */
+    void put(String key, String value);
+
+    /**
+     * Remove a single entry.
+     * @param key Normalized request key
+     */
+    void invalidate(String key);
+
+    /**
+     * Remove all entries.
+     */
+    void clear();
+
+    /**
+     * Number of live entries.
+     * @return Entry count
+     */
+    int size();
+
+    /**
+     * Number of lookups answered from the cache.
+     * @return Hit count
+     */
+    long getHitCount();
+
+    /**
+     * Number of lookups that had to go to the network.
+     * @return Miss count
+     */
+    long getMissCount();
+
+    /**
+     * Number of entries removed to stay within the size bound.
+     * @return Eviction count
+     */
+    long getEvictionCount();
+
+    /**
+     * Release underlying resources.
+     */
+    void close();
+}
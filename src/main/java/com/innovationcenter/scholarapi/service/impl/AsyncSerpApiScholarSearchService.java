@@ -0,0 +1,192 @@
+package com.innovationcenter.scholarapi.service.impl;
+
+import com.innovationcenter.scholarapi.model.ScholarQuery;
+import com.innovationcenter.scholarapi.model.ScholarSearchResponse;
+import com.innovationcenter.scholarapi.service.ApiRateLimiter;
+import com.innovationcenter.scholarapi.service.AsyncScholarSearchService;
+import com.innovationcenter.scholarapi.service.ConfigurationService;
+import com.innovationcenter.scholarapi.service.ResponseCache;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * AsyncScholarSearchService on the JDK HttpClient.
+ * Requests are multiplexed over HTTP/2 where the server allows it and no thread waits on
+ * the network or on the rate limiter, so many searches can be in flight from a few threads.
+ * Shares the rate limiter, retry policy, parser and optional response cache of the blocking client.
+ * Cache lookups, quota bookkeeping and response handling run on a small fixed pool of
+ * daemon threads, so a caller on the JavaFX thread never waits on the disk.
+ */
+public class AsyncSerpApiScholarSearchService implements AsyncScholarSearchService {
+
+    private static final Logger logger = Logger.getLogger(AsyncSerpApiScholarSearchService.class.getName());
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    private static final int THREADS = 4;
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+
+    // Shared by all instances and the HttpClient; callbacks never block, so a few threads suffice
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "serpapi-async-" + THREAD_NUMBER.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ConfigurationService configurationService;
+    private final ApiRateLimiter rateLimiter;
+    private final ResponseCache cache;
+    private final HttpClient httpClient;
+    private final ScholarResponseParser responseParser;
+
+    public AsyncSerpApiScholarSearchService(ConfigurationService configurationService) {
+        this(configurationService, null);
+    }
+
+    /**
+     * @param cache Response cache consulted before the network, or null for none
+     */
+    public AsyncSerpApiScholarSearchService(ConfigurationService configurationService, ResponseCache cache) {
+        this(configurationService, ApiRateLimiter.getShared(configurationService), cache);
+    }
+
+    public AsyncSerpApiScholarSearchService(ConfigurationService configurationService,
+                                            ApiRateLimiter rateLimiter, ResponseCache cache) {
+        this.configurationService = configurationService;
+        this.rateLimiter = rateLimiter;
+        this.cache = cache;
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(Duration.ofSeconds(10))
+            .executor(EXECUTOR)
+            .build();
+        this.responseParser = new ScholarResponseParser();
+    }
+
+    @Override
+    public CompletableFuture<ScholarSearchResponse> searchArticlesAsync(String query, int maxResults) {
+        return execute(() -> ScholarQuery.search(query, maxResults));
+    }
+
+    @Override
+    public CompletableFuture<ScholarSearchResponse> searchByAuthorAsync(String authorName, int maxResults) {
+        return execute(() -> ScholarQuery.byAuthor(authorName, maxResults));
+    }
+
+    @Override
+    public CompletableFuture<ScholarSearchResponse> searchCitingArticlesAsync(String citesId, int maxResults) {
+        return execute(() -> ScholarQuery.citing(citesId, maxResults));
+    }
+
+    @Override
+    public CompletableFuture<ScholarSearchResponse> searchWithPaginationAsync(String query, int startIndex, int pageSize) {
+        return execute(() -> ScholarQuery.paginated(query, startIndex, pageSize));
+    }
+
+    /**
+     * Answers a prepared query from the cache or sends it.
+     */
+    public CompletableFuture<ScholarSearchResponse> execute(ScholarQuery query) {
+        return CompletableFuture.supplyAsync(() -> cached(query), EXECUTOR)
+            .thenCompose(cached -> cached.isPresent() ? CompletableFuture.completedFuture(cached.get()) : fetch(query));
+    }
+
+    /**
+     * Reads the query from the cache, dropping entries that no longer parse.
+     */
+    private Optional<ScholarSearchResponse> cached(ScholarQuery query) {
+        if (cache == null) {
+            return Optional.empty();
+        }
+        Optional<String> cached = cache.get(query.cacheKey());
+        if (cached.isPresent()) {
+            try {
+                return Optional.of(responseParser.parse(cached.get()));
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Discarding unreadable cache entry: " + query.cacheKey(), e);
+                cache.invalidate(query.cacheKey());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private CompletableFuture<ScholarSearchResponse> fetch(ScholarQuery query) {
+        logger.info("Async search: " + query.cacheKey());
+        HttpRequest request = HttpRequest.newBuilder(URI.create(
+                query.toUrl(SerpApiScholarSearchService.BASE_URL, configurationService.getApiKey())))
+            .timeout(REQUEST_TIMEOUT)
+            .GET()
+            .build();
+
+        return send(request, 0).thenApply(body -> {
+            try {
+                ScholarSearchResponse response = responseParser.parse(body);
+                if (cache != null && response.getSearchMetadata() != null &&
+                    "Success".equals(response.getSearchMetadata().getStatus())) {
+                    cache.put(query.cacheKey(), new String(body, StandardCharsets.UTF_8));
+                }
+                return response;
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    @Override
+    public boolean isConfigured() {
+        String apiKey = configurationService.getApiKey();
+        return apiKey != null && !apiKey.trim().isEmpty();
+    }
+
+    @Override
+    public String getServiceName() {
+        return "SerpAPI Google Scholar Service (async)";
+    }
+
+    /**
+     * Takes a rate limiter permit without blocking, sends the request and retries on 429.
+     */
+    private CompletableFuture<byte[]> send(HttpRequest request, int attempt) {
+        return rateLimiter.acquireAsync()
+            .thenCompose(permit -> httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()))
+            .thenCompose(response -> {
+                int statusCode = response.statusCode();
+
+                if (SerpApiScholarSearchService.backOffIfThrottled(statusCode, attempt, rateLimiter)) {
+                    return send(request, attempt + 1);
+                }
+
+                if (statusCode != 200) {
+                    return CompletableFuture.failedFuture(SerpApiScholarSearchService.requestFailed(
+                        statusCode, new String(response.body(), StandardCharsets.UTF_8)));
+                }
+
+                return CompletableFuture.completedFuture(response.body());
+            });
+    }
+
+    /**
+     * Builds the query, reporting invalid arguments through the future like any other failure.
+     */
+    private CompletableFuture<ScholarSearchResponse> execute(Supplier<ScholarQuery> querySupplier) {
+        try {
+            return execute(querySupplier.get());
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.innovationcenter.scholarapi.service.impl;
+
+import com.innovationcenter.scholarapi.model.ScholarQuery;
+import com.innovationcenter.scholarapi.model.ScholarSearchResponse;
+import com.innovationcenter.scholarapi.service.ResponseCache;
+import com.innovationcenter.scholarapi.service.ScholarSearchService;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+/**
+ * ScholarSearchService decorator that answers repeated queries from a ResponseCache.
+ * Raw JSON bodies are cached under the normalized query key, so a hit costs no
+ * SerpAPI credit and no rate limiter permit; only misses reach the delegate.
+ */
+public class CachingScholarSearchService implements ScholarSearchService {
+
+    private static final Logger logger = Logger.getLogger(CachingScholarSearchService.class.getName());
+
+    private final SerpApiScholarSearchService delegate;
+    private final ResponseCache cache;
+
+    public CachingScholarSearchService(SerpApiScholarSearchService delegate, ResponseCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public ScholarSearchResponse searchArticles(String query, int maxResults) throws IOException {
+        return execute(ScholarQuery.search(query, maxResults));
+    }
+
+    @Override
+    public ScholarSearchResponse searchByAuthor(String authorName, int maxResults) throws IOException {
+        return execute(ScholarQuery.byAuthor(authorName, maxResults));
+    }
+
+    @Override
+    public ScholarSearchResponse searchCitingArticles(String citesId, int maxResults) throws IOException {
+        return execute(ScholarQuery.citing(citesId, maxResults));
+    }
+
+    @Override
+    public ScholarSearchResponse searchWithPagination(String query, int startIndex, int pageSize) throws IOException {
+        return execute(ScholarQuery.paginated(query, startIndex, pageSize));
+    }
+
+    /**
+     * Returns the cached response for the query, fetching and caching it on a miss.
+     */
+    public ScholarSearchResponse execute(ScholarQuery query) throws IOException {
+        String key = query.cacheKey();
+        Optional<String> cached = cache.get(key);
+        if (cached.isPresent()) {
+            logger.fine("Cache hit: " + key);
+            return delegate.parseJson(cached.get());
+        }
+
+        logger.info("Cache miss, querying SerpAPI: " + key);
+        String json = delegate.fetchJson(query);
+        ScholarSearchResponse response = delegate.parseJson(json);
+
+        // Only completed searches are cached so a failed one is retried next time
+        if (response.getSearchMetadata() != null && "Success".equals(response.getSearchMetadata().getStatus())) {
+            cache.put(key, json);
+        }
+        return response;
+    }
+
+    public ResponseCache getCache() {
+        return cache;
+    }
+
+    @Override
+    public boolean isConfigured() {
+        return delegate.isConfigured();
+    }
+
+    @Override
+    public String getServiceName() {
+        return delegate.getServiceName() + " (cached)";
+    }
+
+    @Override
+    public boolean testConnection() {
+        // Always goes to the network, a cached answer would prove nothing
+        return delegate.testConnection();
+    }
+}
@@ -0,0 +1,25 @@
+package com.innovationcenter.scholarapi.service.impl;
+
+/**
+ * JMX view of one connection pool in DatabaseMetrics. Durations are in milliseconds.
+ */
+public interface ConnectionPoolMetricsMXBean {
+
+    int getActiveConnections();
+
+    int getIdleConnections();
+
+    int getTotalConnections();
+
+    int getPendingThreads();
+
+    long getConnectionAcquireCount();
+
+    long getConnectionFailures();
+
+    double getConnectionAcquireMeanMillis();
+
+    double getConnectionAcquireP99Millis();
+
+    double getConnectionAcquireMaxMillis();
+}
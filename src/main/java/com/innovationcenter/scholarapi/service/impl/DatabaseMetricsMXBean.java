@@ -0,0 +1,22 @@
+package com.innovationcenter.scholarapi.service.impl;
+
+import com.innovationcenter.scholarapi.service.DatabaseMetrics;
+
+import java.util.List;
+
+/**
+ * JMX view of the statement timings in DatabaseMetrics. Durations are in milliseconds.
+ */
+public interface DatabaseMetricsMXBean {
+
+    long getStatementCount();
+
+    long getSlowQueryCount();
+
+    long getSlowQueryThresholdMillis();
+
+    /**
+     * @return Per-template timings, most total execution time first
+     */
+    List<DatabaseMetrics.StatementMetrics> getStatements();
+}
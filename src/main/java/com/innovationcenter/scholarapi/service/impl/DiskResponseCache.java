@@ -0,0 +1,453 @@
+package com.innovationcenter.scholarapi.service.impl;
+
+import com.innovationcenter.scholarapi.service.ConfigurationService;
+import com.innovationcenter.scholarapi.service.ResponseCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Persistent ResponseCache backed by a single append-only log file.
+ * Entries are content-addressed by the SHA-256 of the request key, stored gzip-compressed,
+ * expire after a fixed TTL and are evicted least-recently-used once the compressed size
+ * exceeds the configured bound. An in-memory index maps keys to file offsets and is
+ * rebuilt by scanning the log on startup; the log is compacted when dead records
+ * outweigh live ones.
+ *
+ * Record layout: key length (int), key (UTF-8), expiry millis (long), CRC32 of payload (int),
+ * payload length (int), gzip payload. A record with an empty payload is a tombstone: it
+ * removes the key, so invalidated and evicted entries stay gone after a restart.
+ *
+ * The index is private to one process, so the directory is held with an exclusive file
+ * lock while the cache is open. A second process (the CLI next to the GUI, say) falls
+ * back to the first free instance-N subdirectory instead of appending to the same log.
+ */
+public class DiskResponseCache implements ResponseCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(DiskResponseCache.class);
+
+    private static final String LOG_FILE = "responses.log";
+    private static final String COMPACT_FILE = "responses.log.compact";
+    private static final String LOCK_FILE = "responses.lock";
+    private static final int MAX_INSTANCES = 8;
+    // Keys are hex SHA-256 digests
+    private static final int MAX_KEY_BYTES = 64;
+    private static final int RECORD_FIXED_BYTES = Integer.BYTES + Long.BYTES + Integer.BYTES * 2;
+    private static final long MIN_COMPACTION_BYTES = 1024 * 1024;
+
+    public static final String DEFAULT_DIRECTORY = ".cache/serpapi";
+    public static final long DEFAULT_TTL_HOURS = 24;
+    public static final long DEFAULT_MAX_MEGABYTES = 64;
+
+    private final Path directory;
+    private final long ttlMillis;
+    private final long maxBytes;
+    private final FileLock directoryLock;
+
+    // Access-ordered, so iteration starts at the least recently used entry
+    private final LinkedHashMap<String, Entry> index = new LinkedHashMap<>(64, 0.75f, true);
+    private FileChannel channel;
+    private long liveBytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public DiskResponseCache(Path directory, Duration ttl, long maxBytes) throws IOException {
+        this.ttlMillis = ttl.toMillis();
+        this.maxBytes = maxBytes;
+
+        FileLock lock = null;
+        Path lockedDirectory = directory;
+        for (int instance = 0; lock == null && instance < MAX_INSTANCES; instance++) {
+            lockedDirectory = instance == 0 ? directory : directory.resolve("instance-" + instance);
+            lock = tryLock(lockedDirectory);
+        }
+        if (lock == null) {
+            throw new IOException("Response cache " + directory + " is in use by " + MAX_INSTANCES + " other caches");
+        }
+        this.directory = lockedDirectory;
+        this.directoryLock = lock;
+
+        try {
+            this.channel = openLog(lockedDirectory.resolve(LOG_FILE));
+            loadIndex();
+            // The bound may have shrunk since the log was written
+            evictToFit();
+            compactIfWasteful();
+        } catch (IOException e) {
+            close();
+            throw e;
+        }
+
+        logger.info("Response cache at {} with {} entries ({} KB)", lockedDirectory, index.size(), liveBytes / 1024);
+    }
+
+    /**
+     * Creates a cache from SCHOLAR_CACHE_DIR, SCHOLAR_CACHE_TTL_HOURS and SCHOLAR_CACHE_MAX_MB.
+     */
+    public static DiskResponseCache fromConfiguration(ConfigurationService configService) throws IOException {
+        String directory = configService.getProperty("SCHOLAR_CACHE_DIR");
+        long ttlHours = configService.getLongProperty("SCHOLAR_CACHE_TTL_HOURS", DEFAULT_TTL_HOURS);
+        long maxMegabytes = configService.getLongProperty("SCHOLAR_CACHE_MAX_MB", DEFAULT_MAX_MEGABYTES);
+
+        return new DiskResponseCache(
+            Paths.get(directory != null && !directory.trim().isEmpty() ? directory.trim() : DEFAULT_DIRECTORY),
+            Duration.ofHours(ttlHours),
+            maxMegabytes * 1024 * 1024
+        );
+    }
+
+    @Override
+    public synchronized Optional<String> get(String key) {
+        String hash = hash(key);
+        Entry entry = index.get(hash);
+
+        if (entry == null || entry.isExpired()) {
+            if (entry != null) {
+                remove(hash);
+            }
+            misses++;
+            return Optional.empty();
+        }
+
+        try {
+            ByteBuffer payload = ByteBuffer.allocate(entry.payloadLength);
+            readFully(channel, payload, entry.payloadOffset);
+            hits++;
+            return Optional.of(decompress(payload.array()));
+        } catch (IOException e) {
+            logger.warn("Failed to read cache entry, treating as miss: {}", e.getMessage());
+            remove(hash);
+            misses++;
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public synchronized void put(String key, String value) {
+        String hash = hash(key);
+
+        try {
+            byte[] payload = compress(value);
+            long expiresAt = System.currentTimeMillis() + ttlMillis;
+            long payloadOffset = append(channel, hash, expiresAt, payload);
+
+            Entry previous = index.put(hash, new Entry(payloadOffset, payload.length, expiresAt));
+            if (previous != null) {
+                liveBytes -= previous.payloadLength;
+            }
+            liveBytes += payload.length;
+
+            evictToFit();
+            compactIfWasteful();
+
+        } catch (IOException e) {
+            logger.warn("Failed to write cache entry: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void invalidate(String key) {
+        remove(hash(key));
+    }
+
+    @Override
+    public synchronized void clear() {
+        index.clear();
+        liveBytes = 0;
+        try {
+            channel.truncate(0);
+        } catch (IOException e) {
+            logger.warn("Failed to truncate response cache: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized int size() {
+        return index.size();
+    }
+
+    @Override
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    @Override
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    @Override
+    public synchronized long getEvictionCount() {
+        return evictions;
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+            directoryLock.channel().close();
+        } catch (IOException e) {
+            logger.warn("Failed to close response cache: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Rebuild the in-memory index by scanning the log. A torn record at the tail is truncated.
+     * Lengths are checked against the file before anything is allocated, so a corrupt header
+     * cannot ask for a huge buffer.
+     */
+    private void loadIndex() throws IOException {
+        long position = 0;
+        long size = channel.size();
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+
+        while (position < size) {
+            try {
+                header.clear();
+                readFully(channel, header, position);
+                int keyLength = header.getInt(0);
+                if (keyLength < 0 || keyLength > MAX_KEY_BYTES || keyLength + RECORD_FIXED_BYTES > size - position) {
+                    throw new IOException("Invalid key length " + keyLength);
+                }
+
+                ByteBuffer record = ByteBuffer.allocate(keyLength + Long.BYTES + Integer.BYTES * 2);
+                readFully(channel, record, position + Integer.BYTES);
+                String hash = new String(record.array(), 0, keyLength, StandardCharsets.UTF_8);
+                record.position(keyLength);
+                long expiresAt = record.getLong();
+                int crc = record.getInt();
+                int payloadLength = record.getInt();
+
+                long payloadOffset = position + Integer.BYTES + record.capacity();
+                if (payloadLength < 0 || payloadLength > size - payloadOffset) {
+                    throw new IOException("Invalid payload length " + payloadLength);
+                }
+                ByteBuffer payload = ByteBuffer.allocate(payloadLength);
+                readFully(channel, payload, payloadOffset);
+                if (crc(payload.array()) != crc) {
+                    throw new IOException("Checksum mismatch");
+                }
+
+                if (payloadLength == 0) {
+                    index.remove(hash);
+                } else {
+                    index.put(hash, new Entry(payloadOffset, payloadLength, expiresAt));
+                }
+                position = payloadOffset + payloadLength;
+
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Truncating corrupt response cache tail at offset {}: {}", position, e.getMessage());
+                channel.truncate(position);
+                break;
+            }
+        }
+
+        index.values().removeIf(Entry::isExpired);
+        liveBytes = index.values().stream().mapToLong(entry -> entry.payloadLength).sum();
+    }
+
+    private void evictToFit() {
+        Iterator<Map.Entry<String, Entry>> iterator = index.entrySet().iterator();
+        while (liveBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, Entry> eldest = iterator.next();
+            iterator.remove();
+            liveBytes -= eldest.getValue().payloadLength;
+            evictions++;
+            appendTombstone(eldest.getKey());
+        }
+    }
+
+    /**
+     * Rewrite only live entries once the log holds more dead bytes than live ones.
+     */
+    private void compactIfWasteful() throws IOException {
+        long fileSize = channel.size();
+        if (fileSize < MIN_COMPACTION_BYTES || fileSize < liveBytes * 2) {
+            return;
+        }
+
+        Path compactPath = directory.resolve(COMPACT_FILE);
+        LinkedHashMap<String, Entry> compacted = new LinkedHashMap<>(64, 0.75f, true);
+
+        try (FileChannel target = FileChannel.open(compactPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE, StandardOpenOption.READ)) {
+            // Iterating in access order keeps the LRU order of the rebuilt index
+            for (Map.Entry<String, Entry> item : index.entrySet()) {
+                Entry entry = item.getValue();
+                if (entry.isExpired()) {
+                    continue;
+                }
+                ByteBuffer payload = ByteBuffer.allocate(entry.payloadLength);
+                readFully(channel, payload, entry.payloadOffset);
+                long payloadOffset = append(target, item.getKey(), entry.expiresAt, payload.array());
+                compacted.put(item.getKey(), new Entry(payloadOffset, entry.payloadLength, entry.expiresAt));
+            }
+            target.force(true);
+        }
+
+        channel.close();
+        Files.move(compactPath, directory.resolve(LOG_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = openLog(directory.resolve(LOG_FILE));
+
+        index.clear();
+        index.putAll(compacted);
+        liveBytes = index.values().stream().mapToLong(entry -> entry.payloadLength).sum();
+        logger.info("Compacted response cache from {} KB to {} KB", fileSize / 1024, channel.size() / 1024);
+    }
+
+    private void remove(String hash) {
+        Entry removed = index.remove(hash);
+        if (removed != null) {
+            liveBytes -= removed.payloadLength;
+            appendTombstone(hash);
+        }
+    }
+
+    /**
+     * Record the removal of a key in the log. If the write fails the entry may come back
+     * after a restart, which for a cache costs only a stale hit until it expires.
+     */
+    private void appendTombstone(String hash) {
+        try {
+            append(channel, hash, 0, new byte[0]);
+        } catch (IOException e) {
+            logger.warn("Failed to record cache removal: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Append one record at the end of the channel and return the payload offset.
+     */
+    private static long append(FileChannel target, String hash, long expiresAt, byte[] payload) throws IOException {
+        byte[] keyBytes = hash.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer record = ByteBuffer.allocate(Integer.BYTES + keyBytes.length + Long.BYTES + Integer.BYTES * 2 + payload.length);
+        record.putInt(keyBytes.length)
+              .put(keyBytes)
+              .putLong(expiresAt)
+              .putInt(crc(payload))
+              .putInt(payload.length)
+              .put(payload)
+              .flip();
+
+        long recordOffset = target.size();
+        long position = recordOffset;
+        while (record.hasRemaining()) {
+            position += target.write(record, position);
+        }
+        return recordOffset + record.capacity() - payload.length;
+    }
+
+    /**
+     * Take the exclusive lock of a cache directory, or return null if another cache holds it.
+     */
+    private static FileLock tryLock(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        FileChannel lockChannel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            FileLock lock = lockChannel.tryLock();
+            if (lock != null) {
+                return lock;
+            }
+        } catch (OverlappingFileLockException e) {
+            // Held by another cache in this JVM
+        } catch (IOException e) {
+            lockChannel.close();
+            throw e;
+        }
+        lockChannel.close();
+        return null;
+    }
+
+    private static FileChannel openLog(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    private static void readFully(FileChannel source, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = source.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("Unexpected end of cache file");
+            }
+        }
+        buffer.flip();
+    }
+
+    private static byte[] compress(String value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(value.length() / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(value.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+
+    private static String decompress(byte[] payload) throws IOException {
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static int crc(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private static String hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Location and expiry of one live record.
+     */
+    private static final class Entry {
+        private final long payloadOffset;
+        private final int payloadLength;
+        private final long expiresAt;
+
+        Entry(long payloadOffset, int payloadLength, long expiresAt) {
+            this.payloadOffset = payloadOffset;
+            this.payloadLength = payloadLength;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
+        }
+    }
+}
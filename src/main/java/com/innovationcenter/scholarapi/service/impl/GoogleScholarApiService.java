@@ -2,6 +2,7 @@ package com.innovationcenter.scholarapi.service.impl;
 
 import com.innovationcenter.scholarapi.model.Author;
 import com.innovationcenter.scholarapi.model.AuthorSearchResult;
+import com.innovationcenter.scholarapi.service.ApiRateLimiter;
 import com.innovationcenter.scholarapi.service.ApiService;
 import com.innovationcenter.scholarapi.service.ConfigurationService;
 import com.innovationcenter.scholarapi.service.JsonParser;
@@ -34,14 +35,21 @@ public class GoogleScholarApiService implements ApiService {
     private final ConfigurationService configurationService;
     private final JsonParser jsonParser;
     private final CloseableHttpClient httpClient;
+    private final ApiRateLimiter rateLimiter;
     
     /**
      * Constructor with dependency injection.
      */
     public GoogleScholarApiService(ConfigurationService configurationService, JsonParser jsonParser) {
+        this(configurationService, jsonParser, ApiRateLimiter.getShared(configurationService));
+    }
+    
+    public GoogleScholarApiService(ConfigurationService configurationService, JsonParser jsonParser,
+                                   ApiRateLimiter rateLimiter) {
         this.configurationService = configurationService;
         this.jsonParser = jsonParser;
         this.httpClient = HttpClients.createDefault();
+        this.rateLimiter = rateLimiter;
     }
     
     @Override
@@ -86,6 +94,8 @@ public class GoogleScholarApiService implements ApiService {
      * Make HTTP request to the API.
      */
     private CloseableHttpResponse makeHttpRequest(String url) throws IOException {
+        rateLimiter.acquire();
+        
         HttpGet httpGet = new HttpGet(url);
         httpGet.setHeader("User-Agent", "GoogleScholarAPI/1.0");
         return httpClient.execute(httpGet);
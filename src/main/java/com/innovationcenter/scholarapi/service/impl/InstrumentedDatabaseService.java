@@ -0,0 +1,144 @@
+package com.innovationcenter.scholarapi.service.impl;
+
+import com.innovationcenter.scholarapi.service.ConfigurationService;
+import com.innovationcenter.scholarapi.service.DatabaseMetrics;
+import com.innovationcenter.scholarapi.service.DatabaseService;
+import com.innovationcenter.scholarapi.service.MetricsRegistry;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measuring decorator for a DatabaseService.
+ *
+ * Times every connection acquisition and every statement run on the connections it hands
+ * out, reads pool counts from HikariCP when the delegate uses it, and publishes the
+ * results to any number of MetricsRegistry instances. A delegate with a separate read
+ * pool is reported as two pools, "write" and "read". Schema initialization and the
+ * data sources go straight to the delegate and are not measured.
+ */
+public class InstrumentedDatabaseService implements DatabaseService {
+
+    private static final Logger logger = LoggerFactory.getLogger(InstrumentedDatabaseService.class);
+
+    private final DatabaseService delegate;
+    private final DatabaseMetrics metrics;
+    private final DatabaseMetrics.PoolMetrics writePool;
+    private final DatabaseMetrics.PoolMetrics readPool;
+    private final List<MetricsRegistry> registries = new ArrayList<>();
+
+    public InstrumentedDatabaseService(DatabaseService delegate, long slowQueryMillis) {
+        this.delegate = delegate;
+        this.metrics = new DatabaseMetrics(slowQueryMillis);
+        this.writePool = metrics.addPool("write", () -> poolState(delegate.getDataSource()));
+        this.readPool = delegate.getReadDataSource() != delegate.getDataSource()
+            ? metrics.addPool("read", () -> poolState(delegate.getReadDataSource()))
+            : writePool;
+    }
+
+    /**
+     * Wraps the service unless DB_METRICS is false, logging statements slower than
+     * DB_SLOW_QUERY_MS and publishing over JMX unless DB_METRICS_JMX is false.
+     */
+    public static DatabaseService fromConfiguration(DatabaseService delegate, ConfigurationService configService) {
+        if ("false".equalsIgnoreCase(configService.getProperty("DB_METRICS"))) {
+            return delegate;
+        }
+        long slowQueryMillis = configService.getLongProperty(
+            "DB_SLOW_QUERY_MS", DatabaseMetrics.DEFAULT_SLOW_QUERY_MILLIS);
+        InstrumentedDatabaseService service = new InstrumentedDatabaseService(delegate, slowQueryMillis);
+        if (!"false".equalsIgnoreCase(configService.getProperty("DB_METRICS_JMX"))) {
+            service.exportTo(new JmxMetricsRegistry(), "primary");
+        }
+        logger.info("Database metrics enabled, slow statement threshold {} ms", slowQueryMillis);
+        return service;
+    }
+
+    /**
+     * Publishes the metrics to the registry until this service is closed.
+     */
+    public synchronized void exportTo(MetricsRegistry registry, String name) {
+        registry.register(name, metrics);
+        registries.add(registry);
+    }
+
+    public DatabaseMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        Connection connection;
+        try {
+            connection = delegate.getConnection();
+        } catch (SQLException e) {
+            writePool.recordAcquire(System.nanoTime() - start, false);
+            throw e;
+        }
+        writePool.recordAcquire(System.nanoTime() - start, true);
+        return InstrumentedJdbc.wrap(connection, metrics);
+    }
+
+    @Override
+    public Connection getReadConnection() throws SQLException {
+        long start = System.nanoTime();
+        Connection connection;
+        try {
+            connection = delegate.getReadConnection();
+        } catch (SQLException e) {
+            readPool.recordAcquire(System.nanoTime() - start, false);
+            throw e;
+        }
+        readPool.recordAcquire(System.nanoTime() - start, true);
+        return InstrumentedJdbc.wrap(connection, metrics);
+    }
+
+    @Override
+    public DataSource getDataSource() {
+        return delegate.getDataSource();
+    }
+
+    @Override
+    public DataSource getReadDataSource() {
+        return delegate.getReadDataSource();
+    }
+
+    @Override
+    public void initializeSchema() throws SQLException {
+        delegate.initializeSchema();
+    }
+
+    @Override
+    public boolean testConnection() {
+        return delegate.testConnection();
+    }
+
+    @Override
+    public synchronized void close() {
+        for (MetricsRegistry registry : registries) {
+            registry.close();
+        }
+        registries.clear();
+        delegate.close();
+    }
+
+    private static DatabaseMetrics.PoolState poolState(DataSource dataSource) {
+        if (!(dataSource instanceof HikariDataSource)) {
+            return DatabaseMetrics.PoolState.UNKNOWN;
+        }
+        HikariPoolMXBean pool = ((HikariDataSource) dataSource).getHikariPoolMXBean();
+        if (pool == null) {
+            return DatabaseMetrics.PoolState.UNKNOWN;
+        }
+        return new DatabaseMetrics.PoolState(pool.getActiveConnections(), pool.getIdleConnections(),
+            pool.getTotalConnections(), pool.getThreadsAwaitingConnection());
+    }
+}
@@ -0,0 +1,133 @@
+package com.innovationcenter.scholarapi.service.impl;
+
+import com.innovationcenter.scholarapi.service.DatabaseMetrics;
+import com.innovationcenter.scholarapi.util.SqlTemplates;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+/**
+ * JDBC proxies that time every statement execution of a connection.
+ *
+ * Prepared statements are keyed by the template of the SQL they were prepared with, plain
+ * statements by the SQL passed to each execute call. A query's time runs until its result
+ * set is returned, which with MySQL's default buffered results includes fetching the rows.
+ */
+final class InstrumentedJdbc {
+
+    private InstrumentedJdbc() {
+    }
+
+    static Connection wrap(Connection connection, DatabaseMetrics metrics) {
+        return proxy(Connection.class, new ConnectionHandler(connection, metrics));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(InstrumentedJdbc.class.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    // Proxies are only equal to themselves, as JDBC wrappers conventionally are
+    private static Object invokeObjectMethod(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                return invoke(target, method, args);
+        }
+    }
+
+    private static final class ConnectionHandler implements InvocationHandler {
+        private final Connection connection;
+        private final DatabaseMetrics metrics;
+
+        ConnectionHandler(Connection connection, DatabaseMetrics metrics) {
+            this.connection = connection;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return invokeObjectMethod(proxy, connection, method, args);
+            }
+            Object result = InstrumentedJdbc.invoke(connection, method, args);
+            switch (method.getName()) {
+                case "prepareStatement":
+                    return proxy(PreparedStatement.class,
+                        new StatementHandler((Statement) result, SqlTemplates.normalize((String) args[0]), metrics));
+                case "prepareCall":
+                    return proxy(CallableStatement.class,
+                        new StatementHandler((Statement) result, SqlTemplates.normalize((String) args[0]), metrics));
+                case "createStatement":
+                    return proxy(Statement.class, new StatementHandler((Statement) result, null, metrics));
+                default:
+                    return result;
+            }
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+        private final Statement statement;
+        private final String template;
+        private final DatabaseMetrics metrics;
+        private String batchTemplate;
+
+        /**
+         * @param template Template of a prepared statement, null for a plain one
+         */
+        StatementHandler(Statement statement, String template, DatabaseMetrics metrics) {
+            this.statement = statement;
+            this.template = template;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return invokeObjectMethod(proxy, statement, method, args);
+            }
+            String name = method.getName();
+            if (name.equals("addBatch") && args != null && args[0] instanceof String) {
+                batchTemplate = SqlTemplates.normalize((String) args[0]);
+            }
+            if (!name.startsWith("execute")) {
+                return InstrumentedJdbc.invoke(statement, method, args);
+            }
+
+            String executed;
+            if (args != null && args.length > 0 && args[0] instanceof String) {
+                executed = SqlTemplates.normalize((String) args[0]);
+            } else if (template != null) {
+                executed = template;
+            } else {
+                executed = batchTemplate != null ? batchTemplate : "(batch)";
+            }
+
+            long start = System.nanoTime();
+            boolean failed = true;
+            try {
+                Object result = InstrumentedJdbc.invoke(statement, method, args);
+                failed = false;
+                return result;
+            } finally {
+                metrics.recordStatement(executed, System.nanoTime() - start, failed);
+            }
+        }
+    }
+}
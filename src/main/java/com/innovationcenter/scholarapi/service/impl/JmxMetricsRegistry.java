@@ -0,0 +1,157 @@
+package com.innovationcenter.scholarapi.service.impl;
+
+import com.innovationcenter.scholarapi.service.DatabaseMetrics;
+import com.innovationcenter.scholarapi.service.MetricsRegistry;
+import com.innovationcenter.scholarapi.util.LatencyHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Publishes database metrics as MXBeans for jconsole or any JMX agent: statement timings as
+ * com.innovationcenter.scholarapi:type=DatabaseMetrics,name=&lt;name&gt; and each pool as
+ * com.innovationcenter.scholarapi:type=ConnectionPoolMetrics,database=&lt;name&gt;,name=&lt;pool&gt;.
+ */
+public class JmxMetricsRegistry implements MetricsRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(JmxMetricsRegistry.class);
+
+    private static final String DOMAIN = "com.innovationcenter.scholarapi";
+
+    private final MBeanServer server;
+    private final List<ObjectName> registered = new ArrayList<>();
+
+    public JmxMetricsRegistry() {
+        this(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    public JmxMetricsRegistry(MBeanServer server) {
+        this.server = server;
+    }
+
+    @Override
+    public synchronized void register(String name, DatabaseMetrics metrics) {
+        try {
+            ObjectName objectName = new ObjectName(DOMAIN + ":type=DatabaseMetrics,name=" + ObjectName.quote(name));
+            publish(objectName, new MetricsBean(metrics));
+            for (DatabaseMetrics.PoolMetrics pool : metrics.getPools()) {
+                publish(new ObjectName(DOMAIN + ":type=ConnectionPoolMetrics,database=" + ObjectName.quote(name) +
+                                       ",name=" + ObjectName.quote(pool.getName())), new PoolBean(pool));
+            }
+            logger.info("Database metrics published over JMX as {}", objectName);
+        } catch (JMException e) {
+            logger.warn("Could not publish database metrics over JMX: {}", e.getMessage());
+        }
+    }
+
+    private void publish(ObjectName objectName, Object bean) throws JMException {
+        if (server.isRegistered(objectName)) {
+            server.unregisterMBean(objectName);
+        }
+        server.registerMBean(bean, objectName);
+        registered.add(objectName);
+    }
+
+    @Override
+    public synchronized void close() {
+        for (ObjectName objectName : registered) {
+            try {
+                server.unregisterMBean(objectName);
+            } catch (JMException e) {
+                logger.debug("Could not unregister {}: {}", objectName, e.getMessage());
+            }
+        }
+        registered.clear();
+    }
+
+    private static final class MetricsBean implements DatabaseMetricsMXBean {
+        private final DatabaseMetrics metrics;
+
+        MetricsBean(DatabaseMetrics metrics) {
+            this.metrics = metrics;
+        }
+
+        @Override
+        public long getStatementCount() {
+            return metrics.getStatementCount();
+        }
+
+        @Override
+        public long getSlowQueryCount() {
+            return metrics.getSlowQueryCount();
+        }
+
+        @Override
+        public long getSlowQueryThresholdMillis() {
+            return metrics.getSlowQueryThresholdMillis();
+        }
+
+        @Override
+        public List<DatabaseMetrics.StatementMetrics> getStatements() {
+            return metrics.getStatements();
+        }
+    }
+
+    private static final class PoolBean implements ConnectionPoolMetricsMXBean {
+        private final DatabaseMetrics.PoolMetrics pool;
+
+        PoolBean(DatabaseMetrics.PoolMetrics pool) {
+            this.pool = pool;
+        }
+
+        @Override
+        public int getActiveConnections() {
+            return pool.getState().getActive();
+        }
+
+        @Override
+        public int getIdleConnections() {
+            return pool.getState().getIdle();
+        }
+
+        @Override
+        public int getTotalConnections() {
+            return pool.getState().getTotal();
+        }
+
+        @Override
+        public int getPendingThreads() {
+            return pool.getState().getPending();
+        }
+
+        @Override
+        public long getConnectionAcquireCount() {
+            return acquire().count();
+        }
+
+        @Override
+        public long getConnectionFailures() {
+            return pool.getFailures();
+        }
+
+        @Override
+        public double getConnectionAcquireMeanMillis() {
+            return DatabaseMetrics.toMillis(acquire().meanNanos());
+        }
+
+        @Override
+        public double getConnectionAcquireP99Millis() {
+            return DatabaseMetrics.toMillis(acquire().percentileNanos(99));
+        }
+
+        @Override
+        public double getConnectionAcquireMaxMillis() {
+            return DatabaseMetrics.toMillis(acquire().maxNanos());
+        }
+
+        private LatencyHistogram acquire() {
+            return pool.getAcquireLatency();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.innovationcenter.scholarapi.service.impl;
 
 import com.innovationcenter.scholarapi.service.ConfigurationService;
 import com.innovationcenter.scholarapi.service.DatabaseService;
+import com.innovationcenter.scholarapi.util.AuthorNameNormalizer;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import org.slf4j.Logger;
@@ -9,12 +10,18 @@ import org.slf4j.LoggerFactory;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 
 /**
  * MySQL implementation of DatabaseService using HikariCP for connection pooling.
  * Handles database connections, schema initialization, and resource management.
+ *
+ * Writes and reads use separate pools, sized by the PoolProfile named in DB_WRITE_POOL_PROFILE
+ * and DB_READ_POOL_PROFILE, so a bulk import holding every write connection leaves the
+ * GUI's reads their own. DB_READ_POOL_PROFILE=none keeps a single pool.
  */
 public class MySQLDatabaseService implements DatabaseService {
     
@@ -36,27 +43,154 @@ public class MySQLDatabaseService implements DatabaseService {
         "publisher VARCHAR(255), " +
         "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
         "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP, " +
-        "INDEX idx_google_scholar_id (google_scholar_id), " +
+        "UNIQUE INDEX idx_google_scholar_id (google_scholar_id), " +
         "INDEX idx_authors (authors(100)), " +
         "INDEX idx_publication_year (publication_year), " +
-        "INDEX idx_citation_count (citation_count)" +
+        "INDEX idx_citation_count (citation_count), " +
+        "FULLTEXT INDEX ft_title_abstract (paper_title, abstract_text)" +
         ")";
     
+    private static final String CREATE_AUTHORS_TABLE =
+        "CREATE TABLE IF NOT EXISTS authors (" +
+        "id BIGINT PRIMARY KEY AUTO_INCREMENT, " +
+        "full_name VARCHAR(255) NOT NULL, " +
+        "name_key VARCHAR(255), " +
+        "first_seen TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+        "last_updated TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP, " +
+        "deleted_at TIMESTAMP NULL DEFAULT NULL, " +
+        "article_count INT DEFAULT 0, " +
+        "total_citations INT DEFAULT 0, " +
+        "UNIQUE INDEX idx_full_name (full_name), " +
+        "INDEX idx_name_key (name_key), " +
+        "INDEX idx_article_count (article_count), " +
+        "INDEX idx_total_citations (total_citations), " +
+        "INDEX idx_deleted_at (deleted_at)" +
+        ")";
+    
+    private static final String CREATE_ARTICLE_AUTHORS_TABLE =
+        "CREATE TABLE IF NOT EXISTS article_authors (" +
+        "id BIGINT PRIMARY KEY AUTO_INCREMENT, " +
+        "article_id BIGINT NOT NULL, " +
+        "author_id BIGINT NOT NULL, " +
+        "author_position INT, " +
+        "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+        "FOREIGN KEY (article_id) REFERENCES articles(id) ON DELETE CASCADE, " +
+        "FOREIGN KEY (author_id) REFERENCES authors(id) ON DELETE CASCADE, " +
+        "UNIQUE INDEX idx_article_author (article_id, author_id), " +
+        "INDEX idx_author_id (author_id), " +
+        "INDEX idx_article_id (article_id)" +
+        ")";
+    
+    private static final String CREATE_AUTHOR_METRICS_TABLE =
+        "CREATE TABLE IF NOT EXISTS author_metrics (" +
+        "author_id BIGINT PRIMARY KEY, " +
+        "article_count INT NOT NULL DEFAULT 0, " +
+        "total_citations INT NOT NULL DEFAULT 0, " +
+        "h_index INT NOT NULL DEFAULT 0, " +
+        "i10_index INT NOT NULL DEFAULT 0, " +
+        "first_year INT NULL, " +
+        "citations_per_year DOUBLE NOT NULL DEFAULT 0, " +
+        "citation_percentile DOUBLE NOT NULL DEFAULT 0, " +
+        "h_index_percentile DOUBLE NOT NULL DEFAULT 0, " +
+        "computed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP, " +
+        "FOREIGN KEY (author_id) REFERENCES authors(id) ON DELETE CASCADE, " +
+        "INDEX idx_h_index (h_index, total_citations)" +
+        ")";
+    
+    private static final String CREATE_CITATIONS_TABLE =
+        "CREATE TABLE IF NOT EXISTS article_citations (" +
+        "citing_article_id BIGINT NOT NULL, " +
+        "cited_article_id BIGINT NOT NULL, " +
+        "discovered_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+        "PRIMARY KEY (citing_article_id, cited_article_id), " +
+        "INDEX idx_cited_article_id (cited_article_id), " +
+        "FOREIGN KEY (citing_article_id) REFERENCES articles(id) ON DELETE CASCADE, " +
+        "FOREIGN KEY (cited_article_id) REFERENCES articles(id) ON DELETE CASCADE" +
+        ")";
+    
+    // Cites IDs already expanded by the citation crawler, so reruns skip their API calls
+    private static final String CREATE_CRAWL_VISITED_TABLE =
+        "CREATE TABLE IF NOT EXISTS citation_crawl_visited (" +
+        "cites_id VARCHAR(50) PRIMARY KEY, " +
+        "article_id BIGINT NOT NULL, " +
+        "depth INTEGER NOT NULL, " +
+        "crawled_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP" +
+        ")";
+    
+    // Tables created before the Scholar ID became the upsert key still carry a non-unique index
+    private static final String CHECK_SCHOLAR_ID_INDEX =
+        "SELECT non_unique FROM information_schema.statistics " +
+        "WHERE table_schema = DATABASE() AND table_name = 'articles' AND index_name = 'idx_google_scholar_id' LIMIT 1";
+    
+    private static final String MAKE_SCHOLAR_ID_INDEX_UNIQUE =
+        "ALTER TABLE articles DROP INDEX idx_google_scholar_id, " +
+        "ADD UNIQUE INDEX idx_google_scholar_id (google_scholar_id)";
+    
+    // Tables created before full-text search have no FULLTEXT index yet
+    private static final String CHECK_FULLTEXT_INDEX =
+        "SELECT 1 FROM information_schema.statistics " +
+        "WHERE table_schema = DATABASE() AND table_name = 'articles' AND index_name = 'ft_title_abstract' LIMIT 1";
+    
+    private static final String ADD_FULLTEXT_INDEX =
+        "ALTER TABLE articles ADD FULLTEXT INDEX ft_title_abstract (paper_title, abstract_text)";
+    
+    // Authors tables created before name-key lookups have no name_key column yet
+    private static final String CHECK_NAME_KEY_COLUMN =
+        "SELECT 1 FROM information_schema.columns " +
+        "WHERE table_schema = DATABASE() AND table_name = 'authors' AND column_name = 'name_key' LIMIT 1";
+    
+    private static final String ADD_NAME_KEY_COLUMN =
+        "ALTER TABLE authors ADD COLUMN name_key VARCHAR(255) AFTER full_name, ADD INDEX idx_name_key (name_key)";
+    
+    private static final int NAME_KEY_BACKFILL_BATCH = 1000;
+    
     private final HikariDataSource dataSource;
+    private final HikariDataSource readDataSource;
     
     public MySQLDatabaseService(ConfigurationService configService) {
-        this.dataSource = createDataSource(configService);
+        PoolProfile writeProfile = PoolProfile.fromConfiguration(configService, "DB_WRITE_POOL", PoolProfile.INTERACTIVE);
+        if (writeProfile == null) {
+            writeProfile = PoolProfile.INTERACTIVE;
+        }
+        PoolProfile readProfile = PoolProfile.fromConfiguration(configService, "DB_READ_POOL", PoolProfile.ANALYTICS);
+        
+        this.dataSource = createDataSource(configService, "DB", "scholar-write", writeProfile, false);
+        this.readDataSource = readProfile != null
+            ? createDataSource(configService, "DB", "scholar-read", readProfile, false)
+            : null;
+    }
+    
+    /**
+     * Creates a read-only pool on the replica named by DB_REPLICA_HOST, sized by
+     * DB_REPLICA_POOL_PROFILE. DB_REPLICA_PORT, DB_REPLICA_USER and DB_REPLICA_PASSWORD
+     * default to the primary's settings; the database name is always the primary's.
+     *
+     * @return The replica pool, or null if no replica is configured
+     */
+    static HikariDataSource createReplicaDataSource(ConfigurationService configService) {
+        if (isBlank(configService.getProperty("DB_REPLICA_HOST"))) {
+            return null;
+        }
+        PoolProfile profile = PoolProfile.fromConfiguration(configService, "DB_REPLICA_POOL", PoolProfile.ANALYTICS);
+        if (profile == null) {
+            profile = PoolProfile.ANALYTICS;
+        }
+        return createDataSource(configService, "DB_REPLICA", "scholar-replica", profile, true);
     }
     
-    private HikariDataSource createDataSource(ConfigurationService configService) {
+    /**
+     * @param keyPrefix Prefix of the host, port, user and password keys; any missing falls back to DB_*
+     */
+    private static HikariDataSource createDataSource(ConfigurationService configService, String keyPrefix,
+                                                     String poolName, PoolProfile profile, boolean readOnly) {
         HikariConfig config = new HikariConfig();
         
         // Database connection properties
-        String host = configService.getProperty("DB_HOST");
-        String port = configService.getProperty("DB_PORT");
+        String host = property(configService, keyPrefix, "HOST");
+        String port = property(configService, keyPrefix, "PORT");
         String database = configService.getProperty("DB_NAME");
-        String username = configService.getProperty("DB_USER");
-        String password = configService.getProperty("DB_PASSWORD");
+        String username = property(configService, keyPrefix, "USER");
+        String password = property(configService, keyPrefix, "PASSWORD");
         
         String jdbcUrl = String.format("jdbc:mysql://%s:%s/%s", host, port, database);
         
@@ -66,11 +200,13 @@ public class MySQLDatabaseService implements DatabaseService {
         config.setDriverClassName("com.mysql.cj.jdbc.Driver");
         
         // Connection pool settings
-        config.setMaximumPoolSize(10);
-        config.setMinimumIdle(2);
-        config.setConnectionTimeout(30000);
-        config.setIdleTimeout(600000);
-        config.setMaxLifetime(1800000);
+        config.setPoolName(poolName);
+        config.setMaximumPoolSize(profile.getMaximumPoolSize());
+        config.setMinimumIdle(profile.getMinimumIdle());
+        config.setConnectionTimeout(profile.getConnectionTimeoutMillis());
+        config.setIdleTimeout(profile.getIdleTimeoutMillis());
+        config.setMaxLifetime(profile.getMaxLifetimeMillis());
+        config.setReadOnly(readOnly || profile.isReadOnly());
         
         // Additional MySQL-specific settings
         config.addDataSourceProperty("useSSL", "true");
@@ -80,21 +216,56 @@ public class MySQLDatabaseService implements DatabaseService {
         config.addDataSourceProperty("characterEncoding", "utf8");
         config.addDataSourceProperty("serverTimezone", "UTC");
         
-        logger.info("Initializing MySQL connection pool to {}:{}/{}", host, port, database);
+        // Collapse JDBC batches into multi-row INSERTs (used by batch article saves)
+        config.addDataSourceProperty("rewriteBatchedStatements", "true");
+        
+        // Parse each statement once per connection and keep it prepared on the server
+        config.addDataSourceProperty("cachePrepStmts", "true");
+        config.addDataSourceProperty("prepStmtCacheSize", String.valueOf(profile.getStatementCacheSize()));
+        config.addDataSourceProperty("prepStmtCacheSqlLimit", String.valueOf(profile.getStatementCacheSqlLimit()));
+        config.addDataSourceProperty("useServerPrepStmts", "true");
+        config.addDataSourceProperty("cacheResultSetMetadata", "true");
+        
+        // Answer autocommit, isolation and read-only checks locally instead of asking the server
+        config.addDataSourceProperty("useLocalSessionState", "true");
+        config.addDataSourceProperty("cacheServerConfiguration", "true");
+        config.addDataSourceProperty("elideSetAutoCommits", "true");
+        config.addDataSourceProperty("maintainTimeStats", "false");
+        
+        logger.info("Initializing MySQL connection pool {} to {}:{}/{}: {}", poolName, host, port, database, profile);
         
         return new HikariDataSource(config);
     }
     
+    private static String property(ConfigurationService configService, String keyPrefix, String name) {
+        String value = configService.getProperty(keyPrefix + "_" + name);
+        return isBlank(value) ? configService.getProperty("DB_" + name) : value;
+    }
+    
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+    
     @Override
     public Connection getConnection() throws SQLException {
         return dataSource.getConnection();
     }
     
+    @Override
+    public Connection getReadConnection() throws SQLException {
+        return readDataSource != null ? readDataSource.getConnection() : dataSource.getConnection();
+    }
+    
     @Override
     public DataSource getDataSource() {
         return dataSource;
     }
     
+    @Override
+    public DataSource getReadDataSource() {
+        return readDataSource != null ? readDataSource : dataSource;
+    }
+    
     @Override
     public void initializeSchema() throws SQLException {
         logger.info("Initializing database schema...");
@@ -105,12 +276,109 @@ public class MySQLDatabaseService implements DatabaseService {
             statement.execute(CREATE_ARTICLES_TABLE);
             logger.info("Articles table created or verified successfully");
             
+            ensureUniqueScholarIdIndex(statement);
+            ensureFullTextIndex(statement);
+            
+            statement.execute(CREATE_AUTHORS_TABLE);
+            statement.execute(CREATE_ARTICLE_AUTHORS_TABLE);
+            ensureAuthorNameKeys(connection, statement);
+            statement.execute(CREATE_AUTHOR_METRICS_TABLE);
+            logger.info("Author tables created or verified successfully");
+            
+            statement.execute(CREATE_CITATIONS_TABLE);
+            statement.execute(CREATE_CRAWL_VISITED_TABLE);
+            logger.info("Citation tables created or verified successfully");
+            
         } catch (SQLException e) {
             logger.error("Failed to initialize database schema: {}", e.getMessage());
             throw e;
         }
     }
     
+    /**
+     * Upgrade a legacy non-unique Scholar ID index so upserts can deduplicate on it.
+     */
+    private void ensureUniqueScholarIdIndex(Statement statement) throws SQLException {
+        boolean nonUnique;
+        try (ResultSet resultSet = statement.executeQuery(CHECK_SCHOLAR_ID_INDEX)) {
+            nonUnique = resultSet.next() && resultSet.getInt(1) == 1;
+        }
+        
+        if (nonUnique) {
+            logger.info("Upgrading idx_google_scholar_id to a unique index");
+            try {
+                statement.execute(MAKE_SCHOLAR_ID_INDEX_UNIQUE);
+            } catch (SQLException e) {
+                logger.warn("Could not make idx_google_scholar_id unique, duplicate Scholar IDs must be removed first: {}",
+                    e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Add the title/abstract FULLTEXT index to a table created before it existed.
+     */
+    private void ensureFullTextIndex(Statement statement) throws SQLException {
+        boolean present;
+        try (ResultSet resultSet = statement.executeQuery(CHECK_FULLTEXT_INDEX)) {
+            present = resultSet.next();
+        }
+        
+        if (!present) {
+            logger.info("Adding FULLTEXT index ft_title_abstract, this rebuilds the articles table once");
+            try {
+                statement.execute(ADD_FULLTEXT_INDEX);
+            } catch (SQLException e) {
+                logger.warn("Could not add FULLTEXT index, title search will scan the table: {}", e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Add the name_key column to a legacy authors table and fill it for rows that lack one.
+     * Keys are computed in Java, since MySQL has no diacritic-stripping function.
+     */
+    private void ensureAuthorNameKeys(Connection connection, Statement statement) throws SQLException {
+        boolean present;
+        try (ResultSet resultSet = statement.executeQuery(CHECK_NAME_KEY_COLUMN)) {
+            present = resultSet.next();
+        }
+        if (!present) {
+            logger.info("Adding authors.name_key for indexed author lookups");
+            statement.execute(ADD_NAME_KEY_COLUMN);
+        }
+        
+        String selectSql = "SELECT id, full_name FROM authors WHERE name_key IS NULL LIMIT " + NAME_KEY_BACKFILL_BATCH;
+        String updateSql = "UPDATE authors SET name_key = ? WHERE id = ?";
+        long filled = 0;
+        
+        try (PreparedStatement select = connection.prepareStatement(selectSql);
+             PreparedStatement update = connection.prepareStatement(updateSql)) {
+            
+            // Each batch fills its rows, so the next SELECT no longer sees them
+            int batch;
+            do {
+                batch = 0;
+                try (ResultSet resultSet = select.executeQuery()) {
+                    while (resultSet.next()) {
+                        update.setString(1, AuthorNameNormalizer.toKey(resultSet.getString("full_name")));
+                        update.setLong(2, resultSet.getLong("id"));
+                        update.addBatch();
+                        batch++;
+                    }
+                }
+                if (batch > 0) {
+                    update.executeBatch();
+                    filled += batch;
+                }
+            } while (batch == NAME_KEY_BACKFILL_BATCH);
+        }
+        
+        if (filled > 0) {
+            logger.info("Backfilled name_key for {} authors", filled);
+        }
+    }
+    
     @Override
     public boolean testConnection() {
         try (Connection connection = getConnection()) {
@@ -129,6 +397,9 @@ public class MySQLDatabaseService implements DatabaseService {
     
     @Override
     public void close() {
+        if (readDataSource != null && !readDataSource.isClosed()) {
+            readDataSource.close();
+        }
         if (dataSource != null && !dataSource.isClosed()) {
             logger.info("Closing database connection pool");
             dataSource.close();
@@ -0,0 +1,144 @@
+package com.innovationcenter.scholarapi.service.impl;
+
+import com.innovationcenter.scholarapi.service.ConfigurationService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Locale;
+
+/**
+ * Sizing, timeouts and statement cache of one connection pool, tuned for a kind of workload.
+ *
+ * interactive: few connections that fail fast, so the GUI reports a busy database instead of hanging.
+ * bulk-ingest: few long-waiting writers with a large statement cache for generated multi-row batches.
+ * analytics: read-only sessions for heavy reports, which MySQL runs without transaction IDs.
+ */
+public final class PoolProfile {
+
+    private static final Logger logger = LoggerFactory.getLogger(PoolProfile.class);
+
+    public static final PoolProfile INTERACTIVE = new PoolProfile("interactive", 10, 2, 5_000, 600_000, 1_800_000, 250, 2048, false);
+    public static final PoolProfile BULK_INGEST = new PoolProfile("bulk-ingest", 4, 1, 60_000, 300_000, 1_800_000, 500, 16384, false);
+    public static final PoolProfile ANALYTICS = new PoolProfile("analytics", 6, 1, 30_000, 600_000, 1_800_000, 250, 4096, true);
+
+    private final String name;
+    private final int maximumPoolSize;
+    private final int minimumIdle;
+    private final long connectionTimeoutMillis;
+    private final long idleTimeoutMillis;
+    private final long maxLifetimeMillis;
+    private final int statementCacheSize;
+    private final int statementCacheSqlLimit;
+    private final boolean readOnly;
+
+    public PoolProfile(String name, int maximumPoolSize, int minimumIdle, long connectionTimeoutMillis,
+                       long idleTimeoutMillis, long maxLifetimeMillis, int statementCacheSize,
+                       int statementCacheSqlLimit, boolean readOnly) {
+        this.name = name;
+        this.maximumPoolSize = maximumPoolSize;
+        this.minimumIdle = minimumIdle;
+        this.connectionTimeoutMillis = connectionTimeoutMillis;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.maxLifetimeMillis = maxLifetimeMillis;
+        this.statementCacheSize = statementCacheSize;
+        this.statementCacheSqlLimit = statementCacheSqlLimit;
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * @return The built-in profile of that name, or null
+     */
+    public static PoolProfile named(String name) {
+        switch (name.trim().toLowerCase(Locale.ROOT)) {
+            case "interactive":
+                return INTERACTIVE;
+            case "bulk-ingest":
+                return BULK_INGEST;
+            case "analytics":
+                return ANALYTICS;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Reads &lt;prefix&gt;_PROFILE and applies the &lt;prefix&gt;_MAX_SIZE, _MIN_IDLE,
+     * _CONNECTION_TIMEOUT_MS and _STATEMENT_CACHE_SIZE overrides present.
+     *
+     * @return The configured profile, defaultProfile if none is named, or null if the
+     *         profile is "none"
+     */
+    public static PoolProfile fromConfiguration(ConfigurationService configService, String prefix, PoolProfile defaultProfile) {
+        String profileName = configService.getProperty(prefix + "_PROFILE");
+        PoolProfile profile = defaultProfile;
+        if (profileName != null && !profileName.trim().isEmpty()) {
+            if ("none".equalsIgnoreCase(profileName.trim())) {
+                return null;
+            }
+            profile = named(profileName);
+            if (profile == null) {
+                logger.warn("Unknown pool profile {} for {}, using {}", profileName, prefix, defaultProfile.name);
+                profile = defaultProfile;
+            }
+        }
+
+        return new PoolProfile(profile.name,
+            configService.getIntProperty(prefix + "_MAX_SIZE", profile.maximumPoolSize),
+            configService.getIntProperty(prefix + "_MIN_IDLE", profile.minimumIdle),
+            configService.getLongProperty(prefix + "_CONNECTION_TIMEOUT_MS", profile.connectionTimeoutMillis),
+            profile.idleTimeoutMillis,
+            profile.maxLifetimeMillis,
+            configService.getIntProperty(prefix + "_STATEMENT_CACHE_SIZE", profile.statementCacheSize),
+            profile.statementCacheSqlLimit,
+            profile.readOnly);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    public int getMinimumIdle() {
+        return minimumIdle;
+    }
+
+    public long getConnectionTimeoutMillis() {
+        return connectionTimeoutMillis;
+    }
+
+    public long getIdleTimeoutMillis() {
+        return idleTimeoutMillis;
+    }
+
+    public long getMaxLifetimeMillis() {
+        return maxLifetimeMillis;
+    }
+
+    /**
+     * @return Prepared statements cached per connection by the driver
+     */
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
+    /**
+     * @return Longest SQL, in characters, the driver caches a statement for
+     */
+    public int getStatementCacheSqlLimit() {
+        return statementCacheSqlLimit;
+    }
+
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + maximumPoolSize + " connections, " + minimumIdle + " idle, " +
+               connectionTimeoutMillis + " ms wait, " + statementCacheSize + " cached statements" +
+               (readOnly ? ", read-only" : "") + ")";
+    }
+}
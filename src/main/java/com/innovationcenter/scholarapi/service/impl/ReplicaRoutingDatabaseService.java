@@ -0,0 +1,238 @@
+package com.innovationcenter.scholarapi.service.impl;
+
+import com.innovationcenter.scholarapi.service.ConfigurationService;
+import com.innovationcenter.scholarapi.service.DatabaseService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Decorator that sends reads to a read-only replica and everything else to the primary.
+ *
+ * Repositories ask for getReadConnection when a statement only reads, and those connections
+ * come from the replica, except for a session that has written recently: while it holds a
+ * write connection, and for DB_READ_YOUR_WRITES_MS after closing one, its reads go to the
+ * primary's read pool so it sees its own writes despite replication lag. Reads whose result
+ * decides a write must still use getConnection, since other sessions' writes may not have
+ * reached the replica. When the replica cannot be reached, reads fall back to the primary
+ * and the replica is retried after a pause.
+ *
+ * A session is a thread by default, which suits the CLI and batch jobs where one thread
+ * writes and then reads back; other threads keep reading the replica and may briefly see
+ * older data. The GUI writes on worker threads and reads on others, so it uses
+ * {@link SessionScope#PROCESS}: any write sends every read to the primary for the window.
+ */
+public class ReplicaRoutingDatabaseService implements DatabaseService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDatabaseService.class);
+
+    public static final long DEFAULT_READ_YOUR_WRITES_MILLIS = 2000;
+
+    static final long REPLICA_RETRY_MILLIS = 30_000;
+
+    /**
+     * What shares one read-your-writes session.
+     */
+    public enum SessionScope {
+        /** Each thread reads its own writes from the primary. */
+        THREAD,
+        /** A write by any thread sends every thread's reads to the primary. */
+        PROCESS
+    }
+
+    private final DatabaseService primary;
+    private final DataSource replica;
+    private final long readYourWritesNanos;
+    private final LongSupplier nanoClock;
+
+    private final ThreadLocal<Session> sessions;
+    private volatile long replicaRetryAt;
+    private volatile boolean replicaDown;
+
+    /**
+     * @param replica Read-only data source kept in sync with the primary
+     * @param readYourWritesMillis How long after a write the writing thread keeps reading from the primary
+     */
+    public ReplicaRoutingDatabaseService(DatabaseService primary, DataSource replica, long readYourWritesMillis,
+                                         SessionScope scope) {
+        this(primary, replica, readYourWritesMillis, scope, System::nanoTime);
+    }
+
+    ReplicaRoutingDatabaseService(DatabaseService primary, DataSource replica, long readYourWritesMillis,
+                                  SessionScope scope, LongSupplier nanoClock) {
+        this.primary = primary;
+        this.replica = replica;
+        this.readYourWritesNanos = TimeUnit.MILLISECONDS.toNanos(readYourWritesMillis);
+        this.nanoClock = nanoClock;
+        if (scope == SessionScope.PROCESS) {
+            Session shared = new Session();
+            this.sessions = ThreadLocal.withInitial(() -> shared);
+        } else {
+            this.sessions = ThreadLocal.withInitial(Session::new);
+        }
+    }
+
+    /**
+     * Routes reads to the replica named by DB_REPLICA_HOST with per-thread sessions, or
+     * returns the primary unchanged if none is configured.
+     */
+    public static DatabaseService fromConfiguration(DatabaseService primary, ConfigurationService configService) {
+        return fromConfiguration(primary, configService, SessionScope.THREAD);
+    }
+
+    /**
+     * Routes reads to the replica named by DB_REPLICA_HOST, or returns the primary unchanged
+     * if none is configured.
+     */
+    public static DatabaseService fromConfiguration(DatabaseService primary, ConfigurationService configService,
+                                                    SessionScope scope) {
+        DataSource replica = MySQLDatabaseService.createReplicaDataSource(configService);
+        if (replica == null) {
+            return primary;
+        }
+        long readYourWritesMillis = configService.getLongProperty(
+            "DB_READ_YOUR_WRITES_MS", DEFAULT_READ_YOUR_WRITES_MILLIS);
+        logger.info("Routing reads to replica {}, read-your-writes window {} ms per {}",
+            configService.getProperty("DB_REPLICA_HOST"), readYourWritesMillis, scope.name().toLowerCase(Locale.ROOT));
+        return new ReplicaRoutingDatabaseService(primary, replica, readYourWritesMillis, scope);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Session session = sessions.get();
+        Connection connection = primary.getConnection();
+        session.writeOpened();
+        return trackClose(connection, session);
+    }
+
+    @Override
+    public Connection getReadConnection() throws SQLException {
+        if (sessions.get().hasRecentWrite(nanoClock.getAsLong(), readYourWritesNanos)) {
+            return primary.getReadConnection();
+        }
+        if (replicaDown && nanoClock.getAsLong() - replicaRetryAt < 0) {
+            return primary.getReadConnection();
+        }
+        try {
+            Connection connection = replica.getConnection();
+            if (replicaDown) {
+                replicaDown = false;
+                logger.info("Replica reachable again, routing reads to it");
+            }
+            return connection;
+        } catch (SQLException e) {
+            replicaRetryAt = nanoClock.getAsLong() + TimeUnit.MILLISECONDS.toNanos(REPLICA_RETRY_MILLIS);
+            if (!replicaDown) {
+                replicaDown = true;
+                logger.warn("Replica unavailable, reading from the primary for the next {} ms: {}",
+                    REPLICA_RETRY_MILLIS, e.getMessage());
+            }
+            return primary.getReadConnection();
+        }
+    }
+
+    @Override
+    public DataSource getDataSource() {
+        return primary.getDataSource();
+    }
+
+    @Override
+    public DataSource getReadDataSource() {
+        return replica;
+    }
+
+    @Override
+    public void initializeSchema() throws SQLException {
+        primary.initializeSchema();
+    }
+
+    /**
+     * Tests the primary; an unreachable replica is only logged, since reads fall back to the primary.
+     */
+    @Override
+    public boolean testConnection() {
+        try (Connection connection = replica.getConnection()) {
+            if (!connection.isValid(5)) {
+                logger.warn("Replica connection is not valid");
+            }
+        } catch (SQLException e) {
+            logger.warn("Replica connection test failed: {}", e.getMessage());
+        }
+        return primary.testConnection();
+    }
+
+    @Override
+    public void close() {
+        if (replica instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) replica).close();
+                logger.info("Replica connection pool closed");
+            } catch (Exception e) {
+                logger.warn("Failed to close replica connection pool: {}", e.getMessage());
+            }
+        }
+        primary.close();
+    }
+
+    /**
+     * Wraps a write connection so that closing it, once, ends the write in its session.
+     */
+    private Connection trackClose(Connection connection, Session session) {
+        boolean[] closed = {false};
+        return (Connection) Proxy.newProxyInstance(ReplicaRoutingDatabaseService.class.getClassLoader(),
+            new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "close":
+                        if (!closed[0]) {
+                            closed[0] = true;
+                            session.writeClosed(nanoClock.getAsLong());
+                        }
+                        break;
+                    default:
+                        break;
+                }
+                try {
+                    return method.invoke(connection, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+    }
+
+    /**
+     * Write state of one session, safe to update from any thread since a connection may be
+     * closed elsewhere and a process-wide session is shared.
+     */
+    private static final class Session {
+        private final AtomicInteger openWrites = new AtomicInteger();
+        private volatile long lastWriteNanos;
+        private volatile boolean written;
+
+        void writeOpened() {
+            openWrites.incrementAndGet();
+        }
+
+        void writeClosed(long now) {
+            openWrites.decrementAndGet();
+            lastWriteNanos = now;
+            written = true;
+        }
+
+        boolean hasRecentWrite(long now, long windowNanos) {
+            return openWrites.get() > 0 || (written && now - lastWriteNanos < windowNanos);
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package com.innovationcenter.scholarapi.service.impl;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.innovationcenter.scholarapi.model.ScholarQuery;
+import com.innovationcenter.scholarapi.model.ScholarSearchResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming parser for SerpAPI Google Scholar responses.
+ * Pulls tokens straight from the response stream into ScholarSearchResponse objects,
+ * so no intermediate String or JSON tree is built, and skips every field that is
+ * not mapped without materializing it.
+ */
+public class ScholarResponseParser {
+
+    // Thread-safe and expensive to create, shared by all parser instances
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final boolean includeRelatedSearches;
+
+    public ScholarResponseParser() {
+        this(false);
+    }
+
+    /**
+     * @param includeRelatedSearches Whether to map related_searches, skipped by default
+     */
+    public ScholarResponseParser(boolean includeRelatedSearches) {
+        this.includeRelatedSearches = includeRelatedSearches;
+    }
+
+    /**
+     * Parses a response body from a stream, closing it once the document ends.
+     *
+     * @throws IOException If the stream fails or is not a JSON object
+     */
+    public ScholarSearchResponse parse(InputStream input) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(input)) {
+            return readResponse(parser);
+        }
+    }
+
+    /**
+     * Parses a response body received as raw UTF-8 bytes.
+     */
+    public ScholarSearchResponse parse(byte[] json) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            return readResponse(parser);
+        }
+    }
+
+    /**
+     * Parses a response body that is already in memory, such as a cached one.
+     */
+    public ScholarSearchResponse parse(String json) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            return readResponse(parser);
+        }
+    }
+
+    private ScholarSearchResponse readResponse(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Expected a JSON object at the start of the response");
+        }
+
+        ScholarSearchResponse response = new ScholarSearchResponse();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+
+            switch (field) {
+                case "search_metadata":
+                    if (value == JsonToken.START_OBJECT) response.setSearchMetadata(readMetadata(parser));
+                    else parser.skipChildren();
+                    break;
+                case "search_information":
+                    if (value == JsonToken.START_OBJECT) response.setSearchInformation(readInformation(parser));
+                    else parser.skipChildren();
+                    break;
+                case "organic_results":
+                    if (value == JsonToken.START_ARRAY) response.setOrganicResults(readOrganicResults(parser));
+                    else parser.skipChildren();
+                    break;
+                case "related_searches":
+                    if (includeRelatedSearches && value == JsonToken.START_ARRAY) {
+                        response.setRelatedSearches(readRelatedSearches(parser));
+                    } else {
+                        parser.skipChildren();
+                    }
+                    break;
+                case "serpapi_pagination":
+                    // Preferred over Google's own links since it points back at SerpAPI
+                    if (value == JsonToken.START_OBJECT) response.setPagination(readPagination(parser));
+                    else parser.skipChildren();
+                    break;
+                case "pagination":
+                    if (value == JsonToken.START_OBJECT && response.getPagination() == null) {
+                        response.setPagination(readPagination(parser));
+                    } else {
+                        parser.skipChildren();
+                    }
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return response;
+    }
+
+    private ScholarSearchResponse.SearchMetadata readMetadata(JsonParser parser) throws IOException {
+        ScholarSearchResponse.SearchMetadata metadata = new ScholarSearchResponse.SearchMetadata();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "id": metadata.setId(parser.getValueAsString()); break;
+                case "status": metadata.setStatus(parser.getValueAsString()); break;
+                case "created_at": metadata.setCreatedAt(parser.getValueAsString()); break;
+                case "processed_at": metadata.setProcessedAt(parser.getValueAsString()); break;
+                case "total_time_taken": metadata.setTotalTimeTaken(parser.getValueAsDouble()); break;
+                default: parser.skipChildren();
+            }
+        }
+        return metadata;
+    }
+
+    private ScholarSearchResponse.SearchInformation readInformation(JsonParser parser) throws IOException {
+        ScholarSearchResponse.SearchInformation information = new ScholarSearchResponse.SearchInformation();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "total_results": information.setTotalResults(parser.getValueAsLong()); break;
+                case "time_taken_displayed": information.setTimeTakenDisplayed(parser.getValueAsDouble()); break;
+                case "query_displayed": information.setQueryDisplayed(parser.getValueAsString()); break;
+                default: parser.skipChildren();
+            }
+        }
+        return information;
+    }
+
+    private ScholarSearchResponse.OrganicResult[] readOrganicResults(JsonParser parser) throws IOException {
+        List<ScholarSearchResponse.OrganicResult> results = new ArrayList<>(ScholarQuery.MAX_PAGE_SIZE);
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            results.add(readOrganicResult(parser));
+        }
+        return results.toArray(new ScholarSearchResponse.OrganicResult[0]);
+    }
+
+    private ScholarSearchResponse.OrganicResult readOrganicResult(JsonParser parser) throws IOException {
+        ScholarSearchResponse.OrganicResult result = new ScholarSearchResponse.OrganicResult();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "position": result.setPosition(parser.getValueAsInt()); break;
+                case "title": result.setTitle(parser.getValueAsString()); break;
+                case "result_id": result.setResultId(parser.getValueAsString()); break;
+                case "link": result.setLink(parser.getValueAsString()); break;
+                case "snippet": result.setSnippet(parser.getValueAsString()); break;
+                case "publication_info":
+                    if (value == JsonToken.START_OBJECT) result.setPublicationInfo(readPublicationInfo(parser));
+                    else parser.skipChildren();
+                    break;
+                case "inline_links":
+                    if (value == JsonToken.START_OBJECT) result.setInlineLinks(readInlineLinks(parser));
+                    else parser.skipChildren();
+                    break;
+                case "resources":
+                    if (value == JsonToken.START_ARRAY) result.setResources(readResources(parser));
+                    else parser.skipChildren();
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return result;
+    }
+
+    private ScholarSearchResponse.PublicationInfo readPublicationInfo(JsonParser parser) throws IOException {
+        ScholarSearchResponse.PublicationInfo publicationInfo = new ScholarSearchResponse.PublicationInfo();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if ("summary".equals(field)) {
+                publicationInfo.setSummary(parser.getValueAsString());
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return publicationInfo;
+    }
+
+    private ScholarSearchResponse.InlineLinks readInlineLinks(JsonParser parser) throws IOException {
+        ScholarSearchResponse.InlineLinks inlineLinks = new ScholarSearchResponse.InlineLinks();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if ("cited_by".equals(field) && value == JsonToken.START_OBJECT) {
+                inlineLinks.setCitedBy(readCitedBy(parser));
+            } else if ("versions".equals(field) && value == JsonToken.START_OBJECT) {
+                inlineLinks.setVersions(readVersions(parser));
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return inlineLinks;
+    }
+
+    private ScholarSearchResponse.CitedBy readCitedBy(JsonParser parser) throws IOException {
+        ScholarSearchResponse.CitedBy citedBy = new ScholarSearchResponse.CitedBy();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "total": citedBy.setTotal(parser.getValueAsInt()); break;
+                case "link": citedBy.setLink(parser.getValueAsString()); break;
+                case "cites_id": citedBy.setCitesId(parser.getValueAsString()); break;
+                default: parser.skipChildren();
+            }
+        }
+        return citedBy;
+    }
+
+    private ScholarSearchResponse.Versions readVersions(JsonParser parser) throws IOException {
+        ScholarSearchResponse.Versions versions = new ScholarSearchResponse.Versions();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+                case "total": versions.setTotal(parser.getValueAsInt()); break;
+                case "cluster_id": versions.setClusterId(parser.getValueAsString()); break;
+                default: parser.skipChildren();
+            }
+        }
+        return versions;
+    }
+
+    private ScholarSearchResponse.Resource[] readResources(JsonParser parser) throws IOException {
+        List<ScholarSearchResponse.Resource> resources = new ArrayList<>(2);
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            ScholarSearchResponse.Resource resource = new ScholarSearchResponse.Resource();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                switch (field) {
+                    case "title": resource.setTitle(parser.getValueAsString()); break;
+                    case "file_format": resource.setFileFormat(parser.getValueAsString()); break;
+                    case "link": resource.setLink(parser.getValueAsString()); break;
+                    default: parser.skipChildren();
+                }
+            }
+            resources.add(resource);
+        }
+        return resources.toArray(new ScholarSearchResponse.Resource[0]);
+    }
+
+    private ScholarSearchResponse.RelatedSearch[] readRelatedSearches(JsonParser parser) throws IOException {
+        List<ScholarSearchResponse.RelatedSearch> relatedSearches = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            ScholarSearchResponse.RelatedSearch relatedSearch = new ScholarSearchResponse.RelatedSearch();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                switch (field) {
+                    case "query": relatedSearch.setQuery(parser.getValueAsString()); break;
+                    case "link": relatedSearch.setLink(parser.getValueAsString()); break;
+                    default: parser.skipChildren();
+                }
+            }
+            relatedSearches.add(relatedSearch);
+        }
+        return relatedSearches.toArray(new ScholarSearchResponse.RelatedSearch[0]);
+    }
+
+    private ScholarSearchResponse.Pagination readPagination(JsonParser parser) throws IOException {
+        ScholarSearchResponse.Pagination pagination = new ScholarSearchResponse.Pagination();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if ("current".equals(field)) {
+                pagination.setCurrent(parser.getValueAsInt());
+            } else if ("next".equals(field)) {
+                pagination.setNext(parser.getValueAsString());
+            } else if ("other_pages".equals(field) && value == JsonToken.START_OBJECT) {
+                Map<String, String> otherPages = new LinkedHashMap<>();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String page = parser.getCurrentName();
+                    parser.nextToken();
+                    otherPages.put(page, parser.getValueAsString());
+                }
+                pagination.setOtherPages(otherPages);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return pagination;
+    }
+}
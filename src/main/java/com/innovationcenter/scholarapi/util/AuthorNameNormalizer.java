@@ -0,0 +1,102 @@
+package com.innovationcenter.scholarapi.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Builds the lookup key stored in authors.name_key.
+ *
+ * The key is case-folded, stripped of diacritics and punctuation, and written surname
+ * first with runs of initials collapsed, so "J. L. Harper", "JL Harper" and "Harper, J.L."
+ * all become "harper jl", and "JF Ambros-Antemate" becomes "ambrosantemate jf".
+ * Because the surname leads, a surname or "surname initials" query is a prefix of the
+ * key and can be answered with an index range seek.
+ */
+public final class AuthorNameNormalizer {
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private AuthorNameNormalizer() {
+    }
+
+    /**
+     * @return Normalized key, empty if the name has no letters or digits
+     */
+    public static String toKey(String name) {
+        if (name == null) {
+            return "";
+        }
+
+        String decomposed = Normalizer.normalize(name, Normalizer.Form.NFD);
+        List<String> tokens = new ArrayList<>();
+        int commaAt = -1;
+        StringBuilder token = new StringBuilder();
+
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            // Hyphens and apostrophes join a compound surname: "Ambros-Antemate", "O'Brien"
+            if (Character.getType(c) == Character.NON_SPACING_MARK || (token.length() > 0 && (c == '-' || c == '\''))) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                appendFolded(token, c);
+                continue;
+            }
+            if (token.length() > 0) {
+                tokens.add(token.toString());
+                token.setLength(0);
+            }
+            if (c == ',' && commaAt < 0) {
+                commaAt = tokens.size();
+            }
+        }
+        if (token.length() > 0) {
+            tokens.add(token.toString());
+        }
+        if (tokens.isEmpty()) {
+            return "";
+        }
+
+        // "Surname, Given" keeps its order; otherwise the last word is the surname
+        List<String> surname;
+        List<String> given;
+        if (commaAt > 0 && commaAt < tokens.size()) {
+            surname = tokens.subList(0, commaAt);
+            given = tokens.subList(commaAt, tokens.size());
+        } else {
+            surname = tokens.subList(tokens.size() - 1, tokens.size());
+            given = tokens.subList(0, tokens.size() - 1);
+        }
+
+        StringBuilder key = new StringBuilder(String.join(" ", surname));
+        boolean previousInitial = false;
+        for (String part : given) {
+            boolean initial = part.length() == 1;
+            // Consecutive initials merge into one word: "j l" -> "jl"
+            if (!(initial && previousInitial)) {
+                key.append(' ');
+            }
+            key.append(part);
+            previousInitial = initial;
+        }
+
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH).trim() : key.toString();
+    }
+
+    /**
+     * Lower-cases a character, spelling out letters that NFD does not decompose.
+     */
+    private static void appendFolded(StringBuilder builder, char c) {
+        switch (c) {
+            case 'ø': case 'Ø': builder.append('o'); break;
+            case 'ł': case 'Ł': builder.append('l'); break;
+            case 'đ': case 'Đ': builder.append('d'); break;
+            case 'æ': case 'Æ': builder.append("ae"); break;
+            case 'œ': case 'Œ': builder.append("oe"); break;
+            case 'ß': builder.append("ss"); break;
+            default: builder.append(String.valueOf(c).toLowerCase(Locale.ROOT));
+        }
+    }
+}
@@ -4,113 +4,272 @@ import com.innovationcenter.scholarapi.model.SimpleAuthor;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
  * Utility class for parsing author names from article metadata.
  * Handles various author name formats from Google Scholar API.
+ *
+ * Parsing is a hand-written scan that gives the same results as the regular expressions it
+ * replaced: truncation markers are cut, the list is split on "," ";" " and " " & ", and each
+ * name is cleaned and validated in place, so a typical name costs a single substring.
  */
 public class AuthorParser {
-    
-    // Common separators for author lists
-    private static final Pattern AUTHOR_SEPARATOR = Pattern.compile("[,;]|\\sand\\s|\\s&\\s");
-    
-    // Pattern to detect truncated author lists (e.g., "... et al")
-    private static final Pattern TRUNCATED_PATTERN = Pattern.compile(".*\\.{2,}.*|.*et\\s+al\\.?.*", Pattern.CASE_INSENSITIVE);
-    
+
+    private static final char ELLIPSIS = '…';
+
     /**
      * Parse author string from article metadata into list of SimpleAuthor objects.
-     * 
+     *
      * Examples of input formats:
      * - "JF Ambros-Antemate, MDP Beristain-Colorado"
      * - "John Smith; Jane Doe; Bob Wilson"
      * - "A. Einstein and M. Curie"
      * - "J Smith, B Jones…" (truncated)
-     * 
+     *
      * @param authorsString The authors string from article
      * @return List of SimpleAuthor objects
      */
     public static List<SimpleAuthor> parseAuthors(String authorsString) {
+        return parseAuthors(authorsString, null);
+    }
+
+    /**
+     * Parse author string, taking names from the given pool so that repeated authors share
+     * one string instance.
+     *
+     * @param namePool Pool of canonical names, or null to allocate every name
+     */
+    public static List<SimpleAuthor> parseAuthors(String authorsString, NamePool namePool) {
         List<SimpleAuthor> authors = new ArrayList<>();
-        
-        if (authorsString == null || authorsString.trim().isEmpty()) {
+
+        if (authorsString == null) {
             return authors;
         }
-        
-        // Clean the input
-        String cleaned = authorsString.trim();
-        
-        // Check if truncated (contains "..." or "et al")
-        boolean isTruncated = TRUNCATED_PATTERN.matcher(cleaned).matches();
-        
-        // Remove truncation markers
-        cleaned = cleaned.replaceAll("\\.{2,}.*$", ""); // Remove ... and everything after
-        cleaned = cleaned.replaceAll("\\s*et\\s+al\\.?.*$", ""); // Remove et al and everything after
-        
-        // Split by common separators
-        String[] authorNames = AUTHOR_SEPARATOR.split(cleaned);
-        
-        for (String name : authorNames) {
-            String trimmedName = name.trim();
-            
-            // Skip empty names
-            if (trimmedName.isEmpty()) {
-                continue;
+
+        String text = authorsString;
+        int start = 0;
+        int end = text.length();
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return authors;
+        }
+
+        // Remove "..." and everything after, then "et al" and everything after
+        // A final line terminator after the marker is kept, which needs a copy of the text
+        int cut = findDots(text, start, end);
+        if (cut >= 0) {
+            int restEnd = RegexSemantics.restOfInputEnd(text, start, cut + 2, end);
+            if (restEnd == end) {
+                end = cut;
+            } else {
+                text = text.substring(start, cut) + text.substring(restEnd, end);
+                start = 0;
+                end = text.length();
+            }
+        }
+        cut = findEtAl(text, start, end);
+        if (cut >= 0) {
+            int restEnd = etAlEnd(text, start, cut, end);
+            while (cut > start && RegexSemantics.isWhitespace(text.charAt(cut - 1))) {
+                cut--;
+            }
+            if (restEnd == end) {
+                end = cut;
+            } else {
+                text = text.substring(start, cut) + text.substring(restEnd, end);
+                start = 0;
+                end = text.length();
             }
-            
-            // Clean up the name
-            trimmedName = cleanAuthorName(trimmedName);
-            
-            // Validate name (at least 2 characters, contains letters)
-            if (isValidAuthorName(trimmedName)) {
-                SimpleAuthor author = new SimpleAuthor(trimmedName);
-                authors.add(author);
+        }
+
+        // Split by common separators
+        int nameStart = start;
+        int i = start;
+        while (i < end) {
+            int separatorLength = separatorLength(text, i, end);
+            if (separatorLength > 0) {
+                addAuthor(authors, text, nameStart, i, namePool);
+                i += separatorLength;
+                nameStart = i;
+            } else {
+                i++;
             }
         }
-        
+        addAuthor(authors, text, nameStart, end, namePool);
+
         return authors;
     }
-    
+
     /**
-     * Clean individual author name.
+     * Cleans and validates text[start, end) and adds it if it is a name.
      */
-    private static String cleanAuthorName(String name) {
-        // Remove leading/trailing whitespace
-        name = name.trim();
-        
-        // Remove extra spaces
-        name = name.replaceAll("\\s+", " ");
-        
-        // Remove common artifacts
-        name = name.replace("…", ""); // Ellipsis
-        name = name.replace("...", "");
-        
-        // Trim again after cleaning
-        return name.trim();
+    private static void addAuthor(List<SimpleAuthor> authors, String text, int start, int end, NamePool namePool) {
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return;
+        }
+
+        if (isClean(text, start, end)) {
+            if (isValidAuthorName(text, start, end)) {
+                String name = namePool != null ? namePool.intern(text, start, end) : text.substring(start, end);
+                authors.add(new SimpleAuthor(name));
+            }
+            return;
+        }
+
+        String name = cleanAuthorName(text, start, end);
+        if (isValidAuthorName(name, 0, name.length())) {
+            authors.add(new SimpleAuthor(namePool != null ? namePool.intern(name) : name));
+        }
     }
-    
+
     /**
-     * Validate author name.
+     * Whether cleaning would leave the trimmed name unchanged: single spaces only, no ellipses.
      */
-    private static boolean isValidAuthorName(String name) {
-        if (name == null || name.length() < 2) {
-            return false;
+    private static boolean isClean(String text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c == ' ') {
+                if (text.charAt(i + 1) == ' ') {
+                    return false;
+                }
+            } else if (c == ELLIPSIS || RegexSemantics.isWhitespace(c)) {
+                return false;
+            } else if (c == '.' && i + 2 < end && text.charAt(i + 1) == '.' && text.charAt(i + 2) == '.') {
+                return false;
+            }
         }
-        
-        // Must contain at least one letter
-        if (!name.matches(".*[a-zA-Z].*")) {
-            return false;
+        return true;
+    }
+
+    /**
+     * Clean individual author name: collapse whitespace, drop ellipses, trim.
+     */
+    private static String cleanAuthorName(String text, int start, int end) {
+        StringBuilder name = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (!RegexSemantics.isWhitespace(c)) {
+                name.append(c);
+            } else if (i == start || !RegexSemantics.isWhitespace(text.charAt(i - 1))) {
+                name.append(' ');
+            }
+        }
+
+        // Ellipses are removed after the whitespace collapse, so their neighbours' spaces stay
+        int length = 0;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c != ELLIPSIS) {
+                name.setCharAt(length++, c);
+            }
+        }
+        name.setLength(length);
+        length = 0;
+        for (int i = 0; i < name.length(); i++) {
+            if (i + 2 < name.length() && name.charAt(i) == '.' && name.charAt(i + 1) == '.' && name.charAt(i + 2) == '.') {
+                i += 2;
+            } else {
+                name.setCharAt(length++, name.charAt(i));
+            }
         }
-        
-        // Reject common non-name patterns
-        if (name.matches("^[\\d\\s\\-\\.]+$")) { // Only numbers, spaces, dashes, dots
+        name.setLength(length);
+
+        return name.toString().trim();
+    }
+
+    /**
+     * Validate author name: at least 2 characters, an ASCII letter, and a single line.
+     */
+    private static boolean isValidAuthorName(CharSequence name, int start, int end) {
+        if (end - start < 2) {
             return false;
         }
-        
-        return true;
+
+        // A name with a letter is never only numbers, spaces, dashes and dots
+        boolean hasLetter = false;
+        for (int i = start; i < end; i++) {
+            char c = name.charAt(i);
+            if (RegexSemantics.isLineTerminator(c)) {
+                return false;
+            }
+            hasLetter |= RegexSemantics.isAsciiLetter(c);
+        }
+        return hasLetter;
+    }
+
+    /**
+     * Length of the separator at position: 1 for "," or ";", 5 for " and ", 3 for " & ", else 0.
+     */
+    private static int separatorLength(String text, int position, int end) {
+        char c = text.charAt(position);
+        if (c == ',' || c == ';') {
+            return 1;
+        }
+        if (!RegexSemantics.isWhitespace(c)) {
+            return 0;
+        }
+        if (position + 2 < end && text.charAt(position + 1) == '&' && RegexSemantics.isWhitespace(text.charAt(position + 2))) {
+            return 3;
+        }
+        if (position + 4 < end && text.startsWith("and", position + 1) && RegexSemantics.isWhitespace(text.charAt(position + 4))) {
+            return 5;
+        }
+        return 0;
+    }
+
+    /**
+     * First ".." followed by the rest of the text, or -1.
+     */
+    private static int findDots(String text, int start, int end) {
+        for (int i = text.indexOf("..", start); i >= 0 && i + 1 < end; i = text.indexOf("..", i + 1)) {
+            if (RegexSemantics.restOfInputEnd(text, start, i + 2, end) >= 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * First "et", whitespace, "al" followed by the rest of the text, or -1.
+     */
+    private static int findEtAl(String text, int start, int end) {
+        for (int i = text.indexOf("et", start); i >= 0 && i + 1 < end; i = text.indexOf("et", i + 1)) {
+            if (etAlEnd(text, start, i, end) >= 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Where a "et al" marker at position stops removing text, or -1 if there is none.
+     */
+    private static int etAlEnd(String text, int start, int position, int end) {
+        int i = position + 2;
+        if (i >= end || !RegexSemantics.isWhitespace(text.charAt(i))) {
+            return -1;
+        }
+        while (i < end && RegexSemantics.isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        if (i + 2 > end || !text.startsWith("al", i)) {
+            return -1;
+        }
+        return RegexSemantics.restOfInputEnd(text, start, i + 2, end);
     }
-    
+
     /**
      * Extract author names as strings (for backward compatibility).
      */
@@ -119,17 +278,48 @@ public class AuthorParser {
             .map(SimpleAuthor::getFullName)
             .collect(Collectors.toList());
     }
-    
+
     /**
-     * Check if author list appears to be truncated.
+     * Check if author list appears to be truncated: a single line containing ".." or
+     * "et al" in any case.
      */
     public static boolean isTruncated(String authorsString) {
         if (authorsString == null) {
             return false;
         }
-        return TRUNCATED_PATTERN.matcher(authorsString).matches();
+        int length = authorsString.length();
+        int firstLineEnd = 0;
+        while (firstLineEnd < length && !RegexSemantics.isLineTerminator(authorsString.charAt(firstLineEnd))) {
+            firstLineEnd++;
+        }
+        if (firstLineEnd == length && authorsString.contains("..")) {
+            return true;
+        }
+
+        // The whitespace between "et" and "al" may span lines; the text around it may not
+        int lastLineStart = length;
+        while (lastLineStart > 0 && !RegexSemantics.isLineTerminator(authorsString.charAt(lastLineStart - 1))) {
+            lastLineStart--;
+        }
+        for (int i = 0; i + 1 < length && i <= firstLineEnd; i++) {
+            if (!isAsciiIgnoreCase(authorsString, i, 'e', 't')) {
+                continue;
+            }
+            int j = i + 2;
+            while (j < length && RegexSemantics.isWhitespace(authorsString.charAt(j))) {
+                j++;
+            }
+            if (j > i + 2 && j + 2 >= lastLineStart && j + 1 < length && isAsciiIgnoreCase(authorsString, j, 'a', 'l')) {
+                return true;
+            }
+        }
+        return false;
     }
-    
+
+    private static boolean isAsciiIgnoreCase(String text, int position, char first, char second) {
+        return (text.charAt(position) | 0x20) == first && (text.charAt(position + 1) | 0x20) == second;
+    }
+
     /**
      * Count estimated number of authors from string.
      */
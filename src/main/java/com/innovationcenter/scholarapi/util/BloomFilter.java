@@ -0,0 +1,84 @@
+package com.innovationcenter.scholarapi.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+
+/**
+ * Thread-safe Bloom filter for string keys.
+ * Answers "definitely not seen" exactly and "maybe seen" with a bounded false positive
+ * rate, in a fixed amount of memory regardless of key length.
+ */
+public class BloomFilter {
+
+    private final BitSet bits;
+    private final int bitCount;
+    private final int hashCount;
+
+    /**
+     * Sizes the filter for the expected number of keys and target false positive rate.
+     *
+     * @param expectedKeys Number of keys the filter should hold
+     * @param falsePositiveRate Desired false positive probability, e.g. 0.01
+     */
+    public BloomFilter(int expectedKeys, double falsePositiveRate) {
+        if (expectedKeys < 1 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Expected keys must be positive and the rate between 0 and 1");
+        }
+        double ln2 = Math.log(2);
+        this.bitCount = (int) Math.max(64, Math.ceil(-expectedKeys * Math.log(falsePositiveRate) / (ln2 * ln2)));
+        this.hashCount = (int) Math.max(1, Math.round((double) bitCount / expectedKeys * ln2));
+        this.bits = new BitSet(bitCount);
+    }
+
+    /**
+     * Records a key.
+     *
+     * @return true if the key was definitely not present before
+     */
+    public synchronized boolean add(String key) {
+        long hash = hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        boolean added = false;
+        for (int i = 0; i < hashCount; i++) {
+            int index = Math.floorMod(h1 + i * h2, bitCount);
+            if (!bits.get(index)) {
+                bits.set(index);
+                added = true;
+            }
+        }
+        return added;
+    }
+
+    /**
+     * @return false if the key was never added, true if it may have been
+     */
+    public synchronized boolean mightContain(String key) {
+        long hash = hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 0; i < hashCount; i++) {
+            if (!bits.get(Math.floorMod(h1 + i * h2, bitCount))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 64-bit FNV-1a over the UTF-8 bytes, finished with a murmur-style mix so both halves are usable.
+     */
+    private static long hash64(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
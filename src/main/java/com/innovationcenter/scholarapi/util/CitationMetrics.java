@@ -0,0 +1,99 @@
+package com.innovationcenter.scholarapi.util;
+
+import com.innovationcenter.scholarapi.model.AuthorMetrics;
+
+import java.util.Arrays;
+
+/**
+ * Bibliometric indicators computed over primitive arrays.
+ *
+ * Per-author metrics take the citation counts of the author's articles, sort them once
+ * and read h-index and i10-index off the same descending walk. Percentile ranks look a
+ * value up in a sorted distribution of all authors with two binary searches.
+ */
+public final class CitationMetrics {
+
+    private CitationMetrics() {
+    }
+
+    /**
+     * Computes the per-author metrics; percentiles are left at zero.
+     *
+     * @param authorId The author ID
+     * @param citations Citation count per article, sorted in place; only the first count entries are read
+     * @param years Publication year per article, 0 when unknown
+     * @param count Number of articles
+     * @param currentYear Year citations per year are measured up to
+     */
+    public static AuthorMetrics compute(long authorId, int[] citations, int[] years, int count, int currentYear) {
+        AuthorMetrics metrics = new AuthorMetrics(authorId);
+        metrics.setArticleCount(count);
+
+        long total = 0;
+        int firstYear = Integer.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            total += citations[i];
+            if (years[i] > 0 && years[i] < firstYear) {
+                firstYear = years[i];
+            }
+        }
+        metrics.setTotalCitations((int) Math.min(Integer.MAX_VALUE, total));
+
+        Arrays.sort(citations, 0, count);
+        int hIndex = 0;
+        int i10Index = 0;
+        for (int i = count - 1; i >= 0; i--) {
+            int rank = count - i;
+            int cited = citations[i];
+            if (cited >= rank) {
+                hIndex = rank;
+            }
+            if (cited >= 10) {
+                i10Index++;
+            } else if (cited < rank) {
+                // Counts only fall from here and ranks only rise, so neither index can grow
+                break;
+            }
+        }
+        metrics.setHIndex(hIndex);
+        metrics.setI10Index(i10Index);
+
+        if (firstYear != Integer.MAX_VALUE) {
+            metrics.setFirstYear(firstYear);
+            metrics.setCitationsPerYear((double) total / Math.max(1, currentYear - firstYear + 1));
+        }
+        return metrics;
+    }
+
+    /**
+     * Percentile rank of a value: the share of the distribution below it, counting ties as half.
+     *
+     * @param sorted All values, ascending
+     * @return Rank between 0 and 100, or 0 for an empty distribution
+     */
+    public static double percentileRank(int[] sorted, int value) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int below = lowerBound(sorted, value);
+        int atOrBelow = lowerBound(sorted, value + 1L);
+        return 100.0 * (below + 0.5 * (atOrBelow - below)) / sorted.length;
+    }
+
+    /**
+     * @return Index of the first element not less than the value
+     */
+    private static int lowerBound(int[] sorted, long value) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
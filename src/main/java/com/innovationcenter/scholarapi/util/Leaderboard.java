@@ -0,0 +1,166 @@
+package com.innovationcenter.scholarapi.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * Live top-K ranking kept in memory, safe for concurrent use.
+ *
+ * Holds the best rows of a ranking in a sorted set ordered like the query that seeds it,
+ * with headroom past K so that rows dropping out of the top rarely leave a gap. The held
+ * rows are always exactly the leading rows of the full ranking: a changed row re-enters
+ * only if it beats the current tail, and rows pushed past the headroom are discarded.
+ * When removals leave fewer rows than a read asks for, the next read seeds again.
+ * Writers change the set under the lock and discard the published snapshot; reads within
+ * K copy from the immutable snapshot without locking or touching the source, and only the
+ * first read after a change takes the lock to publish a new one. A read therefore never
+ * sees a row half-way through being replaced or a reseed half-way through.
+ */
+public class Leaderboard<T> {
+
+    /**
+     * Loads the leading rows of the ranking, in ranking order; may throw the caller's checked exception.
+     */
+    @FunctionalInterface
+    public interface Source<T, E extends Exception> {
+        List<T> top(int limit) throws E;
+    }
+
+    private final int size;
+    private final int capacity;
+    private final Comparator<T> order;
+    private final ToLongFunction<T> idOf;
+    private final Predicate<T> eligible;
+
+    // Guarded by this
+    private final TreeSet<T> ranked;
+    private final Map<Long, T> byId = new HashMap<>();
+    private boolean seeded;
+    private boolean complete;
+
+    // Rows held as of the last change, or null until a read publishes them again
+    private volatile Snapshot<T> snapshot;
+
+    /**
+     * @param size Largest top-K served from memory; larger reads go to the source
+     * @param order Ranking order, best first; must match the source's and break every tie
+     * @param idOf Identity of a row, so a changed row replaces its previous version
+     * @param eligible Rows the source would return at all
+     */
+    public Leaderboard(int size, Comparator<T> order, ToLongFunction<T> idOf, Predicate<T> eligible) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Leaderboard needs a positive size");
+        }
+        this.size = size;
+        this.capacity = size * 2;
+        this.order = order;
+        this.idOf = idOf;
+        this.eligible = eligible;
+        this.ranked = new TreeSet<>(order);
+    }
+
+    /**
+     * Returns the leading rows, seeding from the source first if needed.
+     */
+    public <E extends Exception> List<T> top(int limit, Source<T, E> source) throws E {
+        if (limit > size) {
+            return source.top(limit);
+        }
+        Snapshot<T> current = snapshot;
+        if (current == null || (!current.complete && current.rows.size() < limit)) {
+            current = publish(limit, source);
+        }
+        return new ArrayList<>(current.rows.subList(0, Math.min(limit, current.rows.size())));
+    }
+
+    /**
+     * Applies the current version of a row, or its removal when row is null or no longer eligible.
+     */
+    public synchronized void update(long id, T row) {
+        if (!seeded) {
+            return;
+        }
+        T previous = byId.remove(id);
+        if (previous != null) {
+            ranked.remove(previous);
+            snapshot = null;
+        }
+        if (row == null || !eligible.test(row)) {
+            return;
+        }
+
+        // Unseen rows rank at or below the tail, so only a row beating it is known to belong here
+        boolean belongs = complete || (!ranked.isEmpty() && order.compare(row, ranked.last()) < 0);
+        if (!belongs) {
+            return;
+        }
+        ranked.add(row);
+        byId.put(id, row);
+        while (ranked.size() > capacity) {
+            T dropped = ranked.pollLast();
+            byId.remove(idOf.applyAsLong(dropped));
+            complete = false;
+        }
+        snapshot = null;
+    }
+
+    /**
+     * Forgets every row; the next read seeds again. Used after bulk recomputations.
+     */
+    public synchronized void invalidate() {
+        seeded = false;
+        ranked.clear();
+        byId.clear();
+        snapshot = null;
+    }
+
+    /**
+     * @return Number of rows held in memory
+     */
+    public synchronized int heldRows() {
+        return ranked.size();
+    }
+
+    /**
+     * Seeds if the held rows cannot answer a read of limit rows, then publishes a snapshot.
+     */
+    private synchronized <E extends Exception> Snapshot<T> publish(int limit, Source<T, E> source) throws E {
+        Snapshot<T> current = snapshot;
+        if (current != null && (current.complete || current.rows.size() >= limit)) {
+            return current;
+        }
+        if (!seeded || (!complete && ranked.size() < limit)) {
+            List<T> rows = source.top(capacity);
+            ranked.clear();
+            byId.clear();
+            for (T row : rows) {
+                ranked.add(row);
+                byId.put(idOf.applyAsLong(row), row);
+            }
+            complete = rows.size() < capacity;
+            seeded = true;
+        }
+        current = new Snapshot<>(List.copyOf(ranked), complete);
+        snapshot = current;
+        return current;
+    }
+
+    /**
+     * Immutable copy of the held rows in ranking order.
+     */
+    private static final class Snapshot<T> {
+        private final List<T> rows;
+        private final boolean complete;
+
+        Snapshot(List<T> rows, boolean complete) {
+            this.rows = rows;
+            this.complete = complete;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.innovationcenter.scholarapi.util;
+
+/**
+ * Bounded pool of canonical name strings, safe for concurrent use.
+ *
+ * The same author appears on many articles, so parsed names are looked up here by their
+ * characters and the pooled instance is reused instead of allocating a new string each time.
+ * Lookups read the characters in place; a string is only created for a name not yet pooled.
+ * Once the pool is full, new names are returned unpooled.
+ */
+public class NamePool {
+
+    public static final int DEFAULT_SIZE = 100_000;
+
+    private static final int INITIAL_TABLE_SIZE = 64;
+
+    private final int maxSize;
+    private String[] table;
+    private int[] hashes;
+    private int size;
+
+    /**
+     * @param maxSize Most names kept; later names are returned without pooling
+     */
+    public NamePool(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Name pool needs a positive size");
+        }
+        this.maxSize = maxSize;
+        this.table = new String[INITIAL_TABLE_SIZE];
+        this.hashes = new int[INITIAL_TABLE_SIZE];
+    }
+
+    /**
+     * Returns the pooled string equal to name.
+     */
+    public String intern(String name) {
+        return intern(name, 0, name.length());
+    }
+
+    /**
+     * Returns the pooled string equal to text[start, end).
+     */
+    public synchronized String intern(CharSequence text, int start, int end) {
+        int hash = hash(text, start, end);
+        int mask = table.length - 1;
+        int slot = hash & mask;
+        for (String pooled = table[slot]; pooled != null; pooled = table[slot]) {
+            if (hashes[slot] == hash && contentEquals(pooled, text, start, end)) {
+                return pooled;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        String name = text.subSequence(start, end).toString();
+        if (size == maxSize) {
+            return name;
+        }
+        table[slot] = name;
+        hashes[slot] = hash;
+        size++;
+        if (size * 2 > table.length) {
+            grow();
+        }
+        return name;
+    }
+
+    /**
+     * @return Number of pooled names
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    private void grow() {
+        String[] oldTable = table;
+        int[] oldHashes = hashes;
+        table = new String[oldTable.length * 2];
+        hashes = new int[table.length];
+        int mask = table.length - 1;
+        for (int i = 0; i < oldTable.length; i++) {
+            if (oldTable[i] != null) {
+                int slot = oldHashes[i] & mask;
+                while (table[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = oldTable[i];
+                hashes[slot] = oldHashes[i];
+            }
+        }
+    }
+
+    // String.hashCode spread so that names differing only in their last characters scatter
+    private static int hash(CharSequence text, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + text.charAt(i);
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean contentEquals(String pooled, CharSequence text, int start, int end) {
+        if (pooled.length() != end - start) {
+            return false;
+        }
+        for (int i = 0; i < pooled.length(); i++) {
+            if (pooled.charAt(i) != text.charAt(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,7 +1,5 @@
 package com.innovationcenter.scholarapi.util;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
@@ -15,8 +13,7 @@ import java.util.logging.Level;
 public class PublicationInfoParser {
     private static final Logger logger = Logger.getLogger(PublicationInfoParser.class.getName());
     
-    // Regex pattern to extract year from source_year field
-    private static final Pattern YEAR_PATTERN = Pattern.compile("\\b(19|20)\\d{2}\\b");
+    private static final String SEPARATOR = " - ";
     
     /**
      * Parsed publication information container.
@@ -54,6 +51,10 @@ public class PublicationInfoParser {
     /**
      * Parses the publication_info.summary field according to Technical Report specifications.
      * 
+     * The summary is scanned once: the " - " separators are located in place, each part is
+     * trimmed by index, and the year is found and cut out of the source without regular
+     * expressions, so only the result strings are allocated.
+     * 
      * @param summary The publication summary string from the API
      * @return ParsedPublicationInfo containing extracted components
      */
@@ -64,28 +65,55 @@ public class PublicationInfoParser {
         }
         
         try {
-            // Split on " - " as specified in Technical Report
-            String[] parts = summary.split(" - ");
-            
-            String authors = parts.length > 0 ? parts[0].trim() : "";
-            String sourceYear = parts.length > 1 ? parts[1].trim() : "";
-            String publisher = parts.length > 2 ? parts[2].trim() : "";
+            // Split on " - " as specified in Technical Report; parts past the third are ignored
+            int length = summary.length();
+            int firstSeparator = summary.indexOf(SEPARATOR);
+            int secondSeparator = firstSeparator < 0 ? -1 : summary.indexOf(SEPARATOR, firstSeparator + SEPARATOR.length());
+            int thirdSeparator = secondSeparator < 0 ? -1 : summary.indexOf(SEPARATOR, secondSeparator + SEPARATOR.length());
             
-            // Extract year from source_year field
-            Integer year = extractYearFromSourceYear(sourceYear);
+            int authorsEnd = firstSeparator < 0 ? length : firstSeparator;
+            String authors = normalized(summary, 0, authorsEnd, "Unknown Author");
             
-            // Clean source by removing year if found
-            String source = cleanSourceFromYear(sourceYear, year);
+            String source = "Unknown Source";
+            Integer year = null;
+            if (firstSeparator >= 0) {
+                int sourceStart = firstSeparator + SEPARATOR.length();
+                int sourceEnd = secondSeparator < 0 ? length : secondSeparator;
+                
+                // Trim the source/year part first; the year boundaries are relative to it
+                while (sourceStart < sourceEnd && summary.charAt(sourceStart) <= ' ') {
+                    sourceStart++;
+                }
+                while (sourceEnd > sourceStart && summary.charAt(sourceEnd - 1) <= ' ') {
+                    sourceEnd--;
+                }
+                
+                int yearStart = findYear(summary, sourceStart, sourceEnd);
+                if (yearStart >= 0) {
+                    int value = (summary.charAt(yearStart) - '0') * 1000 + (summary.charAt(yearStart + 1) - '0') * 100
+                              + (summary.charAt(yearStart + 2) - '0') * 10 + (summary.charAt(yearStart + 3) - '0');
+                    // Validate reasonable year range
+                    if (value >= 1900 && value <= 2030) {
+                        year = value;
+                    }
+                }
+                source = year != null
+                    ? sourceWithoutYear(summary, sourceStart, sourceEnd, yearStart)
+                    : normalized(summary, sourceStart, sourceEnd, "Unknown Source");
+            }
             
-            // Validate and clean extracted data
-            authors = validateAndCleanAuthors(authors);
-            source = validateAndCleanSource(source);
-            publisher = validateAndCleanPublisher(publisher);
+            String publisher = "Unknown Publisher";
+            if (secondSeparator >= 0) {
+                int publisherEnd = thirdSeparator < 0 ? length : thirdSeparator;
+                publisher = normalized(summary, secondSeparator + SEPARATOR.length(), publisherEnd, "Unknown Publisher");
+            }
             
             ParsedPublicationInfo result = new ParsedPublicationInfo(
                 authors, source, year, publisher, summary);
             
-            logger.fine("Successfully parsed publication: " + result.toString());
+            if (logger.isLoggable(Level.FINE)) {
+                logger.fine("Successfully parsed publication: " + result.toString());
+            }
             return result;
             
         } catch (Exception e) {
@@ -95,80 +123,175 @@ public class PublicationInfoParser {
     }
     
     /**
-     * Extracts publication year using regex pattern.
+     * Finds the first four-digit 19xx or 20xx run standing alone as a word in [start, end).
+     * 
+     * @return Index of its first digit, or -1
      */
-    private static Integer extractYearFromSourceYear(String sourceYear) {
-        if (sourceYear == null || sourceYear.trim().isEmpty()) {
-            return null;
-        }
-        
-        Matcher matcher = YEAR_PATTERN.matcher(sourceYear);
-        if (matcher.find()) {
-            try {
-                int year = Integer.parseInt(matcher.group());
-                // Validate reasonable year range
-                if (year >= 1900 && year <= 2030) {
-                    return year;
-                }
-            } catch (NumberFormatException e) {
-                logger.fine("Could not parse year from: " + matcher.group());
+    private static int findYear(String text, int start, int end) {
+        for (int i = start; i + 4 <= end; i++) {
+            char century = text.charAt(i);
+            char decade = text.charAt(i + 1);
+            boolean prefix = (century == '1' && decade == '9') || (century == '2' && decade == '0');
+            if (prefix && RegexSemantics.isAsciiDigit(text.charAt(i + 2)) && RegexSemantics.isAsciiDigit(text.charAt(i + 3))
+                    && !isWordBefore(text, start, i) && !isWordAt(text, start, i + 4, end)) {
+                return i;
             }
         }
-        
-        return null;
+        return -1;
     }
     
     /**
-     * Cleans the source field by removing the extracted year.
+     * Builds the source from a trimmed source/year part: every standalone occurrence of the
+     * year is cut out, then a trailing comma and a leading comma are dropped. A part that
+     * was only the year is kept as it is.
      */
-    private static String cleanSourceFromYear(String sourceYear, Integer extractedYear) {
-        if (sourceYear == null || extractedYear == null) {
-            return sourceYear;
+    private static String sourceWithoutYear(String text, int start, int end, int firstYear) {
+        StringBuilder cleaned = new StringBuilder(end - start);
+        int copied = start;
+        for (int i = firstYear; i + 4 <= end; i++) {
+            if (text.regionMatches(i, text, firstYear, 4)
+                    && !isWordBefore(text, start, i) && !isWordAt(text, start, i + 4, end)) {
+                cleaned.append(text, copied, i);
+                copied = i + 4;
+                i += 3;
+            }
         }
+        cleaned.append(text, copied, end);
         
-        // Remove the year and common separators
-        String cleaned = sourceYear.replaceAll("\\b" + extractedYear + "\\b", "")
-                                  .replaceAll(",\\s*$", "")  // Remove trailing comma
-                                  .replaceAll("^\\s*,", "")   // Remove leading comma
-                                  .trim();
+        removeTrailingComma(cleaned);
+        removeLeadingComma(cleaned);
         
-        return cleaned.isEmpty() ? sourceYear : cleaned;
+        int from = 0;
+        int to = cleaned.length();
+        while (from < to && cleaned.charAt(from) <= ' ') {
+            from++;
+        }
+        while (to > from && cleaned.charAt(to - 1) <= ' ') {
+            to--;
+        }
+        if (from == to) {
+            return normalized(text, start, end, "Unknown Source");
+        }
+        return normalized(cleaned, from, to, "Unknown Source");
     }
     
     /**
-     * Validates and cleans author names.
+     * Drops a comma followed only by whitespace up to the end of the text, or up to a line
+     * terminator that ends it.
      */
-    private static String validateAndCleanAuthors(String authors) {
-        if (authors == null || authors.trim().isEmpty()) {
-            return "Unknown Author";
+    private static void removeTrailingComma(StringBuilder text) {
+        int length = text.length();
+        for (int comma = 0; comma < length; comma++) {
+            if (text.charAt(comma) != ',') {
+                continue;
+            }
+            int spaceEnd = comma + 1;
+            while (spaceEnd < length && RegexSemantics.isWhitespace(text.charAt(spaceEnd))) {
+                spaceEnd++;
+            }
+            for (int end = spaceEnd; end > comma; end--) {
+                if (RegexSemantics.isEndOfInput(text, 0, end, length)) {
+                    text.delete(comma, end);
+                    return;
+                }
+            }
         }
-        
-        // Remove extra whitespace and normalize
-        return authors.trim().replaceAll("\\s+", " ");
     }
     
     /**
-     * Validates and cleans source/journal information.
+     * Drops whitespace followed by a comma at the start of the text.
      */
-    private static String validateAndCleanSource(String source) {
-        if (source == null || source.trim().isEmpty()) {
-            return "Unknown Source";
+    private static void removeLeadingComma(StringBuilder text) {
+        int i = 0;
+        while (i < text.length() && RegexSemantics.isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        if (i < text.length() && text.charAt(i) == ',') {
+            text.delete(0, i + 1);
         }
-        
-        // Remove extra whitespace and normalize
-        return source.trim().replaceAll("\\s+", " ");
     }
     
     /**
-     * Validates and cleans publisher information.
+     * Trims [start, end) and collapses each whitespace run inside it to one space.
+     * The substring is returned as is when it needs no change.
      */
-    private static String validateAndCleanPublisher(String publisher) {
-        if (publisher == null || publisher.trim().isEmpty()) {
-            return "Unknown Publisher";
+    private static String normalized(CharSequence text, int start, int end, String fallback) {
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return fallback;
         }
         
-        // Remove extra whitespace and normalize
-        return publisher.trim().replaceAll("\\s+", " ");
+        StringBuilder collapsed = null;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (!RegexSemantics.isWhitespace(c)) {
+                if (collapsed != null) {
+                    collapsed.append(c);
+                }
+                continue;
+            }
+            int runEnd = i + 1;
+            while (runEnd < end && RegexSemantics.isWhitespace(text.charAt(runEnd))) {
+                runEnd++;
+            }
+            if (collapsed == null && (c != ' ' || runEnd > i + 1)) {
+                collapsed = new StringBuilder(end - start);
+                collapsed.append(text, start, i);
+            }
+            if (collapsed != null) {
+                collapsed.append(' ');
+            }
+            i = runEnd - 1;
+        }
+        return collapsed != null ? collapsed.toString() : text.subSequence(start, end).toString();
+    }
+    
+    /**
+     * Whether the character before position, within a part starting at start, belongs to a word.
+     * Word characters are letters, digits, underscores and combining marks attached to them.
+     */
+    private static boolean isWordBefore(CharSequence text, int start, int position) {
+        if (position <= start) {
+            return false;
+        }
+        int codePoint = text.charAt(position - 1);
+        if (Character.isLowSurrogate((char) codePoint) && position - 2 >= start
+                && Character.isHighSurrogate(text.charAt(position - 2))) {
+            codePoint = Character.toCodePoint(text.charAt(position - 2), (char) codePoint);
+        }
+        return isWordChar(codePoint) || (Character.getType(codePoint) == Character.NON_SPACING_MARK
+            && hasBaseCharacter(text, start, position - 1));
+    }
+    
+    private static boolean isWordAt(CharSequence text, int start, int position, int end) {
+        if (position >= end) {
+            return false;
+        }
+        int codePoint = Character.codePointAt(text, position);
+        return isWordChar(codePoint) || (Character.getType(codePoint) == Character.NON_SPACING_MARK
+            && hasBaseCharacter(text, start, position));
+    }
+    
+    private static boolean hasBaseCharacter(CharSequence text, int start, int position) {
+        for (int i = position; i >= start; i--) {
+            int codePoint = Character.codePointAt(text, i);
+            if (Character.isLetterOrDigit(codePoint)) {
+                return true;
+            }
+            if (Character.getType(codePoint) != Character.NON_SPACING_MARK) {
+                return false;
+            }
+        }
+        return false;
+    }
+    
+    private static boolean isWordChar(int codePoint) {
+        return codePoint == '_' || Character.isLetterOrDigit(codePoint);
     }
     
     /**
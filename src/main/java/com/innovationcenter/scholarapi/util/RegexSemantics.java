@@ -0,0 +1,66 @@
+package com.innovationcenter.scholarapi.util;
+
+/**
+ * Character tests matching java.util.regex defaults, for the hand-written scanners that
+ * replaced regular expressions without changing their results.
+ */
+final class RegexSemantics {
+
+    private RegexSemantics() {
+    }
+
+    /**
+     * The characters \s matches: space, tab, newline, vertical tab, form feed, carriage return.
+     */
+    static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * The characters . does not match and $ may precede.
+     */
+    static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Whether $ matches at position in the text [start, end): at its end, or before a line
+     * terminator that ends it.
+     */
+    static boolean isEndOfInput(CharSequence text, int start, int position, int end) {
+        if (position == end) {
+            return true;
+        }
+        if (position == end - 2) {
+            return text.charAt(position) == '\r' && text.charAt(position + 1) == '\n';
+        }
+        if (position == end - 1) {
+            char c = text.charAt(position);
+            if (c == '\n') {
+                return position == start || text.charAt(position - 1) != '\r';
+            }
+            return isLineTerminator(c);
+        }
+        return false;
+    }
+
+    /**
+     * Where .*$ starting at from ends within [start, end): the end, or the first line
+     * terminator if it ends the text. -1 if the line continues past a terminator.
+     */
+    static int restOfInputEnd(CharSequence text, int start, int from, int end) {
+        int position = from;
+        while (position < end && !isLineTerminator(text.charAt(position))) {
+            position++;
+        }
+        return isEndOfInput(text, start, position, end) ? position : -1;
+    }
+}
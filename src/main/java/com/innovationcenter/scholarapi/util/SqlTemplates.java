@@ -0,0 +1,147 @@
+package com.innovationcenter.scholarapi.util;
+
+/**
+ * Reduces SQL text to a template that identifies the statement regardless of its values.
+ *
+ * String and numeric literals become ?, whitespace and comments collapse to single spaces,
+ * and a list of two or more placeholders, such as an IN list, becomes "?...". Statements
+ * that differ only in their values or list lengths therefore share one template, which
+ * keeps per-statement metrics bounded and keeps values out of logs.
+ */
+public final class SqlTemplates {
+
+    private static final String LIST = "...";
+
+    private SqlTemplates() {
+    }
+
+    public static String normalize(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        StringBuilder template = new StringBuilder(sql.length());
+        int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (c == '\'' || c == '"') {
+                i = skipQuoted(sql, i, c);
+                appendPlaceholder(template);
+            } else if (c == '`') {
+                int end = skipQuoted(sql, i, c);
+                template.append(sql, i, end);
+                i = end;
+            } else if (c == '?') {
+                appendPlaceholder(template);
+                i++;
+            } else if (isDigit(c) && !isIdentifierPart(template)) {
+                i++;
+                while (i < length && (isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                appendPlaceholder(template);
+            } else if (c == '-' && sql.startsWith("--", i) || c == '#') {
+                while (i < length && sql.charAt(i) != '\n') {
+                    i++;
+                }
+                appendSpace(template);
+            } else if (c == '/' && sql.startsWith("/*", i)) {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+                appendSpace(template);
+            } else if (Character.isWhitespace(c)) {
+                appendSpace(template);
+                i++;
+            } else {
+                template.append(c);
+                i++;
+            }
+        }
+        int end = template.length();
+        while (end > 0 && template.charAt(end - 1) == ' ') {
+            end--;
+        }
+        template.setLength(end);
+        return template.toString();
+    }
+
+    /**
+     * Appends ?, or folds it into a preceding "?, " list item.
+     */
+    private static void appendPlaceholder(StringBuilder template) {
+        int end = template.length();
+        if (end > 0 && template.charAt(end - 1) == ' ') {
+            end--;
+        }
+        if (end > 0 && template.charAt(end - 1) == ',') {
+            int item = end - 1;
+            if (item > 0 && template.charAt(item - 1) == ' ') {
+                item--;
+            }
+            boolean afterList = endsWith(template, item, "?" + LIST);
+            if (afterList || endsWith(template, item, "?")) {
+                template.setLength(item);
+                if (!afterList) {
+                    template.append(LIST);
+                }
+                return;
+            }
+        }
+        template.append('?');
+    }
+
+    private static void appendSpace(StringBuilder template) {
+        int end = template.length();
+        if (end > 0 && template.charAt(end - 1) != ' ') {
+            template.append(' ');
+        }
+    }
+
+    /**
+     * Index just past the closing quote, honouring doubled quotes and backslash escapes.
+     */
+    private static int skipQuoted(String sql, int start, char quote) {
+        int i = start + 1;
+        while (i < sql.length()) {
+            char c = sql.charAt(i);
+            if (c == '\\' && quote != '`') {
+                i += 2;
+            } else if (c == quote) {
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == quote) {
+                    i += 2;
+                } else {
+                    return i + 1;
+                }
+            } else {
+                i++;
+            }
+        }
+        return sql.length();
+    }
+
+    private static boolean endsWith(CharSequence text, int end, String suffix) {
+        int start = end - suffix.length();
+        if (start < 0) {
+            return false;
+        }
+        for (int i = 0; i < suffix.length(); i++) {
+            if (text.charAt(start + i) != suffix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Digits continuing a name such as t1 or idx_2 are part of it
+    private static boolean isIdentifierPart(CharSequence template) {
+        if (template.length() == 0) {
+            return false;
+        }
+        char previous = template.charAt(template.length() - 1);
+        return Character.isLetterOrDigit(previous) || previous == '_' || previous == '$' || previous == '.';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
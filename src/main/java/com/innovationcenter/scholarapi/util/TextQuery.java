@@ -0,0 +1,190 @@
+package com.innovationcenter.scholarapi.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Parsed form of a free-text article search.
+ *
+ * Syntax: plain words must all match, a word ending in '*' matches any word with that
+ * prefix, and double-quoted text must match as a consecutive phrase.
+ * Example: {@code "neural network" pruning optim*}
+ */
+public class TextQuery {
+
+    /** Words shorter than this are not indexed by InnoDB FULLTEXT (innodb_ft_min_token_size). */
+    public static final int MIN_FULLTEXT_TOKEN_LENGTH = 3;
+
+    /** InnoDB's default FULLTEXT stopword list (INFORMATION_SCHEMA.INNODB_FT_DEFAULT_STOPWORD). */
+    private static final Set<String> FULLTEXT_STOPWORDS = Set.of(
+        "a", "about", "an", "are", "as", "at", "be", "by", "com", "de", "en", "for", "from", "how",
+        "i", "in", "is", "it", "la", "of", "on", "or", "that", "the", "this", "to", "was", "what",
+        "when", "where", "who", "will", "with", "und", "www");
+
+    private final String text;
+    private final List<String> terms;
+    private final List<String> prefixes;
+    private final List<List<String>> phrases;
+
+    private TextQuery(String text, List<String> terms, List<String> prefixes, List<List<String>> phrases) {
+        this.text = text;
+        this.terms = Collections.unmodifiableList(terms);
+        this.prefixes = Collections.unmodifiableList(prefixes);
+        this.phrases = Collections.unmodifiableList(phrases);
+    }
+
+    /**
+     * Parses user input. An unterminated quote runs to the end of the input.
+     */
+    public static TextQuery parse(String text) {
+        List<String> terms = new ArrayList<>();
+        List<String> prefixes = new ArrayList<>();
+        List<List<String>> phrases = new ArrayList<>();
+
+        String input = text == null ? "" : text;
+        int i = 0;
+        while (i < input.length()) {
+            char c = input.charAt(i);
+            if (c == '"') {
+                int end = input.indexOf('"', i + 1);
+                if (end < 0) {
+                    end = input.length();
+                }
+                List<String> phrase = tokenize(input.substring(i + 1, end));
+                if (phrase.size() == 1) {
+                    terms.add(phrase.get(0));
+                } else if (!phrase.isEmpty()) {
+                    phrases.add(phrase);
+                }
+                i = end + 1;
+            } else if (Character.isWhitespace(c)) {
+                i++;
+            } else {
+                int end = i;
+                while (end < input.length() && !Character.isWhitespace(input.charAt(end)) && input.charAt(end) != '"') {
+                    end++;
+                }
+                String word = input.substring(i, end);
+                List<String> tokens = tokenize(word);
+                if (!tokens.isEmpty()) {
+                    // Only the last token of a word like "state-of*" is a prefix
+                    boolean prefix = word.endsWith("*");
+                    for (int t = 0; t < tokens.size(); t++) {
+                        (prefix && t == tokens.size() - 1 ? prefixes : terms).add(tokens.get(t));
+                    }
+                }
+                i = end;
+            }
+        }
+        return new TextQuery(input.trim(), terms, prefixes, phrases);
+    }
+
+    /**
+     * Splits text into lower-case runs of letters and digits.
+     * Both the in-process index and query parsing use this, so they agree on word boundaries.
+     */
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase());
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Renders the query for MATCH ... AGAINST (? IN BOOLEAN MODE).
+     * Every clause is required. Words too short for the FULLTEXT index and stopwords are
+     * left out, because InnoDB does not index them and a required one would match nothing;
+     * so is a phrase made only of such words.
+     *
+     * @return Boolean-mode expression, empty if nothing in the query can use the index
+     */
+    public String toBooleanMode() {
+        StringBuilder builder = new StringBuilder();
+        for (String term : terms) {
+            if (isIndexable(term)) {
+                builder.append(builder.length() > 0 ? " +" : "+").append(term);
+            }
+        }
+        for (String prefix : prefixes) {
+            if (prefix.length() >= MIN_FULLTEXT_TOKEN_LENGTH) {
+                builder.append(builder.length() > 0 ? " +" : "+").append(prefix).append('*');
+            }
+        }
+        for (List<String> phrase : phrases) {
+            if (phrase.stream().noneMatch(TextQuery::isIndexable)) {
+                continue;
+            }
+            builder.append(builder.length() > 0 ? " +\"" : "+\"").append(String.join(" ", phrase)).append('"');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * @return true if InnoDB FULLTEXT indexes the word: long enough and not a stopword
+     */
+    public static boolean isIndexable(String word) {
+        return word.length() >= MIN_FULLTEXT_TOKEN_LENGTH && !FULLTEXT_STOPWORDS.contains(word);
+    }
+
+    /**
+     * @return true if the query has no searchable words
+     */
+    public boolean isEmpty() {
+        return terms.isEmpty() && prefixes.isEmpty() && phrases.isEmpty();
+    }
+
+    /**
+     * @return true if some words were too short to be sent to the FULLTEXT index
+     */
+    public boolean hasShortWords() {
+        return terms.stream().anyMatch(term -> term.length() < MIN_FULLTEXT_TOKEN_LENGTH) ||
+               prefixes.stream().anyMatch(prefix -> prefix.length() < MIN_FULLTEXT_TOKEN_LENGTH);
+    }
+
+    /**
+     * Checks a text against the query by scanning it, for use when no index is available.
+     */
+    public boolean matches(String content) {
+        List<String> tokens = tokenize(content);
+        for (String term : terms) {
+            if (!tokens.contains(term)) {
+                return false;
+            }
+        }
+        for (String prefix : prefixes) {
+            if (tokens.stream().noneMatch(token -> token.startsWith(prefix))) {
+                return false;
+            }
+        }
+        for (List<String> phrase : phrases) {
+            if (Collections.indexOfSubList(tokens, phrase) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public String getText() { return text; }
+    public List<String> getTerms() { return terms; }
+    public List<String> getPrefixes() { return prefixes; }
+    public List<List<String>> getPhrases() { return phrases; }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -0,0 +1,250 @@
+package com.innovationcenter.scholarapi.util;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiPredicate;
+import java.util.function.LongSupplier;
+
+/**
+ * Size-bounded, expiring in-memory cache safe for concurrent use.
+ *
+ * Keys are spread over independently locked LRU segments, so threads touching
+ * different keys rarely contend. Entries expire a fixed time after they were loaded.
+ * A value loaded while an invalidation ran is not stored, so a read racing a write
+ * can never put the pre-write value back.
+ */
+public class TtlCache<K, V> {
+
+    private static final int SEGMENTS = 16;
+
+    /**
+     * Loads a missing value; may throw the caller's checked exception.
+     */
+    @FunctionalInterface
+    public interface Loader<V, E extends Exception> {
+        V load() throws E;
+    }
+
+    private final Segment<K, V>[] segments;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public TtlCache(int maxEntries, Duration ttl) {
+        this(maxEntries, ttl, System::nanoTime);
+    }
+
+    @SuppressWarnings("unchecked")
+    TtlCache(int maxEntries, Duration ttl, LongSupplier clock) {
+        if (maxEntries < 1 || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Cache needs a positive size and time to live");
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+        int segmentCount = Math.min(SEGMENTS, maxEntries);
+        this.segments = (Segment<K, V>[]) new Segment<?, ?>[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            // Spread the bound so the segments together never exceed maxEntries
+            int capacity = maxEntries / segmentCount + (i < maxEntries % segmentCount ? 1 : 0);
+            segments[i] = new Segment<>(capacity, evictions);
+        }
+    }
+
+    /**
+     * @return The cached value, or null if absent or expired
+     */
+    public V get(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            Entry<V> entry = segment.get(key);
+            if (entry != null && entry.expiresAt - clock.getAsLong() > 0) {
+                hits.increment();
+                return entry.value;
+            }
+            if (entry != null) {
+                segment.remove(key);
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Returns the cached value or loads, stores and returns it. Null results are not cached.
+     */
+    public <E extends Exception> V get(K key, Loader<V, E> loader) throws E {
+        V cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long loadGeneration = generation.get();
+        V loaded = loader.load();
+        if (loaded != null) {
+            putIfGeneration(key, loaded, loadGeneration);
+        }
+        return loaded;
+    }
+
+    public void put(K key, V value) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            segment.put(key, new Entry<>(value, clock.getAsLong() + ttlNanos));
+        }
+    }
+
+    /**
+     * @return Token to read before loading values outside the cache, for putIfGeneration
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Stores a value loaded outside the cache unless an invalidation ran since the
+     * generation was read, the same guard get(key, loader) applies to its own loads.
+     */
+    public void putIfGeneration(K key, V value, long expectedGeneration) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            // Checked under the segment lock, so an invalidation either happened before and
+            // is seen here, or happens after and removes this entry
+            if (generation.get() == expectedGeneration) {
+                segment.put(key, new Entry<>(value, clock.getAsLong() + ttlNanos));
+            }
+        }
+    }
+
+    public void invalidate(K key) {
+        generation.incrementAndGet();
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            segment.remove(key);
+        }
+    }
+
+    /**
+     * Removes every entry the predicate accepts.
+     */
+    public void invalidateIf(BiPredicate<K, V> predicate) {
+        generation.incrementAndGet();
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.entrySet().removeIf(entry -> predicate.test(entry.getKey(), entry.getValue().value));
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * @return Snapshot of the hit, miss and eviction counters
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), size());
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return segments[Math.floorMod(hash, segments.length)];
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+
+        Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * One LRU segment; callers synchronize on it.
+     */
+    private static final class Segment<K, V> extends LinkedHashMap<K, Entry<V>> {
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+        private final LongAdder evictions;
+
+        Segment(int capacity, LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Counter snapshot.
+     */
+    public static final class Stats {
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final int size;
+
+        public Stats(long hits, long misses, long evictions, int size) {
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.size = size;
+        }
+
+        public long getHits() { return hits; }
+        public long getMisses() { return misses; }
+        public long getEvictions() { return evictions; }
+        public int getSize() { return size; }
+
+        public double getHitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0.0 : (double) hits / requests;
+        }
+
+        /**
+         * @return Counters of both snapshots added together
+         */
+        public Stats plus(Stats other) {
+            return new Stats(hits + other.hits, misses + other.misses, evictions + other.evictions, size + other.size);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("hits=%d, misses=%d, evictions=%d, size=%d, hitRate=%.1f%%",
+                                 hits, misses, evictions, size, getHitRate() * 100);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.innovationcenter.scholarapi.repository.impl;
+
+import com.innovationcenter.scholarapi.model.SimpleAuthor;
+import com.innovationcenter.scholarapi.repository.SimpleAuthorRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CachingSimpleAuthorRepository: writes through the decorator must drop
+ * every cached copy they make stale.
+ */
+class CachingSimpleAuthorRepositoryTest {
+
+    private H2TestDatabase database;
+    private CachingSimpleAuthorRepository repository;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        database = new H2TestDatabase();
+        repository = new CachingSimpleAuthorRepository(new MySQLSimpleAuthorRepository(database), 100, Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    void testUpdateInvalidatesCachedAuthor() throws SQLException {
+        SimpleAuthor saved = repository.save(new SimpleAuthor("Ada Lovelace"));
+        assertEquals(0, repository.findById(saved.getId()).orElseThrow().getArticleCount());
+        assertEquals(0, repository.findByFullName("Ada Lovelace").orElseThrow().getArticleCount());
+        // Authors without articles are not ranked yet
+        assertTrue(repository.findTopByCitations(10).isEmpty());
+
+        repository.updateStatistics(saved.getId(), 3, 42);
+
+        assertEquals(3, repository.findById(saved.getId()).orElseThrow().getArticleCount());
+        assertEquals(42, repository.findByFullName("Ada Lovelace").orElseThrow().getTotalCitations());
+        assertEquals(42, repository.findTopByCitations(10).get(0).getTotalCitations());
+    }
+
+    @Test
+    void testDeleteInvalidatesCachedAuthor() throws SQLException {
+        SimpleAuthor saved = repository.save(new SimpleAuthor("Ada Lovelace"));
+        assertTrue(repository.findByFullName("Ada Lovelace").isPresent());
+        assertEquals(1, repository.findByIds(List.of(saved.getId())).size());
+        assertEquals(1, repository.count());
+
+        assertTrue(repository.deleteById(saved.getId()));
+
+        assertTrue(repository.findByIds(List.of(saved.getId())).isEmpty());
+        assertFalse(repository.findByFullName("Ada Lovelace").isPresent());
+        assertEquals(0, repository.count());
+    }
+
+    @Test
+    void testSaveInvalidatesCountAndLists() throws SQLException {
+        repository.save(new SimpleAuthor("Ada Lovelace"));
+        assertEquals(1, repository.count());
+        assertEquals(1, repository.findByNamePattern("a").size());
+
+        repository.save(new SimpleAuthor("Alan Turing"));
+
+        assertEquals(2, repository.count());
+        assertEquals(2, repository.findByNamePattern("a").size());
+    }
+
+    @Test
+    void testFindByIdsDoesNotStoreRowsReadBeforeAWrite() throws SQLException {
+        SimpleAuthorRepository delegate = mock(SimpleAuthorRepository.class);
+        CachingSimpleAuthorRepository caching = new CachingSimpleAuthorRepository(delegate, 100, Duration.ofMinutes(5));
+        SimpleAuthor stale = new SimpleAuthor(1L, "Ada Lovelace", 1, 10);
+        SimpleAuthor fresh = new SimpleAuthor(1L, "Ada Lovelace", 2, 30);
+
+        when(delegate.findByIds(any())).thenAnswer(invocation -> {
+            // The statistics change commits while the stale row is on its way back
+            caching.updateStatistics(1L, 2, 30);
+            return List.of(stale);
+        });
+        when(delegate.findById(1L)).thenReturn(Optional.of(fresh));
+
+        assertEquals(List.of(stale), caching.findByIds(List.of(1L)));
+        assertEquals(30, caching.findById(1L).orElseThrow().getTotalCitations());
+        verify(delegate).findById(1L);
+    }
+}
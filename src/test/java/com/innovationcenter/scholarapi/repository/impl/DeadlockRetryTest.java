@@ -0,0 +1,55 @@
+package com.innovationcenter.scholarapi.repository.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.SQLTransactionRollbackException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DeadlockRetry.
+ */
+class DeadlockRetryTest {
+
+    @Test
+    void testDeadlockVictimIsRerun() throws SQLException {
+        AtomicInteger runs = new AtomicInteger();
+
+        String result = DeadlockRetry.run("test", () -> {
+            if (runs.incrementAndGet() == 1) {
+                throw new SQLTransactionRollbackException("Deadlock found when trying to get lock", "40001", 1213);
+            }
+            return "committed";
+        });
+
+        assertEquals("committed", result);
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    void testGivesUpAfterMaxAttempts() {
+        AtomicInteger runs = new AtomicInteger();
+
+        SQLException thrown = assertThrows(SQLException.class, () -> DeadlockRetry.run("test", () -> {
+            runs.incrementAndGet();
+            throw new SQLTransactionRollbackException("Deadlock found when trying to get lock", "40001", 1213);
+        }));
+
+        assertEquals(1213, thrown.getErrorCode());
+        assertEquals(DeadlockRetry.MAX_ATTEMPTS, runs.get());
+    }
+
+    @Test
+    void testOtherFailuresAreNotRetried() {
+        AtomicInteger runs = new AtomicInteger();
+
+        assertThrows(SQLException.class, () -> DeadlockRetry.run("test", () -> {
+            runs.incrementAndGet();
+            throw new SQLException("Duplicate entry", "23000", 1062);
+        }));
+
+        assertEquals(1, runs.get());
+    }
+}
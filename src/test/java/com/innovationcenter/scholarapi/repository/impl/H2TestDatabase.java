@@ -0,0 +1,149 @@
+package com.innovationcenter.scholarapi.repository.impl;
+
+import com.innovationcenter.scholarapi.service.DatabaseService;
+import org.h2.jdbcx.JdbcDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * In-memory H2 database in MySQL mode with the articles, authors and article_authors
+ * tables, so the MySQL repositories run unchanged in tests. The database lives until
+ * close is called.
+ *
+ * Connections accept Connector/J's streaming hint, setFetchSize(Integer.MIN_VALUE), which
+ * H2 rejects; H2 then reads with its default fetch size.
+ */
+public class H2TestDatabase implements DatabaseService {
+
+    private static final String[] SCHEMA = {
+        "CREATE TABLE articles (" +
+        "id BIGINT PRIMARY KEY AUTO_INCREMENT, " +
+        "paper_title VARCHAR(500) NOT NULL, " +
+        "authors TEXT NOT NULL, " +
+        "publication_year INTEGER, " +
+        "journal VARCHAR(255), " +
+        "article_url VARCHAR(500), " +
+        "abstract_text TEXT, " +
+        "google_scholar_id VARCHAR(50), " +
+        "citation_count INTEGER DEFAULT 0, " +
+        "cites_id VARCHAR(50), " +
+        "pdf_url VARCHAR(500), " +
+        "publisher VARCHAR(255), " +
+        "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+        "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+        "deleted_at TIMESTAMP NULL DEFAULT NULL, " +
+        "UNIQUE (google_scholar_id))",
+        "CREATE INDEX idx_publication_year ON articles (publication_year)",
+        "CREATE TABLE authors (" +
+        "id BIGINT PRIMARY KEY AUTO_INCREMENT, " +
+        "full_name VARCHAR(255) NOT NULL, " +
+        "name_key VARCHAR(255), " +
+        "first_seen TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+        "last_updated TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+        "deleted_at TIMESTAMP NULL DEFAULT NULL, " +
+        "article_count INT DEFAULT 0, " +
+        "total_citations INT DEFAULT 0, " +
+        "UNIQUE (full_name))",
+        "CREATE TABLE article_authors (" +
+        "id BIGINT PRIMARY KEY AUTO_INCREMENT, " +
+        "article_id BIGINT NOT NULL, " +
+        "author_id BIGINT NOT NULL, " +
+        "author_position INT, " +
+        "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
+        "UNIQUE (article_id, author_id))",
+        "CREATE INDEX idx_author_id ON article_authors (author_id)"
+    };
+
+    private final JdbcDataSource dataSource;
+    private final Connection keepAlive;
+
+    public H2TestDatabase() throws SQLException {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:scholar" + System.nanoTime() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE");
+        keepAlive = dataSource.getConnection();
+        initializeSchema();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            return result instanceof PreparedStatement ? streamingHintIgnored((PreparedStatement) result) : result;
+        });
+    }
+
+    @Override
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    @Override
+    public void initializeSchema() throws SQLException {
+        try (Statement statement = keepAlive.createStatement()) {
+            for (String sql : SCHEMA) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    @Override
+    public boolean testConnection() {
+        return true;
+    }
+
+    @Override
+    public void close() {
+        try {
+            keepAlive.close();
+        } catch (SQLException e) {
+            // Already gone
+        }
+    }
+
+    private static PreparedStatement streamingHintIgnored(PreparedStatement statement) {
+        return proxy(PreparedStatement.class, (proxy, method, args) -> {
+            if (method.getName().equals("setFetchSize") && Integer.valueOf(Integer.MIN_VALUE).equals(args[0])) {
+                return null;
+            }
+            return invoke(statement, method, args);
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(H2TestDatabase.class.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Run a single-value query, for asserting on table contents.
+     */
+    public long queryLong(String sql, Object... parameters) throws SQLException {
+        try (Connection connection = getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+}
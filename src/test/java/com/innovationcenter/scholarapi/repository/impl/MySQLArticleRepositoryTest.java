@@ -0,0 +1,275 @@
+package com.innovationcenter.scholarapi.repository.impl;
+
+import com.innovationcenter.scholarapi.model.Article;
+import com.innovationcenter.scholarapi.model.SimpleAuthor;
+import com.innovationcenter.scholarapi.service.DatabaseService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for MySQLArticleRepository and the author statistics its writes maintain,
+ * run against an in-memory H2 database in MySQL mode.
+ */
+class MySQLArticleRepositoryTest {
+
+    private H2TestDatabase database;
+    private MySQLArticleRepository repository;
+    private MySQLSimpleAuthorRepository authorRepository;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        database = new H2TestDatabase();
+        repository = new MySQLArticleRepository(database);
+        authorRepository = new MySQLSimpleAuthorRepository(database);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    void testUpsertReportsUnchangedDuplicateAsExisting() throws SQLException {
+        Article first = article("abc123", 10);
+        assertTrue(repository.upsert(first));
+
+        Article duplicate = article("abc123", 10);
+        assertFalse(repository.upsert(duplicate));
+        assertEquals(first.getId(), duplicate.getId());
+        assertEquals(1, repository.count());
+    }
+
+    @Test
+    void testUpsertRefreshesChangedDuplicateAndItsAuthors() throws SQLException {
+        Article first = savedAndLinked("abc123", 10, "Ada Lovelace");
+
+        Article refreshed = article("abc123", 25);
+        assertFalse(repository.upsert(refreshed));
+        assertEquals(first.getId(), refreshed.getId());
+        assertEquals(25, database.queryLong("SELECT citation_count FROM articles WHERE id = ?", first.getId()));
+        assertStatistics("Ada Lovelace", 1, 25);
+    }
+
+    @Test
+    void testUpdateMovesCitationDeltaToLinkedAuthors() throws SQLException {
+        Article article = savedAndLinked("abc123", 10, "Ada Lovelace", "Alan Turing");
+
+        article.setCitationCount(25);
+        repository.update(article);
+
+        assertStatistics("Ada Lovelace", 1, 25);
+        assertStatistics("Alan Turing", 1, 25);
+    }
+
+    @Test
+    void testDeleteRemovesArticleFromLinkedAuthorsOnce() throws SQLException {
+        savedAndLinked("keep01", 5, "Ada Lovelace");
+        Article deleted = savedAndLinked("drop01", 10, "Ada Lovelace", "Alan Turing");
+
+        assertTrue(repository.deleteById(deleted.getId()));
+        assertFalse(repository.deleteById(deleted.getId()));
+
+        assertStatistics("Ada Lovelace", 1, 5);
+        assertStatistics("Alan Turing", 0, 0);
+
+        // A deleted article no longer moves its authors when updated
+        deleted.setCitationCount(100);
+        repository.update(deleted);
+        assertStatistics("Alan Turing", 0, 0);
+    }
+
+    @Test
+    void testBatchUpsertCarriesRefreshedCitationsToAuthors() throws SQLException {
+        savedAndLinked("abc123", 10, "Ada Lovelace");
+
+        Set<String> inserted = repository.saveAll(List.of(article("abc123", 30), article("new001", 7)));
+
+        assertEquals(Set.of("new001"), inserted);
+        assertStatistics("Ada Lovelace", 1, 30);
+        assertEquals(2, repository.count());
+    }
+
+    @Test
+    void testRebuildRepairsDriftAndSkipsDeletedArticles() throws SQLException {
+        savedAndLinked("abc123", 10, "Ada Lovelace", "Alan Turing");
+        Article deleted = savedAndLinked("drop01", 4, "Ada Lovelace");
+        repository.deleteById(deleted.getId());
+        authorRepository.updateStatistics(authorRepository.findByFullName("Ada Lovelace").get().getId(), 9, 999);
+
+        assertEquals(2, authorRepository.rebuildStatistics());
+
+        assertStatistics("Ada Lovelace", 1, 10);
+        assertStatistics("Alan Turing", 1, 10);
+    }
+
+    @Test
+    void testFindByYearReturnsOnlyActiveArticlesOfThatYear() throws SQLException {
+        Article older = article("old001", 50);
+        older.setPublicationYear(2019);
+        Article deleted = article("drop01", 40);
+        repository.saveAll(List.of(article("low001", 3), article("top001", 30), older, deleted));
+        repository.deleteById(deleted.getId());
+
+        List<Article> found = repository.findByYear(2020);
+
+        assertEquals(List.of("top001", "low001"),
+            found.stream().map(Article::getGoogleScholarId).collect(Collectors.toList()));
+        assertEquals(1, repository.findByYear(2019).size());
+        assertTrue(repository.findByYear(2021).isEmpty());
+    }
+
+    @Test
+    void testCitationPagesCrossTiesWithoutGapsOrRepeats() throws SQLException {
+        int[] citations = {10, 10, 10, 10, 5, 5, 1, 10};
+        List<Article> saved = new ArrayList<>();
+        for (int i = 0; i < citations.length; i++) {
+            saved.add(article("cit00" + i, citations[i]));
+        }
+        repository.saveAll(saved);
+        repository.deleteById(saved.get(7).getId());
+
+        List<Long> paged = new ArrayList<>();
+        List<Article> page = repository.findPageByCitations(0, null, 3);
+        while (!page.isEmpty()) {
+            page.forEach(article -> paged.add(article.getId()));
+            page = repository.findPageByCitations(0, page.get(page.size() - 1), 3);
+        }
+
+        List<Long> expected = saved.subList(0, 7).stream()
+            .sorted(Comparator.comparingInt(Article::getCitationCount).thenComparing(Article::getId).reversed())
+            .map(Article::getId).collect(Collectors.toList());
+        assertEquals(expected, paged);
+    }
+
+    @Test
+    void testYearPagesCrossTiesWithoutGapsOrRepeats() throws SQLException {
+        int[] years = {2021, 2021, 2021, 2020, 2020, 2020, 2018, 2021};
+        List<Article> saved = new ArrayList<>();
+        for (int i = 0; i < years.length; i++) {
+            Article article = article("year0" + i, i);
+            article.setPublicationYear(years[i]);
+            saved.add(article);
+        }
+        repository.saveAll(saved);
+        repository.deleteById(saved.get(7).getId());
+
+        List<Long> paged = new ArrayList<>();
+        List<Article> page = repository.findPageByYear(2019, null, 2);
+        while (!page.isEmpty()) {
+            page.forEach(article -> paged.add(article.getId()));
+            page = repository.findPageByYear(2019, page.get(page.size() - 1), 2);
+        }
+
+        // 2018 is below the floor and the deleted 2021 article is left out
+        List<Long> expected = saved.subList(0, 6).stream()
+            .sorted(Comparator.comparingInt(Article::getPublicationYear).thenComparing(Article::getId).reversed())
+            .map(Article::getId).collect(Collectors.toList());
+        assertEquals(expected, paged);
+    }
+
+    @Test
+    void testForEachArticleVisitsEveryActiveRowOnce() throws SQLException {
+        List<Article> saved = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            saved.add(article("scan0" + i, i));
+        }
+        repository.saveAll(saved);
+        repository.deleteById(saved.get(2).getId());
+
+        Set<Long> visited = new HashSet<>();
+        long count = repository.forEachArticle(article -> assertTrue(visited.add(article.getId())));
+
+        assertEquals(4, count);
+        assertFalse(visited.contains(saved.get(2).getId()));
+    }
+
+    @Test
+    void testFindByAuthorMatchesLinkedSurnamePrefixes() throws SQLException {
+        Article linked = savedAndLinked("link01", 10, "Hans Müller");
+        Article other = savedAndLinked("link02", 5, "J. L. Harper", "Hans Müller");
+        savedAndLinked("link03", 7, "Jane Smith");
+        Article deleted = savedAndLinked("link04", 3, "Hans Müller");
+        repository.deleteById(deleted.getId());
+        // Stored without author links, so only a search of the authors text would find it
+        repository.saveAll(List.of(article("nolink", 1)));
+
+        assertEquals(List.of(other.getId(), linked.getId()), ids(repository.findByAuthor("muller")));
+        assertEquals(List.of(other.getId(), linked.getId()), ids(repository.findByAuthor("H. MÜLLER")));
+        assertEquals(List.of(other.getId()), ids(repository.findByAuthor("Harper, J.L.")));
+        assertEquals(List.of(other.getId()), ids(repository.findByAuthor("Harp")));
+        assertTrue(repository.findByAuthor("Hans").isEmpty());
+        assertTrue(repository.findByAuthor("A Author").isEmpty());
+        assertTrue(repository.findByAuthor("  ").isEmpty());
+    }
+
+    /**
+     * H2 has no MATCH ... AGAINST, so the full-text statement is checked as sent to the driver:
+     * relevance ordering with a citation tie-break, the soft-delete filter and the limit.
+     */
+    @Test
+    void testFullTextSearchSendsRankedFilteredLimitedQuery() throws SQLException {
+        DatabaseService databaseService = mock(DatabaseService.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(databaseService.getReadConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+
+        String booleanQuery = "+deep +learn* +\"neural network\"";
+        assertTrue(new MySQLArticleRepository(databaseService).searchFullText(booleanQuery, 5).isEmpty());
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(connection).prepareStatement(sql.capture());
+        String normalized = sql.getValue().replaceAll("\\s+", " ");
+        assertTrue(normalized.contains("WHERE MATCH (paper_title, abstract_text) AGAINST (? IN BOOLEAN MODE) AND deleted_at IS NULL"), normalized);
+        assertTrue(normalized.endsWith("ORDER BY relevance DESC, citation_count DESC LIMIT ?"), normalized);
+        verify(statement).setString(1, booleanQuery);
+        verify(statement).setString(2, booleanQuery);
+        verify(statement).setInt(3, 5);
+        verify(connection).close();
+    }
+
+    private Article savedAndLinked(String scholarId, int citations, String... authorNames) throws SQLException {
+        Article article = article(scholarId, citations);
+        repository.saveAll(List.of(article));
+        List<SimpleAuthor> authors = new ArrayList<>();
+        for (String name : authorNames) {
+            authors.add(new SimpleAuthor(name));
+        }
+        authorRepository.saveAllAndLinkToArticle(article.getId(), authors, citations);
+        return article;
+    }
+
+    private void assertStatistics(String fullName, int articleCount, int totalCitations) throws SQLException {
+        SimpleAuthor author = authorRepository.findByFullName(fullName).orElseThrow();
+        assertEquals(articleCount, author.getArticleCount(), fullName + " article count");
+        assertEquals(totalCitations, author.getTotalCitations(), fullName + " total citations");
+    }
+
+    private static List<Long> ids(List<Article> articles) {
+        return articles.stream().map(Article::getId).collect(Collectors.toList());
+    }
+
+    static Article article(String scholarId, int citations) {
+        return new Article("Deep learning for " + scholarId, "A Author, B Author", 2020, "Journal",
+            "https://example.org/" + scholarId, "Abstract", scholarId, citations, null, null, null);
+    }
+}
@@ -0,0 +1,90 @@
+package com.innovationcenter.scholarapi.repository.impl;
+
+import com.innovationcenter.scholarapi.model.Article;
+import com.innovationcenter.scholarapi.model.SimpleAuthor;
+import com.innovationcenter.scholarapi.repository.SimpleAuthorRepository.LinkedAuthors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MySQLSimpleAuthorRepository, run against an in-memory H2 database in MySQL mode.
+ */
+class MySQLSimpleAuthorRepositoryTest {
+
+    private H2TestDatabase database;
+    private MySQLSimpleAuthorRepository repository;
+    private Long articleId;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        database = new H2TestDatabase();
+        repository = new MySQLSimpleAuthorRepository(database);
+        Article article = MySQLArticleRepositoryTest.article("abc123", 10);
+        new MySQLArticleRepository(database).saveAll(List.of(article));
+        articleId = article.getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    void testRepeatedLinkCountsArticleOnce() throws SQLException {
+        LinkedAuthors linked = repository.saveAllAndLinkToArticle(
+            articleId, authors("Ada Lovelace", "Alan Turing", "Ada Lovelace"), 10);
+        LinkedAuthors relinked = repository.saveAllAndLinkToArticle(articleId, authors("Ada Lovelace", "Alan Turing"), 10);
+
+        assertEquals(2, linked.getAuthors().size());
+        assertEquals(2, linked.getNewlyLinked().size());
+        assertEquals(2, relinked.getAuthors().size());
+        assertTrue(relinked.getNewlyLinked().isEmpty());
+        for (SimpleAuthor author : repository.findByArticleId(articleId)) {
+            assertEquals(1, author.getArticleCount(), author.getFullName());
+            assertEquals(10, author.getTotalCitations(), author.getFullName());
+        }
+        assertEquals(2, database.queryLong("SELECT COUNT(*) FROM article_authors WHERE article_id = ?", articleId));
+    }
+
+    @Test
+    void testRelinkCountsOnlyNewlyLinkedAuthors() throws SQLException {
+        LinkedAuthors first = repository.saveAllAndLinkToArticle(articleId, authors("Ada Lovelace", "Alan Turing"), 10);
+        LinkedAuthors relinked = repository.saveAllAndLinkToArticle(
+            articleId, authors("Ada Lovelace", "Alan Turing", "Grace Hopper"), 10);
+
+        assertEquals(1, relinked.getNewlyLinked().size());
+        assertEquals("Grace Hopper", relinked.getNewlyLinked().get(0).getFullName());
+        assertEquals(Set.copyOf(ids(first.getAuthors())), relinked.getPreviouslyLinkedIds());
+
+        for (String name : new String[] {"Ada Lovelace", "Alan Turing", "Grace Hopper"}) {
+            SimpleAuthor author = repository.findByFullName(name).orElseThrow();
+            assertEquals(1, author.getArticleCount(), name);
+            assertEquals(10, author.getTotalCitations(), name);
+        }
+        assertEquals(3, database.queryLong("SELECT COUNT(*) FROM article_authors WHERE article_id = ?", articleId));
+    }
+
+    private static List<Long> ids(List<SimpleAuthor> authors) {
+        List<Long> ids = new ArrayList<>();
+        for (SimpleAuthor author : authors) {
+            ids.add(author.getId());
+        }
+        return ids;
+    }
+
+    private static List<SimpleAuthor> authors(String... names) {
+        List<SimpleAuthor> authors = new ArrayList<>();
+        for (String name : names) {
+            authors.add(new SimpleAuthor(name));
+        }
+        return authors;
+    }
+}
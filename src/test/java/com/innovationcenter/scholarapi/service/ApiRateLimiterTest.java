@@ -0,0 +1,172 @@
+package com.innovationcenter.scholarapi.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ApiRateLimiter.
+ */
+class ApiRateLimiterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testBurstIsAvailableImmediately() {
+        ApiRateLimiter limiter = new ApiRateLimiter(1.0, 3, ApiRateLimiter.UNLIMITED_QUOTA);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(Long.MAX_VALUE, limiter.getRemainingQuota());
+    }
+
+    @Test
+    void testAcquireWaitsForRefill() throws Exception {
+        ApiRateLimiter limiter = new ApiRateLimiter(20.0, 1, ApiRateLimiter.UNLIMITED_QUOTA);
+
+        long start = System.nanoTime();
+        limiter.acquire();
+        limiter.acquire();
+        limiter.acquire();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // Two refills at 20 req/s take at least ~100 ms
+        assertTrue(elapsedMillis >= 90, "Expected backpressure, took " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void testQuotaExhaustionFailsInsteadOfWaiting() throws Exception {
+        ApiRateLimiter limiter = new ApiRateLimiter(100.0, 10, 2);
+
+        limiter.acquire();
+        limiter.acquire();
+
+        assertEquals(0, limiter.getRemainingQuota());
+        assertThrows(ApiRateLimiter.QuotaExhaustedException.class, limiter::acquire);
+        assertFalse(limiter.tryAcquire());
+    }
+
+    @Test
+    void testQuotaResetsInNewMonth() throws Exception {
+        MutableClock clock = new MutableClock(Instant.parse("2026-01-31T23:59:00Z"));
+        ApiRateLimiter limiter = new ApiRateLimiter(100.0, 10, 1, null, clock);
+
+        limiter.acquire();
+        assertEquals(0, limiter.getRemainingQuota());
+
+        clock.instant = Instant.parse("2026-02-01T00:01:00Z");
+        assertEquals(1, limiter.getRemainingQuota());
+        limiter.acquire();
+        assertEquals(1, limiter.getUsedQuota());
+    }
+
+    @Test
+    void testAcquireAsyncDelaysWithoutBlocking() throws Exception {
+        ApiRateLimiter limiter = new ApiRateLimiter(20.0, 1, 2);
+
+        long start = System.nanoTime();
+        assertTrue(limiter.acquireAsync().isDone());
+        CompletableFuture<Void> delayed = limiter.acquireAsync();
+        assertFalse(delayed.isDone());
+        // Both searches of the quota are now reserved
+        assertTrue(limiter.acquireAsync().isCompletedExceptionally());
+
+        delayed.get(1, TimeUnit.SECONDS);
+        // The second permit is one refill (50 ms) after the first
+        assertTrue((System.nanoTime() - start) / 1_000_000 >= 45);
+    }
+
+    @Test
+    void testQuotaCountSurvivesRestart() throws Exception {
+        Path quotaFile = directory.resolve(ApiRateLimiter.QUOTA_FILE);
+        ApiRateLimiter limiter = new ApiRateLimiter(100.0, 10, 3, quotaFile);
+        limiter.acquire();
+        limiter.acquire();
+
+        ApiRateLimiter restarted = new ApiRateLimiter(100.0, 10, 3, quotaFile);
+        assertEquals(2, restarted.getUsedQuota());
+        restarted.acquire();
+        assertThrows(ApiRateLimiter.QuotaExhaustedException.class, restarted::acquire);
+        // The first limiter sees the searches the other one used
+        assertFalse(limiter.tryAcquire());
+    }
+
+    @Test
+    void testConcurrentPermitsAreAllWritten() throws Exception {
+        Path quotaFile = directory.resolve(ApiRateLimiter.QUOTA_FILE);
+        ApiRateLimiter limiter = new ApiRateLimiter(1_000_000.0, 1_000, 1_000, quotaFile);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            workers.add(pool.submit(() -> {
+                for (int j = 0; j < 25; j++) {
+                    limiter.acquire();
+                }
+                return null;
+            }));
+        }
+        for (Future<?> worker : workers) {
+            worker.get(10, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        assertEquals(200, limiter.getUsedQuota());
+        assertEquals(200, new ApiRateLimiter(1.0, 1, 1_000, quotaFile).getUsedQuota());
+    }
+
+    @Test
+    void testThrottledRequestReturnsItsSearch() throws Exception {
+        ApiRateLimiter limiter = new ApiRateLimiter(100.0, 10, 2, directory.resolve(ApiRateLimiter.QUOTA_FILE));
+
+        limiter.acquire();
+        limiter.onThrottled();
+        assertEquals(0, limiter.getUsedQuota());
+        assertEquals(2, limiter.getRemainingQuota());
+    }
+
+    @Test
+    void testInvalidSettingsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new ApiRateLimiter(0, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ApiRateLimiter(1, 0, 0));
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
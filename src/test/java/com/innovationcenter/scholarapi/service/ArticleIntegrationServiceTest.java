@@ -0,0 +1,69 @@
+package com.innovationcenter.scholarapi.service;
+
+import com.innovationcenter.scholarapi.model.Article;
+import com.innovationcenter.scholarapi.model.Author;
+import com.innovationcenter.scholarapi.model.AuthorSearchResult;
+import com.innovationcenter.scholarapi.model.Publication;
+import com.innovationcenter.scholarapi.repository.ArticleRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ArticleIntegrationService.
+ */
+class ArticleIntegrationServiceTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testPublicationsAreSavedAsOneKeyedBatch() throws Exception {
+        Author author = new Author("author1", "Ada Lovelace", "Analytical Engines");
+        author.setPublications(List.of(
+            publication("Notes on the Engine", "pub001"),
+            publication("Sketch of the Engine", "pub002"),
+            publication("Notes on the Engine", "pub001"),
+            publication("Untitled", null)));
+        ApiService apiService = mock(ApiService.class);
+        when(apiService.searchAuthors("Ada Lovelace")).thenReturn(List.of(new AuthorSearchResult(author, 1, "test")));
+        ArticleRepository articleRepository = mock(ArticleRepository.class);
+        when(articleRepository.saveAll(anyList())).thenReturn(Set.of("pub002"));
+
+        List<Article> saved = new ArticleIntegrationService(apiService, articleRepository)
+            .searchAndStoreArticles("Ada Lovelace", 10);
+
+        ArgumentCaptor<List<Article>> batch = ArgumentCaptor.forClass(List.class);
+        verify(articleRepository).saveAll(batch.capture());
+        verify(articleRepository, never()).save(any());
+        assertEquals(3, batch.getValue().size());
+        assertEquals("pub001", batch.getValue().get(0).getGoogleScholarId());
+        assertEquals("pub002", batch.getValue().get(1).getGoogleScholarId());
+        assertNull(batch.getValue().get(2).getGoogleScholarId());
+        assertEquals(batch.getValue(), saved);
+    }
+
+    @Test
+    void testFailedBatchSavesNothing() throws Exception {
+        Author author = new Author("author1", "Ada Lovelace", "Analytical Engines");
+        author.setPublications(List.of(publication("Notes on the Engine", "pub001")));
+        ApiService apiService = mock(ApiService.class);
+        when(apiService.searchAuthors("Ada Lovelace")).thenReturn(List.of(new AuthorSearchResult(author, 1, "test")));
+        ArticleRepository articleRepository = mock(ArticleRepository.class);
+        when(articleRepository.saveAll(anyList())).thenThrow(new SQLException("deadlock"));
+
+        assertTrue(new ArticleIntegrationService(apiService, articleRepository)
+            .searchAndStoreArticles("Ada Lovelace", 10).isEmpty());
+    }
+
+    private static Publication publication(String title, String publicationId) {
+        Publication publication = new Publication(title, "A Lovelace", 1843);
+        publication.setPublicationId(publicationId);
+        return publication;
+    }
+}
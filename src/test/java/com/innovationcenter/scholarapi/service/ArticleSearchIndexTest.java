@@ -0,0 +1,90 @@
+package com.innovationcenter.scholarapi.service;
+
+import com.innovationcenter.scholarapi.model.Article;
+import com.innovationcenter.scholarapi.util.TextQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ArticleSearchIndex and TextQuery.
+ */
+class ArticleSearchIndexTest {
+
+    private ArticleSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ArticleSearchIndex();
+        index.add(article(1L, "Deep neural network pruning", "We prune convolutional networks.", 10));
+        index.add(article(2L, "Network analysis of neural circuits", "Graph methods for the brain.", 50));
+        index.add(article(3L, "Optimizing compilers", "Neural network inference is not covered.", 5));
+        index.add(article(4L, "Plant population biology", "Field study.", 100));
+    }
+
+    @Test
+    void testAllTermsMustMatchAndTitleHitsRankFirst() {
+        assertEquals(List.of(1L, 2L, 3L), ids(index.search(TextQuery.parse("neural network"), 10)));
+        assertEquals(List.of(1L), ids(index.search(TextQuery.parse("neural pruning"), 10)));
+        assertTrue(index.search(TextQuery.parse("neural biology"), 10).isEmpty());
+    }
+
+    @Test
+    void testPrefixAndPhraseQueries() {
+        assertEquals(List.of(3L), ids(index.search(TextQuery.parse("optim*"), 10)));
+        assertEquals(List.of(1L, 3L), ids(index.search(TextQuery.parse("\"neural network\""), 10)));
+        assertEquals(List.of(1L), ids(index.search(TextQuery.parse("\"neural network\" prun*"), 10)));
+    }
+
+    @Test
+    void testLimitUpdateAndRemove() {
+        assertEquals(List.of(1L), ids(index.search(TextQuery.parse("neural network"), 1)));
+
+        index.add(article(1L, "Sparse transformers", "Attention only.", 10));
+        assertEquals(List.of(2L, 3L), ids(index.search(TextQuery.parse("neural network"), 10)));
+        assertEquals(List.of(1L), ids(index.search(TextQuery.parse("transformers"), 10)));
+
+        assertTrue(index.remove(1L));
+        assertFalse(index.remove(1L));
+        assertTrue(index.search(TextQuery.parse("transformers"), 10).isEmpty());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void testQueryParsingAndBooleanMode() {
+        TextQuery query = TextQuery.parse("Neural \"Graph  Methods\" optim* of");
+        assertEquals(List.of("neural", "of"), query.getTerms());
+        assertEquals(List.of("optim"), query.getPrefixes());
+        assertEquals(List.of(List.of("graph", "methods")), query.getPhrases());
+        assertTrue(query.hasShortWords());
+        assertEquals("+neural +optim* +\"graph methods\"", query.toBooleanMode());
+
+        assertTrue(query.matches("neural graph methods of optimization"));
+        assertFalse(query.matches("neural methods graph of optimization"));
+        assertTrue(TextQuery.parse("  \"\" ").isEmpty());
+    }
+
+    @Test
+    void testBooleanModeLeavesOutStopwords() {
+        TextQuery query = TextQuery.parse("the history \"what about\" \"state of the art\" with");
+        assertFalse(query.hasShortWords());
+        // InnoDB does not index stopwords, so requiring "the", "with" or "what about" would match nothing
+        assertEquals("+history +\"state of the art\"", query.toBooleanMode());
+        assertEquals("", TextQuery.parse("the with about").toBooleanMode());
+    }
+
+    private static Article article(Long id, String title, String abstractText, int citations) {
+        Article article = new Article(title, "A Author", 2020, null, null, abstractText, "gs" + id,
+                                      citations, null, null, null);
+        article.setId(id);
+        return article;
+    }
+
+    private static List<Long> ids(List<Article> articles) {
+        return articles.stream().map(Article::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,75 @@
+package com.innovationcenter.scholarapi.service;
+
+import com.innovationcenter.scholarapi.model.Article;
+import com.innovationcenter.scholarapi.repository.impl.H2TestDatabase;
+import com.innovationcenter.scholarapi.repository.impl.MySQLArticleRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ArticleService page saving, run against an in-memory H2 database in MySQL mode.
+ */
+class ArticleServiceTest {
+
+    private H2TestDatabase database;
+    private MySQLArticleRepository repository;
+    private ArticleService service;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        database = new H2TestDatabase();
+        repository = new MySQLArticleRepository(database);
+        service = new ArticleService(repository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    void testMixedPageAssignsIdsInOrderAndCollapsesRepeats() throws SQLException {
+        Article stored = article("Stored", "old001", 5);
+        repository.save(stored);
+
+        Article keyed1 = article("Keyed 1", "new001", 10);
+        Article unkeyed1 = article("Unkeyed 1", null, 3);
+        Article refreshed = article("Stored", "old001", 8);
+        Article keyed2 = article("Keyed 2", "new002", 20);
+        Article repeat = article("Keyed 1 again", "new001", 11);
+        Article unkeyed2 = article("Unkeyed 2", null, 4);
+
+        List<Article> saved = service.saveArticles(List.of(keyed1, unkeyed1, refreshed, keyed2, repeat, unkeyed2));
+
+        // One entry per page position, with the repeat replaced by its first occurrence
+        assertEquals(List.of(keyed1, unkeyed1, refreshed, keyed2, keyed1, unkeyed2), saved);
+        assertSame(keyed1, saved.get(4));
+        assertNull(repeat.getId());
+
+        // New rows take generated IDs in page order; the stored row keeps its ID
+        assertEquals(stored.getId(), refreshed.getId());
+        assertTrue(stored.getId() < keyed1.getId());
+        assertTrue(keyed1.getId() < keyed2.getId());
+        assertTrue(unkeyed1.getId() < unkeyed2.getId());
+        for (Article article : List.of(keyed1, unkeyed1, keyed2, unkeyed2)) {
+            assertEquals(article.getCitationCount(),
+                database.queryLong("SELECT citation_count FROM articles WHERE id = ?", article.getId()));
+        }
+
+        assertEquals(5, repository.count());
+        assertEquals(1, database.queryLong("SELECT COUNT(*) FROM articles WHERE google_scholar_id = ?", "new001"));
+        assertEquals(10, database.queryLong("SELECT citation_count FROM articles WHERE google_scholar_id = ?", "new001"));
+        assertEquals(8, database.queryLong("SELECT citation_count FROM articles WHERE id = ?", stored.getId()));
+    }
+
+    private static Article article(String title, String scholarId, int citations) {
+        return new Article(title, "A Author", 2020, "Journal", null, null,
+            scholarId, citations, null, null, null);
+    }
+}
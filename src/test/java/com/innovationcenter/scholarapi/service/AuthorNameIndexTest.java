@@ -0,0 +1,76 @@
+package com.innovationcenter.scholarapi.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AuthorNameIndex.
+ */
+class AuthorNameIndexTest {
+
+    private AuthorNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new AuthorNameIndex();
+        index.add(1L, "Hans Müller");
+        index.add(2L, "JL Harper");
+        index.add(3L, "John Smith");
+        index.add(4L, "Jane Smithson");
+        index.add(5L, "A Einstein");
+    }
+
+    @Test
+    void testAccentsAndTyposStillMatch() {
+        assertEquals(1L, index.search("Muller", 5).get(0).getAuthorId());
+        assertEquals(1L, index.search("hans mueller", 5).get(0).getAuthorId());
+        assertEquals(5L, index.search("Einstien", 5).get(0).getAuthorId());
+        assertEquals(2L, index.search("J. L. Harpur", 5).get(0).getAuthorId());
+    }
+
+    @Test
+    void testPartialNamesRankExactWordsFirst() {
+        assertEquals(List.of(3L, 4L), ids(index.search("Smith", 5)));
+        assertEquals(3L, index.search("john", 5).get(0).getAuthorId());
+        assertTrue(index.search("zzzz", 5).isEmpty());
+        assertEquals(1, index.search("Smith", 1).size());
+    }
+
+    @Test
+    void testUpdatesAreIncremental() {
+        index.add(6L, "Marie Curie");
+        assertEquals(6L, index.search("curie", 5).get(0).getAuthorId());
+
+        index.add(6L, "Marie Skłodowska");
+        assertTrue(index.search("curie", 5).isEmpty());
+        assertEquals(6L, index.search("Sklodowska", 5).get(0).getAuthorId());
+
+        assertTrue(index.remove(6L));
+        assertTrue(index.search("Sklodowska", 5).isEmpty());
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    void testRenamesAndRemovalsDoNotGrowSlotsWithoutBound() {
+        for (int round = 0; round < 5_000; round++) {
+            index.add(6L, "Marie Curie " + round);
+            index.add(7L, "Pierre Curie " + round);
+            index.remove(7L);
+        }
+
+        assertTrue(index.slotCount() < 2_000, "slots: " + index.slotCount());
+        assertEquals(6, index.size());
+        assertEquals(6L, index.search("Marie Curie 4999", 5).get(0).getAuthorId());
+        assertEquals(1L, index.search("Muller", 5).get(0).getAuthorId());
+        assertTrue(index.search("Pierre", 5).isEmpty());
+    }
+
+    private static List<Long> ids(List<AuthorNameIndex.Match> matches) {
+        return matches.stream().map(AuthorNameIndex.Match::getAuthorId).collect(Collectors.toList());
+    }
+}
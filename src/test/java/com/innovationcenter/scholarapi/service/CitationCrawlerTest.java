@@ -0,0 +1,192 @@
+package com.innovationcenter.scholarapi.service;
+
+import com.innovationcenter.scholarapi.model.Article;
+import com.innovationcenter.scholarapi.model.ScholarSearchResponse;
+import com.innovationcenter.scholarapi.repository.CitationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CitationCrawler over a small in-memory citation graph:
+ * A is cited by B and C, B by D, C by E and D by F.
+ */
+@Timeout(10)
+class CitationCrawlerTest {
+
+    private final Map<Long, Article> articles = new HashMap<>();
+    private final Map<String, List<Long>> citedBy = new HashMap<>();
+    private final Map<ScholarSearchResponse, List<Article>> responses = new IdentityHashMap<>();
+    private final List<String> fetched = new ArrayList<>();
+
+    private ScholarSearchService searchService;
+    private ArticleService articleService;
+    private InMemoryCitationRepository citationRepository;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        for (long id = 1; id <= 6; id++) {
+            articles.put(id, article(id));
+        }
+        citedBy.put("cites-1", List.of(2L, 3L));
+        citedBy.put("cites-2", List.of(4L));
+        citedBy.put("cites-3", List.of(5L));
+        citedBy.put("cites-4", List.of(6L));
+
+        searchService = mock(ScholarSearchService.class);
+        when(searchService.searchCitingArticles(anyString(), anyInt())).thenAnswer(invocation -> {
+            String citesId = invocation.getArgument(0);
+            ScholarSearchResponse response = new ScholarSearchResponse();
+            List<Article> citing = new ArrayList<>();
+            for (Long id : citedBy.getOrDefault(citesId, List.of())) {
+                citing.add(articles.get(id));
+            }
+            synchronized (this) {
+                fetched.add(citesId);
+                responses.put(response, citing);
+            }
+            return response;
+        });
+
+        articleService = mock(ArticleService.class);
+        when(articleService.processSearchResponse(any(), anyInt())).thenAnswer(invocation -> {
+            synchronized (this) {
+                return responses.get(invocation.<ScholarSearchResponse>getArgument(0));
+            }
+        });
+        when(articleService.findById(anyLong())).thenAnswer(invocation ->
+            Optional.ofNullable(articles.get(invocation.<Long>getArgument(0))));
+
+        citationRepository = new InMemoryCitationRepository();
+    }
+
+    @Test
+    void testStopsAtDepthLimit() throws SQLException {
+        CitationCrawler.CrawlResult result = crawler(2, 100).crawl(List.of(articles.get(1L)));
+
+        assertEquals(Set.of("cites-1", "cites-2", "cites-3"), Set.copyOf(fetched));
+        assertEquals(3, result.getRequests());
+        assertEquals(3, result.getArticlesExpanded());
+        assertEquals(4, result.getCitationsSaved());
+        assertFalse(result.isBudgetExhausted());
+    }
+
+    @Test
+    void testStopsAtRequestBudget() throws SQLException {
+        CitationCrawler.CrawlResult result = crawler(10, 2).crawl(List.of(articles.get(1L)));
+
+        assertEquals(2, fetched.size());
+        assertEquals(2, result.getRequests());
+        assertEquals(2, result.getArticlesExpanded());
+        assertTrue(result.isBudgetExhausted());
+    }
+
+    @Test
+    void testVisitedArticlesAreExpandedFromStoredEdges() throws SQLException {
+        crawler(2, 100).crawl(List.of(articles.get(1L)));
+        fetched.clear();
+
+        CitationCrawler.CrawlResult deeper = crawler(4, 100).crawl(List.of(articles.get(1L)));
+
+        // A, B and C come from article_citations; only the new levels reach the API
+        assertEquals(Set.of("cites-4", "cites-5", "cites-6"), Set.copyOf(fetched));
+        assertEquals(3, deeper.getRequests());
+        assertEquals(3, deeper.getSkippedAlreadyVisited());
+        assertEquals(6, citationRepository.visited.size());
+    }
+
+    @Test
+    void testRerunContinuesWhereTheBudgetStopped() throws SQLException {
+        assertTrue(crawler(10, 1).crawl(List.of(articles.get(1L))).isBudgetExhausted());
+
+        CitationCrawler.CrawlResult rerun = crawler(10, 100).crawl(List.of(articles.get(1L)));
+
+        assertFalse(rerun.isBudgetExhausted());
+        assertEquals(5, rerun.getRequests());
+        assertEquals(6, citationRepository.visited.size());
+    }
+
+    @Test
+    void testFinishesWhenFrontierDrains() throws SQLException {
+        CitationCrawler.CrawlResult result = crawler(50, 1000).crawl(List.of(articles.get(1L), articles.get(3L)));
+
+        assertEquals(6, result.getRequests());
+        assertEquals(6, result.getArticlesExpanded());
+        assertEquals(0, result.getFailures());
+        assertFalse(result.isBudgetExhausted());
+    }
+
+    private CitationCrawler crawler(int maxDepth, int maxRequests) {
+        return new CitationCrawler(searchService, articleService, citationRepository, maxDepth, 3, maxRequests, 20);
+    }
+
+    private static Article article(long id) {
+        Article article = new Article("Paper " + id, "A Author", 2020, "Journal", null, null,
+            "scholar-" + id, (int) (100 - id), "cites-" + id, null, null);
+        article.setId(id);
+        return article;
+    }
+
+    /**
+     * Citation edges and visited set kept in memory.
+     */
+    private static final class InMemoryCitationRepository implements CitationRepository {
+        private final Map<Long, Set<Long>> edges = new ConcurrentHashMap<>();
+        private final Set<String> visited = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public int saveCitations(Long citedArticleId, Collection<Long> citingArticleIds) {
+            Set<Long> citing = edges.computeIfAbsent(citedArticleId, id -> ConcurrentHashMap.newKeySet());
+            int added = 0;
+            for (Long id : citingArticleIds) {
+                if (citing.add(id)) {
+                    added++;
+                }
+            }
+            return added;
+        }
+
+        @Override
+        public List<Long> findCitingArticleIds(Long articleId) {
+            return new ArrayList<>(edges.getOrDefault(articleId, new LinkedHashSet<>()));
+        }
+
+        @Override
+        public long countCitations() {
+            return edges.values().stream().mapToLong(Set::size).sum();
+        }
+
+        @Override
+        public void markVisited(String citesId, Long articleId, int depth) {
+            visited.add(citesId);
+        }
+
+        @Override
+        public boolean isVisited(String citesId) {
+            return visited.contains(citesId);
+        }
+
+        @Override
+        public long forEachVisited(Consumer<String> action) {
+            visited.forEach(action);
+            return visited.size();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.innovationcenter.scholarapi.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CoAuthorGraph.
+ */
+class CoAuthorGraphTest {
+
+    private static CoAuthorGraph sampleGraph() {
+        return CoAuthorGraph.builder()
+            .addArticle(new long[] {1, 2, 3}, 3)
+            .addArticle(new long[] {1, 2}, 2)
+            .addArticle(new long[] {4, 5, 99}, 2)
+            .addArticle(new long[] {6}, 1)
+            .build();
+    }
+
+    @Test
+    void testBuildCountsSharedArticles() {
+        CoAuthorGraph graph = sampleGraph();
+
+        assertEquals(6, graph.vertexCount());
+        assertEquals(4, graph.edgeCount());
+        assertEquals(2, graph.collaborationCount(1L, 2L));
+        assertEquals(2, graph.collaborationCount(2L, 1L));
+        assertEquals(1, graph.collaborationCount(1L, 3L));
+        assertEquals(0, graph.collaborationCount(1L, 4L));
+        assertEquals(0, graph.collaborationCount(4L, 99L));
+        assertTrue(graph.neighbors(6L).isEmpty());
+        assertTrue(graph.neighbors(42L).isEmpty());
+    }
+
+    @Test
+    void testTopCollaboratorsOrderedBySharedArticles() {
+        CoAuthorGraph graph = sampleGraph();
+
+        List<CoAuthorGraph.Collaborator> top = graph.topCollaborators(1L, 5);
+        assertEquals(2, top.size());
+        assertEquals(2L, top.get(0).getAuthorId());
+        assertEquals(2, top.get(0).getSharedArticles());
+        assertEquals(3L, top.get(1).getAuthorId());
+
+        List<CoAuthorGraph.Collaborator> first = graph.topCollaborators(1L, 1);
+        assertEquals(1, first.size());
+        assertEquals(2L, first.get(0).getAuthorId());
+    }
+
+    @Test
+    void testIncrementalAddAndRemove() {
+        CoAuthorGraph graph = sampleGraph();
+
+        graph.addArticle(List.of(3L, 4L));
+        graph.addArticle(List.of(1L, 2L));
+        assertEquals(3, graph.collaborationCount(1L, 2L));
+        assertEquals(1, graph.collaborationCount(4L, 3L));
+        assertEquals(6, graph.vertexCount());
+
+        graph.removeArticle(List.of(1L, 2L, 3L));
+        assertEquals(2, graph.collaborationCount(1L, 2L));
+        assertEquals(0, graph.collaborationCount(1L, 3L));
+        assertEquals(0, graph.collaborationCount(2L, 3L));
+        assertFalse(graph.neighbors(1L).stream().anyMatch(c -> c.getAuthorId() == 3L));
+        // 1-2, 3-4 and 4-5 remain
+        assertEquals(3, graph.edgeCount());
+    }
+
+    @Test
+    void testReplaceArticleChangesOnlyNewPairs() {
+        CoAuthorGraph graph = sampleGraph();
+
+        // Article {1, 2} gains author 3; the existing 1-2 pair must not be counted again
+        graph.replaceArticle(List.of(1L, 2L), List.of(1L, 2L, 3L));
+        assertEquals(2, graph.collaborationCount(1L, 2L));
+        assertEquals(2, graph.collaborationCount(1L, 3L));
+        assertEquals(2, graph.collaborationCount(2L, 3L));
+    }
+
+    @Test
+    void testComponentsFollowChanges() {
+        CoAuthorGraph graph = sampleGraph();
+
+        assertEquals(3, graph.componentCount());
+        assertEquals(Set.of(1L, 2L, 3L), new HashSet<>(graph.componentMembers(3L)));
+        assertEquals(List.of(6L), graph.componentMembers(6L));
+        assertTrue(graph.componentMembers(42L).isEmpty());
+
+        graph.addArticle(List.of(3L, 5L));
+        assertEquals(2, graph.componentCount());
+        assertEquals(Set.of(1L, 2L, 3L, 4L, 5L), new HashSet<>(graph.componentMembers(1L)));
+
+        graph.removeArticle(List.of(3L, 5L));
+        assertEquals(3, graph.componentCount());
+    }
+
+    @Test
+    void testCompactionKeepsWeights() {
+        CoAuthorGraph graph = CoAuthorGraph.builder().build();
+
+        // Enough pairs to push the overlay past its threshold at least once
+        for (long a = 0; a < 60; a++) {
+            for (long b = a + 1; b < 60; b++) {
+                graph.addArticle(List.of(a, b));
+            }
+        }
+        graph.addArticle(List.of(0L, 1L));
+        graph.removeArticle(List.of(58L, 59L));
+
+        assertEquals(60, graph.vertexCount());
+        assertEquals(60 * 59 / 2 - 1, graph.edgeCount());
+        assertEquals(2, graph.collaborationCount(0L, 1L));
+        assertEquals(1, graph.collaborationCount(10L, 20L));
+        assertEquals(0, graph.collaborationCount(58L, 59L));
+        assertEquals(59, graph.neighbors(0L).size());
+        assertEquals(1, graph.componentCount());
+    }
+}
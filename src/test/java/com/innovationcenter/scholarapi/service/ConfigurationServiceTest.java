@@ -0,0 +1,87 @@
+package com.innovationcenter.scholarapi.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the numeric property helpers of ConfigurationService.
+ */
+class ConfigurationServiceTest {
+
+    private final ConfigurationService configuration = new MapConfiguration(Map.of(
+        "BLANK", "  ",
+        "PADDED", " 42 ",
+        "NEGATIVE", "-7",
+        "WORD", "ten",
+        "DECIMAL", "1.5",
+        "INT_MAX", String.valueOf(Integer.MAX_VALUE),
+        "ABOVE_INT", String.valueOf(Integer.MAX_VALUE + 1L),
+        "BELOW_INT", String.valueOf(Integer.MIN_VALUE - 1L),
+        "ABOVE_LONG", "9223372036854775808"));
+
+    @Test
+    void testMissingOrBlankPropertyFallsBackToDefault() {
+        assertEquals(5L, configuration.getLongProperty("MISSING", 5L));
+        assertEquals(5, configuration.getIntProperty("MISSING", 5));
+        assertEquals(5L, configuration.getLongProperty("BLANK", 5L));
+        assertEquals(5, configuration.getIntProperty("BLANK", 5));
+    }
+
+    @Test
+    void testMalformedPropertyFallsBackToDefault() {
+        assertEquals(5L, configuration.getLongProperty("WORD", 5L));
+        assertEquals(5, configuration.getIntProperty("WORD", 5));
+        assertEquals(5L, configuration.getLongProperty("DECIMAL", 5L));
+        assertEquals(5, configuration.getIntProperty("DECIMAL", 5));
+        assertEquals(5L, configuration.getLongProperty("ABOVE_LONG", 5L));
+    }
+
+    @Test
+    void testIntPropertyOutsideIntRangeFallsBackToDefault() {
+        assertEquals(5, configuration.getIntProperty("ABOVE_INT", 5));
+        assertEquals(5, configuration.getIntProperty("BELOW_INT", 5));
+        assertEquals(Integer.MAX_VALUE + 1L, configuration.getLongProperty("ABOVE_INT", 5L));
+        assertEquals(Integer.MAX_VALUE, configuration.getIntProperty("INT_MAX", 5));
+    }
+
+    @Test
+    void testValidPropertyIsParsedAfterTrimming() {
+        assertEquals(42L, configuration.getLongProperty("PADDED", 5L));
+        assertEquals(42, configuration.getIntProperty("PADDED", 5));
+        assertEquals(-7, configuration.getIntProperty("NEGATIVE", 5));
+    }
+
+    /**
+     * Configuration backed by a fixed map.
+     */
+    private static final class MapConfiguration implements ConfigurationService {
+        private final Map<String, String> properties;
+
+        MapConfiguration(Map<String, String> properties) {
+            this.properties = properties;
+        }
+
+        @Override
+        public boolean loadConfiguration() {
+            return true;
+        }
+
+        @Override
+        public String getApiKey() {
+            return null;
+        }
+
+        @Override
+        public boolean isConfigurationValid() {
+            return true;
+        }
+
+        @Override
+        public String getProperty(String key) {
+            return properties.get(key);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.innovationcenter.scholarapi.service;
+
+import com.innovationcenter.scholarapi.model.ScholarSearchResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PaginatedSearchFetcher.
+ */
+class PaginatedSearchFetcherTest {
+
+    @Test
+    void testMergesPagesAndDropsDuplicates() throws IOException {
+        // Page 1 repeats the last result of page 0, as Scholar does when rankings shift
+        FakeSearchService service = new FakeSearchService(5, 2);
+        List<String> received = new ArrayList<>();
+
+        int delivered = new PaginatedSearchFetcher(service, 3).fetch("q", 100, (pageIndex, page) -> {
+            for (ScholarSearchResponse.OrganicResult result : page.getOrganicResults()) {
+                received.add(result.getResultId());
+            }
+        });
+
+        assertEquals(delivered, received.size());
+        assertEquals(received.size(), received.stream().distinct().count());
+        assertTrue(received.contains("r0") && received.contains("r91"));
+    }
+
+    @Test
+    void testStopsWhenNextPageDisappears() throws IOException {
+        FakeSearchService service = new FakeSearchService(2, 0);
+
+        int delivered = new PaginatedSearchFetcher(service, 1).fetch("q", 200, (pageIndex, page) -> { });
+
+        assertEquals(40, delivered);
+        // Page 2 is requested only because page 1 had not reported its missing next link yet
+        assertTrue(service.requests.get() <= 3);
+    }
+
+    @Test
+    void testStopsAtTarget() throws IOException {
+        FakeSearchService service = new FakeSearchService(10, 0);
+
+        int delivered = new PaginatedSearchFetcher(service, 4).fetch("q", 45, (pageIndex, page) -> { });
+
+        assertEquals(45, delivered);
+        assertEquals(3, service.requests.get());
+    }
+
+    @Test
+    void testFailsWhenEveryPageFails() {
+        FakeSearchService service = new FakeSearchService(0, 0);
+
+        assertThrows(IOException.class, () -> new PaginatedSearchFetcher(service, 2).fetch("q", 40, (pageIndex, page) -> { }));
+    }
+
+    @Test
+    void testRetriesFailedPage() throws IOException {
+        FakeSearchService service = new FakeSearchService(3, 0);
+        service.failPage(1, PaginatedSearchFetcher.MAX_PAGE_ATTEMPTS - 1);
+
+        int delivered = new PaginatedSearchFetcher(service, 2).fetch("q", 60, (pageIndex, page) -> { });
+
+        assertEquals(60, delivered);
+        assertEquals(3 + PaginatedSearchFetcher.MAX_PAGE_ATTEMPTS - 1, service.requests.get());
+    }
+
+    @Test
+    void testFailsWhenPageKeepsFailing() {
+        FakeSearchService service = new FakeSearchService(5, 0);
+        service.failPage(1, Integer.MAX_VALUE);
+        List<Integer> pages = new ArrayList<>();
+
+        IOException e = assertThrows(IOException.class, () ->
+            new PaginatedSearchFetcher(service, 1).fetch("q", 100, (pageIndex, page) -> pages.add(pageIndex)));
+
+        // Page 0 was delivered before the fetch gave up, and nothing after page 1 was requested
+        assertEquals(List.of(0), pages);
+        assertTrue(e.getMessage().contains("incomplete"));
+        assertEquals(1 + PaginatedSearchFetcher.MAX_PAGE_ATTEMPTS, service.requests.get());
+    }
+
+    /**
+     * Serves a fixed number of 20-result pages; page n overlaps page n-1 by the given count.
+     */
+    private static class FakeSearchService implements AsyncScholarSearchService {
+        private final int pages;
+        private final int overlap;
+        private final AtomicInteger requests = new AtomicInteger();
+        private final AtomicInteger failuresLeft = new AtomicInteger();
+        private int failingPage = -1;
+
+        FakeSearchService(int pages, int overlap) {
+            this.pages = pages;
+            this.overlap = overlap;
+        }
+
+        void failPage(int page, int times) {
+            failingPage = page;
+            failuresLeft.set(times);
+        }
+
+        @Override
+        public CompletableFuture<ScholarSearchResponse> searchWithPaginationAsync(String query, int startIndex, int pageSize) {
+            requests.incrementAndGet();
+            if (pages == 0) {
+                return CompletableFuture.failedFuture(new IOException("API down"));
+            }
+
+            int page = startIndex / pageSize;
+            if (page == failingPage && failuresLeft.getAndDecrement() > 0) {
+                return CompletableFuture.failedFuture(new IOException("Timed out"));
+            }
+            ScholarSearchResponse response = new ScholarSearchResponse();
+            List<ScholarSearchResponse.OrganicResult> results = new ArrayList<>();
+            if (page < pages) {
+                int first = Math.max(0, startIndex - (page > 0 ? overlap : 0));
+                for (int i = first; i < first + pageSize; i++) {
+                    ScholarSearchResponse.OrganicResult result = new ScholarSearchResponse.OrganicResult();
+                    result.setResultId("r" + i);
+                    results.add(result);
+                }
+            }
+            response.setOrganicResults(results.toArray(new ScholarSearchResponse.OrganicResult[0]));
+
+            ScholarSearchResponse.Pagination pagination = new ScholarSearchResponse.Pagination();
+            pagination.setNext(page + 1 < pages ? "next" : null);
+            response.setPagination(pagination);
+            return CompletableFuture.completedFuture(response);
+        }
+
+        @Override
+        public CompletableFuture<ScholarSearchResponse> searchArticlesAsync(String query, int maxResults) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<ScholarSearchResponse> searchByAuthorAsync(String authorName, int maxResults) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<ScholarSearchResponse> searchCitingArticlesAsync(String citesId, int maxResults) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isConfigured() {
+            return true;
+        }
+
+        @Override
+        public String getServiceName() {
+            return "fake";
+        }
+    }
+}
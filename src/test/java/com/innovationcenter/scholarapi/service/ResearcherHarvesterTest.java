@@ -0,0 +1,165 @@
+package com.innovationcenter.scholarapi.service;
+
+import com.innovationcenter.scholarapi.model.Article;
+import com.innovationcenter.scholarapi.repository.impl.H2TestDatabase;
+import com.innovationcenter.scholarapi.repository.impl.MySQLArticleRepository;
+import com.innovationcenter.scholarapi.repository.impl.MySQLSimpleAuthorRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ResearcherHarvester pipeline.
+ */
+class ResearcherHarvesterTest {
+
+    @Test
+    void testHarvestKeepsResearcherOrderAndReportsProgress() {
+        ResearcherHarvester harvester = new ResearcherHarvester(3, 2, 1);
+        List<String> processed = Collections.synchronizedList(new ArrayList<>());
+        List<String> skipped = Collections.synchronizedList(new ArrayList<>());
+
+        List<Article> articles = harvester.harvest(
+            Arrays.asList("Alice", "Bob", "Nobody", "Carol"),
+            researcher -> researcher.equals("Nobody") ? null : researcher,
+            (researcher, fetched) -> Collections.singletonList(article(fetched)),
+            listener(processed, skipped)
+        );
+
+        assertEquals(3, articles.size());
+        assertEquals("Alice", articles.get(0).getPaperTitle());
+        assertEquals("Bob", articles.get(1).getPaperTitle());
+        assertEquals("Carol", articles.get(2).getPaperTitle());
+        assertEquals(3, processed.size());
+        assertEquals(Collections.singletonList("Nobody"), skipped);
+    }
+
+    @Test
+    void testHarvestContinuesAfterStageFailures() {
+        ResearcherHarvester harvester = new ResearcherHarvester(2, 1, 2);
+        List<String> processed = Collections.synchronizedList(new ArrayList<>());
+        List<String> skipped = Collections.synchronizedList(new ArrayList<>());
+
+        List<Article> articles = harvester.harvest(
+            Arrays.asList("FetchFails", "PersistFails", "Works"),
+            researcher -> {
+                if (researcher.equals("FetchFails")) {
+                    throw new IllegalStateException("API down");
+                }
+                return researcher;
+            },
+            (researcher, fetched) -> {
+                if (researcher.equals("PersistFails")) {
+                    throw new IllegalStateException("DB down");
+                }
+                return Collections.singletonList(article(fetched));
+            },
+            listener(processed, skipped)
+        );
+
+        assertEquals(1, articles.size());
+        assertEquals(Collections.singletonList("Works"), processed);
+        assertTrue(skipped.contains("FetchFails"));
+        assertTrue(skipped.contains("PersistFails"));
+    }
+
+    @Test
+    void testHarvestBoundsFetchConcurrency() {
+        ResearcherHarvester harvester = new ResearcherHarvester(2, 1, 8);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        harvester.harvest(
+            Arrays.asList("A", "B", "C", "D", "E", "F"),
+            researcher -> {
+                int current = inFlight.incrementAndGet();
+                maxInFlight.accumulateAndGet(current, Math::max);
+                Thread.sleep(20);
+                inFlight.decrementAndGet();
+                return researcher;
+            },
+            (researcher, fetched) -> Collections.emptyList(),
+            listener(new ArrayList<>(), new ArrayList<>())
+        );
+
+        assertTrue(maxInFlight.get() <= 2);
+    }
+
+    @Test
+    void testConcurrentPersistLinksSharedArticleOnce() throws Exception {
+        H2TestDatabase database = new H2TestDatabase();
+        try {
+            ArticleService articleService = new ArticleService(
+                new MySQLArticleRepository(database), new MySQLSimpleAuthorRepository(database));
+            List<String> researchers = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                researchers.add("Researcher " + i);
+            }
+
+            // Every page carries the same co-authored paper next to the researcher's own one,
+            // and the persist workers start saving in lockstep so they all see it as new
+            CyclicBarrier lockstep = new CyclicBarrier(4);
+            List<String> skipped = Collections.synchronizedList(new ArrayList<>());
+            List<Article> saved = new ResearcherHarvester(8, 4, 8).harvest(
+                researchers,
+                researcher -> Arrays.asList(
+                    scholarArticle("shared", "Ada Lovelace, Alan Turing", 40),
+                    scholarArticle(researcher.replace(" ", ""), researcher, 5)),
+                (researcher, page) -> {
+                    lockstep.await(5, TimeUnit.SECONDS);
+                    return articleService.saveArticles(page);
+                },
+                listener(Collections.synchronizedList(new ArrayList<>()), skipped)
+            );
+
+            assertTrue(skipped.isEmpty());
+            assertEquals(16, saved.size());
+            long sharedId = database.queryLong("SELECT id FROM articles WHERE google_scholar_id = 'shared'");
+            assertEquals(9, database.queryLong("SELECT COUNT(*) FROM articles"));
+            assertEquals(2, database.queryLong("SELECT COUNT(*) FROM article_authors WHERE article_id = ?", sharedId));
+            String sharedAuthors = "FROM authors au JOIN article_authors aa ON aa.author_id = au.id WHERE aa.article_id = ?";
+            assertEquals(1, database.queryLong("SELECT MIN(au.article_count) " + sharedAuthors, sharedId));
+            assertEquals(1, database.queryLong("SELECT MAX(au.article_count) " + sharedAuthors, sharedId));
+            assertEquals(40, database.queryLong("SELECT MAX(au.total_citations) " + sharedAuthors, sharedId));
+        } finally {
+            database.close();
+        }
+    }
+
+    @Test
+    void testInvalidConcurrencyRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new ResearcherHarvester(0, 1, 1));
+    }
+
+    private static Article article(String title) {
+        Article article = new Article();
+        article.setPaperTitle(title);
+        return article;
+    }
+
+    private static Article scholarArticle(String scholarId, String authors, int citations) {
+        return new Article("Paper " + scholarId, authors, 2021, null, null, null, scholarId, citations, null, null, null);
+    }
+
+    private static ResearcherHarvester.ProgressListener listener(List<String> processed, List<String> skipped) {
+        return new ResearcherHarvester.ProgressListener() {
+            @Override
+            public void researcherProcessed(String researcher, int articleCount) {
+                processed.add(researcher);
+            }
+
+            @Override
+            public void researcherSkipped(String researcher, String reason) {
+                skipped.add(researcher);
+            }
+        };
+    }
+}
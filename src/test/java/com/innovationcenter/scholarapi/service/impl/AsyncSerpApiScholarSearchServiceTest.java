@@ -0,0 +1,51 @@
+package com.innovationcenter.scholarapi.service.impl;
+
+import com.innovationcenter.scholarapi.model.ScholarQuery;
+import com.innovationcenter.scholarapi.model.ScholarSearchResponse;
+import com.innovationcenter.scholarapi.service.ApiRateLimiter;
+import com.innovationcenter.scholarapi.service.ConfigurationService;
+import com.innovationcenter.scholarapi.service.ResponseCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AsyncSerpApiScholarSearchService.
+ */
+class AsyncSerpApiScholarSearchServiceTest {
+
+    private static final String RESPONSE = "{\"search_metadata\":{\"id\":\"abc\",\"status\":\"Success\"},"
+        + "\"organic_results\":[{\"position\":0,\"title\":\"Deep Learning\",\"result_id\":\"r1\"}]}";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testCacheHitIsReadOffTheCallerThread() throws Exception {
+        AtomicReference<Thread> readOn = new AtomicReference<>();
+        ResponseCache cache = mock(ResponseCache.class);
+        when(cache.get(anyString())).thenAnswer(invocation -> {
+            readOn.set(Thread.currentThread());
+            return Optional.of(RESPONSE);
+        });
+        ApiRateLimiter rateLimiter = spy(new ApiRateLimiter(1, 1, 0, directory.resolve("quota.txt")));
+        AsyncSerpApiScholarSearchService service =
+            new AsyncSerpApiScholarSearchService(mock(ConfigurationService.class), rateLimiter, cache);
+
+        ScholarSearchResponse response = service.execute(ScholarQuery.search("deep learning", 10)).get(5, TimeUnit.SECONDS);
+
+        assertEquals("Deep Learning", response.getOrganicResults()[0].getTitle());
+        assertNotNull(readOn.get());
+        assertNotSame(Thread.currentThread(), readOn.get());
+        assertTrue(readOn.get().getName().matches("serpapi-async-\\d+"), readOn.get().getName());
+        verify(rateLimiter, never()).acquireAsync();
+    }
+}
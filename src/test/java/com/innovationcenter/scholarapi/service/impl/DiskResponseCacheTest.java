@@ -0,0 +1,151 @@
+package com.innovationcenter.scholarapi.service.impl;
+
+import com.innovationcenter.scholarapi.model.ScholarQuery;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DiskResponseCache.
+ */
+class DiskResponseCacheTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testEntriesSurviveReopen() throws Exception {
+        String key = ScholarQuery.search("machine learning", 10).cacheKey();
+
+        DiskResponseCache cache = new DiskResponseCache(directory, Duration.ofHours(1), 1024 * 1024);
+        cache.put(key, "{\"organic_results\":[]}");
+        cache.close();
+
+        DiskResponseCache reopened = new DiskResponseCache(directory, Duration.ofHours(1), 1024 * 1024);
+        assertEquals(Optional.of("{\"organic_results\":[]}"), reopened.get(key));
+        assertEquals(1, reopened.getHitCount());
+        reopened.close();
+    }
+
+    @Test
+    void testGarbageLengthHeaderIsTruncated() throws Exception {
+        DiskResponseCache cache = new DiskResponseCache(directory, Duration.ofHours(1), 1024 * 1024);
+        cache.put("key", "body");
+        cache.close();
+        Path log = directory.resolve("responses.log");
+        long intactSize = Files.size(log);
+
+        // A torn tail whose key length asks for almost 2 GB
+        Files.write(log, ByteBuffer.allocate(8).putInt(Integer.MAX_VALUE - 32).putInt(7).array(), StandardOpenOption.APPEND);
+        DiskResponseCache reopened = new DiskResponseCache(directory, Duration.ofHours(1), 1024 * 1024);
+        assertEquals(Optional.of("body"), reopened.get("key"));
+        reopened.close();
+        assertEquals(intactSize, Files.size(log));
+
+        // A plausible key followed by a payload length past the end of the file
+        ByteBuffer record = ByteBuffer.allocate(Integer.BYTES + 64 + Long.BYTES + Integer.BYTES * 2);
+        record.putInt(64).put("0".repeat(64).getBytes(StandardCharsets.UTF_8)).putLong(Long.MAX_VALUE).putInt(0).putInt(1 << 30);
+        Files.write(log, record.array(), StandardOpenOption.APPEND);
+        reopened = new DiskResponseCache(directory, Duration.ofHours(1), 1024 * 1024);
+        assertEquals(Optional.of("body"), reopened.get("key"));
+        assertEquals(1, reopened.size());
+        reopened.close();
+        assertEquals(intactSize, Files.size(log));
+    }
+
+    @Test
+    void testEquivalentQueriesShareKey() throws Exception {
+        DiskResponseCache cache = new DiskResponseCache(directory, Duration.ofHours(1), 1024 * 1024);
+        cache.put(ScholarQuery.search("Machine  Learning", 10).cacheKey(), "body");
+
+        assertTrue(cache.get(ScholarQuery.search(" machine learning ", 10).cacheKey()).isPresent());
+        assertFalse(cache.get(ScholarQuery.search("machine learning", 5).cacheKey()).isPresent());
+        cache.close();
+    }
+
+    @Test
+    void testExpiredEntryIsMiss() throws Exception {
+        DiskResponseCache cache = new DiskResponseCache(directory, Duration.ZERO, 1024 * 1024);
+        cache.put("key", "body");
+
+        assertFalse(cache.get("key").isPresent());
+        assertEquals(1, cache.getMissCount());
+        cache.close();
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted() throws Exception {
+        // Each gzip payload is about 25 bytes, so the bound holds only two entries
+        DiskResponseCache cache = new DiskResponseCache(directory, Duration.ofHours(1), 60);
+        cache.put("a", "first");
+        cache.put("b", "second");
+        cache.get("a");
+        cache.put("c", "third");
+
+        assertTrue(cache.get("a").isPresent());
+        assertFalse(cache.get("b").isPresent());
+        assertTrue(cache.get("c").isPresent());
+        assertEquals(1, cache.getEvictionCount());
+        cache.close();
+    }
+
+    @Test
+    void testRemovedEntriesStayGoneAfterReopen() throws Exception {
+        DiskResponseCache cache = new DiskResponseCache(directory, Duration.ofHours(1), 60);
+        cache.put("a", "first");
+        cache.put("b", "second");
+        cache.invalidate("a");
+        cache.put("c", "third");
+        cache.put("d", "fourth");
+        cache.close();
+
+        // "a" was invalidated and "b" evicted by "d"
+        DiskResponseCache reopened = new DiskResponseCache(directory, Duration.ofHours(1), 60);
+        assertFalse(reopened.get("a").isPresent());
+        assertFalse(reopened.get("b").isPresent());
+        assertEquals(Optional.of("third"), reopened.get("c"));
+        reopened.close();
+    }
+
+    @Test
+    void testReopenWithSmallerBoundEvicts() throws Exception {
+        DiskResponseCache cache = new DiskResponseCache(directory, Duration.ofHours(1), 1024 * 1024);
+        cache.put("a", "first");
+        cache.put("b", "second");
+        cache.put("c", "third");
+        cache.close();
+
+        DiskResponseCache reopened = new DiskResponseCache(directory, Duration.ofHours(1), 60);
+        assertEquals(2, reopened.size());
+        assertEquals(1, reopened.getEvictionCount());
+        assertFalse(reopened.get("a").isPresent());
+        reopened.close();
+    }
+
+    @Test
+    void testSecondOpenCacheUsesOwnDirectory() throws Exception {
+        DiskResponseCache first = new DiskResponseCache(directory, Duration.ofHours(1), 1024 * 1024);
+        DiskResponseCache second = new DiskResponseCache(directory, Duration.ofHours(1), 1024 * 1024);
+        first.put("key", "first");
+        second.put("key", "second");
+
+        assertEquals(Optional.of("first"), first.get("key"));
+        assertEquals(Optional.of("second"), second.get("key"));
+        assertTrue(Files.exists(directory.resolve("instance-1")));
+        first.close();
+        second.close();
+
+        DiskResponseCache reopened = new DiskResponseCache(directory, Duration.ofHours(1), 1024 * 1024);
+        assertEquals(Optional.of("first"), reopened.get("key"));
+        reopened.close();
+    }
+}
@@ -0,0 +1,156 @@
+package com.innovationcenter.scholarapi.service.impl;
+
+import com.innovationcenter.scholarapi.service.DatabaseMetrics;
+import com.innovationcenter.scholarapi.service.DatabaseService;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for InstrumentedDatabaseService.
+ */
+class InstrumentedDatabaseServiceTest {
+
+    @Test
+    void testStatementsAreTimedByTemplate() throws Exception {
+        Connection connection = mock(Connection.class);
+        PreparedStatement prepared = mock(PreparedStatement.class);
+        Statement plain = mock(Statement.class);
+        when(connection.prepareStatement(anyString())).thenReturn(prepared);
+        when(connection.createStatement()).thenReturn(plain);
+        when(prepared.executeQuery()).thenReturn(mock(ResultSet.class));
+        when(prepared.executeUpdate()).thenThrow(new SQLException("Duplicate entry"));
+
+        InstrumentedDatabaseService service = new InstrumentedDatabaseService(databaseService(connection), 0);
+
+        try (Connection wrapped = service.getConnection()) {
+            for (int size = 2; size <= 4; size++) {
+                try (PreparedStatement statement = wrapped.prepareStatement(
+                        "SELECT * FROM authors WHERE id IN (" + "?, ".repeat(size - 1) + "?)")) {
+                    statement.setLong(1, 7L);
+                    assertNotNull(statement.executeQuery());
+                }
+            }
+            try (PreparedStatement statement = wrapped.prepareStatement("INSERT INTO authors (full_name) VALUES (?)")) {
+                assertThrows(SQLException.class, statement::executeUpdate);
+            }
+            try (Statement statement = wrapped.createStatement()) {
+                statement.execute("DELETE FROM author_metrics WHERE author_id = 12");
+            }
+        }
+
+        verify(prepared, times(3)).setLong(1, 7L);
+        verify(connection).close();
+
+        DatabaseMetrics metrics = service.getMetrics();
+        assertEquals(1, metrics.getPools().get(0).getAcquireLatency().count());
+        assertEquals(5, metrics.getStatementCount());
+        assertEquals(0, metrics.getSlowQueryCount());
+
+        DatabaseMetrics.StatementMetrics select = find(metrics.getStatements(), "SELECT * FROM authors WHERE id IN (?...)");
+        assertEquals(3, select.getCount());
+        assertEquals(0, select.getFailures());
+        assertEquals(1, find(metrics.getStatements(), "INSERT INTO authors (full_name) VALUES (?)").getFailures());
+        assertEquals(1, find(metrics.getStatements(), "DELETE FROM author_metrics WHERE author_id = ?").getCount());
+    }
+
+    @Test
+    void testSlowStatementsAndFailedAcquiresAreCounted() throws Exception {
+        Connection connection = mock(Connection.class);
+        PreparedStatement prepared = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString())).thenReturn(prepared);
+        when(prepared.executeBatch()).thenAnswer(invocation -> {
+            Thread.sleep(5);
+            return new int[] {1, 1};
+        });
+        DatabaseService delegate = databaseService(connection);
+
+        InstrumentedDatabaseService service = new InstrumentedDatabaseService(delegate, 1);
+        try (Connection wrapped = service.getConnection();
+             PreparedStatement statement = wrapped.prepareStatement("UPDATE authors SET name_key = ? WHERE id = ?")) {
+            statement.executeBatch();
+        }
+        when(delegate.getConnection()).thenThrow(new SQLException("Connection is not available, request timed out"));
+        assertThrows(SQLException.class, service::getConnection);
+
+        DatabaseMetrics metrics = service.getMetrics();
+        assertEquals(1, metrics.getSlowQueryCount());
+        assertEquals(1, metrics.getSlowQueryThresholdMillis());
+        DatabaseMetrics.PoolMetrics pool = metrics.getPools().get(0);
+        assertEquals(2, pool.getAcquireLatency().count());
+        assertEquals(1, pool.getFailures());
+        assertEquals(-1, pool.getState().getActive());
+    }
+
+    @Test
+    void testSeparateReadPoolIsReportedOnItsOwn() throws Exception {
+        DatabaseService delegate = databaseService(mock(Connection.class));
+        when(delegate.getReadConnection()).thenReturn(mock(Connection.class));
+        when(delegate.getDataSource()).thenReturn(mock(DataSource.class));
+        when(delegate.getReadDataSource()).thenReturn(mock(DataSource.class));
+
+        InstrumentedDatabaseService service = new InstrumentedDatabaseService(delegate, 500);
+        service.getReadConnection().close();
+        service.getReadConnection().close();
+        service.getConnection().close();
+
+        List<DatabaseMetrics.PoolMetrics> pools = service.getMetrics().getPools();
+        assertEquals(2, pools.size());
+        assertEquals("write", pools.get(0).getName());
+        assertEquals(1, pools.get(0).getAcquireLatency().count());
+        assertEquals("read", pools.get(1).getName());
+        assertEquals(2, pools.get(1).getAcquireLatency().count());
+
+        // A delegate without a read pool is a single pool serving both
+        InstrumentedDatabaseService shared = new InstrumentedDatabaseService(databaseService(mock(Connection.class)), 500);
+        assertEquals(1, shared.getMetrics().getPools().size());
+    }
+
+    @Test
+    void testJmxRegistryPublishesUntilClosed() throws Exception {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        DatabaseService delegate = databaseService(mock(Connection.class));
+        InstrumentedDatabaseService service = new InstrumentedDatabaseService(delegate, 500);
+        service.exportTo(new JmxMetricsRegistry(server), "primary");
+        service.getConnection().close();
+
+        ObjectName name = new ObjectName("com.innovationcenter.scholarapi:type=DatabaseMetrics,name=\"primary\"");
+        ObjectName pool = new ObjectName(
+            "com.innovationcenter.scholarapi:type=ConnectionPoolMetrics,database=\"primary\",name=\"write\"");
+        assertEquals(1L, server.getAttribute(pool, "ConnectionAcquireCount"));
+        assertEquals(-1, server.getAttribute(pool, "ActiveConnections"));
+        assertEquals(500L, server.getAttribute(name, "SlowQueryThresholdMillis"));
+        assertNotNull(server.getAttribute(name, "Statements"));
+
+        service.close();
+        assertFalse(server.isRegistered(name));
+        assertFalse(server.isRegistered(pool));
+        verify(delegate).close();
+    }
+
+    private static DatabaseService databaseService(Connection connection) throws SQLException {
+        DatabaseService databaseService = mock(DatabaseService.class);
+        when(databaseService.getConnection()).thenReturn(connection);
+        return databaseService;
+    }
+
+    private static DatabaseMetrics.StatementMetrics find(List<DatabaseMetrics.StatementMetrics> statements, String template) {
+        return statements.stream()
+            .filter(statement -> statement.getTemplate().equals(template))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("No metrics for " + template));
+    }
+}
@@ -0,0 +1,72 @@
+package com.innovationcenter.scholarapi.service.impl;
+
+import com.innovationcenter.scholarapi.service.ConfigurationService;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PoolProfile.
+ */
+class PoolProfileTest {
+
+    @Test
+    void testNamedProfileWithOverrides() {
+        Map<String, String> properties = new HashMap<>();
+        properties.put("DB_WRITE_POOL_PROFILE", " Bulk-Ingest ");
+        properties.put("DB_WRITE_POOL_MAX_SIZE", "8");
+        properties.put("DB_WRITE_POOL_MIN_IDLE", "9999999999");
+        properties.put("DB_WRITE_POOL_STATEMENT_CACHE_SIZE", "not a number");
+
+        PoolProfile profile = PoolProfile.fromConfiguration(configuration(properties), "DB_WRITE_POOL", PoolProfile.INTERACTIVE);
+
+        assertEquals("bulk-ingest", profile.getName());
+        assertEquals(8, profile.getMaximumPoolSize());
+        assertEquals(PoolProfile.BULK_INGEST.getMinimumIdle(), profile.getMinimumIdle());
+        assertEquals(PoolProfile.BULK_INGEST.getConnectionTimeoutMillis(), profile.getConnectionTimeoutMillis());
+        assertEquals(PoolProfile.BULK_INGEST.getStatementCacheSize(), profile.getStatementCacheSize());
+        assertFalse(profile.isReadOnly());
+    }
+
+    @Test
+    void testDefaultUnknownAndDisabledProfiles() {
+        Map<String, String> properties = new HashMap<>();
+        assertEquals("analytics",
+            PoolProfile.fromConfiguration(configuration(properties), "DB_READ_POOL", PoolProfile.ANALYTICS).getName());
+        assertTrue(PoolProfile.ANALYTICS.isReadOnly());
+
+        properties.put("DB_READ_POOL_PROFILE", "reporting");
+        assertEquals("analytics",
+            PoolProfile.fromConfiguration(configuration(properties), "DB_READ_POOL", PoolProfile.ANALYTICS).getName());
+
+        properties.put("DB_READ_POOL_PROFILE", "none");
+        assertNull(PoolProfile.fromConfiguration(configuration(properties), "DB_READ_POOL", PoolProfile.ANALYTICS));
+    }
+
+    private static ConfigurationService configuration(Map<String, String> properties) {
+        return new ConfigurationService() {
+            @Override
+            public boolean loadConfiguration() {
+                return true;
+            }
+
+            @Override
+            public String getApiKey() {
+                return null;
+            }
+
+            @Override
+            public boolean isConfigurationValid() {
+                return true;
+            }
+
+            @Override
+            public String getProperty(String key) {
+                return properties.get(key);
+            }
+        };
+    }
+}
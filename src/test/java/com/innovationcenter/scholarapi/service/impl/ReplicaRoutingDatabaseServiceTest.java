@@ -0,0 +1,190 @@
+package com.innovationcenter.scholarapi.service.impl;
+
+import com.innovationcenter.scholarapi.service.DatabaseService;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReplicaRoutingDatabaseService, with two embedded H2 databases standing in
+ * for a primary and a replica that has not caught up yet.
+ */
+class ReplicaRoutingDatabaseServiceTest {
+
+    private static final long WINDOW_MILLIS = 1000;
+
+    private final AtomicLong clock = new AtomicLong();
+    private JdbcDataSource primaryDataSource;
+    private JdbcDataSource replicaDataSource;
+    private Connection primaryKeepAlive;
+    private Connection replicaKeepAlive;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primaryDataSource = h2("primary");
+        replicaDataSource = h2("replica");
+        primaryKeepAlive = createAuthorsTable(primaryDataSource);
+        replicaKeepAlive = createAuthorsTable(replicaDataSource);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        primaryKeepAlive.close();
+        replicaKeepAlive.close();
+    }
+
+    @Test
+    void testThreadReadsItsOwnWritesWithinWindow() throws Exception {
+        ReplicaRoutingDatabaseService service = service(replicaDataSource);
+
+        assertEquals(0, countAuthors(service));
+        insertAuthor(service);
+
+        // The writer sees its row; any other thread still reads the lagging replica
+        assertEquals(1, countAuthors(service));
+        assertEquals(0, CompletableFuture.supplyAsync(() -> countAuthorsUnchecked(service)).get(5, TimeUnit.SECONDS));
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(WINDOW_MILLIS));
+        assertEquals(0, countAuthors(service));
+    }
+
+    @Test
+    void testProcessSessionSharesWritesAcrossThreads() throws Exception {
+        ReplicaRoutingDatabaseService service = service(replicaDataSource, ReplicaRoutingDatabaseService.SessionScope.PROCESS);
+
+        // Written on a worker thread, read back on another, as the GUI does
+        CompletableFuture.runAsync(() -> {
+            try {
+                insertAuthor(service);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }).get(5, TimeUnit.SECONDS);
+        assertEquals(1, countAuthors(service));
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(WINDOW_MILLIS));
+        assertEquals(0, countAuthors(service));
+    }
+
+    @Test
+    void testReadsStayOnPrimaryWhileWriteConnectionIsOpen() throws Exception {
+        ReplicaRoutingDatabaseService service = service(replicaDataSource);
+
+        try (Connection connection = service.getConnection()) {
+            insertAuthor(connection);
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(WINDOW_MILLIS * 10));
+            assertEquals(1, countAuthors(service));
+        }
+        assertEquals(1, countAuthors(service));
+    }
+
+    @Test
+    void testUnreachableReplicaFallsBackToPrimary() throws Exception {
+        DataSource replica = mock(DataSource.class);
+        when(replica.getConnection()).thenThrow(new SQLException("Communications link failure"));
+        ReplicaRoutingDatabaseService service = service(replica);
+        insertAuthor(primaryKeepAlive);
+
+        assertEquals(1, countAuthors(service));
+        assertEquals(1, countAuthors(service));
+        verify(replica, times(1)).getConnection();
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(ReplicaRoutingDatabaseService.REPLICA_RETRY_MILLIS));
+        assertEquals(1, countAuthors(service));
+        verify(replica, times(2)).getConnection();
+    }
+
+    private ReplicaRoutingDatabaseService service(DataSource replica) {
+        return service(replica, ReplicaRoutingDatabaseService.SessionScope.THREAD);
+    }
+
+    private ReplicaRoutingDatabaseService service(DataSource replica, ReplicaRoutingDatabaseService.SessionScope scope) {
+        return new ReplicaRoutingDatabaseService(primaryService(), replica, WINDOW_MILLIS, scope, clock::get);
+    }
+
+    private DatabaseService primaryService() {
+        return new DatabaseService() {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return primaryDataSource.getConnection();
+            }
+
+            @Override
+            public DataSource getDataSource() {
+                return primaryDataSource;
+            }
+
+            @Override
+            public void initializeSchema() {
+            }
+
+            @Override
+            public boolean testConnection() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    private static JdbcDataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + System.nanoTime());
+        return dataSource;
+    }
+
+    /**
+     * @return A connection that keeps the in-memory database alive until closed
+     */
+    private static Connection createAuthorsTable(DataSource dataSource) throws SQLException {
+        Connection connection = dataSource.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE authors (id BIGINT AUTO_INCREMENT PRIMARY KEY, full_name VARCHAR(255))");
+        }
+        return connection;
+    }
+
+    private static void insertAuthor(DatabaseService service) throws SQLException {
+        try (Connection connection = service.getConnection()) {
+            insertAuthor(connection);
+        }
+    }
+
+    private static void insertAuthor(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("INSERT INTO authors (full_name) VALUES ('Marie Curie')");
+        }
+    }
+
+    private static int countAuthors(DatabaseService service) throws SQLException {
+        try (Connection connection = service.getReadConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM authors")) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+    private static int countAuthorsUnchecked(DatabaseService service) {
+        try {
+            return countAuthors(service);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
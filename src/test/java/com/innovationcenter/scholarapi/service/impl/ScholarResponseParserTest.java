@@ -0,0 +1,67 @@
+package com.innovationcenter.scholarapi.service.impl;
+
+import com.innovationcenter.scholarapi.model.ScholarSearchResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ScholarResponseParser.
+ */
+class ScholarResponseParserTest {
+
+    private static final String RESPONSE = "{"
+        + "\"search_metadata\":{\"id\":\"abc\",\"status\":\"Success\",\"total_time_taken\":0.5},"
+        + "\"search_parameters\":{\"engine\":\"google_scholar\",\"q\":\"ml\"},"
+        + "\"search_information\":{\"total_results\":12345,\"query_displayed\":\"ml\"},"
+        + "\"organic_results\":[{"
+        +   "\"position\":0,\"title\":\"Deep Learning\",\"result_id\":\"r1\",\"link\":\"https://x\","
+        +   "\"snippet\":\"s\",\"type\":\"Pdf\",\"unmapped\":{\"nested\":[1,2,{\"a\":null}]},"
+        +   "\"publication_info\":{\"summary\":\"Y LeCun, Y Bengio - Nature, 2015\",\"authors\":[{\"name\":\"Y LeCun\"}]},"
+        +   "\"resources\":[{\"title\":\"nature.com\",\"file_format\":\"PDF\",\"link\":\"https://pdf\"}],"
+        +   "\"inline_links\":{\"cited_by\":{\"total\":75000,\"link\":\"https://c\",\"cites_id\":\"c1\"},"
+        +     "\"versions\":{\"total\":12,\"cluster_id\":\"v1\"},\"related_pages_link\":\"https://r\"}"
+        + "},{\"position\":1,\"title\":\"Second\"}],"
+        + "\"related_searches\":[{\"query\":\"neural\",\"link\":\"https://n\"}],"
+        + "\"pagination\":{\"current\":1,\"next\":\"https://google/next\"},"
+        + "\"serpapi_pagination\":{\"current\":1,\"next\":\"https://serpapi/next\",\"other_pages\":{\"2\":\"https://p2\"}}"
+        + "}";
+
+    @Test
+    void testMapsKnownFieldsFromStream() throws IOException {
+        ScholarSearchResponse response = new ScholarResponseParser()
+            .parse(new ByteArrayInputStream(RESPONSE.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("Success", response.getSearchMetadata().getStatus());
+        assertEquals(12345, response.getSearchInformation().getTotalResults());
+        assertEquals(2, response.getOrganicResults().length);
+
+        ScholarSearchResponse.OrganicResult first = response.getOrganicResults()[0];
+        assertEquals("Deep Learning", first.getTitle());
+        assertEquals("r1", first.getResultId());
+        assertEquals("Y LeCun, Y Bengio - Nature, 2015", first.getPublicationInfo().getSummary());
+        assertEquals(75000, first.getInlineLinks().getCitedBy().getTotal());
+        assertEquals("c1", first.getInlineLinks().getCitedBy().getCitesId());
+        assertEquals("v1", first.getInlineLinks().getVersions().getClusterId());
+        assertEquals("PDF", first.getResources()[0].getFileFormat());
+
+        assertEquals("https://serpapi/next", response.getPagination().getNext());
+        assertEquals("https://p2", response.getPagination().getOtherPages().get("2"));
+    }
+
+    @Test
+    void testRelatedSearchesAreOptIn() throws IOException {
+        assertNull(new ScholarResponseParser().parse(RESPONSE).getRelatedSearches());
+        assertEquals("neural", new ScholarResponseParser(true).parse(RESPONSE).getRelatedSearches()[0].getQuery());
+    }
+
+    @Test
+    void testRejectsNonObjectBody() {
+        assertThrows(IOException.class, () -> new ScholarResponseParser().parse("[1,2]"));
+        assertThrows(IOException.class, () -> new ScholarResponseParser().parse("{\"organic_results\":["));
+    }
+}
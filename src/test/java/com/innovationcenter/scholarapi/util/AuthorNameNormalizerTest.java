@@ -0,0 +1,37 @@
+package com.innovationcenter.scholarapi.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AuthorNameNormalizer.
+ */
+class AuthorNameNormalizerTest {
+
+    @Test
+    void testSpellingsOfTheSameNameShareAKey() {
+        assertEquals("harper jl", AuthorNameNormalizer.toKey("JL Harper"));
+        assertEquals("harper jl", AuthorNameNormalizer.toKey("J. L. Harper"));
+        assertEquals("harper jl", AuthorNameNormalizer.toKey("Harper, J.L."));
+        assertEquals("harper jl", AuthorNameNormalizer.toKey("  j l HARPER "));
+    }
+
+    @Test
+    void testDiacriticsAndSpecialLettersAreFolded() {
+        assertEquals("muller jose", AuthorNameNormalizer.toKey("José Müller"));
+        assertEquals("sorensen ae", AuthorNameNormalizer.toKey("Æ Sørensen"));
+        assertEquals("ambrosantemate jf", AuthorNameNormalizer.toKey("JF Ambros-Antemate"));
+        assertEquals("obrien c", AuthorNameNormalizer.toKey("C O'Brien"));
+    }
+
+    @Test
+    void testQueriesArePrefixesOfStoredKeys() {
+        String stored = AuthorNameNormalizer.toKey("John Paul Smith");
+        assertEquals("smith john paul", stored);
+        assertTrue(stored.startsWith(AuthorNameNormalizer.toKey("Smith")));
+        assertTrue(stored.startsWith(AuthorNameNormalizer.toKey("J Smith")));
+        assertEquals("", AuthorNameNormalizer.toKey(" .,- "));
+        assertEquals("", AuthorNameNormalizer.toKey(null));
+    }
+}
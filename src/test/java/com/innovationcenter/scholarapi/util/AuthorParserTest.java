@@ -0,0 +1,180 @@
+package com.innovationcenter.scholarapi.util;
+
+import com.innovationcenter.scholarapi.model.SimpleAuthor;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AuthorParser and NamePool, including a differential check against the
+ * earlier regex implementation.
+ */
+class AuthorParserTest {
+
+    @Test
+    void testSplitsSeparatorsAndDropsTruncation() {
+        assertEquals(List.of("JF Ambros-Antemate", "MDP Beristain-Colorado"),
+            AuthorParser.parseAuthorNames("JF Ambros-Antemate, MDP Beristain-Colorado"));
+        assertEquals(List.of("A. Einstein", "M. Curie", "N Bohr", "P Dirac"),
+            AuthorParser.parseAuthorNames("A. Einstein and M. Curie & N Bohr; P Dirac"));
+        assertEquals(List.of("J Smith", "B Jones"), AuthorParser.parseAuthorNames("J Smith, B Jones…"));
+        assertEquals(List.of("J Smith"), AuthorParser.parseAuthorNames("J Smith et al."));
+        assertEquals(List.of("J Smith", "K Lee"), AuthorParser.parseAuthorNames("J Smith, K Lee... - Nature"));
+        assertTrue(AuthorParser.parseAuthors("  ").isEmpty());
+        assertTrue(AuthorParser.parseAuthors(null).isEmpty());
+
+        assertTrue(AuthorParser.isTruncated("J Smith, B Jones..."));
+        assertTrue(AuthorParser.isTruncated("J Smith ET AL"));
+        assertFalse(AuthorParser.isTruncated("J Smith, B Jones"));
+    }
+
+    @Test
+    void testPoolSharesNameInstances() {
+        NamePool pool = new NamePool(100);
+        List<SimpleAuthor> first = AuthorParser.parseAuthors("J Smith, B Jones", pool);
+        List<SimpleAuthor> second = AuthorParser.parseAuthors("B  Jones and J Smith…", pool);
+
+        assertEquals("J Smith", first.get(0).getFullName());
+        assertSame(first.get(0).getFullName(), second.get(1).getFullName());
+        assertSame(first.get(1).getFullName(), second.get(0).getFullName());
+        assertEquals(2, pool.size());
+    }
+
+    @Test
+    void testPoolStopsGrowingAtItsSize() {
+        NamePool pool = new NamePool(50);
+        for (int i = 0; i < 200; i++) {
+            assertEquals("Author " + i, pool.intern("Author " + i));
+        }
+        assertEquals(50, pool.size());
+        assertSame(pool.intern("Author 7"), pool.intern(new StringBuilder("xAuthor 7x"), 1, 9));
+        assertNotSame(pool.intern(new String("Author 120")), pool.intern(new String("Author 120")));
+    }
+
+    @Test
+    void testMatchesLegacyParserOnRecordedAuthors() throws IOException {
+        List<String> authorStrings = readCorpus();
+        assertTrue(authorStrings.size() > 50);
+        for (String authors : authorStrings) {
+            assertSameResult(authors);
+        }
+    }
+
+    @Test
+    void testMatchesLegacyParserOnEdgeCases() {
+        String[] cases = {
+            "A Smith..\nB Jones",
+            "A Smith..\n",
+            "A Smith..\r\n",
+            "A Smith, B..\u2028",
+            "A Smith\u0085, B Jones",
+            "A Smith et\nal\n",
+            "A Smith  \t et  al. more",
+            "A Smithet al",
+            "A Smith et al\nB",
+            "A Smith ET AL",
+            "A B.. et al",
+            "A\tand\tB & C; D,E",
+            "A and  B",
+            " and B",
+            "A & B",
+            "A …B… C",
+            "A ... B....C",
+            "..., A",
+            "12-3, 4.5, AB, x, é, 1a",
+            "\u0001AB\u0001, C\u000BD",
+        };
+        for (String authors : cases) {
+            assertSameResult(authors);
+        }
+    }
+
+    @Test
+    void testMatchesLegacyParserOnGeneratedAuthors() {
+        String[] tokens = {
+            "A", "Smith", "J Doe", "É", "x", "7", "-", ".", "..", "…", ",", ";", " ", "  ", "\t", "\n",
+            "\r", "\u2028", "\u0085", "and", "&", "et", "al", "ET", "Al", "e", "t", "\u000B",
+        };
+        Random random = new Random(42);
+        for (int n = 0; n < 20_000; n++) {
+            StringBuilder authors = new StringBuilder();
+            int length = 1 + random.nextInt(14);
+            for (int i = 0; i < length; i++) {
+                authors.append(tokens[random.nextInt(tokens.length)]);
+            }
+            assertSameResult(authors.toString());
+        }
+    }
+
+    private static void assertSameResult(String authors) {
+        String message = "Authors: \"" + authors + "\"";
+        assertEquals(LegacyParser.parseAuthorNames(authors), AuthorParser.parseAuthorNames(authors), message);
+        assertEquals(LegacyParser.isTruncated(authors), AuthorParser.isTruncated(authors), message);
+    }
+
+    private static List<String> readCorpus() throws IOException {
+        try (InputStream input = AuthorParserTest.class.getResourceAsStream("/publication-summaries.txt")) {
+            assertNotNull(input, "Missing publication-summaries.txt");
+            List<String> authorStrings = new ArrayList<>();
+            for (String line : new String(input.readAllBytes(), StandardCharsets.UTF_8).split("\n")) {
+                if (!line.isEmpty()) {
+                    authorStrings.add(PublicationInfoParser.parsePublicationSummary(line).getAuthors());
+                }
+            }
+            return authorStrings;
+        }
+    }
+
+    /**
+     * The parser as it was before the single-pass scanner, kept as the reference behaviour.
+     */
+    private static final class LegacyParser {
+        private static final Pattern AUTHOR_SEPARATOR = Pattern.compile("[,;]|\\sand\\s|\\s&\\s");
+        private static final Pattern TRUNCATED_PATTERN = Pattern.compile(".*\\.{2,}.*|.*et\\s+al\\.?.*", Pattern.CASE_INSENSITIVE);
+
+        static List<String> parseAuthorNames(String authorsString) {
+            List<String> names = new ArrayList<>();
+            if (authorsString == null || authorsString.trim().isEmpty()) {
+                return names;
+            }
+            String cleaned = authorsString.trim();
+            cleaned = cleaned.replaceAll("\\.{2,}.*$", "");
+            cleaned = cleaned.replaceAll("\\s*et\\s+al\\.?.*$", "");
+
+            for (String name : AUTHOR_SEPARATOR.split(cleaned)) {
+                String trimmedName = name.trim();
+                if (trimmedName.isEmpty()) {
+                    continue;
+                }
+                trimmedName = trimmedName.trim().replaceAll("\\s+", " ").replace("…", "").replace("...", "").trim();
+                if (isValidAuthorName(trimmedName)) {
+                    names.add(trimmedName);
+                }
+            }
+            return names.stream().collect(Collectors.toList());
+        }
+
+        static boolean isTruncated(String authorsString) {
+            return authorsString != null && TRUNCATED_PATTERN.matcher(authorsString).matches();
+        }
+
+        private static boolean isValidAuthorName(String name) {
+            if (name == null || name.length() < 2) {
+                return false;
+            }
+            if (!name.matches(".*[a-zA-Z].*")) {
+                return false;
+            }
+            return !name.matches("^[\\d\\s\\-\\.]+$");
+        }
+    }
+}
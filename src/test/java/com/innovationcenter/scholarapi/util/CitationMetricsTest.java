@@ -0,0 +1,59 @@
+package com.innovationcenter.scholarapi.util;
+
+import com.innovationcenter.scholarapi.model.AuthorMetrics;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CitationMetrics.
+ */
+class CitationMetricsTest {
+
+    @Test
+    void testHIndexAndI10IndexFromUnsortedCitations() {
+        int[] citations = {3, 25, 0, 12, 6, 10, 1, 4};
+        int[] years = {2015, 2010, 2020, 2012, 0, 2018, 2021, 2016};
+
+        AuthorMetrics metrics = CitationMetrics.compute(7L, citations, years, citations.length, 2024);
+
+        assertEquals(7L, metrics.getAuthorId());
+        assertEquals(8, metrics.getArticleCount());
+        assertEquals(61, metrics.getTotalCitations());
+        // Sorted descending: 25, 12, 10, 6, 4, 3, 1, 0
+        assertEquals(4, metrics.getHIndex());
+        assertEquals(3, metrics.getI10Index());
+        assertEquals(2010, metrics.getFirstYear());
+        assertEquals(61.0 / 15, metrics.getCitationsPerYear(), 1e-9);
+    }
+
+    @Test
+    void testOnlyTheFirstCountEntriesAreRead() {
+        int[] citations = {50, 40, 999, 999};
+        int[] years = {0, 0, 1990, 1990};
+
+        AuthorMetrics metrics = CitationMetrics.compute(1L, citations, years, 2, 2024);
+
+        assertEquals(2, metrics.getHIndex());
+        assertEquals(2, metrics.getI10Index());
+        assertEquals(90, metrics.getTotalCitations());
+        assertNull(metrics.getFirstYear());
+        assertEquals(0.0, metrics.getCitationsPerYear());
+
+        AuthorMetrics uncited = CitationMetrics.compute(2L, new int[] {0, 0, 0}, new int[3], 3, 2024);
+        assertEquals(0, uncited.getHIndex());
+        assertEquals(0, uncited.getI10Index());
+    }
+
+    @Test
+    void testPercentileRankCountsTiesAsHalf() {
+        int[] sorted = {0, 1, 1, 2, 5, 8, 8, 8, 13, 40};
+
+        assertEquals(0.0, CitationMetrics.percentileRank(new int[0], 3));
+        assertEquals(5.0, CitationMetrics.percentileRank(sorted, 0), 1e-9);
+        assertEquals(20.0, CitationMetrics.percentileRank(sorted, 1), 1e-9);
+        assertEquals(40.0, CitationMetrics.percentileRank(sorted, 3), 1e-9);
+        assertEquals(65.0, CitationMetrics.percentileRank(sorted, 8), 1e-9);
+        assertEquals(100.0, CitationMetrics.percentileRank(sorted, 100), 1e-9);
+    }
+}
@@ -0,0 +1,45 @@
+package com.innovationcenter.scholarapi.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LatencyHistogram.
+ */
+class LatencyHistogramTest {
+
+    @Test
+    void testBucketBoundsAreWithinAQuarterOfTheValue() {
+        Random random = new Random(7);
+        for (int i = 0; i < 100_000; i++) {
+            long value = (random.nextLong() >>> 1) >>> random.nextInt(63);
+            long bound = LatencyHistogram.upperBound(LatencyHistogram.bucketOf(value));
+            assertTrue(bound >= value, "Bound below " + value);
+            assertTrue(bound - value <= value / 4, "Bound too far above " + value);
+        }
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.upperBound(LatencyHistogram.bucketOf(Long.MAX_VALUE)));
+    }
+
+    @Test
+    void testPercentilesCountAndMean() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.percentileNanos(99));
+
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        histogram.record(-5);
+
+        assertEquals(1001, histogram.count());
+        assertEquals(1_000_000, histogram.maxNanos());
+        assertEquals(500_500_000L / 1001, histogram.meanNanos());
+        long median = histogram.percentileNanos(50);
+        assertTrue(median >= 500_000 && median <= 625_000, "Median " + median);
+        long p99 = histogram.percentileNanos(99);
+        assertTrue(p99 >= 990_000 && p99 <= 1_000_000, "p99 " + p99);
+        assertEquals(0, histogram.percentileNanos(0));
+    }
+}
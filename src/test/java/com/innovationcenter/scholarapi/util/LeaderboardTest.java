@@ -0,0 +1,169 @@
+package com.innovationcenter.scholarapi.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for Leaderboard.
+ */
+class LeaderboardTest {
+
+    private static final class Row {
+        final long id;
+        final int score;
+
+        Row(long id, int score) {
+            this.id = id;
+            this.score = score;
+        }
+    }
+
+    /** Stands in for the database: every row, sorted on each query. */
+    private static final class Table implements Leaderboard.Source<Row, RuntimeException> {
+        final Map<Long, Row> rows = new HashMap<>();
+        int queries;
+
+        Row put(long id, int score) {
+            Row row = new Row(id, score);
+            rows.put(id, row);
+            return row;
+        }
+
+        @Override
+        public List<Row> top(int limit) {
+            queries++;
+            return rows.values().stream().filter(row -> row.score > 0).sorted(ORDER).limit(limit)
+                .collect(Collectors.toList());
+        }
+    }
+
+    private static final Comparator<Row> ORDER = Comparator.comparingInt((Row row) -> row.score).reversed()
+        .thenComparingLong(row -> row.id);
+
+    private static Leaderboard<Row> board(int size) {
+        return new Leaderboard<>(size, ORDER, row -> row.id, row -> row.score > 0);
+    }
+
+    private static List<Long> ids(List<Row> rows) {
+        List<Long> ids = new ArrayList<>();
+        for (Row row : rows) {
+            ids.add(row.id);
+        }
+        return ids;
+    }
+
+    @Test
+    void testReadsAfterSeedingStayInMemory() {
+        Table table = new Table();
+        for (long id = 1; id <= 10; id++) {
+            table.put(id, (int) id * 10);
+        }
+        Leaderboard<Row> board = board(3);
+
+        assertEquals(List.of(10L, 9L, 8L), ids(board.top(3, table)));
+        assertEquals(List.of(10L), ids(board.top(1, table)));
+        assertEquals(1, table.queries);
+        assertEquals(6, board.heldRows());
+
+        // Past the configured size the source answers directly
+        assertEquals(5, board.top(5, table).size());
+        assertEquals(2, table.queries);
+    }
+
+    @Test
+    void testUpdatesReorderTheRanking() {
+        Table table = new Table();
+        for (long id = 1; id <= 10; id++) {
+            table.put(id, (int) id * 10);
+        }
+        Leaderboard<Row> board = board(3);
+        board.top(3, table);
+
+        // An unseen row that beats the tail enters; one that does not stays out
+        board.update(1, table.put(1, 95));
+        board.update(2, table.put(2, 41));
+        assertEquals(List.of(10L, 1L, 9L), ids(board.top(3, table)));
+
+        // A row dropping below the tail leaves, and the rows behind it move up
+        board.update(10, table.put(10, 5));
+        board.update(9, table.put(9, 0));
+        assertEquals(List.of(1L, 8L, 7L), ids(board.top(3, table)));
+        assertEquals(1, table.queries);
+        assertEquals(ids(table.top(3)), ids(board.top(3, table)));
+    }
+
+    @Test
+    void testReseedsWhenRemovalsLeaveTooFewRows() {
+        Table table = new Table();
+        for (long id = 1; id <= 10; id++) {
+            table.put(id, (int) id * 10);
+        }
+        Leaderboard<Row> board = board(2);
+        board.top(2, table);
+
+        for (long id = 10; id >= 8; id--) {
+            table.rows.remove(id);
+            board.update(id, null);
+        }
+        assertEquals(1, board.heldRows());
+        assertEquals(List.of(7L, 6L), ids(board.top(2, table)));
+        assertEquals(2, table.queries);
+    }
+
+    @Test
+    void testCompleteBoardAcceptsEveryEligibleRow() {
+        Table table = new Table();
+        table.put(1, 10);
+        Leaderboard<Row> board = board(5);
+        assertEquals(List.of(1L), ids(board.top(5, table)));
+
+        board.update(2, table.put(2, 1));
+        board.update(3, table.put(3, 20));
+        assertEquals(List.of(3L, 1L, 2L), ids(board.top(5, table)));
+        assertEquals(1, table.queries);
+
+        board.invalidate();
+        assertEquals(0, board.heldRows());
+        assertEquals(List.of(3L, 1L, 2L), ids(board.top(5, table)));
+        assertEquals(2, table.queries);
+    }
+
+    @Test
+    void testReadersNeverSeeARowMidUpdate() throws Exception {
+        Table table = new Table();
+        for (long id = 1; id <= 10; id++) {
+            table.put(id, (int) id * 10);
+        }
+        Leaderboard<Row> board = board(3);
+        board.update(1, table.put(1, 200));
+        board.top(3, table);
+
+        // Row 1 stays first while its score changes; a reader must always find it
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread writer = new Thread(() -> {
+            for (int i = 0; running.get(); i++) {
+                board.update(1, new Row(1, 200 + i % 2));
+            }
+        });
+        writer.start();
+        try {
+            for (int i = 0; i < 20_000; i++) {
+                List<Long> top = ids(board.top(3, table));
+                assertEquals(List.of(1L, 10L, 9L), top);
+            }
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+        assertEquals(1, table.queries);
+    }
+}
@@ -0,0 +1,172 @@
+package com.innovationcenter.scholarapi.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PublicationInfoParser, including a differential check against the
+ * earlier split-and-regex implementation.
+ */
+class PublicationInfoParserTest {
+
+    @Test
+    void testParsesAllFourParts() {
+        PublicationInfoParser.ParsedPublicationInfo info = PublicationInfoParser.parsePublicationSummary(
+            "JL Harper - Population biology of plants., 1977 - cabdirect.org");
+
+        assertEquals("JL Harper", info.getAuthors());
+        assertEquals("Population biology of plants.", info.getSource());
+        assertEquals(1977, info.getYear());
+        assertEquals("cabdirect.org", info.getPublisher());
+
+        PublicationInfoParser.ParsedPublicationInfo bookOnly = PublicationInfoParser.parsePublicationSummary("TM Mitchell - 1997 - dl.acm.org");
+        assertEquals("1997", bookOnly.getSource());
+        assertEquals(1997, bookOnly.getYear());
+
+        PublicationInfoParser.ParsedPublicationInfo empty = PublicationInfoParser.parsePublicationSummary("  ");
+        assertEquals("Unknown Author", empty.getAuthors());
+        assertNull(empty.getYear());
+    }
+
+    @Test
+    void testMatchesLegacyParserOnRecordedSummaries() throws IOException {
+        List<String> summaries = readCorpus();
+        assertTrue(summaries.size() > 50);
+        for (String summary : summaries) {
+            assertSameResult(summary);
+        }
+    }
+
+    @Test
+    void testMatchesLegacyParserOnEdgeCases() {
+        String[] cases = {
+            "A B\t\tC - Source,\t2015\t- Pub\n\nlisher",
+            "A - Source, 2015  - P",
+            "A - Source, 2015, ",
+            "A - Source 2015,\r\n",
+            "A - 2015, 2015, 2015",
+            "A - Café 2015 é2015 - P",
+            "A - x́2015, 2015 - P",
+            "A - 1899 1900 2030 2031",
+            "A - 2031, 2015 - P",
+            "A - - B - C",
+            "A -  - B",
+            " - ",
+            "A - ,",
+            "A - , 2015 ,",
+            "A - \u0001Source\u0001, 2015",
+            "A - 𝟘2015, 2015 - P",
+            "A - 2015𝐀 - P",
+        };
+        for (String summary : cases) {
+            assertSameResult(summary);
+        }
+    }
+
+    @Test
+    void testMatchesLegacyParserOnGeneratedSummaries() {
+        String[] tokens = {
+            "A", "Smith", "J Doe", "É", "́", "_", "x", "…", ",", ", ", " ", "  ", "\t", "\n", "\r\n",
+            " ", " - ", "-", "2015", "1999", "1900", "2030", "2031", "1850", "20", "19", "7", "ISBN",
+        };
+        Random random = new Random(42);
+        for (int n = 0; n < 20_000; n++) {
+            StringBuilder summary = new StringBuilder();
+            int length = 1 + random.nextInt(12);
+            for (int i = 0; i < length; i++) {
+                summary.append(tokens[random.nextInt(tokens.length)]);
+            }
+            assertSameResult(summary.toString());
+        }
+    }
+
+    private static void assertSameResult(String summary) {
+        PublicationInfoParser.ParsedPublicationInfo expected = LegacyParser.parse(summary);
+        PublicationInfoParser.ParsedPublicationInfo actual = PublicationInfoParser.parsePublicationSummary(summary);
+        String message = "Summary: \"" + summary + "\"";
+        assertEquals(expected.getAuthors(), actual.getAuthors(), message);
+        assertEquals(expected.getSource(), actual.getSource(), message);
+        assertEquals(expected.getYear(), actual.getYear(), message);
+        assertEquals(expected.getPublisher(), actual.getPublisher(), message);
+    }
+
+    private static List<String> readCorpus() throws IOException {
+        try (InputStream input = PublicationInfoParserTest.class.getResourceAsStream("/publication-summaries.txt")) {
+            assertNotNull(input, "Missing publication-summaries.txt");
+            List<String> summaries = new ArrayList<>();
+            for (String line : new String(input.readAllBytes(), StandardCharsets.UTF_8).split("\n")) {
+                if (!line.isEmpty()) {
+                    summaries.add(line);
+                }
+            }
+            return summaries;
+        }
+    }
+
+    /**
+     * The parser as it was before the single-pass scanner, kept as the reference behaviour.
+     */
+    private static final class LegacyParser {
+        private static final Pattern YEAR_PATTERN = Pattern.compile("\\b(19|20)\\d{2}\\b");
+
+        static PublicationInfoParser.ParsedPublicationInfo parse(String summary) {
+            if (summary == null || summary.trim().isEmpty()) {
+                return new PublicationInfoParser.ParsedPublicationInfo(
+                    "Unknown Author", "Unknown Source", null, "Unknown Publisher", summary);
+            }
+            String[] parts = summary.split(" - ");
+            String authors = parts.length > 0 ? parts[0].trim() : "";
+            String sourceYear = parts.length > 1 ? parts[1].trim() : "";
+            String publisher = parts.length > 2 ? parts[2].trim() : "";
+
+            Integer year = extractYear(sourceYear);
+            String source = cleanSource(sourceYear, year);
+
+            return new PublicationInfoParser.ParsedPublicationInfo(
+                clean(authors, "Unknown Author"), clean(source, "Unknown Source"), year,
+                clean(publisher, "Unknown Publisher"), summary);
+        }
+
+        private static Integer extractYear(String sourceYear) {
+            if (sourceYear == null || sourceYear.trim().isEmpty()) {
+                return null;
+            }
+            Matcher matcher = YEAR_PATTERN.matcher(sourceYear);
+            if (matcher.find()) {
+                int year = Integer.parseInt(matcher.group());
+                if (year >= 1900 && year <= 2030) {
+                    return year;
+                }
+            }
+            return null;
+        }
+
+        private static String cleanSource(String sourceYear, Integer year) {
+            if (sourceYear == null || year == null) {
+                return sourceYear;
+            }
+            String cleaned = sourceYear.replaceAll("\\b" + year + "\\b", "")
+                                      .replaceAll(",\\s*$", "")
+                                      .replaceAll("^\\s*,", "")
+                                      .trim();
+            return cleaned.isEmpty() ? sourceYear : cleaned;
+        }
+
+        private static String clean(String value, String fallback) {
+            if (value == null || value.trim().isEmpty()) {
+                return fallback;
+            }
+            return value.trim().replaceAll("\\s+", " ");
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.innovationcenter.scholarapi.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SqlTemplates.
+ */
+class SqlTemplatesTest {
+
+    @Test
+    void testLiteralsBecomePlaceholders() {
+        assertEquals("SELECT * FROM articles WHERE id = ? AND title = ? LIMIT ?",
+            SqlTemplates.normalize("SELECT * FROM articles\n  WHERE id = 42 AND title = 'It''s \\'new\\'' LIMIT 100"));
+        assertEquals("SELECT t1.id, ? FROM idx_2 t1 WHERE score > ?",
+            SqlTemplates.normalize("SELECT t1.id, \"x\" FROM idx_2 t1 WHERE score > 0.75"));
+        assertEquals("SELECT `col 1` FROM a WHERE b = ?",
+            SqlTemplates.normalize("SELECT `col 1` -- note 5\nFROM a /* 'c' */ WHERE b = ?  "));
+    }
+
+    @Test
+    void testPlaceholderListsOfAnyLengthShareATemplate() {
+        String expected = "SELECT id FROM authors WHERE id IN (?...) AND deleted_at IS NULL";
+        assertEquals(expected, SqlTemplates.normalize("SELECT id FROM authors WHERE id IN (?, ?) AND deleted_at IS NULL"));
+        assertEquals(expected, SqlTemplates.normalize("SELECT id FROM authors WHERE id IN (?,?,?,?) AND deleted_at IS NULL"));
+        assertEquals(expected, SqlTemplates.normalize("SELECT id FROM authors WHERE id IN (1, 2 , 3) AND deleted_at IS NULL"));
+        assertEquals("INSERT INTO t (a, b) VALUES (?...), (?...)",
+            SqlTemplates.normalize("INSERT INTO t (a, b) VALUES (?, ?), (?, ?)"));
+        assertEquals("", SqlTemplates.normalize(null));
+    }
+}
@@ -0,0 +1,71 @@
+package com.innovationcenter.scholarapi.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TtlCache.
+ */
+class TtlCacheTest {
+
+    @Test
+    void testEntriesExpireAfterTimeToLive() {
+        AtomicLong now = new AtomicLong();
+        TtlCache<String, String> cache = new TtlCache<>(10, Duration.ofSeconds(5), now::get);
+
+        cache.put("a", "alpha");
+        now.addAndGet(Duration.ofSeconds(4).toNanos());
+        assertEquals("alpha", cache.get("a"));
+        now.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+
+        TtlCache.Stats stats = cache.stats();
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+    }
+
+    @Test
+    void testLeastRecentlyUsedEntriesAreEvicted() {
+        TtlCache<Integer, Integer> cache = new TtlCache<>(32, Duration.ofMinutes(1));
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, i);
+        }
+        assertTrue(cache.size() <= 32);
+        assertEquals(100 - cache.size(), cache.stats().getEvictions());
+    }
+
+    @Test
+    void testLoaderResultIsCachedAndInvalidated() {
+        TtlCache<Long, String> cache = new TtlCache<>(10, Duration.ofMinutes(1));
+        AtomicLong loads = new AtomicLong();
+
+        assertEquals("one", cache.get(1L, () -> { loads.incrementAndGet(); return "one"; }));
+        assertEquals("one", cache.get(1L, () -> { loads.incrementAndGet(); return "one"; }));
+        assertEquals(1, loads.get());
+
+        assertNull(cache.get(2L, () -> null));
+        assertEquals(1, cache.size());
+
+        cache.invalidateIf((key, value) -> value.equals("one"));
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    void testValueLoadedDuringInvalidationIsNotStored() {
+        TtlCache<Long, String> cache = new TtlCache<>(10, Duration.ofMinutes(1));
+
+        String loaded = cache.get(1L, () -> {
+            // A write lands while the stale row is being read
+            cache.invalidate(1L);
+            return "stale";
+        });
+
+        assertEquals("stale", loaded);
+        assertNull(cache.get(1L));
+    }
+}